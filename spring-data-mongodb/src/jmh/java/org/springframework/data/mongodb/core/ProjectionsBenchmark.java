@@ -22,10 +22,13 @@ import org.openjdk.jmh.annotations.TearDown;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.ExecutableAggregationOperation.TerminatingAggregation;
 import org.springframework.data.mongodb.core.ExecutableFindOperation.FindWithQuery;
 import org.springframework.data.mongodb.core.ExecutableFindOperation.TerminatingFind;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.mapping.Field;
 import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.microbenchmark.AbstractMicrobenchmark;
 
 import com.mongodb.client.MongoClient;
@@ -50,6 +53,8 @@ public class ProjectionsBenchmark extends AbstractMicrobenchmark {
 	private FindWithQuery<DtoProjection> asDtoProjection;
 	private FindWithQuery<ClosedProjection> asClosedProjection;
 	private FindWithQuery<OpenProjection> asOpenProjection;
+	private FindWithQuery<NestedClosedProjection> asNestedClosedProjection;
+	private TerminatingAggregation<ClosedProjection> aggregateAsClosedProjection;
 
 	private TerminatingFind<Person> asPersonWithFieldsRestriction;
 	private Document fields = new Document("firstname", 1);
@@ -74,6 +79,10 @@ public class ProjectionsBenchmark extends AbstractMicrobenchmark {
 		asDtoProjection = template.query(Person.class).inCollection(COLLECTION_NAME).as(DtoProjection.class);
 		asClosedProjection = template.query(Person.class).inCollection(COLLECTION_NAME).as(ClosedProjection.class);
 		asOpenProjection = template.query(Person.class).inCollection(COLLECTION_NAME).as(OpenProjection.class);
+		asNestedClosedProjection = template.query(Person.class).inCollection(COLLECTION_NAME)
+				.as(NestedClosedProjection.class);
+		aggregateAsClosedProjection = template.aggregateAndReturn(ClosedProjection.class).inCollection(COLLECTION_NAME)
+				.by(Aggregation.newAggregation(Person.class, Aggregation.match(new Criteria())));
 
 		asPersonWithFieldsRestriction = template.query(Person.class).inCollection(COLLECTION_NAME)
 				.matching(new BasicQuery(new Document(), fields));
@@ -148,6 +157,26 @@ public class ProjectionsBenchmark extends AbstractMicrobenchmark {
 		return asOpenProjection.all();
 	}
 
+	/**
+	 * Read into closed interface projection with a nested closed projection only fetching the nested fields it needs.
+	 *
+	 * @return
+	 */
+	@Benchmark
+	public Object readIntoNestedClosedProjection() {
+		return asNestedClosedProjection.all();
+	}
+
+	/**
+	 * Read aggregation results into closed interface projection pruned by a trailing {@code $project} stage.
+	 *
+	 * @return
+	 */
+	@Benchmark
+	public Object aggregateIntoClosedProjection() {
+		return aggregateAsClosedProjection.all();
+	}
+
 	static class Person {
 
 		@Id String id;
@@ -172,6 +201,17 @@ public class ProjectionsBenchmark extends AbstractMicrobenchmark {
 		String getFirstname();
 	}
 
+	static interface NestedClosedProjection {
+
+		String getFirstname();
+
+		CityProjection getAddress();
+
+		interface CityProjection {
+			String getCity();
+		}
+	}
+
 	static interface OpenProjection {
 
 		@Value("#{target.firstname}")
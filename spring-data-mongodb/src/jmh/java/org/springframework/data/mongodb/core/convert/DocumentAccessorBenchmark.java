@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.junit.platform.commons.annotation.Testable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.microbenchmark.AbstractMicrobenchmark;
+
+/**
+ * Benchmarks for {@link DocumentAccessor} reading and writing properties mapped to nested field paths.
+ */
+@State(Scope.Benchmark)
+@Testable
+public class DocumentAccessorBenchmark extends AbstractMicrobenchmark {
+
+	private List<MongoPersistentProperty> flatProperties;
+	private List<MongoPersistentProperty> nestedProperties;
+
+	private Document flatDocument;
+	private Document nestedDocument;
+
+	private MappingMongoConverter converter;
+
+	@Setup
+	public void setUp() {
+
+		MongoMappingContext mappingContext = new MongoMappingContext();
+		mappingContext.afterPropertiesSet();
+
+		this.converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+		this.converter.afterPropertiesSet();
+
+		this.flatProperties = properties(mappingContext.getRequiredPersistentEntity(Flat.class));
+		this.nestedProperties = properties(mappingContext.getRequiredPersistentEntity(Nested.class));
+
+		this.flatDocument = Document.parse("{ 'a' : 'a', 'b' : 'b', 'c' : 'c', 'd' : 'd', 'e' : 'e', 'f' : 'f' }");
+		this.nestedDocument = Document.parse("{ 'address' : { 'street' : { 'name' : 'a', 'number' : 'b' }, 'city' : 'c', "
+				+ "'geo' : { 'lat' : 'd', 'lng' : 'e' } }, 'meta' : { 'audit' : { 'createdBy' : 'f' } } }");
+	}
+
+	@Benchmark
+	public int readFlatProperties() {
+		return read(flatDocument, flatProperties);
+	}
+
+	@Benchmark
+	public int readNestedProperties() {
+		return read(nestedDocument, nestedProperties);
+	}
+
+	@Benchmark
+	public Object writeFlatProperties() {
+		return write(flatProperties);
+	}
+
+	@Benchmark
+	public Object writeNestedProperties() {
+		return write(nestedProperties);
+	}
+
+	@Benchmark
+	public Object convertNestedEntity() {
+		return converter.read(Nested.class, nestedDocument);
+	}
+
+	private static int read(Document source, List<MongoPersistentProperty> properties) {
+
+		DocumentAccessor accessor = new DocumentAccessor(source);
+		int hits = 0;
+
+		for (MongoPersistentProperty property : properties) {
+			if (accessor.hasValue(property) && accessor.get(property) != null) {
+				hits++;
+			}
+		}
+
+		return hits;
+	}
+
+	private static Document write(List<MongoPersistentProperty> properties) {
+
+		Document target = new Document();
+		DocumentAccessor accessor = new DocumentAccessor(target);
+
+		for (MongoPersistentProperty property : properties) {
+			accessor.put(property, "value");
+		}
+
+		return target;
+	}
+
+	private static List<MongoPersistentProperty> properties(MongoPersistentEntity<?> entity) {
+
+		List<MongoPersistentProperty> properties = new ArrayList<>();
+		entity.forEach(properties::add);
+		return properties;
+	}
+
+	static class Flat {
+
+		String a, b, c, d, e, f;
+	}
+
+	static class Nested {
+
+		@Field("address.street.name") String a;
+		@Field("address.street.number") String b;
+		@Field("address.city") String c;
+		@Field("address.geo.lat") String d;
+		@Field("address.geo.lng") String e;
+		@Field("meta.audit.createdBy") String f;
+	}
+}
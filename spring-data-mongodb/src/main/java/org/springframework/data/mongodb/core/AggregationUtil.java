@@ -17,7 +17,9 @@ package org.springframework.data.mongodb.core;
 
 import java.util.List;
 
+import org.bson.BsonDocument;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
@@ -54,6 +56,20 @@ class AggregationUtil {
 				queryMapper, FieldLookupPolicy.relaxed()));
 	}
 
+	/**
+	 * Check whether aggregation results of the given {@code outputType} can be read as {@link RawBsonDocument} as-is,
+	 * deferring parsing of the result until its fields are accessed. Applies to {@link RawBsonDocument} only as other
+	 * {@link BsonDocument} types are expected to be mutable and to be read through the converter emitting events.
+	 *
+	 * @param outputType the requested result type.
+	 * @param resultConverter the {@link QueryResultConverter} to apply.
+	 * @return {@literal true} if results can be read as {@link RawBsonDocument} without conversion.
+	 * @since 5.1
+	 */
+	static boolean isRawResult(Class<?> outputType, QueryResultConverter<?, ?> resultConverter) {
+		return resultConverter == QueryResultConverter.entity() && outputType == RawBsonDocument.class;
+	}
+
 	AggregationOperationContext createAggregationContext(Aggregation aggregation, @Nullable Class<?> inputType) {
 
 		DomainTypeMapping domainTypeMapping = aggregation.getOptions().getDomainTypeMapping();
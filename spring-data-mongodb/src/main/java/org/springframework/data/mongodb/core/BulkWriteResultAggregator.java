@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.mongodb.BulkOperationException;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteInsert;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import com.mongodb.bulk.WriteConcernError;
+
+/**
+ * Merges the {@link BulkWriteResult results} and errors of multiple flushes into a single {@link BulkWriteResult}.
+ * Indexes of inserts, upserts and write errors are shifted by the offset of the flush so that they refer to the
+ * position of the operation across all flushes. Instances are thread-safe.
+ *
+ * @since 5.1
+ */
+class BulkWriteResultAggregator {
+
+	private int insertedCount;
+	private int matchedCount;
+	private int deletedCount;
+	private int modifiedCount;
+	private boolean acknowledged = true;
+	private final List<BulkWriteInsert> inserts = new ArrayList<>();
+	private final List<BulkWriteUpsert> upserts = new ArrayList<>();
+	private final List<BulkWriteError> errors = new ArrayList<>();
+	private final List<RuntimeException> failures = new ArrayList<>();
+	private @Nullable WriteConcernError writeConcernError;
+	private @Nullable ServerAddress serverAddress;
+
+	/**
+	 * Add the result of a successful flush.
+	 *
+	 * @param offset index of the first operation of the flush.
+	 * @param result the flush result.
+	 */
+	synchronized void add(int offset, BulkWriteResult result) {
+
+		if (!result.wasAcknowledged()) {
+			acknowledged = false;
+			return;
+		}
+
+		insertedCount += result.getInsertedCount();
+		matchedCount += result.getMatchedCount();
+		deletedCount += result.getDeletedCount();
+		modifiedCount += result.getModifiedCount();
+
+		for (BulkWriteInsert insert : result.getInserts()) {
+			inserts.add(new BulkWriteInsert(insert.getIndex() + offset, insert.getId()));
+		}
+		for (BulkWriteUpsert upsert : result.getUpserts()) {
+			upserts.add(new BulkWriteUpsert(upsert.getIndex() + offset, upsert.getId()));
+		}
+	}
+
+	/**
+	 * Add the error of a failed flush. Partial results and write errors of bulk write failures are retained.
+	 *
+	 * @param offset index of the first operation of the flush.
+	 * @param error the flush error.
+	 */
+	synchronized void add(int offset, Throwable error) {
+
+		Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+
+		MongoBulkWriteException bulkWriteException = getBulkWriteException(cause);
+		if (bulkWriteException == null) {
+			failures.add(cause instanceof RuntimeException runtimeException ? runtimeException
+					: new IllegalStateException(cause.getMessage(), cause));
+			return;
+		}
+
+		add(offset, bulkWriteException.getWriteResult());
+		for (BulkWriteError writeError : bulkWriteException.getWriteErrors()) {
+			errors.add(new BulkWriteError(writeError.getCode(), writeError.getMessage(), writeError.getDetails(),
+					writeError.getIndex() + offset));
+		}
+
+		if (writeConcernError == null) {
+			writeConcernError = bulkWriteException.getWriteConcernError();
+		}
+		if (serverAddress == null) {
+			serverAddress = bulkWriteException.getServerAddress();
+		}
+	}
+
+	/**
+	 * @return {@literal true} if any flush failed.
+	 */
+	synchronized boolean hasErrors() {
+		return !errors.isEmpty() || !failures.isEmpty() || writeConcernError != null;
+	}
+
+	/**
+	 * Obtain the merged {@link BulkWriteResult}.
+	 *
+	 * @return the merged result.
+	 * @throws BulkOperationException if any flush reported write errors.
+	 * @throws DataIntegrityViolationException if any flush reported a write concern error.
+	 * @throws RuntimeException the first failure not caused by a bulk write error. Other failures are added as
+	 *           suppressed exceptions.
+	 */
+	synchronized BulkWriteResult getResult() {
+
+		if (!failures.isEmpty()) {
+
+			RuntimeException failure = failures.get(0);
+			for (int i = 1; i < failures.size(); i++) {
+				if (failures.get(i) != failure) {
+					failure.addSuppressed(failures.get(i));
+				}
+			}
+			throw failure;
+		}
+
+		BulkWriteResult result = getMergedResult();
+
+		if (errors.isEmpty() && writeConcernError == null) {
+			return result;
+		}
+
+		MongoBulkWriteException exception = new MongoBulkWriteException(result, List.copyOf(errors), writeConcernError,
+				serverAddress != null ? serverAddress : new ServerAddress(), Collections.emptySet());
+
+		if (writeConcernError != null) {
+			throw new DataIntegrityViolationException(exception.getMessage(), exception);
+		}
+		throw new BulkOperationException(exception.getMessage(), exception);
+	}
+
+	private BulkWriteResult getMergedResult() {
+
+		if (!acknowledged) {
+			return BulkWriteResult.unacknowledged();
+		}
+
+		return BulkWriteResult.acknowledged(insertedCount, matchedCount, deletedCount, modifiedCount,
+				List.copyOf(upserts), List.copyOf(inserts));
+	}
+
+	private static @Nullable MongoBulkWriteException getBulkWriteException(Throwable error) {
+
+		if (error instanceof MongoBulkWriteException bulkWriteException) {
+			return bulkWriteException;
+		}
+		if ((error instanceof BulkOperationException || error instanceof DataIntegrityViolationException)
+				&& error.getCause() instanceof MongoBulkWriteException bulkWriteException) {
+			return bulkWriteException;
+		}
+		return null;
+	}
+}
@@ -15,7 +15,16 @@
  */
 package org.springframework.data.mongodb.core;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.bson.Document;
 
@@ -35,6 +44,7 @@ import org.springframework.data.mongodb.core.bulk.BulkWriteOptions;
 import org.springframework.data.mongodb.core.bulk.BulkWriteResult;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 import com.mongodb.MongoBulkWriteException;
 import com.mongodb.MongoNamespace;
@@ -51,6 +61,8 @@ import com.mongodb.client.model.bulk.ClientBulkWriteResult;
  */
 class BulkWriter extends BulkWriterSupport {
 
+	private static final Executor DEFAULT_EXECUTOR = createDefaultExecutor();
+
 	private final MongoTemplate template;
 
 	BulkWriter(MongoTemplate template) {
@@ -64,10 +76,12 @@ class BulkWriter extends BulkWriterSupport {
 		if (namespaces.size() == 1) {
 			return writeToSingleCollection(defaultDatabase, bulk, options, namespaces.iterator().next());
 		}
+		if (options.isPerCollection()) {
+			return writePerCollection(defaultDatabase, bulk, options);
+		}
 		return writeToMultipleCollections(defaultDatabase, bulk, options);
 	}
 
-	@SuppressWarnings("NullAway")
 	private BulkWriteResult writeToSingleCollection(String defaultDatabase, Bulk bulk,
 			BulkWriteOptions options, TypedNamespace namespace) {
 
@@ -77,17 +91,93 @@ class BulkWriter extends BulkWriterSupport {
 		SingleCollectionCollector collector = new SingleCollectionCollector(mongoNamespace);
 		buildWriteModels(bulk, collector);
 
+		com.mongodb.bulk.BulkWriteResult bulkWriteResult = bulkWrite(collector, options);
+		invokeAfterSave(collector);
+		return BulkWriteResult.from(bulkWriteResult);
+	}
+
+	/**
+	 * Write each collection of the {@link Bulk} through its own collection level bulk write. Collections of unordered
+	 * bulks are written concurrently unless the template is bound to a session or a transaction as sessions must not be
+	 * used concurrently.
+	 */
+	private BulkWriteResult writePerCollection(String defaultDatabase, Bulk bulk, BulkWriteOptions options) {
+
+		PerCollectionCollector collector = new PerCollectionCollector(defaultDatabase);
+		buildWriteModels(bulk, collector);
+
+		List<SingleCollectionCollector> collectors = collector.getCollectors();
+		List<CollectionWriteOutcome> outcomes = options.getMaxConcurrency() > 1 && !template.isSessionBound()
+				? writeConcurrently(collectors, options)
+				: writeSequentially(collectors, options);
+
+		outcomes.stream().filter(CollectionWriteOutcome::isSuccess)
+				.forEach(outcome -> invokeAfterSave(outcome.collector()));
+
+		return combine(outcomes);
+	}
+
+	private List<CollectionWriteOutcome> writeSequentially(List<SingleCollectionCollector> collectors,
+			BulkWriteOptions options) {
+
+		List<CollectionWriteOutcome> outcomes = new ArrayList<>(collectors.size());
+
+		for (SingleCollectionCollector collector : collectors) {
+
+			CollectionWriteOutcome outcome = doWrite(collector, options);
+			outcomes.add(outcome);
+
+			if (!outcome.isSuccess() && options.getOrder() == BulkWriteOptions.Order.ORDERED) {
+				break;
+			}
+		}
+
+		return outcomes;
+	}
+
+	/**
+	 * Write collections using up to {@link BulkWriteOptions#getMaxConcurrency()} workers, each writing the next pending
+	 * collection until all collections are written. Outcomes retain the order of the given collectors.
+	 */
+	private List<CollectionWriteOutcome> writeConcurrently(List<SingleCollectionCollector> collectors,
+			BulkWriteOptions options) {
+
+		Executor executor = options.getExecutor() != null ? options.getExecutor() : DEFAULT_EXECUTOR;
+		CollectionWriteOutcome[] outcomes = new CollectionWriteOutcome[collectors.size()];
+		AtomicInteger next = new AtomicInteger();
+
+		int workers = Math.min(options.getMaxConcurrency(), collectors.size());
+		List<CompletableFuture<Void>> futures = new ArrayList<>(workers);
+		for (int i = 0; i < workers; i++) {
+			futures.add(CompletableFuture.runAsync(() -> {
+
+				int index;
+				while ((index = next.getAndIncrement()) < collectors.size()) {
+					outcomes[index] = doWrite(collectors.get(index), options);
+				}
+			}, executor));
+		}
+
+		CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+		return Arrays.asList(outcomes);
+	}
+
+	private CollectionWriteOutcome doWrite(SingleCollectionCollector collector, BulkWriteOptions options) {
+
+		try {
+			return CollectionWriteOutcome.success(collector, bulkWrite(collector, options));
+		} catch (RuntimeException ex) {
+			return CollectionWriteOutcome.failure(collector, ex);
+		}
+	}
+
+	@SuppressWarnings("NullAway")
+	private com.mongodb.bulk.BulkWriteResult bulkWrite(SingleCollectionCollector collector, BulkWriteOptions options) {
+
 		try {
-			com.mongodb.bulk.BulkWriteResult bulkWriteResult = template.execute(collector.getNamespace().getCollectionName(),
+			return template.execute(collector.getNamespace().getCollectionName(),
 					collection -> collection.bulkWrite(collector.getWriteModels(), new com.mongodb.client.model.BulkWriteOptions()
 							.ordered(options.getOrder().equals(BulkWriteOptions.Order.ORDERED))));
-
-			collector.getAfterSaveCallables().forEach(callable -> {
-				template
-						.maybeEmitEvent(new AfterSaveEvent<>(callable.source(), callable.document(), callable.collectionName()));
-				template.maybeCallAfterSave(callable.source(), callable.document(), callable.collectionName());
-			});
-			return BulkWriteResult.from(bulkWriteResult);
 		} catch (MongoBulkWriteException e) {
 			DataAccessException dataAccessException = template.getExceptionTranslator().translateExceptionIfPossible(e);
 			if (dataAccessException != null) {
@@ -97,6 +187,15 @@ class BulkWriter extends BulkWriterSupport {
 		}
 	}
 
+	private void invokeAfterSave(WriteModelCollector collector) {
+
+		collector.getAfterSaveCallables().forEach(callable -> {
+			template
+					.maybeEmitEvent(new AfterSaveEvent<>(callable.source(), callable.document(), callable.collectionName()));
+			template.maybeCallAfterSave(callable.source(), callable.document(), callable.collectionName());
+		});
+	}
+
 	@SuppressWarnings("NullAway")
 	private BulkWriteResult writeToMultipleCollections(String defaultDatabase, Bulk bulk,
 			BulkWriteOptions options) {
@@ -110,11 +209,7 @@ class BulkWriter extends BulkWriterSupport {
 					.doWithClient(client -> client.bulkWrite(collector.getWriteModels(), ClientBulkWriteOptions
 							.clientBulkWriteOptions().ordered(options.getOrder().equals(BulkWriteOptions.Order.ORDERED))));
 
-			collector.getAfterSaveCallables().forEach(callable -> {
-				template
-						.maybeEmitEvent(new AfterSaveEvent<>(callable.source(), callable.document(), callable.collectionName()));
-				template.maybeCallAfterSave(callable.source(), callable.document(), callable.collectionName());
-			});
+			invokeAfterSave(collector);
 			return BulkWriteResult.from(clientBulkWriteResult);
 		} catch (MongoBulkWriteException e) {
 			DataAccessException dataAccessException = template.getExceptionTranslator().translateExceptionIfPossible(e);
@@ -174,4 +269,15 @@ class BulkWriter extends BulkWriterSupport {
 		}
 	}
 
+	private static Executor createDefaultExecutor() {
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("mongo-bulk-writer-");
+		threadFactory.setDaemon(true);
+
+		int poolSize = Runtime.getRuntime().availableProcessors();
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), threadFactory);
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
 }
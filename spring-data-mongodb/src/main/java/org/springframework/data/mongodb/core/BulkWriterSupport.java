@@ -16,7 +16,9 @@
 package org.springframework.data.mongodb.core;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -28,9 +30,11 @@ import org.springframework.data.mongodb.core.bulk.Bulk;
 import org.springframework.data.mongodb.core.bulk.BulkOperation;
 import org.springframework.data.mongodb.core.bulk.BulkOperationContext;
 import org.springframework.data.mongodb.core.bulk.BulkOperationContext.TypedNamespace;
+import org.springframework.data.mongodb.core.bulk.BulkWriteResult;
 import org.springframework.data.mongodb.core.mapping.CollectionName;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.util.Assert;
 
 import com.mongodb.MongoNamespace;
 import com.mongodb.client.model.DeleteOptions;
@@ -95,6 +99,51 @@ abstract class BulkWriterSupport {
 		return null;
 	}
 
+	/**
+	 * Combine the outcomes of per collection bulk writes into a single {@link BulkWriteResult}. Rethrows the error of the
+	 * first failed collection adding errors of other failed collections as suppressed exceptions.
+	 *
+	 * @param outcomes the outcomes of all written collections.
+	 * @return the combined result.
+	 */
+	static BulkWriteResult combine(List<CollectionWriteOutcome> outcomes) {
+
+		RuntimeException error = null;
+		long insertCount = 0, modifiedCount = 0, deleteCount = 0, upsertCount = 0, matchedCount = 0;
+		boolean acknowledged = true;
+
+		for (CollectionWriteOutcome outcome : outcomes) {
+
+			if (outcome.error() != null) {
+
+				if (error == null) {
+					error = outcome.error();
+				} else {
+					error.addSuppressed(outcome.error());
+				}
+				continue;
+			}
+
+			BulkWriteResult result = BulkWriteResult.from(outcome.getRequiredResult());
+			acknowledged &= result.acknowledged();
+
+			if (result.acknowledged()) {
+				insertCount += result.insertCount();
+				modifiedCount += result.modifiedCount();
+				deleteCount += result.deleteCount();
+				upsertCount += result.upsertCount();
+				matchedCount += result.matchedCount();
+			}
+		}
+
+		if (error != null) {
+			throw error;
+		}
+
+		return new CombinedBulkWriteResult(insertCount, modifiedCount, deleteCount, upsertCount, acknowledged,
+				matchedCount);
+	}
+
 	/**
 	 * Strategy interface to collect {@link WriteModel}s for a {@link Bulk} operation.
 	 */
@@ -180,6 +229,103 @@ abstract class BulkWriterSupport {
 
 	}
 
+	/**
+	 * Collector for multi-collection bulk operations grouping {@link WriteModel}s by collection to write each collection
+	 * through a collection level bulk write.
+	 */
+	static class PerCollectionCollector implements WriteModelCollector {
+
+		private final Map<MongoNamespace, SingleCollectionCollector> collectors = new LinkedHashMap<>();
+		private final String defaultDatabaseName;
+
+		public PerCollectionCollector(String defaultDatabaseName) {
+			this.defaultDatabaseName = defaultDatabaseName;
+		}
+
+		/**
+		 * @return collectors for each collection in the order of their first operation.
+		 */
+		List<SingleCollectionCollector> getCollectors() {
+			return new ArrayList<>(collectors.values());
+		}
+
+		@Override
+		public List<SourceAwareDocument<Object>> getAfterSaveCallables() {
+			return collectors.values().stream().flatMap(it -> it.getAfterSaveCallables().stream()).toList();
+		}
+
+		@Override
+		public MongoNamespace resolveNamespace(String collectionName) {
+			return new MongoNamespace(defaultDatabaseName, collectionName);
+		}
+
+		@Override
+		public void addInsert(MongoNamespace namespace, Document document, SourceAwareDocument<Object> sourceDoc) {
+			getCollector(namespace).addInsert(namespace, document, sourceDoc);
+		}
+
+		@Override
+		public void addUpdate(MongoNamespace namespace, boolean multi, Document query, Object update,
+				UpdateOptions options) {
+			getCollector(namespace).addUpdate(namespace, multi, query, update, options);
+		}
+
+		@Override
+		public void addRemove(MongoNamespace namespace, boolean removeFirst, Document query, DeleteOptions options) {
+			getCollector(namespace).addRemove(namespace, removeFirst, query, options);
+		}
+
+		@Override
+		public void addReplace(MongoNamespace namespace, Document query, Document replacement, UpdateOptions options,
+				SourceAwareDocument<Object> sourceDoc) {
+			getCollector(namespace).addReplace(namespace, query, replacement, options, sourceDoc);
+		}
+
+		private SingleCollectionCollector getCollector(MongoNamespace namespace) {
+			return collectors.computeIfAbsent(namespace, SingleCollectionCollector::new);
+		}
+
+	}
+
+	/**
+	 * Outcome of writing a single collection through {@link PerCollectionCollector}.
+	 *
+	 * @param collector the collector holding the write models of the collection.
+	 * @param result the driver result if the write succeeded.
+	 * @param error the error if the write failed.
+	 */
+	record CollectionWriteOutcome(SingleCollectionCollector collector,
+			com.mongodb.bulk.@Nullable BulkWriteResult result, @Nullable RuntimeException error) {
+
+		static CollectionWriteOutcome success(SingleCollectionCollector collector,
+				com.mongodb.bulk.BulkWriteResult result) {
+			return new CollectionWriteOutcome(collector, result, null);
+		}
+
+		static CollectionWriteOutcome failure(SingleCollectionCollector collector, RuntimeException error) {
+			return new CollectionWriteOutcome(collector, null, error);
+		}
+
+		boolean isSuccess() {
+			return error == null;
+		}
+
+		com.mongodb.bulk.BulkWriteResult getRequiredResult() {
+
+			Assert.state(result != null, "No result available for failed write");
+			return result;
+		}
+
+	}
+
+	/**
+	 * {@link BulkWriteResult} combining the results of multiple collection level bulk writes.
+	 */
+	record CombinedBulkWriteResult(long insertCount, long modifiedCount, long deleteCount, long upsertCount,
+			boolean acknowledged, long matchedCount) implements BulkWriteResult {
+
+	}
+
 	/**
 	 * Collector for multi-collection bulk operations.
 	 */
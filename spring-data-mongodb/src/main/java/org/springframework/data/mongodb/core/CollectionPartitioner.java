@@ -0,0 +1,238 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.util.Assert;
+
+/**
+ * Splits the documents matching a {@link Query} into ranges of a partition key. Range boundaries are quantiles of a
+ * sorted {@code $sample} of partition key values. Comparison operators only match values of the same BSON type, so
+ * documents holding a value of a different type than the sampled ones or no value at all are covered by an additional
+ * residual partition. Samples mixing types fall back to a single partition.
+ * <p>
+ * {@code splitVector} is not used as it is not available on sharded clusters and most hosted deployments and requires
+ * an index on the partition key while {@code $sample} works for any key.
+ *
+ * @since 5.1
+ * @see PartitionedScanOptions
+ */
+class CollectionPartitioner {
+
+	static final Executor DEFAULT_EXECUTOR = createDefaultExecutor();
+
+	private static final String SAMPLE_FIELD = "value";
+
+	private final Query query;
+	private final String key;
+	private final PartitionedScanOptions options;
+
+	/**
+	 * @param query the query to partition. Must not be sorted, limited or skip documents.
+	 * @param key the mapped field name of the partition key.
+	 * @param options the partitioning options.
+	 */
+	CollectionPartitioner(Query query, String key, PartitionedScanOptions options) {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.hasText(key, "Key must not be null or empty");
+		Assert.notNull(options, "PartitionedScanOptions must not be null");
+		Assert.isTrue(!query.isSorted(), "Partitioned scans do not support sorting");
+		Assert.isTrue(!query.isLimited() && query.getSkip() == 0, "Partitioned scans do not support limit or skip");
+
+		this.query = query;
+		this.key = key;
+		this.options = options;
+	}
+
+	/**
+	 * @return {@literal true} if partition key values need to be sampled to partition the query.
+	 */
+	boolean requiresSampling() {
+		return options.getPartitions() > 1;
+	}
+
+	/**
+	 * Create the pipeline sampling partition key values of documents matching the given query. Sampled values are
+	 * sorted and returned in the {@code value} field.
+	 *
+	 * @param mappedQuery the mapped query.
+	 * @return the aggregation pipeline.
+	 */
+	List<Document> getSamplePipeline(Document mappedQuery) {
+
+		List<Document> pipeline = new ArrayList<>(4);
+
+		if (!mappedQuery.isEmpty()) {
+			pipeline.add(new Document("$match", mappedQuery));
+		}
+
+		pipeline.add(new Document("$sample", new Document("size", options.getSampleSize())));
+		pipeline.add(new Document("$project", new Document("_id", 0).append(SAMPLE_FIELD, "$" + key)));
+		pipeline.add(new Document("$sort", new Document(SAMPLE_FIELD, 1)));
+
+		return pipeline;
+	}
+
+	/**
+	 * Split the query into partitions using the given samples.
+	 *
+	 * @param samples sorted samples as returned by the {@link #getSamplePipeline(Document) sample pipeline}.
+	 * @return the partition queries. Partitions are disjoint and together match the same documents as the query.
+	 */
+	List<Query> partition(List<Document> samples) {
+
+		List<Document> ranges = getRanges(samples);
+
+		if (ranges.isEmpty()) {
+			return List.of(query);
+		}
+
+		List<Query> partitions = new ArrayList<>(ranges.size());
+		for (Document range : ranges) {
+			partitions.add(createPartition(range));
+		}
+
+		return partitions;
+	}
+
+	private List<Document> getRanges(List<Document> samples) {
+
+		List<Object> values = new ArrayList<>(samples.size());
+		String type = null;
+
+		for (Document sample : samples) {
+
+			Object value = sample.get(SAMPLE_FIELD);
+
+			if (value == null) {
+				continue;
+			}
+
+			String valueType = getTypeAlias(value);
+
+			if (valueType == null || (type != null && !type.equals(valueType))) {
+				return List.of();
+			}
+
+			type = valueType;
+			values.add(value);
+		}
+
+		if (values.isEmpty()) {
+			return List.of();
+		}
+
+		int partitions = options.getPartitions();
+		List<Object> boundaries = new ArrayList<>(partitions - 1);
+
+		for (int i = 1; i < partitions; i++) {
+
+			Object boundary = values.get(i * values.size() / partitions);
+
+			if (boundaries.isEmpty() || !boundaries.get(boundaries.size() - 1).equals(boundary)) {
+				boundaries.add(boundary);
+			}
+		}
+
+		List<Document> ranges = new ArrayList<>(boundaries.size() + 2);
+		ranges.add(new Document(key, new Document("$lt", boundaries.get(0))));
+
+		for (int i = 1; i < boundaries.size(); i++) {
+			ranges.add(new Document(key, new Document("$gte", boundaries.get(i - 1)).append("$lt", boundaries.get(i))));
+		}
+
+		ranges.add(new Document(key, new Document("$gte", boundaries.get(boundaries.size() - 1))));
+		ranges.add(new Document(key, new Document("$not", new Document("$type", type))));
+
+		return ranges;
+	}
+
+	private Query createPartition(Document range) {
+
+		Document queryObject = query.getQueryObject();
+		Document filter = queryObject.isEmpty() ? range : new Document("$and", Arrays.asList(queryObject, range));
+
+		Query partition = new BasicQuery(filter, query.getFieldsObject());
+		partition.setMeta(query.getMeta());
+		query.getCollation().ifPresent(partition::collation);
+
+		if (query.getHint() != null) {
+			partition.withHint(query.getHint());
+		}
+
+		if (query.getReadPreference() != null) {
+			partition.withReadPreference(query.getReadPreference());
+		}
+
+		if (query.getReadConcern() != null) {
+			partition.withReadConcern(query.getReadConcern());
+		}
+
+		Set<Class<?>> restrictedTypes = query.getRestrictedTypes();
+
+		if (!restrictedTypes.isEmpty()) {
+
+			Class<?>[] types = restrictedTypes.toArray(new Class<?>[0]);
+			partition.restrict(types[0], Arrays.copyOfRange(types, 1, types.length));
+		}
+
+		return partition;
+	}
+
+	/**
+	 * Return the {@code $type} alias of the given value if it can be used as partition boundary.
+	 */
+	private static @Nullable String getTypeAlias(Object value) {
+
+		if (value instanceof Number) {
+			return "number";
+		}
+
+		if (value instanceof String) {
+			return "string";
+		}
+
+		if (value instanceof ObjectId) {
+			return "objectId";
+		}
+
+		if (value instanceof Date) {
+			return "date";
+		}
+
+		return null;
+	}
+
+	private static Executor createDefaultExecutor() {
+
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("mongo-partitioned-scan-");
+		executor.setDaemon(true);
+		return executor;
+	}
+}
@@ -18,6 +18,7 @@ package org.springframework.data.mongodb.core;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
 import org.bson.Document;
@@ -30,6 +31,7 @@ import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.mongodb.BulkOperationException;
 import org.springframework.data.mongodb.core.convert.QueryMapper;
 import org.springframework.data.mongodb.core.convert.UpdateMapper;
+import org.springframework.data.mongodb.core.convert.encryption.ConcurrentEncryptionProcessor;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.event.AfterSaveCallback;
 import org.springframework.data.mongodb.core.mapping.event.BeforeConvertCallback;
@@ -82,6 +84,9 @@ class DefaultBulkOperations extends BulkOperationsSupport implements BulkOperati
 
 	private @Nullable WriteConcern defaultWriteConcern;
 	private BulkWriteOptions bulkOptions;
+	private @Nullable ToIntFunction<WriteModel<Document>> sizeEstimator;
+	private @Nullable ConcurrentEncryptionProcessor encryptionProcessor;
+	private long estimatedSize;
 
 	/**
 	 * Creates a new {@link DefaultBulkOperations} for the given {@link MongoOperations}, collection name and
@@ -115,6 +120,46 @@ class DefaultBulkOperations extends BulkOperationsSupport implements BulkOperati
 		this.defaultWriteConcern = defaultWriteConcern;
 	}
 
+	/**
+	 * Configures the function estimating the size of added {@link WriteModel write models}. Defaults to {@literal null}
+	 * to not track the size.
+	 *
+	 * @param sizeEstimator can be {@literal null}.
+	 * @since 5.1
+	 */
+	void setSizeEstimator(@Nullable ToIntFunction<WriteModel<Document>> sizeEstimator) {
+		this.sizeEstimator = sizeEstimator;
+	}
+
+	/**
+	 * Configures the {@link ConcurrentEncryptionProcessor} to encrypt values of inserted and replacement documents
+	 * concurrently for all collected operations right before executing them. Defaults to {@literal null} to encrypt
+	 * values while mapping.
+	 *
+	 * @param encryptionProcessor can be {@literal null}. Must be able to
+	 *          {@link ConcurrentEncryptionProcessor#canDeferEncryption() defer encryption} if not {@literal null}.
+	 * @since 5.1
+	 */
+	void setEncryptionProcessor(@Nullable ConcurrentEncryptionProcessor encryptionProcessor) {
+		this.encryptionProcessor = encryptionProcessor;
+	}
+
+	/**
+	 * @return the number of collected operations.
+	 * @since 5.1
+	 */
+	int getOperationCount() {
+		return models.size();
+	}
+
+	/**
+	 * @return the estimated size of collected operations in bytes or {@literal 0} if no size estimator is configured.
+	 * @since 5.1
+	 */
+	long getEstimatedSize() {
+		return estimatedSize;
+	}
+
 	@Override
 	@Contract("_ -> this")
 	public BulkOperations insert(Object document) {
@@ -279,11 +324,15 @@ class DefaultBulkOperations extends BulkOperationsSupport implements BulkOperati
 
 		try {
 
-			return collection.bulkWrite( //
-					models.stream() //
-							.map(this::extractAndMapWriteModel) //
-							.collect(Collectors.toList()), //
-					bulkOptions);
+			List<WriteModel<Document>> writeModels = models.stream() //
+					.map(this::extractAndMapWriteModel) //
+					.collect(Collectors.toList());
+
+			if (encryptionProcessor != null) {
+				encryptionProcessor.encrypt(getDocuments(writeModels));
+			}
+
+			return collection.bulkWrite(writeModels, bulkOptions);
 		} catch (RuntimeException ex) {
 
 			if (ex instanceof MongoBulkWriteException mongoBulkWriteException) {
@@ -368,12 +417,40 @@ class DefaultBulkOperations extends BulkOperationsSupport implements BulkOperati
 
 		Document sink = new Document();
 
-		mongoOperations.getConverter().write(source, sink);
+		if (encryptionProcessor != null) {
+			encryptionProcessor.deferEncryption(() -> {
+				mongoOperations.getConverter().write(source, sink);
+				return sink;
+			});
+		} else {
+			mongoOperations.getConverter().write(source, sink);
+		}
+
 		return sink;
 	}
 
+	private static List<Document> getDocuments(List<WriteModel<Document>> writeModels) {
+
+		List<Document> documents = new ArrayList<>(writeModels.size());
+		for (WriteModel<Document> writeModel : writeModels) {
+
+			if (writeModel instanceof InsertOneModel<Document> model) {
+				documents.add(model.getDocument());
+			} else if (writeModel instanceof ReplaceOneModel<Document> model) {
+				documents.add(model.getReplacement());
+			}
+		}
+
+		return documents;
+	}
+
 	private void addModel(Object source, WriteModel<Document> model) {
+
 		models.add(new SourceAwareWriteModelHolder(source, model));
+
+		if (sizeEstimator != null) {
+			estimatedSize += sizeEstimator.applyAsInt(model);
+		}
 	}
 
 	private void maybeInvokeAfterSaveCallback(SourceAwareWriteModelHolder holder) {
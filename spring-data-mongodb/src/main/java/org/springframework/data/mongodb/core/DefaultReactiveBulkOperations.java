@@ -107,6 +107,14 @@ class DefaultReactiveBulkOperations extends BulkOperationsSupport implements Rea
 		this.defaultWriteConcern = defaultWriteConcern;
 	}
 
+	/**
+	 * @return the number of collected operations.
+	 * @since 5.1
+	 */
+	int getOperationCount() {
+		return models.size();
+	}
+
 	@Override
 	@Contract("_ -> this")
 	public ReactiveBulkOperations insert(Object document) {
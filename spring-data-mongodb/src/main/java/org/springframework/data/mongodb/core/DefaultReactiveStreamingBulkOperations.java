@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import org.bson.codecs.configuration.CodecConfigurationException;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+import org.reactivestreams.Publisher;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.util.BsonUtils;
+import org.springframework.util.Assert;
+
+import com.mongodb.bulk.BulkWriteResult;
+
+/**
+ * Default implementation of {@link ReactiveStreamingBulkOperations} writing batches through
+ * {@link DefaultReactiveBulkOperations}.
+ *
+ * @since 5.1
+ */
+class DefaultReactiveStreamingBulkOperations implements ReactiveStreamingBulkOperations {
+
+	private final Supplier<DefaultReactiveBulkOperations> batchFactory;
+	private final BulkMode bulkMode;
+	private final StreamingBulkOptions options;
+	private final CodecRegistry codecRegistry;
+
+	/**
+	 * Creates a new {@link DefaultReactiveStreamingBulkOperations}.
+	 *
+	 * @param batchFactory factory creating a {@link DefaultReactiveBulkOperations} for each batch. Must not be
+	 *          {@literal null}.
+	 * @param bulkMode must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @param codecRegistry used to estimate the size of elements. Must not be {@literal null}.
+	 */
+	DefaultReactiveStreamingBulkOperations(Supplier<DefaultReactiveBulkOperations> batchFactory, BulkMode bulkMode,
+			StreamingBulkOptions options, CodecRegistry codecRegistry) {
+
+		Assert.notNull(batchFactory, "Batch factory must not be null");
+		Assert.notNull(bulkMode, "BulkMode must not be null");
+		Assert.notNull(options, "StreamingBulkOptions must not be null");
+		Assert.notNull(codecRegistry, "CodecRegistry must not be null");
+
+		this.batchFactory = batchFactory;
+		this.bulkMode = bulkMode;
+		this.options = options;
+		this.codecRegistry = codecRegistry;
+	}
+
+	@Override
+	public <T> Mono<BulkWriteResult> write(Publisher<? extends T> source,
+			BiConsumer<ReactiveBulkOperations, ? super T> operation) {
+
+		Assert.notNull(source, "Source must not be null");
+		Assert.notNull(operation, "Operation must not be null");
+
+		boolean ordered = bulkMode == BulkMode.ORDERED;
+		int concurrency = ordered ? 1 : options.getMaxInFlight();
+
+		return Mono.defer(() -> {
+
+			BulkWriteResultAggregator aggregator = new BulkWriteResultAggregator();
+			int[] offset = { 0 };
+
+			return batches(source).map(elements -> {
+
+				DefaultReactiveBulkOperations bulkOperations = batchFactory.get();
+				elements.forEach(element -> operation.accept(bulkOperations, element));
+
+				Batch batch = new Batch(offset[0], bulkOperations);
+				offset[0] += bulkOperations.getOperationCount();
+				return batch;
+			}) //
+					.takeWhile(batch -> !(ordered && aggregator.hasErrors())) //
+					.flatMap(batch -> execute(batch, aggregator), concurrency, 1) //
+					.then(Mono.fromSupplier(aggregator::getResult));
+		});
+	}
+
+	private Mono<Void> execute(Batch batch, BulkWriteResultAggregator aggregator) {
+
+		if (batch.operations().getOperationCount() == 0) {
+			return Mono.empty();
+		}
+
+		return batch.operations().execute() //
+				.doOnNext(result -> aggregator.add(batch.offset(), result)) //
+				.onErrorResume(error -> {
+
+					aggregator.add(batch.offset(), error);
+					return Mono.empty();
+				}).then();
+	}
+
+	private <T> Flux<List<T>> batches(Publisher<? extends T> source) {
+
+		Flux<T> elements = Flux.from(source);
+
+		if (!options.hasMaxBatchBytes()) {
+			return elements.buffer(options.getBatchSize());
+		}
+
+		return Flux.defer(() -> {
+
+			long[] state = { 0, 0 };
+			return elements.bufferUntil(element -> {
+
+				state[0]++;
+				state[1] += estimateSize(element);
+
+				if (state[0] >= options.getBatchSize() || state[1] >= options.getMaxBatchBytes()) {
+					state[0] = 0;
+					state[1] = 0;
+					return true;
+				}
+				return false;
+			});
+		});
+	}
+
+	/**
+	 * Estimate the BSON size of the given element. Only {@link Bson} elements are considered as their size is known
+	 * without mapping them. Entities are mapped when the batch is executed and only count towards the
+	 * {@link StreamingBulkOptions#getBatchSize() batch size}.
+	 */
+	int estimateSize(Object element) {
+
+		if (element instanceof Bson bson) {
+			try {
+				return BsonUtils.getEncodedSize(bson, codecRegistry);
+			} catch (CodecConfigurationException ex) {
+				// no codec for a value, the size is not known before the write model is mapped
+			}
+		}
+
+		return 0;
+	}
+
+	private record Batch(int offset, DefaultReactiveBulkOperations operations) {
+
+	}
+}
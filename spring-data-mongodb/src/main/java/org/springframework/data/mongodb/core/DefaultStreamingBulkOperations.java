@@ -0,0 +1,366 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import org.bson.Document;
+import org.bson.codecs.configuration.CodecConfigurationException;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.data.mongodb.util.BsonUtils;
+import org.springframework.data.util.Pair;
+import org.springframework.lang.Contract;
+import org.springframework.util.Assert;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.DeleteManyModel;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.UpdateManyModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+
+/**
+ * Default implementation of {@link StreamingBulkOperations} collecting operations in {@link DefaultBulkOperations}
+ * batches that are executed on an {@link Executor} once the configured thresholds are reached. Batches are executed on
+ * the calling thread while the template is bound to a session or transaction.
+ *
+ * @since 5.1
+ */
+class DefaultStreamingBulkOperations implements StreamingBulkOperations {
+
+	static final Executor DEFAULT_EXECUTOR = createDefaultExecutor();
+
+	private final Supplier<DefaultBulkOperations> batchFactory;
+	private final BulkMode bulkMode;
+	private final StreamingBulkOptions options;
+	private final CodecRegistry codecRegistry;
+	private final BooleanSupplier sessionBound;
+	private final Executor executor;
+	private final Semaphore inFlight;
+	private final List<CompletableFuture<?>> flushes = new ArrayList<>();
+
+	private DefaultBulkOperations batch;
+	private BulkWriteResultAggregator aggregator = new BulkWriteResultAggregator();
+	private int offset;
+
+	/**
+	 * Creates a new {@link DefaultStreamingBulkOperations}.
+	 *
+	 * @param batchFactory factory creating a {@link DefaultBulkOperations} for each flush. Must not be {@literal null}.
+	 * @param bulkMode must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @param codecRegistry used to estimate the size of operations. Must not be {@literal null}.
+	 * @param sessionBound whether batches need to be executed on the calling thread to participate in the session
+	 *          respectively transaction bound to it. Must not be {@literal null}.
+	 */
+	DefaultStreamingBulkOperations(Supplier<DefaultBulkOperations> batchFactory, BulkMode bulkMode,
+			StreamingBulkOptions options, CodecRegistry codecRegistry, BooleanSupplier sessionBound) {
+
+		Assert.notNull(batchFactory, "Batch factory must not be null");
+		Assert.notNull(bulkMode, "BulkMode must not be null");
+		Assert.notNull(options, "StreamingBulkOptions must not be null");
+		Assert.notNull(codecRegistry, "CodecRegistry must not be null");
+		Assert.notNull(sessionBound, "Session bound supplier must not be null");
+
+		this.batchFactory = batchFactory;
+		this.bulkMode = bulkMode;
+		this.options = options;
+		this.codecRegistry = codecRegistry;
+		this.sessionBound = sessionBound;
+		this.executor = options.getExecutor() != null ? options.getExecutor() : DEFAULT_EXECUTOR;
+		this.inFlight = new Semaphore(bulkMode == BulkMode.ORDERED ? 1 : options.getMaxInFlight());
+		this.batch = createBatch();
+	}
+
+	@Override
+	@Contract("_ -> this")
+	public StreamingBulkOperations insert(Object document) {
+
+		batch.insert(document);
+		return maybeFlush();
+	}
+
+	@Override
+	@Contract("_ -> this")
+	public StreamingBulkOperations insert(List<? extends Object> documents) {
+
+		Assert.notNull(documents, "Documents must not be null");
+
+		documents.forEach(this::insert);
+		return this;
+	}
+
+	@Override
+	@Contract("_, _ -> this")
+	public StreamingBulkOperations updateOne(Query query, UpdateDefinition update) {
+
+		batch.updateOne(query, update);
+		return maybeFlush();
+	}
+
+	@Override
+	@Contract("_ -> this")
+	public StreamingBulkOperations updateOne(List<Pair<Query, UpdateDefinition>> updates) {
+
+		Assert.notNull(updates, "Updates must not be null");
+
+		updates.forEach(update -> updateOne(update.getFirst(), update.getSecond()));
+		return this;
+	}
+
+	@Override
+	@Contract("_, _ -> this")
+	public StreamingBulkOperations updateMulti(Query query, UpdateDefinition update) {
+
+		batch.updateMulti(query, update);
+		return maybeFlush();
+	}
+
+	@Override
+	@Contract("_ -> this")
+	public StreamingBulkOperations updateMulti(List<Pair<Query, UpdateDefinition>> updates) {
+
+		Assert.notNull(updates, "Updates must not be null");
+
+		updates.forEach(update -> updateMulti(update.getFirst(), update.getSecond()));
+		return this;
+	}
+
+	@Override
+	@Contract("_, _ -> this")
+	public StreamingBulkOperations upsert(Query query, UpdateDefinition update) {
+
+		batch.upsert(query, update);
+		return maybeFlush();
+	}
+
+	@Override
+	@Contract("_ -> this")
+	public StreamingBulkOperations upsert(List<Pair<Query, Update>> updates) {
+
+		Assert.notNull(updates, "Updates must not be null");
+
+		updates.forEach(update -> upsert(update.getFirst(), update.getSecond()));
+		return this;
+	}
+
+	@Override
+	@Contract("_ -> this")
+	public StreamingBulkOperations remove(Query remove) {
+
+		batch.remove(remove);
+		return maybeFlush();
+	}
+
+	@Override
+	@Contract("_ -> this")
+	public StreamingBulkOperations remove(List<Query> removes) {
+
+		Assert.notNull(removes, "Removals must not be null");
+
+		removes.forEach(this::remove);
+		return this;
+	}
+
+	@Override
+	@Contract("_, _, _ -> this")
+	public StreamingBulkOperations replaceOne(Query query, Object replacement, FindAndReplaceOptions options) {
+
+		batch.replaceOne(query, replacement, options);
+		return maybeFlush();
+	}
+
+	@Override
+	@Contract("-> this")
+	public StreamingBulkOperations flush() {
+
+		failIfOrderedBulkFailed();
+
+		int operationCount = batch.getOperationCount();
+		if (operationCount == 0) {
+			return this;
+		}
+
+		DefaultBulkOperations toFlush = batch;
+		BulkWriteResultAggregator target = aggregator;
+		int batchOffset = offset;
+
+		batch = createBatch();
+		offset += operationCount;
+
+		acquire();
+
+		// sessions are not thread-safe and transactions are bound to the calling thread
+		Executor flushExecutor = sessionBound.getAsBoolean() ? Runnable::run : executor;
+
+		try {
+			CompletableFuture<?> flush = CompletableFuture.supplyAsync(toFlush::execute, flushExecutor)
+					.whenComplete((result, error) -> {
+
+						try {
+							if (error != null) {
+								target.add(batchOffset, error);
+							} else {
+								target.add(batchOffset, result);
+							}
+						} finally {
+							inFlight.release();
+						}
+					});
+
+			flushes.removeIf(CompletableFuture::isDone);
+			flushes.add(flush);
+		} catch (RuntimeException ex) {
+
+			inFlight.release();
+			throw ex;
+		}
+
+		return this;
+	}
+
+	@Override
+	public BulkWriteResult execute() {
+
+		try {
+
+			flush();
+
+			for (CompletableFuture<?> flush : flushes) {
+				flush.exceptionally(error -> null).join();
+			}
+
+			return aggregator.getResult();
+		} finally {
+
+			flushes.clear();
+			batch = createBatch();
+			aggregator = new BulkWriteResultAggregator();
+			offset = 0;
+		}
+	}
+
+	private StreamingBulkOperations maybeFlush() {
+
+		if (batch.getOperationCount() >= options.getBatchSize()
+				|| (options.hasMaxBatchBytes() && batch.getEstimatedSize() >= options.getMaxBatchBytes())) {
+			return flush();
+		}
+
+		return this;
+	}
+
+	private void failIfOrderedBulkFailed() {
+
+		if (bulkMode == BulkMode.ORDERED && aggregator.hasErrors()) {
+			aggregator.getResult();
+		}
+	}
+
+	private void acquire() {
+
+		try {
+			inFlight.acquire();
+		} catch (InterruptedException ex) {
+
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for in-flight bulk writes", ex);
+		}
+
+		// an ordered flush might have failed while waiting
+		if (bulkMode == BulkMode.ORDERED && aggregator.hasErrors()) {
+
+			inFlight.release();
+			aggregator.getResult();
+		}
+	}
+
+	private DefaultBulkOperations createBatch() {
+
+		DefaultBulkOperations bulkOperations = batchFactory.get();
+		if (options.hasMaxBatchBytes()) {
+			bulkOperations.setSizeEstimator(this::estimateSize);
+		}
+		return bulkOperations;
+	}
+
+	int estimateSize(WriteModel<Document> model) {
+
+		if (model instanceof InsertOneModel<Document> insert) {
+			return sizeOf(insert.getDocument());
+		}
+		if (model instanceof ReplaceOneModel<Document> replace) {
+			return sizeOf(replace.getFilter()) + sizeOf(replace.getReplacement());
+		}
+		if (model instanceof UpdateOneModel<Document> update) {
+			return sizeOf(update.getFilter()) + sizeOf(update.getUpdate()) + sizeOf(update.getUpdatePipeline());
+		}
+		if (model instanceof UpdateManyModel<Document> update) {
+			return sizeOf(update.getFilter()) + sizeOf(update.getUpdate()) + sizeOf(update.getUpdatePipeline());
+		}
+		if (model instanceof DeleteOneModel<Document> delete) {
+			return sizeOf(delete.getFilter());
+		}
+		if (model instanceof DeleteManyModel<Document> delete) {
+			return sizeOf(delete.getFilter());
+		}
+		return 0;
+	}
+
+	private int sizeOf(@Nullable Object value) {
+
+		if (value instanceof Bson bson) {
+			try {
+				return BsonUtils.getEncodedSize(bson, codecRegistry);
+			} catch (CodecConfigurationException ex) {
+				// unmapped values without a codec, the mapped representation is not known before execution
+				return 0;
+			}
+		}
+
+		if (value instanceof List<?> list) {
+
+			int size = 0;
+			for (Object element : list) {
+				size += sizeOf(element);
+			}
+			return size;
+		}
+
+		return 0;
+	}
+
+	private static Executor createDefaultExecutor() {
+
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("mongo-streaming-bulk-");
+		executor.setDaemon(true);
+		return executor;
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.bson.Document;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.mongodb.core.ScrollUtils.MappedKeysetQuery;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Iterator} reading all documents of a keyset-scrolled query window by window. Each window is read by a
+ * separate, limited query that is exhausted right away, so no server cursor is kept open while documents are
+ * processed. The next window is requested on a background {@link Executor} as soon as the current window is
+ * available, while documents of the current window are converted on the consuming thread. Without an {@link Executor}
+ * windows are read on the consuming thread once the current window is exhausted.
+ *
+ * @param <T> the result type.
+ * @since 5.1
+ */
+class KeysetScrollIterator<T> implements Iterator<T>, AutoCloseable {
+
+	static final Executor DEFAULT_EXECUTOR = createDefaultExecutor();
+
+	private final MappedKeysetQuery query;
+	private final int windowSize;
+	private final Function<Document, List<Document>> windowReader;
+	private final Function<Document, T> documentReader;
+	private final @Nullable Executor executor;
+
+	private List<Document> current = Collections.emptyList();
+	private int position;
+	private @Nullable Document nextFilter;
+	private @Nullable CompletableFuture<List<Document>> next;
+
+	/**
+	 * Create a new {@link KeysetScrollIterator}.
+	 *
+	 * @param query the mapped keyset query.
+	 * @param windowReader function reading a window for the given filter.
+	 * @param documentReader function converting raw documents.
+	 * @param executor the {@link Executor} to prefetch windows with. Can be {@literal null} to read windows on the
+	 *          consuming thread without prefetching.
+	 */
+	KeysetScrollIterator(MappedKeysetQuery query, Function<Document, List<Document>> windowReader,
+			Function<Document, T> documentReader, @Nullable Executor executor) {
+
+		Assert.isTrue(query.getWindowSize() > 0, "Window size must be greater than zero");
+
+		this.query = query;
+		this.windowSize = query.getWindowSize();
+		this.windowReader = windowReader;
+		this.documentReader = documentReader;
+		this.executor = executor;
+
+		schedule(query.createInitialQuery());
+	}
+
+	@Override
+	public boolean hasNext() {
+		return position < current.size() || nextWindow();
+	}
+
+	@Override
+	public T next() {
+
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		return documentReader.apply(current.get(position++));
+	}
+
+	@Override
+	public void close() {
+
+		CompletableFuture<List<Document>> pending = next;
+
+		next = null;
+		nextFilter = null;
+		current = Collections.emptyList();
+
+		if (pending != null) {
+			pending.cancel(false);
+		}
+	}
+
+	/**
+	 * Create a sequential {@link Stream} closing this iterator when closed.
+	 */
+	Stream<T> stream() {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+				.onClose(this::close);
+	}
+
+	private boolean nextWindow() {
+
+		List<Document> window = readWindow();
+
+		if (window == null) {
+			return false;
+		}
+
+		if (window.size() >= windowSize) {
+			schedule(query.createQuery(query.extractKeys(window.get(window.size() - 1))));
+		}
+
+		current = window;
+		position = 0;
+
+		return !window.isEmpty();
+	}
+
+	private void schedule(Document filter) {
+
+		if (executor == null) {
+			nextFilter = filter;
+			return;
+		}
+
+		next = CompletableFuture.supplyAsync(() -> windowReader.apply(filter), executor);
+	}
+
+	private @Nullable List<Document> readWindow() {
+
+		Document filter = nextFilter;
+		CompletableFuture<List<Document>> pending = next;
+
+		nextFilter = null;
+		next = null;
+
+		if (filter != null) {
+			return windowReader.apply(filter);
+		}
+
+		if (pending == null) {
+			return null;
+		}
+
+		try {
+			return pending.join();
+		} catch (CompletionException ex) {
+			throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+		}
+	}
+
+	private static Executor createDefaultExecutor() {
+
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("mongo-scroll-prefetch-");
+		executor.setDaemon(true);
+		return executor;
+	}
+}
@@ -274,6 +274,52 @@ public interface MongoOperations extends FluentMongoOperations {
 	 */
 	<T> Stream<T> stream(Query query, Class<T> entityType, String collectionName);
 
+	/**
+	 * Process all documents matching the given {@link Query} in the collection of the specified {@code entityType} by
+	 * splitting the query into {@link PartitionedScanOptions#getKey() partition key} ranges that are read concurrently.
+	 * Range boundaries are derived from a {@code $sample} of partition key values. The given {@link Consumer} is invoked
+	 * concurrently from the threads reading the partitions and needs to be thread-safe. Documents are not processed in
+	 * any particular order.
+	 * <p>
+	 * Blocks until all partitions are processed. Remaining partitions are abandoned if reading a partition or processing
+	 * a document fails and the first failure is rethrown. Operations bound to a {@link ClientSession}, either through
+	 * {@link #withSession(ClientSession)} or by participating in a transaction, read all documents as a single partition
+	 * on the calling thread.
+	 *
+	 * @param query the query class that specifies the criteria used to find documents and also an optional fields
+	 *          specification. Must not be {@literal null} and must not define a sort, limit or skip.
+	 * @param entityType must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @param action the action to apply to each document. Must not be {@literal null}.
+	 * @param <T> element return type
+	 * @since 5.1
+	 */
+	<T> void scanPartitioned(Query query, Class<T> entityType, PartitionedScanOptions options,
+			Consumer<? super T> action);
+
+	/**
+	 * Process all documents matching the given {@link Query} in the specified collection by splitting the query into
+	 * {@link PartitionedScanOptions#getKey() partition key} ranges that are read concurrently. Range boundaries are
+	 * derived from a {@code $sample} of partition key values. The given {@link Consumer} is invoked concurrently from the
+	 * threads reading the partitions and needs to be thread-safe. Documents are not processed in any particular order.
+	 * <p>
+	 * Blocks until all partitions are processed. Remaining partitions are abandoned if reading a partition or processing
+	 * a document fails and the first failure is rethrown. Operations bound to a {@link ClientSession}, either through
+	 * {@link #withSession(ClientSession)} or by participating in a transaction, read all documents as a single partition
+	 * on the calling thread.
+	 *
+	 * @param query the query class that specifies the criteria used to find documents and also an optional fields
+	 *          specification. Must not be {@literal null} and must not define a sort, limit or skip.
+	 * @param entityType must not be {@literal null}.
+	 * @param collectionName must not be {@literal null} or empty.
+	 * @param options must not be {@literal null}.
+	 * @param action the action to apply to each document. Must not be {@literal null}.
+	 * @param <T> element return type
+	 * @since 5.1
+	 */
+	<T> void scanPartitioned(Query query, Class<T> entityType, String collectionName, PartitionedScanOptions options,
+			Consumer<? super T> action);
+
 	/**
 	 * Create an uncapped collection with a name based on the provided entity class.
 	 * <p>
@@ -504,6 +550,32 @@ public interface MongoOperations extends FluentMongoOperations {
 	 */
 	BulkOperations bulkOps(BulkMode mode, @Nullable Class<?> entityType, String collectionName);
 
+	/**
+	 * Returns a new {@link StreamingBulkOperations} for the given entity type that flushes collected operations
+	 * according to the given {@link StreamingBulkOptions}.
+	 *
+	 * @param mode the {@link BulkMode} to use for bulk operations, must not be {@literal null}.
+	 * @param entityType the name of the entity class, must not be {@literal null}.
+	 * @param options the {@link StreamingBulkOptions} to use, must not be {@literal null}.
+	 * @return {@link StreamingBulkOperations} on the collection associated with the given entity class.
+	 * @since 5.1
+	 */
+	StreamingBulkOperations streamingBulkOps(BulkMode mode, Class<?> entityType, StreamingBulkOptions options);
+
+	/**
+	 * Returns a new {@link StreamingBulkOperations} for the given entity type and collection name that flushes collected
+	 * operations according to the given {@link StreamingBulkOptions}.
+	 *
+	 * @param mode the {@link BulkMode} to use for bulk operations, must not be {@literal null}.
+	 * @param entityType the name of the entity class. Can be {@literal null}.
+	 * @param collectionName the name of the collection to work on, must not be {@literal null} or empty.
+	 * @param options the {@link StreamingBulkOptions} to use, must not be {@literal null}.
+	 * @return {@link StreamingBulkOperations} on the named collection associated with the given entity class.
+	 * @since 5.1
+	 */
+	StreamingBulkOperations streamingBulkOps(BulkMode mode, @Nullable Class<?> entityType, String collectionName,
+			StreamingBulkOptions options);
+
 	/**
 	 * Query for a list of objects of type T from the collection used by the entity class. <br />
 	 * The object is converted from the MongoDB native representation using an instance of {@see MongoConverter}. Unless
@@ -914,6 +986,51 @@ public interface MongoOperations extends FluentMongoOperations {
 	 */
 	<T> Window<T> scroll(Query query, Class<T> entityType, String collectionName);
 
+	/**
+	 * Query for all objects of type T from the collection of the specified {@code entityType} by scrolling forward using
+	 * keyset-based pagination. The query is mapped once and each window continues after the sort keys of the last
+	 * document of the previous window. {@link Query#limit(int)} defines the window size and defaults to {@literal 1000}.
+	 * The next window is requested while documents of the current one are consumed. Operations bound to a
+	 * {@link ClientSession}, either through {@link #withSession(ClientSession)} or by participating in a transaction, read
+	 * the next window on the calling thread once the current one is consumed.
+	 * <p>
+	 * Each window is read through a separate query that is exhausted right away so that slow consumers do not run into
+	 * cursor timeouts. Make sure to use non-nullable {@link org.springframework.data.domain.Sort sort properties}.
+	 *
+	 * @param query the query class that specifies the criteria used to find documents and also an optional fields
+	 *          specification. Must not be {@literal null}. Can start from a forward {@link KeysetScrollPosition}.
+	 * @param entityType the parametrized type of the returned objects.
+	 * @return the result {@link Stream}, containing mapped objects, needing to be closed once fully processed (e.g.
+	 *         through a try-with-resources clause).
+	 * @throws IllegalStateException if a document does not hold a value for a sort property.
+	 * @since 5.1
+	 * @see Query#with(org.springframework.data.domain.KeysetScrollPosition)
+	 */
+	<T> Stream<T> scrollAll(Query query, Class<T> entityType);
+
+	/**
+	 * Query for all objects of type T from the specified collection by scrolling forward window by window using
+	 * keyset-based pagination. The query is mapped once and each window continues after the sort keys of the last
+	 * document of the previous window. {@link Query#limit(int)} defines the window size and defaults to {@literal 1000}.
+	 * The next window is requested while documents of the current one are consumed. Operations bound to a
+	 * {@link ClientSession}, either through {@link #withSession(ClientSession)} or by participating in a transaction, read
+	 * the next window on the calling thread once the current one is consumed.
+	 * <p>
+	 * Each window is read through a separate query that is exhausted right away so that slow consumers do not run into
+	 * cursor timeouts. Make sure to use non-nullable {@link org.springframework.data.domain.Sort sort properties}.
+	 *
+	 * @param query the query class that specifies the criteria used to find documents and also an optional fields
+	 *          specification. Must not be {@literal null}. Can start from a forward {@link KeysetScrollPosition}.
+	 * @param entityType the parametrized type of the returned objects.
+	 * @param collectionName name of the collection to retrieve the objects from. Must not be {@literal null} or empty.
+	 * @return the result {@link Stream}, containing mapped objects, needing to be closed once fully processed (e.g.
+	 *         through a try-with-resources clause).
+	 * @throws IllegalStateException if a document does not hold a value for a sort property.
+	 * @since 5.1
+	 * @see Query#with(org.springframework.data.domain.KeysetScrollPosition)
+	 */
+	<T> Stream<T> scrollAll(Query query, Class<T> entityType, String collectionName);
+
 	/**
 	 * Returns a document with the given id mapped onto the given class. The collection the query is ran against will be
 	 * derived from the given target class as well.
@@ -21,15 +21,22 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiPredicate;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.conversions.Bson;
 import org.jspecify.annotations.Nullable;
 
@@ -71,6 +78,7 @@ import org.springframework.data.mongodb.core.QueryOperations.DistinctQueryContex
 import org.springframework.data.mongodb.core.QueryOperations.QueryContext;
 import org.springframework.data.mongodb.core.QueryOperations.UpdateContext;
 import org.springframework.data.mongodb.core.ScrollUtils.KeysetScrollQuery;
+import org.springframework.data.mongodb.core.ScrollUtils.MappedKeysetQuery;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.aggregation.AggregationOperationContext;
 import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
@@ -91,8 +99,10 @@ import org.springframework.data.mongodb.core.convert.MongoJsonSchemaMapper;
 import org.springframework.data.mongodb.core.convert.MongoWriter;
 import org.springframework.data.mongodb.core.convert.QueryMapper;
 import org.springframework.data.mongodb.core.convert.UpdateMapper;
+import org.springframework.data.mongodb.core.convert.encryption.ConcurrentEncryptionProcessor;
 import org.springframework.data.mongodb.core.index.DefaultSearchIndexOperations;
 import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
 import org.springframework.data.mongodb.core.index.IndexOperationsProvider;
 import org.springframework.data.mongodb.core.index.MongoMappingEventPublisher;
 import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexCreator;
@@ -114,11 +124,14 @@ import org.springframework.data.mongodb.core.query.UpdateDefinition;
 import org.springframework.data.mongodb.core.query.UpdateDefinition.ArrayFilter;
 import org.springframework.data.mongodb.core.timeseries.Granularity;
 import org.springframework.data.mongodb.core.validation.Validator;
+import org.springframework.data.mongodb.util.BsonUtils;
+import org.springframework.data.mongodb.util.LazyDocumentCodec;
 import org.springframework.data.projection.EntityProjection;
 import org.springframework.data.util.CloseableIterator;
 import org.springframework.data.util.Lazy;
 import org.springframework.data.util.Optionals;
 import org.springframework.lang.Contract;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
@@ -128,7 +141,9 @@ import org.springframework.util.ResourceUtils;
 import org.springframework.util.StringUtils;
 
 import com.mongodb.ClientSessionOptions;
+import com.mongodb.ExplainVerbosity;
 import com.mongodb.MongoException;
+import com.mongodb.MongoInterruptedException;
 import com.mongodb.ReadPreference;
 import com.mongodb.WriteConcern;
 import com.mongodb.client.*;
@@ -213,6 +228,10 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	private @Nullable EntityCallbacks entityCallbacks;
 	private @Nullable ResourceLoader resourceLoader;
 	private @Nullable MongoPersistentEntityIndexCreator indexCreator;
+	private @Nullable ConcurrentEncryptionProcessor encryptionProcessor;
+	private @Nullable QueryProfiler queryProfiler;
+	private boolean lazyDocumentDecoding;
+	private @Nullable QueryPlanSampler queryPlanSampler;
 
 	private SessionSynchronization sessionSynchronization = SessionSynchronization.ON_ACTUAL_TRANSACTION;
 
@@ -285,6 +304,9 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		this.mongoDbFactory = dbFactory;
 		this.exceptionTranslator = that.exceptionTranslator;
 		this.sessionSynchronization = that.sessionSynchronization;
+		this.encryptionProcessor = that.encryptionProcessor;
+		this.queryProfiler = that.queryProfiler;
+		this.lazyDocumentDecoding = that.lazyDocumentDecoding;
 
 		// we need to (re)create the MappingMongoConverter as we need to have it use a DbRefResolver that operates within
 		// the sames session. Otherwise loading referenced objects would happen outside of it.
@@ -344,6 +366,57 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		this.readPreference = readPreference;
 	}
 
+	/**
+	 * Configure a {@link ConcurrentEncryptionProcessor} to decrypt explicitly encrypted values of find results and to
+	 * encrypt values of {@link #insertAll(Collection) batch inserts} and {@link #bulkOps(BulkMode, Class) bulk
+	 * operations} concurrently for a whole batch of documents instead of value by value while mapping. Documents are
+	 * only encrypted concurrently if the processor {@link ConcurrentEncryptionProcessor#canDeferEncryption() can defer
+	 * encryption}. Setting {@literal null} restores the default, sequential behavior.
+	 *
+	 * @param encryptionProcessor can be {@literal null}.
+	 * @since 5.1
+	 */
+	public void setEncryptionProcessor(@Nullable ConcurrentEncryptionProcessor encryptionProcessor) {
+		this.encryptionProcessor = encryptionProcessor;
+	}
+
+	/**
+	 * Configure a {@link QueryProfiler} to profile find operations splitting their duration into query mapping, server
+	 * execution and result conversion and retaining the slowest operations. Setting {@literal null} disables profiling.
+	 *
+	 * @param queryProfiler can be {@literal null}.
+	 * @since 5.1
+	 */
+	public void setQueryProfiler(@Nullable QueryProfiler queryProfiler) {
+		this.queryProfiler = queryProfiler;
+	}
+
+	/**
+	 * Configure whether documents read from the database are kept as raw BSON and decoded lazily. Fields are decoded
+	 * when the {@link org.springframework.data.mongodb.core.convert.MongoConverter} or application code reads them so
+	 * that subtrees that are never accessed, for example fields not mapped to the domain type, are never decoded. Reads
+	 * of {@link Document} results return lazily decoding {@link Document documents} as well. Disabled by default.
+	 *
+	 * @param lazyDocumentDecoding {@literal true} to decode documents lazily.
+	 * @since 5.1
+	 * @see LazyDocumentCodec
+	 */
+	public void setLazyDocumentDecoding(boolean lazyDocumentDecoding) {
+		this.lazyDocumentDecoding = lazyDocumentDecoding;
+	}
+
+	/**
+	 * Configure a {@link QueryPlanSampler} to periodically explain distinct query shapes of find operations and report
+	 * collection scans, in-memory sorts and inefficient index usage. Queries are not sampled within a session as
+	 * {@code explain} runs asynchronously. Setting {@literal null} disables sampling.
+	 *
+	 * @param queryPlanSampler can be {@literal null}.
+	 * @since 5.1
+	 */
+	public void setQueryPlanSampler(@Nullable QueryPlanSampler queryPlanSampler) {
+		this.queryPlanSampler = queryPlanSampler;
+	}
+
 	@Override
 	public boolean hasReadPreference() {
 		return this.readPreference != null;
@@ -531,6 +604,108 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		});
 	}
 
+	@Override
+	public <T> void scanPartitioned(Query query, Class<T> entityType, PartitionedScanOptions options,
+			Consumer<? super T> action) {
+		scanPartitioned(query, entityType, getCollectionName(entityType), options, action);
+	}
+
+	@Override
+	public <T> void scanPartitioned(Query query, Class<T> entityType, String collectionName,
+			PartitionedScanOptions options, Consumer<? super T> action) {
+
+		Assert.notNull(action, "Action must not be null");
+
+		if (isSessionBound()) {
+
+			// a ClientSession must not be used concurrently, read the query as single partition on the calling thread
+			for (Query partition : partition(query, entityType, collectionName, options, false)) {
+				try (Stream<T> stream = stream(partition, entityType, collectionName)) {
+					stream.forEach(action);
+				}
+			}
+			return;
+		}
+
+		List<Query> partitions = partition(query, entityType, collectionName, options, true);
+		Executor executor = options.getExecutor() != null ? options.getExecutor() : CollectionPartitioner.DEFAULT_EXECUTOR;
+		AtomicReference<@Nullable Throwable> failure = new AtomicReference<>();
+		List<CompletableFuture<Void>> scans = new ArrayList<>(partitions.size());
+
+		try {
+			for (Query partition : partitions) {
+				scans.add(CompletableFuture.runAsync(() -> {
+
+					try (Stream<T> stream = stream(partition, entityType, collectionName)) {
+
+						Iterator<T> iterator = stream.iterator();
+						while (failure.get() == null && iterator.hasNext()) {
+							action.accept(iterator.next());
+						}
+					} catch (RuntimeException | Error ex) {
+						failure.compareAndSet(null, ex);
+					}
+				}, executor));
+			}
+		} catch (RuntimeException ex) {
+			failure.compareAndSet(null, ex);
+		}
+
+		try {
+			CompletableFuture.allOf(scans.toArray(new CompletableFuture<?>[0])).get();
+		} catch (InterruptedException ex) {
+
+			failure.compareAndSet(null, ex);
+			Thread.currentThread().interrupt();
+			throw new MongoInterruptedException("Interrupted while awaiting partitioned scan", ex);
+		} catch (ExecutionException ex) {
+			failure.compareAndSet(null, ex.getCause());
+		}
+
+		Throwable ex = failure.get();
+
+		if (ex instanceof RuntimeException runtimeException) {
+			throw runtimeException;
+		}
+
+		if (ex instanceof Error error) {
+			throw error;
+		}
+	}
+
+	@SuppressWarnings({ "ConstantConditions", "NullAway" })
+	private List<Query> partition(Query query, Class<?> entityType, String collectionName,
+			PartitionedScanOptions options, boolean sample) {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(entityType, "Entity type must not be null");
+		Assert.hasText(collectionName, "Collection name must not be null or empty");
+		Assert.notNull(options, "PartitionedScanOptions must not be null");
+
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityType);
+		String key = queryMapper.getMappedSort(new Document(options.getKey(), 1), entity).keySet().iterator().next();
+		CollectionPartitioner partitioner = new CollectionPartitioner(query, key, options);
+
+		if (!sample || !partitioner.requiresSampling()) {
+			return partitioner.partition(List.of());
+		}
+
+		Document mappedQuery = queryOperations.createQueryContext(query).getMappedQuery(entity);
+		List<Document> samples = execute(collectionName, collection -> {
+
+			AggregateIterable<Document> aggregate = createDelegate(query).prepare(collection)
+					.aggregate(partitioner.getSamplePipeline(mappedQuery), Document.class);
+
+			// samples need to be sorted like the partition ranges compare values
+			operations.forType(entityType).getCollation(query).map(Collation::toMongoCollation)
+					.ifPresent(aggregate::collation);
+
+			return aggregate.into(new ArrayList<>());
+		});
+
+		return partitioner.partition(samples);
+	}
+
 	@Override
 	public String getCollectionName(Class<?> entityClass) {
 		return this.operations.determineCollectionName(entityClass);
@@ -861,12 +1036,39 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		Assert.notNull(mode, "BulkMode must not be null");
 		Assert.hasText(collectionName, "Collection name must not be null or empty");
 
+		return createBulkOperations(mode, entityType, collectionName);
+	}
+
+	@Override
+	public StreamingBulkOperations streamingBulkOps(BulkMode mode, Class<?> entityType, StreamingBulkOptions options) {
+		return streamingBulkOps(mode, entityType, getCollectionName(entityType), options);
+	}
+
+	@Override
+	public StreamingBulkOperations streamingBulkOps(BulkMode mode, @Nullable Class<?> entityType, String collectionName,
+			StreamingBulkOptions options) {
+
+		Assert.notNull(mode, "BulkMode must not be null");
+		Assert.hasText(collectionName, "Collection name must not be null or empty");
+		Assert.notNull(options, "StreamingBulkOptions must not be null");
+
+		return new DefaultStreamingBulkOperations(() -> createBulkOperations(mode, entityType, collectionName), mode,
+				options, mongoConverter.getCodecRegistry(), this::isSessionBound);
+	}
+
+	private DefaultBulkOperations createBulkOperations(BulkMode mode, @Nullable Class<?> entityType,
+			String collectionName) {
+
 		DefaultBulkOperations operations = new DefaultBulkOperations(this, collectionName,
 				new BulkOperationContext(mode, Optional.ofNullable(getPersistentEntity(entityType)), queryMapper, updateMapper,
 						eventPublisher, entityCallbacks));
 
 		operations.setDefaultWriteConcern(writeConcern);
 
+		if (encryptionProcessor != null && encryptionProcessor.canDeferEncryption()) {
+			operations.setEncryptionProcessor(encryptionProcessor);
+		}
+
 		return operations;
 	}
 
@@ -990,6 +1192,43 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		return ScrollUtils.createWindow(result, query.getLimit(), OffsetScrollPosition.positionFunction(query.getSkip()));
 	}
 
+	@Override
+	public <T> Stream<T> scrollAll(Query query, Class<T> entityType) {
+
+		Assert.notNull(entityType, "Entity type must not be null");
+
+		return scrollAll(query, entityType, getCollectionName(entityType));
+	}
+
+	@Override
+	@SuppressWarnings({ "ConstantConditions", "NullAway" })
+	public <T> Stream<T> scrollAll(Query query, Class<T> entityType, String collectionName) {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(entityType, "Entity type must not be null");
+		Assert.hasText(collectionName, "Collection name must not be null or empty");
+
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityType);
+		QueryContext queryContext = queryOperations.createQueryContext(query);
+		EntityProjection<T, ?> projection = operations.introspectProjection(entityType, entityType);
+
+		MappedKeysetQuery keysetQuery = MappedKeysetQuery.of(query, operations.getIdPropertyName(entityType),
+				queryMapper, queryContext.getMappedQuery(entity), queryContext.getMappedFields(entity, projection), entity);
+		int windowSize = keysetQuery.getWindowSize();
+
+		CollectionPreparerDelegate readPreference = createDelegate(query);
+		QueryCursorPreparer preparer = new QueryCursorPreparer(query, new Document(), windowSize, 0, entityType);
+		DocumentCallback<T> resultReader = getResultReader(projection, collectionName, QueryResultConverter.entity());
+
+		return new KeysetScrollIterator<>(keysetQuery,
+				filter -> execute(collectionName, collection -> preparer
+						.initiateFind(collection,
+								col -> readPreference.prepare(col).find(filter, Document.class)
+										.projection(keysetQuery.getFields()).sort(keysetQuery.getSort()))
+						.batchSize(windowSize).into(new ArrayList<>())),
+				resultReader::doWith, isSessionBound() ? null : KeysetScrollIterator.DEFAULT_EXECUTOR).stream();
+	}
+
 	@Nullable
 	@Override
 	public <T> T findById(Object id, Class<T> entityClass) {
@@ -1402,11 +1641,18 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	 */
 	protected MongoCollection<Document> prepareCollection(MongoCollection<Document> collection) {
 
+		MongoCollection<Document> collectionToUse = collection;
+
 		if (this.readPreference != null && this.readPreference != collection.getReadPreference()) {
-			return collection.withReadPreference(readPreference);
+			collectionToUse = collectionToUse.withReadPreference(readPreference);
+		}
+
+		if (this.lazyDocumentDecoding) {
+			collectionToUse = collectionToUse
+					.withCodecRegistry(LazyDocumentCodec.withLazyDocuments(collectionToUse.getCodecRegistry()));
 		}
 
-		return collection;
+		return collectionToUse;
 	}
 
 	/**
@@ -1520,6 +1766,10 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		Assert.notNull(writer, "MongoWriter must not be null");
 
+		if (encryptionProcessor != null && encryptionProcessor.canDeferEncryption()) {
+			return doInsertBatchEncrypting(collectionName, batchToSave, writer, encryptionProcessor);
+		}
+
 		List<Document> documentList = new ArrayList<>(batchToSave.size());
 		List<T> initializedBatchToSave = new ArrayList<>(batchToSave.size());
 		for (T uninitialized : batchToSave) {
@@ -1541,6 +1791,47 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			initializedBatchToSave.add(initialized);
 		}
 
+		return afterInsertBatch(collectionName, documentList, initializedBatchToSave);
+	}
+
+	/**
+	 * Variant of {@link #doInsertBatch(String, Collection, MongoWriter)} that defers encryption of values while
+	 * converting objects to then encrypt all values of the batch via the given {@link ConcurrentEncryptionProcessor}
+	 * before inserting the documents. Events and callbacks are emitted per object in the same order as for unencrypted
+	 * batches, {@link BeforeSaveEvent}s and callbacks therefore see values pending encryption.
+	 */
+	private <T> Collection<T> doInsertBatchEncrypting(String collectionName, Collection<? extends T> batchToSave,
+			MongoWriter<T> writer, ConcurrentEncryptionProcessor encryptionProcessor) {
+
+		List<Document> documentList = new ArrayList<>(batchToSave.size());
+		List<T> initializedBatchToSave = new ArrayList<>(batchToSave.size());
+		for (T uninitialized : batchToSave) {
+
+			BeforeConvertEvent<T> event = new BeforeConvertEvent<>(uninitialized, collectionName);
+			T toConvert = maybeEmitEvent(event).getSource();
+			toConvert = maybeCallBeforeConvert(toConvert, collectionName);
+
+			AdaptibleEntity<T> entity = operations.forEntityUpsert(toConvert, mongoConverter.getConversionService());
+			T initialized = entity.initializeVersionProperty();
+			Document document = encryptionProcessor.deferEncryption(() -> entity.toMappedDocument(writer).getDocument());
+			maybeEmitEvent(new BeforeSaveEvent<>(initialized, document, collectionName));
+			initialized = maybeCallBeforeSave(initialized, document, collectionName);
+
+			MappedDocument mappedDocument = queryOperations.createInsertContext(MappedDocument.of(document))
+					.prepareId(uninitialized.getClass());
+
+			documentList.add(mappedDocument.getDocument());
+			initializedBatchToSave.add(initialized);
+		}
+
+		encryptionProcessor.encrypt(documentList);
+
+		return afterInsertBatch(collectionName, documentList, initializedBatchToSave);
+	}
+
+	private <T> Collection<T> afterInsertBatch(String collectionName, List<Document> documentList,
+			List<T> initializedBatchToSave) {
+
 		List<Object> ids = insertDocumentList(collectionName, documentList);
 		List<T> savedObjects = new ArrayList<>(documentList.size());
 
@@ -2296,13 +2587,34 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		return doAggregate(aggregation, collectionName, outputType, QueryResultConverter.entity(), context);
 	}
 
+	/**
+	 * Compute the fields the given {@link EntityProjection} reads from aggregation results of the given input type to
+	 * prune results using a trailing {@code $project} stage. The stage applies to the
+	 * {@link AggregationResults#getRawResults() raw results} as well.
+	 *
+	 * @return the mapped fields or an {@link Document#isEmpty() empty} {@link Document} if all fields are required.
+	 */
+	private Document getProjectedFields(EntityProjection<?, ?> projection, Class<?> inputType) {
+
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(inputType);
+
+		if (entity == null) {
+			return BsonUtils.EMPTY_DOCUMENT;
+		}
+
+		Document fields = propertyOperations.computeMappedFieldsForProjection(projection, BsonUtils.EMPTY_DOCUMENT);
+		return fields.isEmpty() ? fields : queryMapper.getMappedFields(fields, entity);
+	}
+
 	@SuppressWarnings({ "ConstantConditions", "NullAway" })
 	<T, O> AggregationResults<O> doAggregate(Aggregation aggregation, String collectionName, Class<T> outputType,
 			QueryResultConverter<? super T, ? extends O> resultConverter, AggregationOperationContext context) {
 
 		final DocumentCallback<O> callback;
+		Document projectedFields = BsonUtils.EMPTY_DOCUMENT;
 		if (aggregation instanceof TypedAggregation<?> ta && outputType.isInterface()) {
 			EntityProjection<T, ?> projection = operations.introspectProjection(outputType, ta.getInputType());
+			projectedFields = getProjectedFields(projection, ta.getInputType());
 			ProjectingReadCallback cb = new ProjectingReadCallback(mongoConverter, projection, collectionName);
 			callback = new QueryResultConverterCallback<>(resultConverter, cb);
 		} else {
@@ -2329,11 +2641,17 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		List<Document> pipeline = aggregationUtil.createPipeline(aggregation, context);
 
+		if (!projectedFields.isEmpty() && !aggregation.getPipeline().isOutOrMerge()) {
+			pipeline = new ArrayList<>(pipeline);
+			pipeline.add(new Document("$project", projectedFields));
+		}
+
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug(
 					String.format("Executing aggregation: %s in collection %s", serializeToJsonSafely(pipeline), collectionName));
 		}
 
+		List<Document> pipelineToUse = pipeline;
 		return execute(collectionName, collection -> {
 
 			List<Document> rawResult = new ArrayList<>();
@@ -2345,7 +2663,8 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 					() -> operations.forType(domainType) //
 							.getCollation());
 
-			AggregateIterable<Document> aggregateIterable = delegate.prepare(collection).aggregate(pipeline, Document.class) //
+			AggregateIterable<Document> aggregateIterable = delegate.prepare(collection).aggregate(pipelineToUse,
+					Document.class) //
 					.collation(collation.map(Collation::toMongoCollation).orElse(null));
 
 			if (options.isAllowDiskUseSet()) {
@@ -2417,39 +2736,78 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		return execute(collectionName, (CollectionCallback<Stream<O>>) collection -> {
 
-			CollectionPreparerDelegate delegate = CollectionPreparerDelegate.of(options);
+			MongoCollection<Document> preparedCollection = CollectionPreparerDelegate.of(options).prepare(collection);
 
-			AggregateIterable<Document> cursor = delegate.prepare(collection).aggregate(pipeline, Document.class);
+			if (AggregationUtil.isRawResult(outputType, resultConverter)) {
 
-			if (options.isAllowDiskUseSet()) {
-				cursor = cursor.allowDiskUse(options.isAllowDiskUse());
+				MongoCursor<RawBsonDocument> cursor = prepareAggregateIterable(
+						preparedCollection.aggregate(pipeline, RawBsonDocument.class), aggregation).iterator();
+				return CloseableIterableCursorAdapter.<O> raw(potentiallyPrefetch(cursor, options), exceptionTranslator)
+						.stream();
 			}
 
-			if (options.getCursorBatchSize() != null) {
-				cursor = cursor.batchSize(options.getCursorBatchSize());
-			}
+			MongoCursor<Document> cursor = prepareAggregateIterable(preparedCollection.aggregate(pipeline, Document.class),
+					aggregation).iterator();
+			return new CloseableIterableCursorAdapter<>(potentiallyPrefetch(cursor, options), exceptionTranslator,
+					readCallback).stream();
+		});
+	}
 
-			options.getComment().ifPresent(cursor::comment);
-			HintFunction hintFunction = options.getHintObject().map(HintFunction::from).orElseGet(HintFunction::empty);
-			if (options.getHintObject().isPresent()) {
-				cursor = hintFunction.apply(mongoDbFactory, cursor::hintString, cursor::hint);
-			}
+	private <D> AggregateIterable<D> prepareAggregateIterable(AggregateIterable<D> cursor, Aggregation aggregation) {
 
-			if (options.hasExecutionTimeLimit()) {
-				cursor = cursor.maxTime(options.getMaxTime().toMillis(), TimeUnit.MILLISECONDS);
-			}
+		AggregationOptions options = aggregation.getOptions();
 
-			Class<?> domainType = aggregation instanceof TypedAggregation<?> typedAggregation
-					? typedAggregation.getInputType()
-					: null;
+		if (options.isAllowDiskUseSet()) {
+			cursor = cursor.allowDiskUse(options.isAllowDiskUse());
+		}
 
-			Optionals.firstNonEmpty(options::getCollation, //
-					() -> operations.forType(domainType).getCollation()) //
-					.map(Collation::toMongoCollation) //
-					.ifPresent(cursor::collation);
+		if (options.getCursorBatchSize() != null) {
+			cursor = cursor.batchSize(options.getCursorBatchSize());
+		}
 
-			return new CloseableIterableCursorAdapter<>(cursor, exceptionTranslator, readCallback).stream();
-		});
+		options.getComment().ifPresent(cursor::comment);
+		HintFunction hintFunction = options.getHintObject().map(HintFunction::from).orElseGet(HintFunction::empty);
+		if (options.getHintObject().isPresent()) {
+			cursor = hintFunction.apply(mongoDbFactory, cursor::hintString, cursor::hint);
+		}
+
+		if (options.hasExecutionTimeLimit()) {
+			cursor = cursor.maxTime(options.getMaxTime().toMillis(), TimeUnit.MILLISECONDS);
+		}
+
+		Class<?> domainType = aggregation instanceof TypedAggregation<?> typedAggregation
+				? typedAggregation.getInputType()
+				: null;
+
+		Optionals.firstNonEmpty(options::getCollation, //
+				() -> operations.forType(domainType).getCollation()) //
+				.map(Collation::toMongoCollation) //
+				.ifPresent(cursor::collation);
+
+		return cursor;
+	}
+
+	private <D> MongoCursor<D> potentiallyPrefetch(MongoCursor<D> cursor, AggregationOptions options) {
+
+		// a ClientSession must not be used concurrently, getMore needs to run on the calling thread
+		if (!options.hasPrefetch() || isSessionBound()) {
+			return cursor;
+		}
+
+		return new PrefetchingCursor<>(cursor, options.getPrefetch());
+	}
+
+	/**
+	 * Returns whether operations are bound to a {@link ClientSession}, either by using a template obtained via
+	 * {@link #withSession(ClientSession)} or by participating in a transaction. Cursors and operations bound to a
+	 * session must not be used from other threads.
+	 *
+	 * @return {@literal true} if operations are bound to a {@link ClientSession}.
+	 * @since 5.1
+	 */
+	boolean isSessionBound() {
+		return TransactionSynchronizationManager.isSynchronizationActive()
+				|| MongoDatabaseUtils.isTransactionActive(getMongoDatabaseFactory());
 	}
 
 	@Override
@@ -2696,6 +3054,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	protected <T> T doFindOne(String collectionName, CollectionPreparer<MongoCollection<Document>> collectionPreparer,
 			Document query, Document fields, CursorPreparer preparer, Class<T> entityClass) {
 
+		QueryProfiler.Recording recording = startProfiling("findOne", collectionName);
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
 
 		QueryContext queryContext = queryOperations.createQueryContext(new BasicQuery(query, fields));
@@ -2707,8 +3066,17 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 					serializeToJsonSafely(query), mappedFields, entityClass, collectionName));
 		}
 
-		return executeFindOneInternal(new FindOneCallback(collectionPreparer, mappedQuery, mappedFields, preparer),
-				new ReadDocumentCallback<>(this.mongoConverter, entityClass, collectionName), collectionName);
+		sampleQueryPlan(collectionName, entity, mappedQuery, mappedFields, collectionPreparer, preparer, true);
+		DocumentCallback<T> objectCallback = new ReadDocumentCallback<>(this.mongoConverter, entityClass, collectionName);
+
+		if (recording == null) {
+			return executeFindOneInternal(new FindOneCallback(collectionPreparer, mappedQuery, mappedFields, preparer),
+					objectCallback, collectionName);
+		}
+
+		return doProfiled(recording, mappedQuery, mappedFields, collectionPreparer, preparer, entity,
+				() -> executeFindOneInternal(new FindOneCallback(collectionPreparer, mappedQuery, mappedFields, preparer),
+						profiled(objectCallback, recording), collectionName));
 	}
 
 	/**
@@ -2752,6 +3120,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			CollectionPreparer<MongoCollection<Document>> collectionPreparer, Document query, Document fields,
 			Class<S> entityClass, @Nullable CursorPreparer preparer, DocumentCallback<T> objectCallback) {
 
+		QueryProfiler.Recording recording = startProfiling("find", collectionName);
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
 
 		QueryContext queryContext = queryOperations.createQueryContext(new BasicQuery(query, fields));
@@ -2768,8 +3137,17 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 					collectionName));
 		}
 
-		return executeFindMultiInternal(new FindCallback(collectionPreparer, mappedQuery, mappedFields, null),
-				preparer != null ? preparer : CursorPreparer.NO_OP_PREPARER, objectCallback, collectionName);
+		CursorPreparer cursorPreparer = preparer != null ? preparer : CursorPreparer.NO_OP_PREPARER;
+		sampleQueryPlan(collectionName, entity, mappedQuery, mappedFields, collectionPreparer, cursorPreparer, false);
+
+		if (recording == null) {
+			return executeFindMultiInternal(new FindCallback(collectionPreparer, mappedQuery, mappedFields, null),
+					cursorPreparer, objectCallback, collectionName);
+		}
+
+		return doProfiled(recording, mappedQuery, mappedFields, collectionPreparer, cursorPreparer, entity,
+				() -> executeFindMultiInternal(new FindCallback(collectionPreparer, mappedQuery, mappedFields, null),
+						cursorPreparer, profiled(objectCallback, recording), collectionName));
 	}
 
 	/**
@@ -2782,6 +3160,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			Document query, Document fields, Class<?> sourceClass, Class<T> targetClass,
 			QueryResultConverter<? super T, ? extends R> resultConverter, CursorPreparer preparer) {
 
+		QueryProfiler.Recording recording = startProfiling("find", collectionName);
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(sourceClass);
 		EntityProjection<T, ?> projection = operations.introspectProjection(targetClass, sourceClass);
 
@@ -2799,9 +3178,100 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 					collectionName));
 		}
 
+		sampleQueryPlan(collectionName, entity, mappedQuery, mappedFields, collectionPreparer, preparer, false);
 		DocumentCallback<R> callback = getResultReader(projection, collectionName, resultConverter);
-		return executeFindMultiInternal(new FindCallback(collectionPreparer, mappedQuery, mappedFields, null), preparer,
-				callback, collectionName);
+
+		if (recording == null) {
+			return executeFindMultiInternal(new FindCallback(collectionPreparer, mappedQuery, mappedFields, null), preparer,
+					callback, collectionName);
+		}
+
+		return doProfiled(recording, mappedQuery, mappedFields, collectionPreparer, preparer, entity,
+				() -> executeFindMultiInternal(new FindCallback(collectionPreparer, mappedQuery, mappedFields, null),
+						preparer, profiled(callback, recording), collectionName));
+	}
+
+	/**
+	 * Hand the given query to the {@link QueryPlanSampler}, if configured. The query is explained asynchronously and only
+	 * if its shape is due for sampling.
+	 */
+	private void sampleQueryPlan(String collectionName, @Nullable MongoPersistentEntity<?> entity, Document mappedQuery,
+			Document mappedFields, CollectionPreparer<MongoCollection<Document>> collectionPreparer, CursorPreparer preparer,
+			boolean single) {
+
+		QueryPlanSampler sampler = this.queryPlanSampler;
+
+		if (sampler == null) {
+			return;
+		}
+
+		Document sort = preparer instanceof SortingQueryCursorPreparer sqcp ? sqcp.getSortObject() : null;
+
+		sampler.sample(collectionName, mappedQuery, sort, () -> execute(collectionName, collection -> {
+
+			FindIterable<Document> iterable = preparer.initiateFind(collection,
+					col -> collectionPreparer.prepare(col).find(mappedQuery, Document.class).projection(mappedFields));
+			return (single ? iterable.limit(1) : iterable).explain(ExplainVerbosity.EXECUTION_STATS);
+		}), () -> entity != null && entity.isAnnotationPresent(org.springframework.data.mongodb.core.mapping.Document.class)
+				? IndexResolver.create(mappingContext).resolveIndexFor(entity.getTypeInformation())
+				: Collections.emptyList());
+	}
+
+	private QueryProfiler.@Nullable Recording startProfiling(String operation, String collectionName) {
+		return queryProfiler != null ? queryProfiler.start(operation, collectionName) : null;
+	}
+
+	/**
+	 * Run the given execution capturing the phases of the given {@link QueryProfiler.Recording}. Details of the operation
+	 * are only mapped if the operation qualifies for retention.
+	 */
+	private <T> T doProfiled(QueryProfiler.Recording recording, Document mappedQuery, Document mappedFields,
+			CollectionPreparer<?> collectionPreparer, CursorPreparer preparer, @Nullable MongoPersistentEntity<?> entity,
+			Supplier<T> execution) {
+
+		recording.mappingCompleted();
+
+		try {
+			return execution.get();
+		} finally {
+
+			if (recording.stop()) {
+
+				Document mappedSort = preparer instanceof SortingQueryCursorPreparer sqcp
+						? getMappedSortObject(sqcp.getSortObject(), entity)
+						: null;
+				String hint = preparer instanceof QueryCursorPreparer qcp ? qcp.getHint() : null;
+				recording.record(mappedQuery, mappedFields, mappedSort, hint,
+						getProfiledReadPreference(preparer, collectionPreparer));
+			}
+		}
+	}
+
+	private @Nullable ReadPreference getProfiledReadPreference(ReadPreferenceAware preparer,
+			CollectionPreparer<?> collectionPreparer) {
+
+		if (preparer.hasReadPreference()) {
+			return preparer.getReadPreference();
+		}
+
+		if (collectionPreparer instanceof ReadPreferenceAware rpa && rpa.hasReadPreference()) {
+			return rpa.getReadPreference();
+		}
+
+		return this.readPreference;
+	}
+
+	private static <T> DocumentCallback<T> profiled(DocumentCallback<T> callback, QueryProfiler.Recording recording) {
+
+		return document -> {
+
+			long start = System.nanoTime();
+			try {
+				return callback.doWith(document);
+			} finally {
+				recording.addConversionTime(System.nanoTime() - start);
+			}
+		};
 	}
 
 	/**
@@ -3102,6 +3572,11 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 				int available = cursor.available();
 				List<T> result = available > 0 ? new ArrayList<>(available) : new ArrayList<>();
 
+				if (encryptionProcessor != null) {
+					readDecryptingBatches(cursor, encryptionProcessor, documentCallback, result);
+					return result;
+				}
+
 				while (cursor.hasNext()) {
 					Document object = cursor.next();
 					result.add(documentCallback.doWith(object));
@@ -3114,6 +3589,30 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		}
 	}
 
+	/**
+	 * Read the given {@link MongoCursor} in batches of locally available documents, decrypting each batch via the given
+	 * {@link ConcurrentEncryptionProcessor} before handing documents to the {@link DocumentCallback}.
+	 */
+	private static <T> void readDecryptingBatches(MongoCursor<Document> cursor,
+			ConcurrentEncryptionProcessor encryptionProcessor, DocumentCallback<T> documentCallback, List<T> result) {
+
+		List<Document> batch = new ArrayList<>(Math.max(cursor.available(), 16));
+
+		while (cursor.hasNext()) {
+
+			batch.add(cursor.next());
+
+			if (cursor.available() == 0) {
+
+				encryptionProcessor.decrypt(batch);
+				for (Document document : batch) {
+					result.add(documentCallback.doWith(document));
+				}
+				batch.clear();
+			}
+		}
+	}
+
 	private void executeQueryInternal(CollectionCallback<FindIterable<Document>> collectionCallback,
 			CursorPreparer preparer, DocumentCallbackHandler callbackHandler, String collectionName) {
 
@@ -3654,6 +4153,11 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		public Document getSortObject() {
 			return sortObject;
 		}
+
+		@Nullable
+		String getHint() {
+			return query.getHint();
+		}
 	}
 
 	/**
@@ -3716,33 +4220,47 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	 */
 	static class CloseableIterableCursorAdapter<T> implements CloseableIterator<T> {
 
-		private volatile @Nullable MongoCursor<Document> cursor;
+		private volatile @Nullable MongoCursor<?> cursor;
 		private PersistenceExceptionTranslator exceptionTranslator;
-		private DocumentCallback<T> objectReadCallback;
+		private Function<Object, T> reader;
 
 		/**
 		 * Creates a new {@link CloseableIterableCursorAdapter} backed by the given {@link MongoCollection}.
 		 */
 		CloseableIterableCursorAdapter(MongoIterable<Document> cursor, PersistenceExceptionTranslator exceptionTranslator,
 				DocumentCallback<T> objectReadCallback) {
-
-			this.cursor = cursor.iterator();
-			this.exceptionTranslator = exceptionTranslator;
-			this.objectReadCallback = objectReadCallback;
+			this(cursor.iterator(), exceptionTranslator, objectReadCallback);
 		}
 
 		CloseableIterableCursorAdapter(MongoCursor<Document> cursor, PersistenceExceptionTranslator exceptionTranslator,
 				DocumentCallback<T> objectReadCallback) {
+			this(exceptionTranslator, cursor, document -> objectReadCallback.doWith((Document) document));
+		}
+
+		@SuppressWarnings("unchecked")
+		private CloseableIterableCursorAdapter(PersistenceExceptionTranslator exceptionTranslator, MongoCursor<?> cursor,
+				Function<Object, ? extends T> reader) {
 
 			this.cursor = cursor;
 			this.exceptionTranslator = exceptionTranslator;
-			this.objectReadCallback = objectReadCallback;
+			this.reader = (Function<Object, T>) reader;
+		}
+
+		/**
+		 * Creates a new {@link CloseableIterableCursorAdapter} returning the documents of the given cursor as-is.
+		 *
+		 * @since 5.1
+		 */
+		@SuppressWarnings("unchecked")
+		static <T> CloseableIterableCursorAdapter<T> raw(MongoCursor<?> cursor,
+				PersistenceExceptionTranslator exceptionTranslator) {
+			return new CloseableIterableCursorAdapter<>(exceptionTranslator, cursor, document -> (T) document);
 		}
 
 		@Override
 		public boolean hasNext() {
 
-			MongoCursor<Document> cursor = this.cursor;
+			MongoCursor<?> cursor = this.cursor;
 
 			if (cursor == null) {
 				return false;
@@ -3759,13 +4277,14 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		@Override
 		public T next() {
 
+			MongoCursor<?> cursor = this.cursor;
+
 			if (cursor == null) {
 				return null;
 			}
 
 			try {
-				Document item = cursor.next();
-				return objectReadCallback.doWith(item);
+				return reader.apply(cursor.next());
 			} catch (RuntimeException ex) {
 				throw potentiallyConvertRuntimeException(ex, exceptionTranslator);
 			}
@@ -3774,7 +4293,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		@Override
 		public void close() {
 
-			MongoCursor<Document> c = cursor;
+			MongoCursor<?> c = cursor;
 
 			try {
 
@@ -3833,6 +4352,11 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		protected boolean countCanBeEstimated(Document filter, CountOptions options) {
 			return false;
 		}
+
+		@Override
+		boolean isSessionBound() {
+			return true;
+		}
 	}
 
 	@FunctionalInterface
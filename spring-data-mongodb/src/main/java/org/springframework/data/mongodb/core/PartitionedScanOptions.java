@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.concurrent.Executor;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.lang.Contract;
+import org.springframework.util.Assert;
+
+/**
+ * Options for partitioned collection scans splitting the documents matching a query into ranges of a partition key
+ * that are read concurrently. Range boundaries are derived from a {@code $sample} of the partition key values.
+ * <dl>
+ * <dt>key</dt>
+ * <dd>{@literal _id}</dd>
+ * <dt>sampleSize</dt>
+ * <dd>{@literal 100} samples per partition</dd>
+ * <dt>executor</dt>
+ * <dd>a thread per partition</dd>
+ * </dl>
+ *
+ * @since 5.1
+ * @see MongoOperations#scanPartitioned(org.springframework.data.mongodb.core.query.Query, Class,
+ *      PartitionedScanOptions, java.util.function.Consumer)
+ * @see ReactiveMongoOperations#scanPartitioned(org.springframework.data.mongodb.core.query.Query, Class,
+ *      PartitionedScanOptions)
+ */
+public class PartitionedScanOptions {
+
+	private static final int DEFAULT_SAMPLES_PER_PARTITION = 100;
+
+	private final int partitions;
+	private String key = "_id";
+	private @Nullable Integer sampleSize;
+	private @Nullable Executor executor;
+
+	private PartitionedScanOptions(int partitions) {
+		this.partitions = partitions;
+	}
+
+	/**
+	 * Static factory method to create {@link PartitionedScanOptions} splitting the scan into the given number of
+	 * partitions.
+	 *
+	 * @param partitions number of partitions to read concurrently. Must be greater than zero.
+	 * @return new instance of {@link PartitionedScanOptions}.
+	 */
+	public static PartitionedScanOptions partitions(int partitions) {
+
+		Assert.isTrue(partitions > 0, "Partitions must be greater than zero");
+		return new PartitionedScanOptions(partitions);
+	}
+
+	/**
+	 * Set the property to partition by. The property should be indexed and hold a single value of the same type for all
+	 * documents. Documents holding values of a different type or no value at all are read through an additional
+	 * partition.
+	 *
+	 * @param key the property path. Must not be {@literal null} or empty.
+	 * @return this.
+	 */
+	@Contract("_ -> this")
+	public PartitionedScanOptions key(String key) {
+
+		Assert.hasText(key, "Key must not be null or empty");
+
+		this.key = key;
+		return this;
+	}
+
+	/**
+	 * Set the number of partition key values to sample for computing range boundaries. Larger samples result in more
+	 * evenly sized partitions.
+	 *
+	 * @param sampleSize number of documents to sample. Must be greater than zero.
+	 * @return this.
+	 */
+	@Contract("_ -> this")
+	public PartitionedScanOptions sampleSize(int sampleSize) {
+
+		Assert.isTrue(sampleSize > 0, "Sample size must be greater than zero");
+
+		this.sampleSize = sampleSize;
+		return this;
+	}
+
+	/**
+	 * Set the {@link Executor} to read partitions with. Each partition occupies a thread until it is fully consumed.
+	 * Not considered by reactive scans.
+	 *
+	 * @param executor the executor to use. Must not be {@literal null}.
+	 * @return this.
+	 */
+	@Contract("_ -> this")
+	public PartitionedScanOptions executor(Executor executor) {
+
+		Assert.notNull(executor, "Executor must not be null");
+
+		this.executor = executor;
+		return this;
+	}
+
+	/**
+	 * @return the number of partitions.
+	 */
+	public int getPartitions() {
+		return partitions;
+	}
+
+	/**
+	 * @return the property to partition by.
+	 */
+	public String getKey() {
+		return key;
+	}
+
+	/**
+	 * @return the number of documents to sample.
+	 */
+	public int getSampleSize() {
+		return sampleSize != null ? sampleSize : partitions * DEFAULT_SAMPLES_PER_PARTITION;
+	}
+
+	/**
+	 * @return the configured {@link Executor} or {@literal null} to use a thread per partition.
+	 */
+	public @Nullable Executor getExecutor() {
+		return executor;
+	}
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.util.Assert;
+
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+
+/**
+ * {@link MongoCursor} draining a delegate cursor on a background thread into a bounded buffer of batches so that the
+ * next {@code getMore} is in flight while the consumer processes the current batch. Batch boundaries follow the
+ * batches returned by the server.
+ * <p>
+ * The delegate cursor is only ever accessed by the background thread which also closes it once the cursor is
+ * exhausted, fails or this cursor gets {@link #close() closed}. Errors are rethrown to the consumer after all batches
+ * fetched before the error have been consumed.
+ *
+ * @param <T> the document type.
+ * @since 5.1
+ */
+class PrefetchingCursor<T> implements MongoCursor<T> {
+
+	private static final Executor DEFAULT_EXECUTOR = createDefaultExecutor();
+	private static final Object END = new Object();
+	private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+	private final MongoCursor<T> delegate;
+	private final BlockingQueue<Object> batches;
+	private final ServerAddress serverAddress;
+
+	private volatile boolean closed;
+	private volatile @Nullable ServerCursor serverCursor;
+
+	private List<T> current = Collections.emptyList();
+	private int position;
+	private boolean done;
+
+	/**
+	 * Create a new {@link PrefetchingCursor} fetching batches on a shared background executor.
+	 *
+	 * @param delegate the cursor to drain.
+	 * @param prefetch number of batches to buffer ahead of the consumer. Must be greater than zero.
+	 */
+	PrefetchingCursor(MongoCursor<T> delegate, int prefetch) {
+		this(delegate, prefetch, DEFAULT_EXECUTOR);
+	}
+
+	/**
+	 * Create a new {@link PrefetchingCursor}.
+	 *
+	 * @param delegate the cursor to drain.
+	 * @param prefetch number of batches to buffer ahead of the consumer. Must be greater than zero.
+	 * @param executor the {@link Executor} to drain the cursor with. Occupies one thread until the cursor is exhausted.
+	 */
+	PrefetchingCursor(MongoCursor<T> delegate, int prefetch, Executor executor) {
+
+		Assert.notNull(delegate, "Delegate cursor must not be null");
+		Assert.isTrue(prefetch > 0, "Prefetch must be greater than zero");
+		Assert.notNull(executor, "Executor must not be null");
+
+		this.delegate = delegate;
+		this.batches = new ArrayBlockingQueue<>(prefetch);
+		this.serverAddress = delegate.getServerAddress();
+		this.serverCursor = delegate.getServerCursor();
+
+		executor.execute(this::drain);
+	}
+
+	@Override
+	public boolean hasNext() {
+		return position < current.size() || nextBatch(true);
+	}
+
+	@Override
+	public T next() {
+
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		return current.get(position++);
+	}
+
+	@Override
+	public @Nullable T tryNext() {
+		return position < current.size() || nextBatch(false) ? current.get(position++) : null;
+	}
+
+	@Override
+	public int available() {
+		return current.size() - position;
+	}
+
+	@Override
+	public @Nullable ServerCursor getServerCursor() {
+		return serverCursor;
+	}
+
+	@Override
+	public ServerAddress getServerAddress() {
+		return serverAddress;
+	}
+
+	@Override
+	public void close() {
+
+		closed = true;
+		done = true;
+		current = Collections.emptyList();
+		batches.clear();
+	}
+
+	@SuppressWarnings("unchecked")
+	private boolean nextBatch(boolean await) {
+
+		if (done) {
+			return false;
+		}
+
+		Object batch;
+		try {
+			batch = await ? batches.take() : batches.poll();
+		} catch (InterruptedException ex) {
+
+			Thread.currentThread().interrupt();
+			close();
+			throw new MongoInterruptedException("Interrupted while awaiting prefetched batch", ex);
+		}
+
+		if (batch == null) {
+			return false;
+		}
+
+		if (batch == END) {
+			done = true;
+			return false;
+		}
+
+		if (batch instanceof RuntimeException ex) {
+			done = true;
+			throw ex;
+		}
+
+		current = (List<T>) batch;
+		position = 0;
+		return true;
+	}
+
+	private void drain() {
+
+		try {
+			while (!closed && delegate.hasNext()) {
+
+				int available = Math.max(delegate.available(), 1);
+				List<T> batch = new ArrayList<>(available);
+
+				for (int i = 0; i < available; i++) {
+					batch.add(delegate.next());
+				}
+
+				serverCursor = delegate.getServerCursor();
+
+				if (!put(batch)) {
+					return;
+				}
+			}
+
+			put(END);
+		} catch (RuntimeException ex) {
+			put(ex);
+		} finally {
+			serverCursor = null;
+			delegate.close();
+		}
+	}
+
+	private boolean put(Object element) {
+
+		try {
+			while (!closed) {
+				if (batches.offer(element, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+					return true;
+				}
+			}
+		} catch (InterruptedException ex) {
+
+			Thread.currentThread().interrupt();
+			batches.clear();
+			batches.offer(new MongoInterruptedException("Interrupted while prefetching batch", ex));
+		}
+
+		return false;
+	}
+
+	private static Executor createDefaultExecutor() {
+
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("mongo-cursor-prefetch-");
+		executor.setDaemon(true);
+		return executor;
+	}
+}
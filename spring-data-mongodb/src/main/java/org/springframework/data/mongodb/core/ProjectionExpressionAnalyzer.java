@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ParseException;
+import org.springframework.expression.ParserContext;
+import org.springframework.expression.common.CompositeStringExpression;
+import org.springframework.expression.spel.SpelNode;
+import org.springframework.expression.spel.ast.CompoundExpression;
+import org.springframework.expression.spel.ast.PropertyOrFieldReference;
+import org.springframework.expression.spel.ast.VariableReference;
+import org.springframework.expression.spel.standard.SpelExpression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+/**
+ * Static analysis of open interface projections to determine the properties of the backing {@code target} object a
+ * projection reads. Properties are derived from the projection accessor methods and from {@link Value @Value}
+ * expressions that reference properties of {@code target}.
+ *
+ * @since 5.1
+ */
+class ProjectionExpressionAnalyzer {
+
+	private static final String TARGET = "target";
+	private static final SpelExpressionParser PARSER = new SpelExpressionParser();
+
+	private ProjectionExpressionAnalyzer() {}
+
+	/**
+	 * Returns the names of the {@code target} properties read by the given open interface projection or
+	 * {@literal null} if the properties cannot be determined, e.g. because an expression passes {@code target} on as a
+	 * whole or an abstract method is neither an accessor nor annotated with {@link Value @Value}.
+	 *
+	 * @param projectionType must not be {@literal null}.
+	 * @return can be {@literal null}.
+	 */
+	static @Nullable Set<String> getTargetProperties(Class<?> projectionType) {
+
+		Set<String> properties = new LinkedHashSet<>();
+
+		for (Method method : projectionType.getMethods()) {
+
+			if (method.isDefault() || Modifier.isStatic(method.getModifiers())
+					|| method.getDeclaringClass().equals(Object.class)) {
+				continue;
+			}
+
+			Value value = AnnotatedElementUtils.findMergedAnnotation(method, Value.class);
+
+			if (value != null) {
+				if (!collectTargetProperties(value.value(), properties)) {
+					return null;
+				}
+				continue;
+			}
+
+			PropertyDescriptor descriptor = BeanUtils.findPropertyForMethod(method);
+
+			if (descriptor == null) {
+				return null;
+			}
+
+			properties.add(descriptor.getName());
+		}
+
+		return properties;
+	}
+
+	/**
+	 * Collects the top-level {@code target} properties referenced by the given template expression.
+	 *
+	 * @return {@literal false} if the referenced properties cannot be determined.
+	 */
+	static boolean collectTargetProperties(String expression, Set<String> properties) {
+
+		Expression parsed;
+
+		try {
+			parsed = PARSER.parseExpression(expression, ParserContext.TEMPLATE_EXPRESSION);
+		} catch (ParseException ex) {
+			return false;
+		}
+
+		return collect(parsed, properties);
+	}
+
+	private static boolean collect(Expression expression, Set<String> properties) {
+
+		if (expression instanceof SpelExpression spelExpression) {
+			return collect(spelExpression.getAST(), properties);
+		}
+
+		if (expression instanceof CompositeStringExpression composite) {
+
+			for (Expression part : composite.getExpressions()) {
+				if (!collect(part, properties)) {
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+
+	private static boolean collect(SpelNode node, Set<String> properties) {
+
+		if (node instanceof CompoundExpression && isTarget(node.getChild(0))) {
+
+			if (!(node.getChild(1) instanceof PropertyOrFieldReference property)) {
+				return false;
+			}
+
+			properties.add(property.getName());
+			return collectChildren(node, 2, properties);
+		}
+
+		if (isTarget(node)) {
+			return false;
+		}
+
+		if (node instanceof VariableReference && (node.toStringAST().equals("#root") || node.toStringAST().equals("#this"))) {
+			return false;
+		}
+
+		return collectChildren(node, 0, properties);
+	}
+
+	private static boolean collectChildren(SpelNode node, int offset, Set<String> properties) {
+
+		for (int i = offset; i < node.getChildCount(); i++) {
+			if (!collect(node.getChild(i), properties)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static boolean isTarget(SpelNode node) {
+		return node instanceof PropertyOrFieldReference reference && TARGET.equals(reference.getName());
+	}
+}
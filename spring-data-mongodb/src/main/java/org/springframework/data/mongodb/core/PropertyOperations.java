@@ -15,6 +15,12 @@
  */
 package org.springframework.data.mongodb.core;
 
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.bson.Document;
 
 import org.springframework.data.mapping.context.MappingContext;
@@ -22,6 +28,7 @@ import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.data.mongodb.core.mapping.PersistentPropertyTranslator;
 import org.springframework.data.projection.EntityProjection;
+import org.springframework.data.projection.EntityProjection.PropertyProjection;
 import org.springframework.data.util.Predicates;
 
 /**
@@ -34,6 +41,7 @@ import org.springframework.data.util.Predicates;
 class PropertyOperations {
 
 	private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
+	private final Map<Class<?>, Optional<Set<String>>> openProjectionProperties = new ConcurrentHashMap<>();
 
 	public PropertyOperations(MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext) {
 		this.mappingContext = mappingContext;
@@ -42,7 +50,10 @@ class PropertyOperations {
 	/**
 	 * For cases where {@code fields} is {@link Document#isEmpty() empty} include only fields that are required for
 	 * creating the projection (target) type if the {@code EntityProjection} is a {@literal DTO projection} or a
-	 * {@literal closed interface projection}.
+	 * {@literal closed interface projection}. Nested closed interface projections include only their nested paths.
+	 * {@literal Open interface projections} include the properties their accessors and {@code @Value} expressions read
+	 * from the backing object along with all properties required to create it, or all fields if these cannot be
+	 * determined.
 	 *
 	 * @param projection must not be {@literal null}.
 	 * @param fields must not be {@literal null}.
@@ -52,15 +63,13 @@ class PropertyOperations {
 			Document fields) {
 
 		if (!projection.isClosedProjection()) {
-			return fields;
+			return isOpenInterfaceProjection(projection) ? computeFieldsForOpenProjection(projection, fields) : fields;
 		}
 
 		Document projectedFields = new Document();
 
 		if (projection.getMappedType().getType().isInterface()) {
-			projection.forEach(it -> {
-				projectedFields.put(it.getPropertyPath().getSegment(), 1);
-			});
+			collectProjectedPaths(projection, projectedFields);
 		} else {
 
 			// DTO projections use merged metadata between domain type and result type
@@ -77,4 +86,67 @@ class PropertyOperations {
 
 		return projectedFields;
 	}
+
+	private void collectProjectedPaths(EntityProjection<?, ?> projection, Document target) {
+
+		projection.forEach(it -> {
+
+			if (isNestedClosedInterfaceProjection(it)) {
+				collectProjectedPaths(it, target);
+			} else {
+				target.put(it.getPropertyPath().toDotPath(), 1);
+			}
+		});
+	}
+
+	private boolean isNestedClosedInterfaceProjection(PropertyProjection<?, ?> projection) {
+
+		if (!projection.isProjection() || !projection.isClosedProjection() || projection.getDomainType().isMap()
+				|| !projection.getActualMappedType().getType().isInterface() || !projection.iterator().hasNext()
+				|| mappingContext.getPersistentEntity(projection.getActualDomainType()) == null) {
+			return false;
+		}
+
+		// references are stored as identifiers or DBRefs and need to be fetched as a whole
+		return !mappingContext.getPersistentPropertyPath(projection.getPropertyPath()).getLeafProperty()
+				.isAssociation();
+	}
+
+	private static boolean isOpenInterfaceProjection(EntityProjection<?, ?> projection) {
+
+		Class<?> mappedType = projection.getMappedType().getType();
+		return mappedType.isInterface() && !mappedType.equals(projection.getDomainType().getType());
+	}
+
+	private Document computeFieldsForOpenProjection(EntityProjection<?, ?> projection, Document fields) {
+
+		Optional<Set<String>> properties = openProjectionProperties.computeIfAbsent(projection.getMappedType().getType(),
+				it -> Optional.ofNullable(ProjectionExpressionAnalyzer.getTargetProperties(it)));
+
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(projection.getDomainType());
+
+		if (properties.isEmpty() || entity == null) {
+			return fields;
+		}
+
+		// open projections are backed by the domain object so it has to be instantiable from the projected fields
+		Set<String> projected = new LinkedHashSet<>(properties.get());
+		for (MongoPersistentProperty property : entity) {
+			if (entity.isCreatorArgument(property)) {
+				projected.add(property.getName());
+			}
+		}
+
+		// derived or transient properties of the backing object may read any field
+		for (String property : projected) {
+			if (entity.getPersistentProperty(property) == null) {
+				return fields;
+			}
+		}
+
+		Document projectedFields = new Document();
+		projected.forEach(it -> projectedFields.put(it, 1));
+
+		return projectedFields;
+	}
 }
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import org.springframework.data.mongodb.core.QueryPlanSampler.QueryPlan;
+
+/**
+ * Listener notified about {@link QueryPlan query plans} sampled by a {@link QueryPlanSampler}.
+ *
+ * @since 5.1
+ */
+@FunctionalInterface
+public interface QueryPlanListener {
+
+	/**
+	 * Callback invoked for each sampled {@link QueryPlan}. Invoked on the thread running {@code explain}.
+	 *
+	 * @param plan the sampled {@link QueryPlan}.
+	 */
+	void onQueryPlan(QueryPlan plan);
+}
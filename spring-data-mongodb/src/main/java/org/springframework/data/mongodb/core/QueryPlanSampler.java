@@ -0,0 +1,385 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.bson.Document;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.util.QueryShapes;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Sampler running {@code explain} for distinct query shapes executed through {@link MongoTemplate}. Each combination of
+ * collection, filter {@link QueryShapes shape} and sort is explained at most once per {@code sampleInterval} on a
+ * background {@link Executor}, while other queries only pay for computing the shape hash. The resulting
+ * {@link QueryPlan} is cached per shape and inspected for collection scans, in-memory sorts and a high ratio of
+ * examined documents to returned documents.
+ * <p>
+ * Filter fields of queries scanning the collection are matched against the indexes declared on the queried entity (as
+ * resolved by {@link org.springframework.data.mongodb.core.index.IndexResolver}) to tell apart missing index
+ * declarations from declared indexes that are not used, e.g. because they were not created or a field got renamed.
+ * Issues are logged as warnings and published to registered {@link QueryPlanListener listeners}.
+ *
+ * <pre class="code">
+ * QueryPlanSampler sampler = new QueryPlanSampler(Duration.ofMinutes(5), 100);
+ * sampler.addListener(new QueryPlanMetricsListener(meterRegistry));
+ * template.setQueryPlanSampler(sampler);
+ * </pre>
+ *
+ * @since 5.1
+ */
+public class QueryPlanSampler {
+
+	private static final Log LOGGER = LogFactory.getLog(QueryPlanSampler.class);
+
+	private static final int DEFAULT_MAX_SHAPES = 1000;
+
+	private final long sampleIntervalNanos;
+	private final double examinedRatioThreshold;
+	private final Executor executor;
+	private final int maxShapes;
+
+	private final Map<Long, Long> lastSampled = new ConcurrentHashMap<>();
+	private final Map<Long, QueryPlan> plans = new ConcurrentHashMap<>();
+	private final List<QueryPlanListener> listeners = new CopyOnWriteArrayList<>();
+	private final AtomicBoolean explaining = new AtomicBoolean();
+
+	/**
+	 * Create a new {@link QueryPlanSampler} explaining each shape at most once every {@literal 10} minutes and reporting
+	 * queries examining more than {@literal 100} documents per returned document.
+	 */
+	public QueryPlanSampler() {
+		this(Duration.ofMinutes(10), 100);
+	}
+
+	/**
+	 * Create a new {@link QueryPlanSampler} running {@code explain} on a background thread.
+	 *
+	 * @param sampleInterval minimum interval between two samples of the same shape. Must not be {@literal null}.
+	 * @param examinedRatioThreshold ratio of examined to returned documents above which a query is reported.
+	 */
+	public QueryPlanSampler(Duration sampleInterval, double examinedRatioThreshold) {
+		this(sampleInterval, examinedRatioThreshold, new SimpleAsyncTaskExecutor("query-plan-sampler-"),
+				DEFAULT_MAX_SHAPES);
+	}
+
+	/**
+	 * Create a new {@link QueryPlanSampler}.
+	 *
+	 * @param sampleInterval minimum interval between two samples of the same shape. Must not be {@literal null}.
+	 * @param examinedRatioThreshold ratio of examined to returned documents above which a query is reported.
+	 * @param executor the {@link Executor} to run {@code explain} with. Must not be {@literal null}.
+	 * @param maxShapes maximum number of distinct shapes to sample.
+	 */
+	public QueryPlanSampler(Duration sampleInterval, double examinedRatioThreshold, Executor executor, int maxShapes) {
+
+		Assert.notNull(sampleInterval, "Sample interval must not be null");
+		Assert.isTrue(!sampleInterval.isNegative(), "Sample interval must not be negative");
+		Assert.isTrue(examinedRatioThreshold > 0, "Examined ratio threshold must be greater than zero");
+		Assert.notNull(executor, "Executor must not be null");
+		Assert.isTrue(maxShapes > 0, "Max shapes must be greater than zero");
+
+		this.sampleIntervalNanos = sampleInterval.toNanos();
+		this.examinedRatioThreshold = examinedRatioThreshold;
+		this.executor = executor;
+		this.maxShapes = maxShapes;
+	}
+
+	/**
+	 * Register a {@link QueryPlanListener} notified about each sampled {@link QueryPlan}.
+	 *
+	 * @param listener must not be {@literal null}.
+	 */
+	public void addListener(QueryPlanListener listener) {
+
+		Assert.notNull(listener, "QueryPlanListener must not be null");
+		this.listeners.add(listener);
+	}
+
+	/**
+	 * @return the most recent {@link QueryPlan} of each sampled shape.
+	 */
+	public List<QueryPlan> getQueryPlans() {
+		return new ArrayList<>(plans.values());
+	}
+
+	/**
+	 * Sample the given query if its shape has not been sampled within the sample interval. {@code explain} and
+	 * {@code declaredIndexes} are invoked on the {@link Executor} only if the query is sampled.
+	 *
+	 * @param collectionName the collection name.
+	 * @param mappedQuery the mapped filter.
+	 * @param sort the sort, can be {@literal null}.
+	 * @param explain supplier running {@code explain} with {@code executionStats} verbosity.
+	 * @param declaredIndexes supplier of the indexes declared on the queried entity.
+	 */
+	void sample(String collectionName, Document mappedQuery, @Nullable Document sort, Supplier<Document> explain,
+			Supplier<Iterable<? extends IndexDefinition>> declaredIndexes) {
+
+		long key = QueryShapes.hash(mappedQuery);
+		key = 31 * key + QueryShapes.hash(sort);
+		key = 31 * key + collectionName.hashCode();
+
+		long now = System.nanoTime();
+		Long last = lastSampled.get(key);
+
+		if (last != null ? now - last < sampleIntervalNanos : lastSampled.size() >= maxShapes) {
+			return;
+		}
+
+		if (!explaining.compareAndSet(false, true)) {
+			return; // retry with the next query of that shape
+		}
+
+		lastSampled.put(key, now);
+		long shapeKey = key;
+
+		try {
+			executor.execute(() -> {
+				try {
+					QueryPlan plan = analyze(collectionName, mappedQuery, sort, explain.get(), declaredIndexes.get());
+					plans.put(shapeKey, plan);
+					publish(plan);
+				} catch (RuntimeException ex) {
+
+					if (LOGGER.isDebugEnabled()) {
+						LOGGER.debug(String.format("Failed to explain query %s on collection %s", QueryShapes.render(mappedQuery),
+								collectionName), ex);
+					}
+				} finally {
+					explaining.set(false);
+				}
+			});
+		} catch (RuntimeException ex) {
+			explaining.set(false);
+		}
+	}
+
+	private void publish(QueryPlan plan) {
+
+		if (!plan.issues().isEmpty() && LOGGER.isWarnEnabled()) {
+			LOGGER.warn(plan.describe());
+		}
+
+		for (QueryPlanListener listener : listeners) {
+			listener.onQueryPlan(plan);
+		}
+	}
+
+	/**
+	 * Analyze the output of {@code explain}.
+	 */
+	QueryPlan analyze(String collectionName, Document mappedQuery, @Nullable Document sort, Document explain,
+			Iterable<? extends IndexDefinition> declaredIndexes) {
+
+		Set<String> stages = new LinkedHashSet<>();
+		Set<String> indexNames = new LinkedHashSet<>();
+
+		if (explain.get("queryPlanner") instanceof Document queryPlanner) {
+			collectStages(queryPlanner.get("winningPlan"), stages, indexNames);
+		}
+
+		long returned = 0;
+		long docsExamined = 0;
+		long keysExamined = 0;
+
+		if (explain.get("executionStats") instanceof Document executionStats) {
+			returned = asLong(executionStats.get("nReturned"));
+			docsExamined = asLong(executionStats.get("totalDocsExamined"));
+			keysExamined = asLong(executionStats.get("totalKeysExamined"));
+		}
+
+		Set<QueryPlan.Issue> issues = EnumSet.noneOf(QueryPlan.Issue.class);
+
+		if (stages.contains("COLLSCAN") && !mappedQuery.isEmpty()) { // unfiltered queries are expected to scan
+			issues.add(QueryPlan.Issue.COLLECTION_SCAN);
+		}
+
+		if (stages.contains("SORT")) {
+			issues.add(QueryPlan.Issue.IN_MEMORY_SORT);
+		}
+
+		if (docsExamined > 0 && docsExamined > examinedRatioThreshold * Math.max(returned, 1)) {
+			issues.add(QueryPlan.Issue.HIGH_EXAMINED_RATIO);
+		}
+
+		Set<String> filterFields = new LinkedHashSet<>();
+		collectFilterFields(mappedQuery, filterFields);
+
+		List<String> candidateIndexes = new ArrayList<>();
+		for (IndexDefinition index : declaredIndexes) {
+
+			Document keys = index.getIndexKeys();
+			if (!keys.isEmpty() && filterFields.contains(keys.keySet().iterator().next())) {
+
+				Object name = index.getIndexOptions().get("name");
+				candidateIndexes.add(name != null ? name.toString() : keys.toJson());
+			}
+		}
+
+		return new QueryPlan(collectionName, QueryShapes.render(mappedQuery), sort != null ? QueryShapes.render(sort) : null,
+				Instant.now(), List.copyOf(stages), List.copyOf(indexNames), returned, docsExamined, keysExamined,
+				issues.isEmpty() ? Set.of() : Set.copyOf(issues), List.copyOf(filterFields), candidateIndexes);
+	}
+
+	/**
+	 * Collect stages of the winning plan, including plans of slot based execution and of individual shards.
+	 */
+	private static void collectStages(@Nullable Object plan, Set<String> stages, Set<String> indexNames) {
+
+		if (plan instanceof Collection<?> plans) {
+			for (Object element : plans) {
+				collectStages(element, stages, indexNames);
+			}
+			return;
+		}
+
+		if (!(plan instanceof Document stage)) {
+			return;
+		}
+
+		if (stage.get("stage") instanceof String name) {
+			stages.add(name);
+		}
+
+		if (stage.get("indexName") instanceof String indexName) {
+			indexNames.add(indexName);
+		}
+
+		collectStages(stage.get("queryPlan"), stages, indexNames);
+		collectStages(stage.get("inputStage"), stages, indexNames);
+		collectStages(stage.get("inputStages"), stages, indexNames);
+		collectStages(stage.get("shards"), stages, indexNames);
+		collectStages(stage.get("winningPlan"), stages, indexNames);
+	}
+
+	private static void collectFilterFields(Document filter, Set<String> fields) {
+
+		for (Map.Entry<String, Object> entry : filter.entrySet()) {
+
+			if (!entry.getKey().startsWith("$")) {
+				fields.add(entry.getKey());
+			} else if (entry.getValue() instanceof Collection<?> nested) {
+				for (Object element : nested) {
+					if (element instanceof Document document) {
+						collectFilterFields(document, fields);
+					}
+				}
+			}
+		}
+	}
+
+	private static long asLong(@Nullable Object value) {
+		return value instanceof Number number ? number.longValue() : 0;
+	}
+
+	/**
+	 * Winning plan of a sampled query shape.
+	 *
+	 * @param collectionName the collection name.
+	 * @param shape the {@link QueryShapes shape} of the mapped filter.
+	 * @param sort the shape of the sort, if any.
+	 * @param sampledAt point in time the query was explained.
+	 * @param stages the stages of the winning plan.
+	 * @param indexNames the indexes used by the winning plan.
+	 * @param returned number of returned documents.
+	 * @param docsExamined number of examined documents.
+	 * @param keysExamined number of examined index keys.
+	 * @param issues detected issues.
+	 * @param filterFields fields of the mapped filter.
+	 * @param candidateIndexes declared indexes with a leading field contained in the filter.
+	 */
+	public record QueryPlan(String collectionName, String shape, @Nullable String sort, Instant sampledAt,
+			List<String> stages, List<String> indexNames, long returned, long docsExamined, long keysExamined,
+			Set<Issue> issues, List<String> filterFields, List<String> candidateIndexes) {
+
+		/**
+		 * @return the ratio of examined documents to returned documents.
+		 */
+		public double examinedRatio() {
+			return returned > 0 ? (double) docsExamined / returned : docsExamined;
+		}
+
+		/**
+		 * @param issue the {@link Issue} to check.
+		 * @return {@literal true} if the plan exhibits the given {@link Issue}.
+		 */
+		public boolean hasIssue(Issue issue) {
+			return issues.contains(issue);
+		}
+
+		String describe() {
+
+			StringBuilder description = new StringBuilder(
+					String.format("Query %s on collection %s", shape, collectionName));
+
+			if (sort != null) {
+				description.append(" sorted by ").append(sort);
+			}
+
+			description.append(" has issues ").append(issues).append(String.format(
+					" (stages: %s, returned: %d, docs examined: %d)", stages, returned, docsExamined));
+
+			if (hasIssue(Issue.COLLECTION_SCAN)) {
+				description.append(candidateIndexes.isEmpty()
+						? String.format("; no declared index covers %s", StringUtils.collectionToCommaDelimitedString(filterFields))
+						: String.format("; declared indexes %s are not used, make sure they exist", candidateIndexes));
+			}
+
+			return description.toString();
+		}
+
+		/**
+		 * Issues detected in a query plan.
+		 */
+		public enum Issue {
+
+			/**
+			 * The winning plan scans the entire collection.
+			 */
+			COLLECTION_SCAN,
+
+			/**
+			 * The winning plan sorts documents in memory.
+			 */
+			IN_MEMORY_SORT,
+
+			/**
+			 * The query examines considerably more documents than it returns.
+			 */
+			HIGH_EXAMINED_RATIO
+		}
+	}
+}
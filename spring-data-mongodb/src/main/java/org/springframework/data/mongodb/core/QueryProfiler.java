@@ -0,0 +1,286 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.bson.Document;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.mongodb.core.query.SerializationUtils;
+import org.springframework.data.mongodb.util.QueryShapes;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+import com.mongodb.ReadPreference;
+
+/**
+ * Profiler for read operations executed through {@link MongoTemplate} and {@link ReactiveMongoTemplate} retaining the
+ * slowest operations along with the mapped filter, projection, sort, hint and read preference that were sent to the
+ * server. The duration of each operation is split into the time spent mapping the query, the time spent on the server
+ * (including network and decoding) and the time spent converting documents into the result type.
+ * <p>
+ * Only operations slower than the configured threshold and slower than the fastest retained operation are rendered and
+ * retained so that the profiler can be left enabled in production. Filters are retained as {@link QueryShapes shapes}
+ * without values unless {@link #setCaptureQueryValues(boolean) capturing values} is enabled.
+ *
+ * <pre class="code">
+ * QueryProfiler profiler = new QueryProfiler(50, Duration.ofMillis(100));
+ * template.setQueryProfiler(profiler);
+ *
+ * List&lt;ProfiledOperation&gt; slowest = profiler.getSlowestOperations();
+ * </pre>
+ *
+ * {@link #getSlowestOperations()} returns plain values that can be exposed directly through a management endpoint.
+ *
+ * @since 5.1
+ */
+public class QueryProfiler {
+
+	private static final Comparator<ProfiledOperation> BY_DURATION = Comparator.comparing(ProfiledOperation::duration);
+
+	private final int maxOperations;
+	private final long thresholdNanos;
+	private final PriorityQueue<ProfiledOperation> slowest;
+	private final LongAdder profiledOperations = new LongAdder();
+
+	private volatile long floorNanos;
+	private volatile boolean captureQueryValues = false;
+
+	/**
+	 * Create a new {@link QueryProfiler} retaining the {@literal 20} slowest operations.
+	 */
+	public QueryProfiler() {
+		this(20, Duration.ZERO);
+	}
+
+	/**
+	 * Create a new {@link QueryProfiler}.
+	 *
+	 * @param maxOperations the number of slowest operations to retain. Must be greater than zero.
+	 * @param threshold minimum duration of operations to retain. Must not be {@literal null} or negative.
+	 */
+	public QueryProfiler(int maxOperations, Duration threshold) {
+
+		Assert.isTrue(maxOperations > 0, "Max operations must be greater than zero");
+		Assert.notNull(threshold, "Threshold must not be null");
+		Assert.isTrue(!threshold.isNegative(), "Threshold must not be negative");
+
+		this.maxOperations = maxOperations;
+		this.thresholdNanos = threshold.toNanos();
+		this.slowest = new PriorityQueue<>(maxOperations, BY_DURATION);
+		this.floorNanos = thresholdNanos;
+	}
+
+	/**
+	 * Configure whether to retain the mapped filter including its values in addition to its shape. Values may contain
+	 * sensitive data and are therefore not retained by default.
+	 *
+	 * @param captureQueryValues {@literal true} to retain the mapped filter.
+	 */
+	public void setCaptureQueryValues(boolean captureQueryValues) {
+		this.captureQueryValues = captureQueryValues;
+	}
+
+	/**
+	 * @return the slowest retained operations ordered by descending duration.
+	 */
+	public List<ProfiledOperation> getSlowestOperations() {
+
+		List<ProfiledOperation> operations;
+		synchronized (slowest) {
+			operations = new ArrayList<>(slowest);
+		}
+
+		operations.sort(BY_DURATION.reversed());
+		return operations;
+	}
+
+	/**
+	 * @return the number of operations profiled since creation or the last {@link #reset()}.
+	 */
+	public long getProfiledOperationCount() {
+		return profiledOperations.sum();
+	}
+
+	/**
+	 * Discard all retained operations.
+	 */
+	public void reset() {
+
+		synchronized (slowest) {
+			slowest.clear();
+			floorNanos = thresholdNanos;
+		}
+		profiledOperations.reset();
+	}
+
+	/**
+	 * Start recording an operation.
+	 *
+	 * @param operation the operation name, e.g. {@code find}.
+	 * @param collectionName the collection name.
+	 * @return a new {@link Recording}.
+	 */
+	Recording start(String operation, String collectionName) {
+		return new Recording(operation, collectionName, System.nanoTime());
+	}
+
+	/**
+	 * Start recording an operation whose query has already been mapped. Used by reactive operations that map the query
+	 * on assembly and execute it on subscription.
+	 *
+	 * @param operation the operation name, e.g. {@code find}.
+	 * @param collectionName the collection name.
+	 * @param mappingNanos the time spent on mapping the query in nanoseconds.
+	 * @return a new {@link Recording} with completed mapping.
+	 */
+	Recording start(String operation, String collectionName, long mappingNanos) {
+
+		long now = System.nanoTime();
+		Recording recording = new Recording(operation, collectionName, now - mappingNanos);
+		recording.mapped = now;
+		return recording;
+	}
+
+	private void retain(ProfiledOperation operation) {
+
+		synchronized (slowest) {
+
+			if (slowest.size() >= maxOperations) {
+
+				ProfiledOperation fastest = slowest.peek();
+				if (fastest != null && BY_DURATION.compare(operation, fastest) <= 0) {
+					return;
+				}
+				slowest.poll();
+			}
+
+			slowest.add(operation);
+
+			ProfiledOperation fastest = slowest.peek();
+			floorNanos = slowest.size() >= maxOperations && fastest != null
+					? Math.max(thresholdNanos, fastest.duration().toNanos())
+					: thresholdNanos;
+		}
+	}
+
+	private static @Nullable String toJson(@Nullable Document document) {
+		return ObjectUtils.isEmpty(document) ? null : SerializationUtils.serializeToJsonSafely(document);
+	}
+
+	/**
+	 * Recording of a single operation capturing phase timestamps. Details of the operation are only rendered when the
+	 * operation qualifies for retention.
+	 */
+	class Recording {
+
+		private final String operation;
+		private final String collectionName;
+		private final long start;
+
+		private long mapped;
+		private long conversion;
+		private long stop;
+
+		Recording(String operation, String collectionName, long start) {
+			this.operation = operation;
+			this.collectionName = collectionName;
+			this.start = start;
+		}
+
+		/**
+		 * Mark the query mapping as completed.
+		 */
+		void mappingCompleted() {
+			this.mapped = System.nanoTime();
+		}
+
+		/**
+		 * Add the time spent on converting a single document.
+		 *
+		 * @param nanos the conversion time in nanoseconds.
+		 */
+		void addConversionTime(long nanos) {
+			this.conversion += nanos;
+		}
+
+		/**
+		 * Stop the recording.
+		 *
+		 * @return {@literal true} if the operation qualifies for retention and should be {@link #record recorded}.
+		 */
+		boolean stop() {
+
+			this.stop = System.nanoTime();
+			profiledOperations.increment();
+			return stop - start >= floorNanos;
+		}
+
+		/**
+		 * Retain the stopped operation.
+		 *
+		 * @param mappedQuery the mapped filter.
+		 * @param mappedFields the mapped projection.
+		 * @param mappedSort the mapped sort, can be {@literal null}.
+		 * @param hint the index hint, can be {@literal null}.
+		 * @param readPreference the read preference, can be {@literal null}.
+		 */
+		void record(Document mappedQuery, @Nullable Document mappedFields, @Nullable Document mappedSort,
+				@Nullable String hint, @Nullable ReadPreference readPreference) {
+
+			long mappedAt = mapped != 0 ? mapped : start;
+			long mapping = mappedAt - start;
+			long server = Math.max(0, stop - mappedAt - conversion);
+
+			retain(new ProfiledOperation(operation, collectionName, Instant.now().minusNanos(System.nanoTime() - start),
+					Duration.ofNanos(stop - start),
+					Duration.ofNanos(mapping), Duration.ofNanos(server), Duration.ofNanos(conversion),
+					QueryShapes.render(mappedQuery), captureQueryValues ? SerializationUtils.serializeToJsonSafely(mappedQuery) : null,
+					toJson(mappedFields), toJson(mappedSort), hint,
+					readPreference != null ? readPreference.getName() : null));
+		}
+	}
+
+	/**
+	 * A profiled operation.
+	 *
+	 * @param operation the operation name, e.g. {@code find}.
+	 * @param collectionName the collection name.
+	 * @param startedAt point in time the operation started.
+	 * @param duration the total duration.
+	 * @param mappingDuration time spent on mapping the query.
+	 * @param serverDuration time spent on executing the operation on the server including network and decoding.
+	 * @param conversionDuration time spent on converting documents into the result type.
+	 * @param shape the {@link QueryShapes shape} of the mapped filter.
+	 * @param query the mapped filter if {@link #setCaptureQueryValues(boolean) capturing values} is enabled.
+	 * @param fields the mapped projection, if any.
+	 * @param sort the mapped sort, if any.
+	 * @param hint the index hint, if any.
+	 * @param readPreference the name of the read preference, if any.
+	 */
+	public record ProfiledOperation(String operation, String collectionName, Instant startedAt, Duration duration,
+			Duration mappingDuration, Duration serverDuration, Duration conversionDuration, String shape,
+			@Nullable String query, @Nullable String fields, @Nullable String sort, @Nullable String hint,
+			@Nullable String readPreference) {
+
+	}
+}
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.mongodb.core;
 
+import reactor.core.Exceptions;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -23,6 +24,7 @@ import java.util.Set;
 
 import org.bson.Document;
 
+import org.springframework.data.mongodb.ReactiveMongoDatabaseUtils;
 import org.springframework.data.mongodb.core.QueryOperations.DeleteContext;
 import org.springframework.data.mongodb.core.QueryOperations.UpdateContext;
 import org.springframework.data.mongodb.core.bulk.Bulk;
@@ -68,6 +70,9 @@ class ReactiveBulkWriter extends BulkWriterSupport {
 		if (namespaces.size() == 1) {
 			return writeToSingleCollection(defaultDatabase, bulk, options, namespaces.iterator().next());
 		}
+		if (options.isPerCollection()) {
+			return writePerCollection(defaultDatabase, bulk, options);
+		}
 		return writeToMultipleCollections(defaultDatabase, bulk, options);
 	}
 
@@ -79,25 +84,69 @@ class ReactiveBulkWriter extends BulkWriterSupport {
 		SingleCollectionCollector collector = new SingleCollectionCollector(mongoNamespace);
 		return buildWriteModelsReactive(bulk, collector).then(Mono.defer(() -> {
 
-			String collectionName = collector.getNamespace().getCollectionName();
-			List<SourceAwareDocument<Object>> afterSaveCallables = collector.getAfterSaveCallables();
-
-			return template
-					.createMono(collectionName,
-							col -> col.bulkWrite(collector.getWriteModels(),
-									new com.mongodb.client.model.BulkWriteOptions()
-											.ordered(options.getOrder().equals(BulkWriteOptions.Order.ORDERED))))
-					.map(BulkWriteResult::from)
-					.doOnSuccess(
-							v -> afterSaveCallables
-									.forEach(callable -> template.maybeEmitEvent(new AfterSaveEvent<>(callable.source(),
-											callable.document(), callable.collectionName()))))
-					.flatMap(result -> Flux.concat(afterSaveCallables.stream().map(callable -> template
-							.maybeCallAfterSave(callable.source(), callable.document(), callable.collectionName())).toList())
-							.then(Mono.just(result)));
+			return bulkWrite(collector, options).map(BulkWriteResult::from)
+					.flatMap(result -> invokeAfterSave(collector).then(Mono.just(result)));
 		}));
 	}
 
+	/**
+	 * Write each collection of the {@link Bulk} through its own collection level bulk write. Collections of unordered
+	 * bulks are written concurrently unless the template is bound to a session or a transaction as sessions must not be
+	 * used concurrently.
+	 */
+	private Mono<BulkWriteResult> writePerCollection(String defaultDatabase, Bulk bulk, BulkWriteOptions options) {
+
+		PerCollectionCollector collector = new PerCollectionCollector(defaultDatabase);
+		boolean ordered = options.getOrder().equals(BulkWriteOptions.Order.ORDERED);
+
+		return buildWriteModelsReactive(bulk, collector).then(isSessionBound()).flatMap(sessionBound -> {
+
+			Flux<SingleCollectionCollector> collectors = Flux.fromIterable(collector.getCollectors());
+
+			Flux<CollectionWriteOutcome> outcomes = options.getMaxConcurrency() > 1 && !sessionBound
+					? collectors.flatMap(it -> doWrite(it, options), options.getMaxConcurrency())
+					: collectors.concatMap(it -> doWrite(it, options)).takeUntil(it -> ordered && !it.isSuccess());
+
+			return outcomes.collectList();
+		}).flatMap(outcomes -> Flux.fromIterable(outcomes) //
+				.filter(CollectionWriteOutcome::isSuccess) //
+				.concatMap(outcome -> invokeAfterSave(outcome.collector())) //
+				.then(Mono.fromCallable(() -> combine(outcomes))));
+	}
+
+	private Mono<CollectionWriteOutcome> doWrite(SingleCollectionCollector collector, BulkWriteOptions options) {
+
+		return bulkWrite(collector, options).map(result -> CollectionWriteOutcome.success(collector, result))
+				.onErrorResume(error -> Mono.just(CollectionWriteOutcome.failure(collector, Exceptions.propagate(error))));
+	}
+
+	private Mono<com.mongodb.bulk.BulkWriteResult> bulkWrite(SingleCollectionCollector collector,
+			BulkWriteOptions options) {
+
+		return template.createMono(collector.getNamespace().getCollectionName(),
+				col -> col.bulkWrite(collector.getWriteModels(), new com.mongodb.client.model.BulkWriteOptions()
+						.ordered(options.getOrder().equals(BulkWriteOptions.Order.ORDERED))));
+	}
+
+	private Mono<Void> invokeAfterSave(WriteModelCollector collector) {
+
+		List<SourceAwareDocument<Object>> afterSaveCallables = collector.getAfterSaveCallables();
+
+		return Mono.fromRunnable(() -> afterSaveCallables.forEach(callable -> template
+				.maybeEmitEvent(new AfterSaveEvent<>(callable.source(), callable.document(), callable.collectionName()))))
+				.then(Flux.concat(afterSaveCallables.stream().map(callable -> template
+						.maybeCallAfterSave(callable.source(), callable.document(), callable.collectionName())).toList())
+						.then());
+	}
+
+	private Mono<Boolean> isSessionBound() {
+
+		if (template instanceof ReactiveMongoTemplate.ReactiveSessionBoundMongoTemplate) {
+			return Mono.just(true);
+		}
+		return ReactiveMongoDatabaseUtils.isTransactionActive(template.getMongoDatabaseFactory());
+	}
+
 	private Mono<BulkWriteResult> writeToMultipleCollections(String defaultDatabase, Bulk bulk,
 			BulkWriteOptions options) {
 
@@ -439,6 +439,32 @@ public interface ReactiveMongoOperations extends ReactiveFluentMongoOperations {
 	 */
 	ReactiveBulkOperations bulkOps(BulkMode mode, @Nullable Class<?> entityType, String collectionName);
 
+	/**
+	 * Returns a new {@link ReactiveStreamingBulkOperations} for the given entity type that writes a stream of
+	 * operations in batches according to the given {@link StreamingBulkOptions}.
+	 *
+	 * @param mode the {@link BulkMode} to use for bulk operations, must not be {@literal null}.
+	 * @param entityType the name of the entity class, must not be {@literal null}.
+	 * @param options the {@link StreamingBulkOptions} to use, must not be {@literal null}.
+	 * @return {@link ReactiveStreamingBulkOperations} on the collection associated with the given entity class.
+	 * @since 5.1
+	 */
+	ReactiveStreamingBulkOperations streamingBulkOps(BulkMode mode, Class<?> entityType, StreamingBulkOptions options);
+
+	/**
+	 * Returns a new {@link ReactiveStreamingBulkOperations} for the given entity type and collection name that writes a
+	 * stream of operations in batches according to the given {@link StreamingBulkOptions}.
+	 *
+	 * @param mode the {@link BulkMode} to use for bulk operations, must not be {@literal null}.
+	 * @param entityType the name of the entity class. Can be {@literal null}.
+	 * @param collectionName the name of the collection to work on, must not be {@literal null} or empty.
+	 * @param options the {@link StreamingBulkOptions} to use, must not be {@literal null}.
+	 * @return {@link ReactiveStreamingBulkOperations} on the named collection associated with the given entity class.
+	 * @since 5.1
+	 */
+	ReactiveStreamingBulkOperations streamingBulkOps(BulkMode mode, @Nullable Class<?> entityType,
+			String collectionName, StreamingBulkOptions options);
+
 	/**
 	 * Query for a {@link Flux} of objects of type T from the collection used by the entity class. <br />
 	 * The object is converted from the MongoDB native representation using an instance of {@see MongoConverter}. Unless
@@ -606,6 +632,79 @@ public interface ReactiveMongoOperations extends ReactiveFluentMongoOperations {
 	 */
 	<T> Mono<Window<T>> scroll(Query query, Class<T> entityType, String collectionName);
 
+	/**
+	 * Query for all objects of type T from the collection of the specified {@code entityType} by scrolling forward using
+	 * keyset-based pagination. The query is mapped once and each window continues after the sort keys of the last
+	 * document of the previous window. {@link Query#limit(int)} defines the window size and defaults to {@literal 1000}.
+	 * The next window is requested while documents of the current one are consumed.
+	 * <p>
+	 * Each window is read through a separate query that is exhausted right away so that slow consumers do not run into
+	 * cursor timeouts. Make sure to use non-nullable {@link org.springframework.data.domain.Sort sort properties}.
+	 *
+	 * @param query the query class that specifies the criteria used to find documents and also an optional fields
+	 *          specification. Must not be {@literal null}. Can start from a forward {@link KeysetScrollPosition}.
+	 * @param entityType the parametrized type of the returned objects.
+	 * @return {@link Flux} emitting the converted objects of all windows.
+	 * @throws IllegalStateException if a document does not hold a value for a sort property.
+	 * @since 5.1
+	 * @see Query#with(org.springframework.data.domain.KeysetScrollPosition)
+	 */
+	<T> Flux<T> scrollAll(Query query, Class<T> entityType);
+
+	/**
+	 * Query for all objects of type T from the specified collection by scrolling forward window by window using
+	 * keyset-based pagination. The query is mapped once and each window continues after the sort keys of the last
+	 * document of the previous window. {@link Query#limit(int)} defines the window size and defaults to {@literal 1000}.
+	 * The next window is requested while documents of the current one are consumed.
+	 * <p>
+	 * Each window is read through a separate query that is exhausted right away so that slow consumers do not run into
+	 * cursor timeouts. Make sure to use non-nullable {@link org.springframework.data.domain.Sort sort properties}.
+	 *
+	 * @param query the query class that specifies the criteria used to find documents and also an optional fields
+	 *          specification. Must not be {@literal null}. Can start from a forward {@link KeysetScrollPosition}.
+	 * @param entityType the parametrized type of the returned objects.
+	 * @param collectionName name of the collection to retrieve the objects from. Must not be {@literal null} or empty.
+	 * @return {@link Flux} emitting the converted objects of all windows.
+	 * @throws IllegalStateException if a document does not hold a value for a sort property.
+	 * @since 5.1
+	 * @see Query#with(org.springframework.data.domain.KeysetScrollPosition)
+	 */
+	<T> Flux<T> scrollAll(Query query, Class<T> entityType, String collectionName);
+
+	/**
+	 * Read all documents matching the given {@link Query} from the collection of the specified {@code entityType} by
+	 * splitting the query into {@link PartitionedScanOptions#getKey() partition key} ranges that are read concurrently.
+	 * Range boundaries are derived from a {@code $sample} of partition key values. Documents of all partitions are merged
+	 * into the resulting {@link Flux} without any particular order.
+	 *
+	 * @param query the query class that specifies the criteria used to find documents and also an optional fields
+	 *          specification. Must not be {@literal null} and must not define a sort, limit or skip.
+	 * @param entityType must not be {@literal null}.
+	 * @param options must not be {@literal null}. {@link PartitionedScanOptions#getExecutor() Executors} are not
+	 *          considered.
+	 * @return the merged {@link Flux} of all partitions.
+	 * @since 5.1
+	 */
+	<T> Flux<T> scanPartitioned(Query query, Class<T> entityType, PartitionedScanOptions options);
+
+	/**
+	 * Read all documents matching the given {@link Query} from the specified collection by splitting the query into
+	 * {@link PartitionedScanOptions#getKey() partition key} ranges that are read concurrently. Range boundaries are
+	 * derived from a {@code $sample} of partition key values. Documents of all partitions are merged into the resulting
+	 * {@link Flux} without any particular order.
+	 *
+	 * @param query the query class that specifies the criteria used to find documents and also an optional fields
+	 *          specification. Must not be {@literal null} and must not define a sort, limit or skip.
+	 * @param entityType must not be {@literal null}.
+	 * @param collectionName must not be {@literal null} or empty.
+	 * @param options must not be {@literal null}. {@link PartitionedScanOptions#getExecutor() Executors} are not
+	 *          considered.
+	 * @return the merged {@link Flux} of all partitions.
+	 * @since 5.1
+	 */
+	<T> Flux<T> scanPartitioned(Query query, Class<T> entityType, String collectionName,
+			PartitionedScanOptions options);
+
 	/**
 	 * Returns a document with the given id mapped onto the given class. The collection the query is ran against will be
 	 * derived from the given target class as well.
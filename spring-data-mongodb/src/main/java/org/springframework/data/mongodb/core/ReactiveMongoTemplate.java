@@ -19,6 +19,7 @@ import static org.springframework.data.mongodb.core.query.SerializationUtils.*;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.util.function.Tuple2;
 import reactor.util.function.Tuples;
 
@@ -42,6 +43,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.conversions.Bson;
 import org.bson.types.ObjectId;
 import org.jspecify.annotations.Nullable;
@@ -87,6 +89,7 @@ import org.springframework.data.mongodb.core.QueryOperations.DistinctQueryContex
 import org.springframework.data.mongodb.core.QueryOperations.QueryContext;
 import org.springframework.data.mongodb.core.QueryOperations.UpdateContext;
 import org.springframework.data.mongodb.core.ScrollUtils.KeysetScrollQuery;
+import org.springframework.data.mongodb.core.ScrollUtils.MappedKeysetQuery;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.aggregation.AggregationOperationContext;
 import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
@@ -106,6 +109,7 @@ import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
 import org.springframework.data.mongodb.core.convert.MongoWriter;
 import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
 import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.convert.ReactiveReferenceResolver;
 import org.springframework.data.mongodb.core.convert.UpdateMapper;
 import org.springframework.data.mongodb.core.index.MongoMappingEventPublisher;
 import org.springframework.data.mongodb.core.index.ReactiveIndexOperations;
@@ -124,6 +128,7 @@ import org.springframework.data.mongodb.core.query.NearQuery;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.UpdateDefinition;
 import org.springframework.data.mongodb.core.query.UpdateDefinition.ArrayFilter;
+import org.springframework.data.mongodb.util.LazyDocumentCodec;
 import org.springframework.data.projection.EntityProjection;
 import org.springframework.data.util.Optionals;
 import org.springframework.lang.Contract;
@@ -202,6 +207,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 	private static final Log LOGGER = LogFactory.getLog(ReactiveMongoTemplate.class);
 	private static final WriteResultChecking DEFAULT_WRITE_RESULT_CHECKING = WriteResultChecking.NONE;
+	private static final int DEFAULT_BATCH_SIZE = 101; // server default for the first batch
 
 	private final MongoConverter mongoConverter;
 	private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
@@ -222,6 +228,9 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	private @Nullable ApplicationEventPublisher eventPublisher;
 	private @Nullable ReactiveEntityCallbacks entityCallbacks;
 	private @Nullable ReactiveMongoPersistentEntityIndexCreator indexCreator;
+	private @Nullable QueryProfiler queryProfiler;
+	private boolean lazyDocumentDecoding;
+	private @Nullable ReactiveReferenceResolver referenceResolver;
 
 	private SessionSynchronization sessionSynchronization = SessionSynchronization.ON_ACTUAL_TRANSACTION;
 
@@ -322,6 +331,10 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		this.sessionSynchronization = that.sessionSynchronization;
 		this.queryOperations = that.queryOperations;
 		this.eventDelegate = that.eventDelegate;
+		this.queryProfiler = that.queryProfiler;
+		this.lazyDocumentDecoding = that.lazyDocumentDecoding;
+		this.referenceResolver = that.referenceResolver != null ? that.referenceResolver.withDatabaseFactory(dbFactory)
+				: null;
 	}
 
 	private void onCheckForIndexes(MongoPersistentEntity<?> entity, Consumer<Throwable> subscriptionExceptionHandler) {
@@ -387,6 +400,44 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		this.eventDelegate.setEventsEnabled(enabled);
 	}
 
+	/**
+	 * Configure a {@link QueryProfiler} to profile find operations splitting their duration into query mapping, server
+	 * execution and result conversion and retaining the slowest operations. Setting {@literal null} disables profiling.
+	 *
+	 * @param queryProfiler can be {@literal null}.
+	 * @since 5.1
+	 */
+	public void setQueryProfiler(@Nullable QueryProfiler queryProfiler) {
+		this.queryProfiler = queryProfiler;
+	}
+
+	/**
+	 * Configure whether documents read from the database are kept as raw BSON and decoded lazily. Fields are decoded
+	 * when the {@link org.springframework.data.mongodb.core.convert.MongoConverter} or application code reads them so
+	 * that subtrees that are never accessed, for example fields not mapped to the domain type, are never decoded. Reads
+	 * of {@link Document} results return lazily decoding {@link Document documents} as well. Disabled by default.
+	 *
+	 * @param lazyDocumentDecoding {@literal true} to decode documents lazily.
+	 * @since 5.1
+	 * @see LazyDocumentCodec
+	 */
+	public void setLazyDocumentDecoding(boolean lazyDocumentDecoding) {
+		this.lazyDocumentDecoding = lazyDocumentDecoding;
+	}
+
+	/**
+	 * Configure a {@link ReactiveReferenceResolver} to resolve {@link org.springframework.data.mongodb.core.mapping.DBRef}
+	 * and {@link org.springframework.data.mongodb.core.mapping.DocumentReference} properties of entities read by find and
+	 * aggregate operations. References are fetched in batches per target collection before documents are converted.
+	 * Setting {@literal null} disables reference resolution.
+	 *
+	 * @param referenceResolver can be {@literal null}.
+	 * @since 5.1
+	 */
+	public void setReferenceResolver(@Nullable ReactiveReferenceResolver referenceResolver) {
+		this.referenceResolver = referenceResolver;
+	}
+
 	@Override
 	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
 
@@ -830,6 +881,30 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		Assert.notNull(mode, "BulkMode must not be null");
 		Assert.hasText(collectionName, "Collection name must not be null or empty");
 
+		return createBulkOperations(mode, entityType, collectionName);
+	}
+
+	@Override
+	public ReactiveStreamingBulkOperations streamingBulkOps(BulkMode mode, Class<?> entityType,
+			StreamingBulkOptions options) {
+		return streamingBulkOps(mode, entityType, getCollectionName(entityType), options);
+	}
+
+	@Override
+	public ReactiveStreamingBulkOperations streamingBulkOps(BulkMode mode, @Nullable Class<?> entityType,
+			String collectionName, StreamingBulkOptions options) {
+
+		Assert.notNull(mode, "BulkMode must not be null");
+		Assert.hasText(collectionName, "Collection name must not be null or empty");
+		Assert.notNull(options, "StreamingBulkOptions must not be null");
+
+		return new DefaultReactiveStreamingBulkOperations(() -> createBulkOperations(mode, entityType, collectionName),
+				mode, options, mongoConverter.getCodecRegistry());
+	}
+
+	private DefaultReactiveBulkOperations createBulkOperations(BulkMode mode, @Nullable Class<?> entityType,
+			String collectionName) {
+
 		DefaultReactiveBulkOperations operations = new DefaultReactiveBulkOperations(this, collectionName,
 				new ReactiveBulkOperationContext(mode, Optional.ofNullable(getPersistentEntity(entityType)), queryMapper,
 						updateMapper, eventPublisher, entityCallbacks));
@@ -987,6 +1062,91 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 				it -> ScrollUtils.createWindow(it, query.getLimit(), OffsetScrollPosition.positionFunction(query.getSkip())));
 	}
 
+	@Override
+	public <T> Flux<T> scrollAll(Query query, Class<T> entityType) {
+
+		Assert.notNull(entityType, "Entity type must not be null");
+
+		return scrollAll(query, entityType, getCollectionName(entityType));
+	}
+
+	@Override
+	public <T> Flux<T> scrollAll(Query query, Class<T> entityType, String collectionName) {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(entityType, "Entity type must not be null");
+		Assert.hasText(collectionName, "Collection name must not be null or empty");
+
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityType);
+		QueryContext queryContext = queryOperations.createQueryContext(query);
+		EntityProjection<T, ?> projection = operations.introspectProjection(entityType, entityType);
+
+		MappedKeysetQuery keysetQuery = MappedKeysetQuery.of(query, operations.getIdPropertyName(entityType),
+				queryMapper, queryContext.getMappedQuery(entity), queryContext.getMappedFields(entity, projection), entity);
+		int windowSize = keysetQuery.getWindowSize();
+
+		ReactiveCollectionPreparerDelegate readPreference = ReactiveCollectionPreparerDelegate.of(query);
+		QueryFindPublisherPreparer preparer = new QueryFindPublisherPreparer(query, new Document(), windowSize, 0,
+				entityType);
+		DocumentCallback<T> resultReader = getResultReader(projection, collectionName, QueryResultConverter.entity());
+
+		Function<Document, Mono<List<Document>>> windowReader = filter -> createFlux(collectionName,
+				collection -> preparer
+						.initiateFind(readPreference.prepare(collection),
+								col -> col.find(filter, Document.class).projection(keysetQuery.getFields())
+										.sort(keysetQuery.getSort()))
+						.batchSize(windowSize)).collectList();
+
+		// windows are requested one ahead of the window being emitted
+		return windowReader.apply(keysetQuery.createInitialQuery())
+				.expand(window -> window.size() < windowSize ? Mono.empty()
+						: windowReader.apply(keysetQuery.createQuery(keysetQuery.extractKeys(window.get(window.size() - 1)))))
+				.concatMap(window -> resolveReferences(Flux.fromIterable(window), entityType)
+						.flatMapSequential(resultReader::doWith), 1);
+	}
+
+	@Override
+	public <T> Flux<T> scanPartitioned(Query query, Class<T> entityType, PartitionedScanOptions options) {
+		return scanPartitioned(query, entityType, getCollectionName(entityType), options);
+	}
+
+	@Override
+	public <T> Flux<T> scanPartitioned(Query query, Class<T> entityType, String collectionName,
+			PartitionedScanOptions options) {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(entityType, "Entity type must not be null");
+		Assert.hasText(collectionName, "Collection name must not be null or empty");
+		Assert.notNull(options, "PartitionedScanOptions must not be null");
+
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityType);
+		String key = queryMapper.getMappedSort(new Document(options.getKey(), 1), entity).keySet().iterator().next();
+		CollectionPartitioner partitioner = new CollectionPartitioner(query, key, options);
+
+		Mono<List<Query>> partitions;
+
+		if (partitioner.requiresSampling()) {
+
+			Document mappedQuery = queryOperations.createQueryContext(query).getMappedQuery(entity);
+			partitions = createFlux(collectionName, collection -> {
+
+				AggregatePublisher<Document> aggregate = ReactiveCollectionPreparerDelegate.of(query).prepare(collection)
+						.aggregate(partitioner.getSamplePipeline(mappedQuery), Document.class);
+
+				// samples need to be sorted like the partition ranges compare values
+				operations.forType(entityType).getCollation(query).map(Collation::toMongoCollation)
+						.ifPresent(aggregate::collation);
+
+				return aggregate;
+			}).collectList().map(partitioner::partition);
+		} else {
+			partitions = Mono.fromSupplier(() -> partitioner.partition(List.of()));
+		}
+
+		return partitions.flatMapMany(it -> Flux.fromIterable(it)
+				.flatMap(partition -> find(partition, entityType, collectionName), Math.max(it.size(), 1)));
+	}
+
 	@Override
 	public <T> Mono<T> findById(Object id, Class<T> entityClass) {
 		return findById(id, entityClass, getCollectionName(entityClass));
@@ -1105,18 +1265,46 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 					serializeToJsonSafely(definition.getAggregationPipeline()), collectionName));
 		}
 
+		if (AggregationUtil.isRawResult(outputType, resultConverter) && !options.isSkipResults()) {
+			return execute(collectionName, collection -> aggregateRaw(collection, definition.getAggregationPipeline(), options,
+					definition.getInputType()));
+		}
+
 		DocumentCallback<O> readCallback = new QueryResultConverterCallback<>(resultConverter,
 				new ReadDocumentCallback<>(mongoConverter, outputType, collectionName));
 		return execute(collectionName, collection -> aggregateAndMap(collection, definition.getAggregationPipeline(),
-				definition.isOutOrMerge(), options, readCallback, definition.getInputType()));
+				definition.isOutOrMerge(), options, readCallback, definition.getInputType(), outputType));
 	}
 
 	private <O> Flux<O> aggregateAndMap(MongoCollection<Document> collection, List<Document> pipeline,
 			boolean isOutOrMerge, AggregationOptions options, DocumentCallback<O> readCallback,
-			@Nullable Class<?> inputType) {
+			@Nullable Class<?> inputType, Class<?> outputType) {
 
 		ReactiveCollectionPreparerDelegate collectionPreparer = ReactiveCollectionPreparerDelegate.of(options);
-		AggregatePublisher<Document> cursor = collectionPreparer.prepare(collection).aggregate(pipeline, Document.class);
+		AggregatePublisher<Document> cursor = prepareAggregatePublisher(
+				collectionPreparer.prepare(collection).aggregate(pipeline, Document.class), options, inputType);
+
+		if (options.isSkipResults()) {
+			return (isOutOrMerge ? Flux.from(cursor.toCollection()) : Flux.from(cursor.first())).thenMany(Mono.empty());
+		}
+
+		return resolveReferences(potentiallyPrefetch(Flux.from(cursor), options), outputType)
+				.flatMapSequential(readCallback::doWith);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <O> Flux<O> aggregateRaw(MongoCollection<Document> collection, List<Document> pipeline,
+			AggregationOptions options, @Nullable Class<?> inputType) {
+
+		ReactiveCollectionPreparerDelegate collectionPreparer = ReactiveCollectionPreparerDelegate.of(options);
+		AggregatePublisher<RawBsonDocument> cursor = prepareAggregatePublisher(
+				collectionPreparer.prepare(collection).aggregate(pipeline, RawBsonDocument.class), options, inputType);
+
+		return (Flux<O>) potentiallyPrefetch(Flux.from(cursor), options);
+	}
+
+	private <D> AggregatePublisher<D> prepareAggregatePublisher(AggregatePublisher<D> cursor,
+			AggregationOptions options, @Nullable Class<?> inputType) {
 
 		if (options.isAllowDiskUseSet()) {
 			cursor = cursor.allowDiskUse(options.isAllowDiskUse());
@@ -1141,11 +1329,23 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			cursor = cursor.maxTime(options.getMaxTime().toMillis(), TimeUnit.MILLISECONDS);
 		}
 
-		if (options.isSkipResults()) {
-			return (isOutOrMerge ? Flux.from(cursor.toCollection()) : Flux.from(cursor.first())).thenMany(Mono.empty());
+		return cursor;
+	}
+
+	/**
+	 * Request {@link AggregationOptions#getPrefetch() prefetch} batches ahead of the consumer and move result conversion
+	 * off the driver thread so that the next {@code getMore} is in flight while the current batch is converted.
+	 */
+	private static <D> Flux<D> potentiallyPrefetch(Flux<D> documents, AggregationOptions options) {
+
+		if (!options.hasPrefetch()) {
+			return documents;
 		}
 
-		return Flux.from(cursor).flatMapSequential(readCallback::doWith);
+		Integer batchSize = options.getCursorBatchSize();
+		int prefetch = options.getPrefetch() * (batchSize != null && batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE);
+
+		return documents.publishOn(Schedulers.parallel(), prefetch);
 	}
 
 	@Override
@@ -2133,7 +2333,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 					collection -> new FindCallback(CollectionPreparer.identity(), null).doInCollection(collection)
 							.cursorType(CursorType.TailableAwait),
 					FindPublisherPreparer.NO_OP_PREPARER, new ReadDocumentCallback<>(mongoConverter, entityClass, collectionName),
-					collectionName);
+					collectionName, entityClass, true);
 		}
 
 		ReactiveCollectionPreparerDelegate collectionPreparer = ReactiveCollectionPreparerDelegate.of(query);
@@ -2466,6 +2666,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			CollectionPreparer<MongoCollection<Document>> collectionPreparer, Document query, @Nullable Document fields,
 			Class<T> entityClass, FindPublisherPreparer preparer) {
 
+		long mappingStart = System.nanoTime();
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
 
 		QueryContext queryContext = queryOperations
@@ -2478,8 +2679,23 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 					serializeToJsonSafely(query), mappedFields, entityClass, collectionName));
 		}
 
-		return executeFindOneInternal(new FindOneCallback(collectionPreparer, mappedQuery, mappedFields, preparer),
-				new ReadDocumentCallback<>(this.mongoConverter, entityClass, collectionName), collectionName);
+		DocumentCallback<T> objectCallback = new ReadDocumentCallback<>(this.mongoConverter, entityClass, collectionName);
+
+		QueryProfiler profiler = this.queryProfiler;
+
+		if (profiler == null) {
+			return executeFindOneInternal(new FindOneCallback(collectionPreparer, mappedQuery, mappedFields, preparer),
+					objectCallback, collectionName, entityClass);
+		}
+
+		long mappingNanos = System.nanoTime() - mappingStart;
+		return Mono.defer(() -> {
+
+			QueryProfiler.Recording recording = profiler.start("findOne", collectionName, mappingNanos);
+			return executeFindOneInternal(new FindOneCallback(collectionPreparer, mappedQuery, mappedFields, preparer),
+					profiled(objectCallback, recording), collectionName, entityClass)
+					.doFinally(signal -> stopProfiling(recording, mappedQuery, mappedFields, collectionPreparer, preparer, entityClass));
+		});
 	}
 
 	/**
@@ -2523,6 +2739,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			CollectionPreparer<MongoCollection<Document>> collectionPreparer, Document query, Document fields,
 			Class<S> entityClass, @Nullable FindPublisherPreparer preparer, DocumentCallback<T> objectCallback) {
 
+		long mappingStart = System.nanoTime();
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
 
 		QueryContext queryContext = queryOperations.createQueryContext(new BasicQuery(query, fields));
@@ -2534,8 +2751,17 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 					serializeToJsonSafely(mappedQuery), mappedFields, entityClass, collectionName));
 		}
 
-		return executeFindMultiInternal(new FindCallback(collectionPreparer, mappedQuery, mappedFields),
-				preparer != null ? preparer : FindPublisherPreparer.NO_OP_PREPARER, objectCallback, collectionName);
+		FindPublisherPreparer publisherPreparer = preparer != null ? preparer : FindPublisherPreparer.NO_OP_PREPARER;
+
+		if (queryProfiler == null) {
+			return executeFindMultiInternal(new FindCallback(collectionPreparer, mappedQuery, mappedFields),
+					publisherPreparer, objectCallback, collectionName, entityClass);
+		}
+
+		return doProfiled(collectionName, System.nanoTime() - mappingStart, mappedQuery, mappedFields, collectionPreparer,
+				publisherPreparer,
+				entityClass, recording -> executeFindMultiInternal(new FindCallback(collectionPreparer, mappedQuery, mappedFields),
+						publisherPreparer, profiled(objectCallback, recording), collectionName, entityClass));
 	}
 
 	CollectionPreparer<MongoCollection<Document>> createCollectionPreparer(Query query) {
@@ -2563,6 +2789,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			Document query, Document fields, Class<?> sourceClass, Class<T> targetClass,
 			QueryResultConverter<? super T, ? extends R> resultConverter, FindPublisherPreparer preparer) {
 
+		long mappingStart = System.nanoTime();
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(sourceClass);
 		EntityProjection<T, ?> projection = operations.introspectProjection(targetClass, sourceClass);
 
@@ -2575,8 +2802,75 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 					serializeToJsonSafely(mappedQuery), mappedFields, sourceClass, collectionName));
 		}
 
-		return executeFindMultiInternal(new FindCallback(collectionPreparer, mappedQuery, mappedFields), preparer,
-				getResultReader(projection, collectionName, resultConverter), collectionName);
+		DocumentCallback<R> callback = getResultReader(projection, collectionName, resultConverter);
+
+		if (queryProfiler == null) {
+			return executeFindMultiInternal(new FindCallback(collectionPreparer, mappedQuery, mappedFields), preparer,
+					callback, collectionName, sourceClass);
+		}
+
+		return doProfiled(collectionName, System.nanoTime() - mappingStart, mappedQuery, mappedFields, collectionPreparer,
+				preparer,
+				sourceClass, recording -> executeFindMultiInternal(new FindCallback(collectionPreparer, mappedQuery, mappedFields),
+						preparer, profiled(callback, recording), collectionName, sourceClass));
+	}
+
+	/**
+	 * Defer the given execution to subscription time capturing the phases of a {@link QueryProfiler.Recording} per
+	 * subscription. Details of the operation are only mapped if the operation qualifies for retention.
+	 */
+	private <T> Flux<T> doProfiled(String collectionName, long mappingNanos, Document mappedQuery, Document mappedFields,
+			CollectionPreparer<?> collectionPreparer, FindPublisherPreparer preparer, Class<?> entityClass,
+			Function<QueryProfiler.Recording, Flux<T>> execution) {
+
+		QueryProfiler profiler = queryProfiler;
+		Assert.state(profiler != null, "QueryProfiler must not be null");
+
+		return Flux.defer(() -> {
+
+			QueryProfiler.Recording recording = profiler.start("find", collectionName, mappingNanos);
+			return execution.apply(recording)
+					.doFinally(signal -> stopProfiling(recording, mappedQuery, mappedFields, collectionPreparer, preparer, entityClass));
+		});
+	}
+
+	private void stopProfiling(QueryProfiler.Recording recording, Document mappedQuery, Document mappedFields,
+			CollectionPreparer<?> collectionPreparer, FindPublisherPreparer preparer, Class<?> entityClass) {
+
+		if (!recording.stop()) {
+			return;
+		}
+
+		Document mappedSort = null;
+		String hint = null;
+
+		if (preparer instanceof QueryFindPublisherPreparer qfpp) {
+			mappedSort = ObjectUtils.isEmpty(qfpp.sortObject) ? null : getMappedSortObject(qfpp.sortObject, entityClass);
+			hint = qfpp.query.getHint();
+		}
+
+		ReadPreference readPreference = this.readPreference;
+
+		if (preparer.hasReadPreference()) {
+			readPreference = preparer.getReadPreference();
+		} else if (collectionPreparer instanceof ReadPreferenceAware rpa && rpa.hasReadPreference()) {
+			readPreference = rpa.getReadPreference();
+		}
+
+		recording.record(mappedQuery, mappedFields, mappedSort, hint, readPreference);
+	}
+
+	private static <T> DocumentCallback<T> profiled(DocumentCallback<T> callback, QueryProfiler.Recording recording) {
+
+		return document -> {
+
+			long start = System.nanoTime();
+			try {
+				return callback.doWith(document);
+			} finally {
+				recording.addConversionTime(System.nanoTime() - start);
+			}
+		};
 	}
 
 	protected CreateCollectionOptions convertToCreateCollectionOptions(@Nullable CollectionOptions collectionOptions) {
@@ -2790,11 +3084,18 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	 */
 	protected MongoCollection<Document> prepareCollection(MongoCollection<Document> collection) {
 
+		MongoCollection<Document> collectionToUse = collection;
+
 		if (this.readPreference != null && this.readPreference != collection.getReadPreference()) {
-			return collection.withReadPreference(readPreference);
+			collectionToUse = collectionToUse.withReadPreference(readPreference);
+		}
+
+		if (this.lazyDocumentDecoding) {
+			collectionToUse = collectionToUse
+					.withCodecRegistry(LazyDocumentCodec.withLazyDocuments(collectionToUse.getCodecRegistry()));
 		}
 
-		return collection;
+		return collectionToUse;
 	}
 
 	/**
@@ -2857,9 +3158,15 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	 */
 	private <T> Mono<T> executeFindOneInternal(ReactiveCollectionCallback<Document> collectionCallback,
 			DocumentCallback<T> objectCallback, String collectionName) {
+		return executeFindOneInternal(collectionCallback, objectCallback, collectionName, null);
+	}
+
+	private <T> Mono<T> executeFindOneInternal(ReactiveCollectionCallback<Document> collectionCallback,
+			DocumentCallback<T> objectCallback, String collectionName, @Nullable Class<?> entityType) {
 
 		return createMono(collectionName,
-				collection -> Mono.from(collectionCallback.doInCollection(collection)).flatMap(objectCallback::doWith));
+				collection -> resolveReferences(Mono.from(collectionCallback.doInCollection(collection)), entityType)
+						.flatMap(objectCallback::doWith));
 	}
 
 	/**
@@ -2882,13 +3189,49 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	 */
 	private <T> Flux<T> executeFindMultiInternal(ReactiveCollectionQueryCallback<Document> collectionCallback,
 			FindPublisherPreparer preparer, DocumentCallback<T> objectCallback, String collectionName) {
+		return executeFindMultiInternal(collectionCallback, preparer, objectCallback, collectionName, null);
+	}
+
+	private <T> Flux<T> executeFindMultiInternal(ReactiveCollectionQueryCallback<Document> collectionCallback,
+			FindPublisherPreparer preparer, DocumentCallback<T> objectCallback, String collectionName,
+			@Nullable Class<?> entityType) {
+		return executeFindMultiInternal(collectionCallback, preparer, objectCallback, collectionName, entityType,
+				preparer instanceof TailingQueryFindPublisherPreparer);
+	}
+
+	private <T> Flux<T> executeFindMultiInternal(ReactiveCollectionQueryCallback<Document> collectionCallback,
+			FindPublisherPreparer preparer, DocumentCallback<T> objectCallback, String collectionName,
+			@Nullable Class<?> entityType, boolean tailable) {
 
 		return createFlux(collectionName, collection -> {
-			return Flux.from(preparer.initiateFind(collection, collectionCallback::doInCollection))
-					.flatMapSequential(objectCallback::doWith);
+			return resolveReferences(Flux.from(preparer.initiateFind(collection, collectionCallback::doInCollection)),
+					entityType, tailable).flatMapSequential(objectCallback::doWith);
 		});
 	}
 
+	private Flux<Document> resolveReferences(Flux<Document> documents, @Nullable Class<?> entityType) {
+		return resolveReferences(documents, entityType, false);
+	}
+
+	private Flux<Document> resolveReferences(Flux<Document> documents, @Nullable Class<?> entityType,
+			boolean tailable) {
+
+		ReactiveReferenceResolver resolver = this.referenceResolver;
+
+		if (resolver == null || entityType == null) {
+			return documents;
+		}
+
+		// tailable cursors emit documents as they arrive and must not wait for a window to fill up
+		return tailable ? resolver.resolveEach(documents, entityType) : resolver.resolve(documents, entityType);
+	}
+
+	private Mono<Document> resolveReferences(Mono<Document> document, @Nullable Class<?> entityType) {
+
+		ReactiveReferenceResolver resolver = this.referenceResolver;
+		return resolver != null && entityType != null ? resolver.resolve(document, entityType) : document;
+	}
+
 	@SuppressWarnings("unchecked")
 	private <T, R> DocumentCallback<R> getResultReader(EntityProjection<T, ?> projection, String collectionName,
 			QueryResultConverter<? super T, ? extends R> resultConverter) {
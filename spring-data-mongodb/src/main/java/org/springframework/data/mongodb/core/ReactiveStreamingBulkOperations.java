@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import reactor.core.publisher.Mono;
+
+import java.util.function.BiConsumer;
+
+import org.reactivestreams.Publisher;
+
+import com.mongodb.bulk.BulkWriteResult;
+
+/**
+ * Writes a stream of elements as bulk operations in batches. Elements are collected into a {@link ReactiveBulkOperations}
+ * batch until the configured {@link StreamingBulkOptions#getBatchSize() operation count} or
+ * {@link StreamingBulkOptions#getMaxBatchBytes() size} is reached. Up to {@link StreamingBulkOptions#getMaxInFlight()}
+ * batches are written concurrently while further elements are requested from the source.
+ *
+ * <pre class="code">
+ * Mono&lt;BulkWriteResult&gt; result = template
+ * 		.streamingBulkOps(BulkMode.UNORDERED, Person.class, StreamingBulkOptions.flushEvery(1000).maxInFlight(4))
+ * 		.write(changes, (bulkOps, change) -&gt; bulkOps.replaceOne(query(where("id").is(change.getId())), change));
+ * </pre>
+ * <p>
+ * The resulting {@link Mono} emits a {@link BulkWriteResult} merged from all batches. Indexes reported by inserts,
+ * upserts and write errors refer to the position of the operation across all batches. Write errors of all batches are
+ * reported together through {@link org.springframework.data.mongodb.BulkOperationException}. For
+ * {@link BulkOperations.BulkMode#ORDERED ordered} operations, a failed batch cancels the source.
+ *
+ * @since 5.1
+ * @see StreamingBulkOptions
+ */
+public interface ReactiveStreamingBulkOperations {
+
+	/**
+	 * Write the elements emitted by the given {@link Publisher} applying {@code operation} to register the bulk
+	 * operations for each element.
+	 *
+	 * @param source the elements to write. Must not be {@literal null}.
+	 * @param operation callback registering operations for an element. Must not be {@literal null}.
+	 * @return a {@link Mono} emitting the merged result of all batches.
+	 */
+	<T> Mono<BulkWriteResult> write(Publisher<? extends T> source,
+			BiConsumer<ReactiveBulkOperations, ? super T> operation);
+
+	/**
+	 * Insert the elements emitted by the given {@link Publisher}.
+	 *
+	 * @param documents the documents to insert. Must not be {@literal null}.
+	 * @return a {@link Mono} emitting the merged result of all batches.
+	 */
+	default Mono<BulkWriteResult> insert(Publisher<?> documents) {
+		return write(documents, ReactiveBulkOperations::insert);
+	}
+}
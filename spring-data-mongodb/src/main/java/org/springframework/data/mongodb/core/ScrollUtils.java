@@ -17,18 +17,24 @@ package org.springframework.data.mongodb.core;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.IntFunction;
 
 import org.bson.BsonNull;
 import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.jspecify.annotations.Nullable;
 import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.ScrollPosition.Direction;
 import org.springframework.data.domain.Window;
 import org.springframework.data.mongodb.core.EntityOperations.Entity;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.util.BsonUtils;
 import org.springframework.lang.CheckReturnValue;
 import org.springframework.util.Assert;
 
@@ -107,6 +113,115 @@ class ScrollUtils {
 
 	}
 
+	/**
+	 * Mapped keyset query for {@link KeysetScrollPosition#scrollsForward() forward} scrolling across all windows of a
+	 * query. Filter, projection and sort are mapped once. Keyset values of subsequent windows are taken from the last
+	 * raw document of the previous window so that they do not require conversion and mapping.
+	 */
+	static class MappedKeysetQuery {
+
+		static final int DEFAULT_WINDOW_SIZE = 1000;
+
+		private static final KeysetScrollDirector DIRECTOR = KeysetScrollDirector.of(Direction.FORWARD);
+
+		private final Document query;
+		private final Document fields;
+		private final Document sort;
+		private final Map<String, Object> keys;
+		private final int windowSize;
+
+		MappedKeysetQuery(Document query, Document fields, Document sort, Map<String, Object> keys, int windowSize) {
+
+			this.query = query;
+			this.fields = DIRECTOR.getFieldsObject(fields, sort);
+			this.sort = sort;
+			this.keys = keys;
+			this.windowSize = windowSize;
+		}
+
+		/**
+		 * Create a {@link MappedKeysetQuery} for the given {@link Query}.
+		 *
+		 * @param query the query to scroll. Can start from a forward {@link KeysetScrollPosition}.
+		 * @param idPropertyName name of the identifier property used as tie-breaker.
+		 * @param queryMapper mapper for the sort and keyset values.
+		 * @param mappedQuery the mapped filter.
+		 * @param mappedFields the mapped projection.
+		 * @param entity the queried entity. Can be {@literal null}.
+		 * @return the mapped keyset query.
+		 */
+		static MappedKeysetQuery of(Query query, String idPropertyName, QueryMapper queryMapper, Document mappedQuery,
+				Document mappedFields, @Nullable MongoPersistentEntity<?> entity) {
+
+			KeysetScrollPosition keyset = query.getKeyset();
+
+			Assert.isTrue(keyset == null || keyset.scrollsForward(), "Scrolling all windows requires forward scrolling");
+			Assert.isTrue(query.getSkip() == 0, "Scrolling all windows does not support skip");
+
+			Document sort = queryMapper.getMappedSort(DIRECTOR.getSortObject(idPropertyName, query), entity);
+			Map<String, Object> keys = keyset == null || keyset.getKeys().isEmpty() ? Collections.emptyMap()
+					: queryMapper.getMappedObject(new Document(keyset.getKeys()), entity);
+
+			return new MappedKeysetQuery(mappedQuery, mappedFields, sort, keys,
+					query.isLimited() ? query.getLimit() : DEFAULT_WINDOW_SIZE);
+		}
+
+		/**
+		 * @return the filter for the first window.
+		 */
+		Document createInitialQuery() {
+			return createQuery(keys);
+		}
+
+		/**
+		 * Create the filter for the window following the given mapped keyset values.
+		 *
+		 * @param keys mapped keyset values. An empty {@link Map} to start at the beginning.
+		 * @return the filter {@link Document}.
+		 */
+		Document createQuery(Map<String, Object> keys) {
+			return DIRECTOR.createQuery(ScrollPosition.forward(keys), query, sort);
+		}
+
+		/**
+		 * Extract the mapped keyset values from the given raw document.
+		 *
+		 * @param document the last document of a window.
+		 * @return the keyset values.
+		 * @throws IllegalStateException if the document does not hold a value for a sort key.
+		 */
+		Map<String, Object> extractKeys(Document document) {
+
+			Map<String, Object> keys = new LinkedHashMap<>(sort.size());
+
+			for (String key : sort.keySet()) {
+
+				Object value = BsonUtils.resolveValue((Bson) document, key);
+
+				if (value == null) {
+					throw new IllegalStateException(
+							"Cannot resume from document. Offending key: '%s' is 'null' or absent".formatted(key));
+				}
+
+				keys.put(key, value);
+			}
+
+			return keys;
+		}
+
+		Document getFields() {
+			return fields;
+		}
+
+		Document getSort() {
+			return sort;
+		}
+
+		int getWindowSize() {
+			return windowSize;
+		}
+	}
+
 	/**
 	 * Director for keyset scrolling.
 	 */
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import com.mongodb.bulk.BulkWriteResult;
+
+/**
+ * {@link BulkOperations} that automatically flush collected operations to the server once the configured
+ * {@link StreamingBulkOptions#getBatchSize() operation count} or {@link StreamingBulkOptions#getMaxBatchBytes() size}
+ * is reached instead of holding all operations until {@link #execute()}. Flushes run asynchronously while further
+ * operations are added, bounded by {@link StreamingBulkOptions#getMaxInFlight()}. Flushes run synchronously on the
+ * calling thread while the template is bound to a session or transaction.
+ *
+ * <pre class="code">
+ * StreamingBulkOperations bulkOps = template.streamingBulkOps(BulkMode.UNORDERED, Person.class,
+ * 		StreamingBulkOptions.flushEvery(1000).maxInFlight(4));
+ *
+ * changes.forEach(bulkOps::insert);
+ *
+ * BulkWriteResult result = bulkOps.execute();
+ * </pre>
+ * <p>
+ * {@link #execute()} flushes remaining operations, awaits all flushes and returns a {@link BulkWriteResult} merged
+ * from all flushes. Indexes reported by inserts, upserts and write errors refer to the position of the operation
+ * across all flushes. Write errors of all flushes are reported together through
+ * {@link org.springframework.data.mongodb.BulkOperationException}. For {@link BulkMode#ORDERED ordered} operations, a
+ * failed flush cancels further processing and subsequent calls fail with the error of the failed flush.
+ * <p>
+ * Instances are not thread-safe and must not be shared across threads adding operations.
+ *
+ * @since 5.1
+ * @see StreamingBulkOptions
+ */
+public interface StreamingBulkOperations extends BulkOperations {
+
+	/**
+	 * Send operations collected so far to the server without waiting for the flush to complete. Blocks if the maximum
+	 * number of flushes is in flight.
+	 *
+	 * @return the current {@link StreamingBulkOperations} instance.
+	 * @throws org.springframework.data.mongodb.BulkOperationException if a previous flush of an ordered bulk operation
+	 *           failed.
+	 */
+	StreamingBulkOperations flush();
+
+	/**
+	 * Flush remaining operations and await completion of all flushes.
+	 *
+	 * @return the merged result of all flushes.
+	 * @throws org.springframework.data.mongodb.BulkOperationException if an error occurred during bulk processing.
+	 */
+	@Override
+	BulkWriteResult execute();
+}
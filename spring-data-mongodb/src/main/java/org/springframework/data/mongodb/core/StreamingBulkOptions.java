@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Options for {@link StreamingBulkOperations} and {@link ReactiveStreamingBulkOperations} defining when collected
+ * operations are flushed to the server and how many flushes may be in flight concurrently.
+ *
+ * <pre class="code">
+ * StreamingBulkOptions options = StreamingBulkOptions.flushEvery(1000).flushAtBytes(16 * 1024 * 1024).maxInFlight(4);
+ * </pre>
+ *
+ * @since 5.1
+ * @see StreamingBulkOperations
+ * @see ReactiveStreamingBulkOperations
+ */
+public final class StreamingBulkOptions {
+
+	private static final int DEFAULT_BATCH_SIZE = 1000;
+
+	private static final StreamingBulkOptions DEFAULT = new StreamingBulkOptions(DEFAULT_BATCH_SIZE, -1, 1, null);
+
+	private final int batchSize;
+	private final long maxBatchBytes;
+	private final int maxInFlight;
+	private final @Nullable Executor executor;
+
+	private StreamingBulkOptions(int batchSize, long maxBatchBytes, int maxInFlight, @Nullable Executor executor) {
+
+		this.batchSize = batchSize;
+		this.maxBatchBytes = maxBatchBytes;
+		this.maxInFlight = maxInFlight;
+		this.executor = executor;
+	}
+
+	/**
+	 * Default options flushing every {@literal 1000} operations with a single flush in flight.
+	 *
+	 * @return the default {@link StreamingBulkOptions}.
+	 */
+	public static StreamingBulkOptions defaults() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Create new {@link StreamingBulkOptions} flushing every {@code batchSize} operations.
+	 *
+	 * @param batchSize number of operations per flush. Must be greater than zero.
+	 * @return new instance of {@link StreamingBulkOptions}.
+	 */
+	public static StreamingBulkOptions flushEvery(int batchSize) {
+		return DEFAULT.batchSize(batchSize);
+	}
+
+	/**
+	 * Flush every {@code batchSize} operations.
+	 *
+	 * @param batchSize number of operations per flush. Must be greater than zero.
+	 * @return new instance of {@link StreamingBulkOptions}.
+	 */
+	public StreamingBulkOptions batchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero");
+
+		return new StreamingBulkOptions(batchSize, maxBatchBytes, maxInFlight, executor);
+	}
+
+	/**
+	 * Additionally flush once the estimated BSON size of collected operations reaches {@code maxBatchBytes}. Estimating
+	 * the size requires encoding documents an additional time. {@link ReactiveStreamingBulkOperations} only estimate the
+	 * size of {@link org.bson.conversions.Bson} elements as entities are mapped when the batch is written.
+	 *
+	 * @param maxBatchBytes the size threshold in bytes. Must be greater than zero.
+	 * @return new instance of {@link StreamingBulkOptions}.
+	 */
+	public StreamingBulkOptions flushAtBytes(long maxBatchBytes) {
+
+		Assert.isTrue(maxBatchBytes > 0, "Max batch bytes must be greater than zero");
+
+		return new StreamingBulkOptions(batchSize, maxBatchBytes, maxInFlight, executor);
+	}
+
+	/**
+	 * Allow up to {@code maxInFlight} flushes to run concurrently. Adding operations blocks (respectively awaits demand)
+	 * while the limit is reached. {@link BulkOperations.BulkMode#ORDERED Ordered} bulk operations always use a single
+	 * flush in flight to retain the order of operations.
+	 *
+	 * @param maxInFlight maximum number of concurrent flushes. Must be greater than zero.
+	 * @return new instance of {@link StreamingBulkOptions}.
+	 */
+	public StreamingBulkOptions maxInFlight(int maxInFlight) {
+
+		Assert.isTrue(maxInFlight > 0, "Max in flight must be greater than zero");
+
+		return new StreamingBulkOptions(batchSize, maxBatchBytes, maxInFlight, executor);
+	}
+
+	/**
+	 * Use the given {@link Executor} to run flushes of {@link StreamingBulkOperations}. Not used by
+	 * {@link ReactiveStreamingBulkOperations} and while the template is bound to a session or transaction as flushes run
+	 * on the calling thread then.
+	 *
+	 * @param executor must not be {@literal null}.
+	 * @return new instance of {@link StreamingBulkOptions}.
+	 */
+	public StreamingBulkOptions executor(Executor executor) {
+
+		Assert.notNull(executor, "Executor must not be null");
+
+		return new StreamingBulkOptions(batchSize, maxBatchBytes, maxInFlight, executor);
+	}
+
+	/**
+	 * @return the number of operations per flush.
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * @return the size threshold in bytes or {@literal -1} if flushes are not bounded by size.
+	 */
+	public long getMaxBatchBytes() {
+		return maxBatchBytes;
+	}
+
+	/**
+	 * @return {@literal true} if flushes are bounded by the estimated size of collected operations.
+	 */
+	public boolean hasMaxBatchBytes() {
+		return maxBatchBytes > 0;
+	}
+
+	/**
+	 * @return the maximum number of concurrent flushes.
+	 */
+	public int getMaxInFlight() {
+		return maxInFlight;
+	}
+
+	/**
+	 * @return the configured {@link Executor} or {@literal null} to use the default one.
+	 */
+	public @Nullable Executor getExecutor() {
+		return executor;
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof StreamingBulkOptions that)) {
+			return false;
+		}
+		return batchSize == that.batchSize && maxBatchBytes == that.maxBatchBytes && maxInFlight == that.maxInFlight
+				&& ObjectUtils.nullSafeEquals(executor, that.executor);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(batchSize, maxBatchBytes, maxInFlight, executor);
+	}
+
+	@Override
+	public String toString() {
+		return "StreamingBulkOptions{batchSize=" + batchSize + ", maxBatchBytes=" + maxBatchBytes + ", maxInFlight="
+				+ maxInFlight + '}';
+	}
+}
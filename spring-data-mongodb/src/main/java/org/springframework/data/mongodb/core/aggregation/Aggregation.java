@@ -794,6 +794,29 @@ public class Aggregation {
 		return Fields.from(field(name, target));
 	}
 
+	/**
+	 * Creates a new {@link AggregationParameter} slot to be bound when executing a {@link PreparedAggregation}.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @return new instance of {@link AggregationParameter}.
+	 * @since 5.1
+	 */
+	public static AggregationParameter parameter(String name) {
+		return AggregationParameter.parameter(name);
+	}
+
+	/**
+	 * Creates a new typed {@link AggregationParameter} slot to be bound when executing a {@link PreparedAggregation}.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @param type the type of accepted values.
+	 * @return new instance of {@link AggregationParameter}.
+	 * @since 5.1
+	 */
+	public static AggregationParameter parameter(String name, Class<?> type) {
+		return AggregationParameter.parameter(name, type);
+	}
+
 	/**
 	 * Returns a new {@link AggregationOptions.Builder}.
 	 *
@@ -70,6 +70,7 @@ public class AggregationOptions implements ReadConcernAware, ReadPreferenceAware
 	private Duration maxTime = Duration.ZERO;
 	private ResultOptions resultOptions = ResultOptions.READ;
 	private DomainTypeMapping domainTypeMapping = DomainTypeMapping.RELAXED;
+	private int prefetch = 0;
 
 	/**
 	 * Creates a new {@link AggregationOptions}.
@@ -352,6 +353,23 @@ public class AggregationOptions implements ReadConcernAware, ReadPreferenceAware
 		return domainTypeMapping;
 	}
 
+	/**
+	 * @return the number of cursor batches to fetch ahead of the consumer when streaming results. {@literal 0} if
+	 *         results are fetched on demand.
+	 * @since 5.1
+	 */
+	public int getPrefetch() {
+		return prefetch;
+	}
+
+	/**
+	 * @return {@literal true} if cursor batches are fetched ahead of the consumer when streaming results.
+	 * @since 5.1
+	 */
+	public boolean hasPrefetch() {
+		return prefetch > 0;
+	}
+
 	/**
 	 * Returns a new potentially adjusted copy for the given {@code aggregationCommandObject} with the configuration
 	 * applied.
@@ -451,6 +469,7 @@ public class AggregationOptions implements ReadConcernAware, ReadPreferenceAware
 		private @Nullable Duration maxTime;
 		private @Nullable ResultOptions resultOptions;
 		private @Nullable DomainTypeMapping domainTypeMapping;
+		private int prefetch;
 
 		/**
 		 * Defines whether to off-load intensive sort-operations to disk.
@@ -618,6 +637,25 @@ public class AggregationOptions implements ReadConcernAware, ReadPreferenceAware
 			return this;
 		}
 
+		/**
+		 * Fetch the given number of cursor batches ahead of the consumer when streaming results so that the next
+		 * {@code getMore} is in flight while the current batch is converted. Prefetched batches are buffered in memory.
+		 * Each batch is bound by the {@link #cursorBatchSize(int) cursor batch size} and the server side batch size limit
+		 * of 16 MB.
+		 *
+		 * @param batches number of batches to prefetch. {@literal 0} (default) fetches batches on demand.
+		 * @return this.
+		 * @since 5.1
+		 */
+		@Contract("_ -> this")
+		public Builder prefetch(int batches) {
+
+			Assert.isTrue(batches >= 0, "Prefetch must not be negative");
+
+			this.prefetch = batches;
+			return this;
+		}
+
 		/**
 		 * Run the aggregation, but do NOT read the aggregation result from the store. <br />
 		 * If the expected result of the aggregation is rather large, eg. when using an {@literal $out} operation, this
@@ -698,6 +736,7 @@ public class AggregationOptions implements ReadConcernAware, ReadPreferenceAware
 			if (readPreference != null) {
 				options.readPreference = Optional.of(readPreference);
 			}
+			options.prefetch = prefetch;
 
 			return options;
 		}
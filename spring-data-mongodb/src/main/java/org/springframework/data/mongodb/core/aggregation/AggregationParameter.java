@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.aggregation;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Named parameter slot within an {@link Aggregation} that is rendered once by a {@link PreparedAggregation} and bound
+ * to a value on each execution. Parameters are passed on as-is during rendering and can be used wherever an
+ * {@link Aggregation} accepts values, such as {@link org.springframework.data.mongodb.core.query.Criteria criteria}
+ * values of a {@link MatchOperation}.
+ *
+ * <pre class="code">
+ * match(where("lastname").is(parameter("lastname", String.class)))
+ * </pre>
+ *
+ * @since 5.1
+ * @see Aggregation#parameter(String)
+ * @see PreparedAggregation
+ */
+public final class AggregationParameter {
+
+	private final String name;
+	private final @Nullable Class<?> type;
+
+	private AggregationParameter(String name, @Nullable Class<?> type) {
+
+		this.name = name;
+		this.type = type;
+	}
+
+	/**
+	 * Create a new {@link AggregationParameter} accepting values of any type.
+	 *
+	 * @param name must not be {@literal null} or empty and must not start with {@code $} or contain {@code .}.
+	 * @return new instance of {@link AggregationParameter}.
+	 */
+	public static AggregationParameter parameter(String name) {
+		return parameter(name, null);
+	}
+
+	/**
+	 * Create a new {@link AggregationParameter} accepting values of the given type or collections of values of the
+	 * given type.
+	 *
+	 * @param name must not be {@literal null} or empty and must not start with {@code $} or contain {@code .}.
+	 * @param type the type of accepted values. Can be {@literal null} to accept values of any type.
+	 * @return new instance of {@link AggregationParameter}.
+	 */
+	public static AggregationParameter parameter(String name, @Nullable Class<?> type) {
+
+		Assert.isTrue(StringUtils.hasText(name), "Parameter name must not be null or empty");
+		Assert.isTrue(!name.startsWith("$") && !name.contains("."),
+				() -> String.format("Parameter name '%s' must not start with '$' or contain '.'", name));
+
+		return new AggregationParameter(name, type);
+	}
+
+	/**
+	 * @return the parameter name.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return the type of accepted values or {@literal null} if values of any type are accepted.
+	 */
+	public @Nullable Class<?> getType() {
+		return type;
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		if (!(o instanceof AggregationParameter that)) {
+			return false;
+		}
+
+		return name.equals(that.name) && ObjectUtils.nullSafeEquals(type, that.type);
+	}
+
+	@Override
+	public int hashCode() {
+		return ObjectUtils.nullSafeHash(name, type);
+	}
+
+	@Override
+	public String toString() {
+		return "?" + name;
+	}
+}
@@ -0,0 +1,372 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.aggregation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bson.Document;
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * An {@link Aggregation} rendered once into a pipeline with {@link AggregationParameter parameter slots} that are
+ * bound to values on each execution. Rendering an {@link Aggregation} resolves field references and maps criteria
+ * against the domain type on every execution. A {@link PreparedAggregation} caches the rendered pipeline per rendering
+ * context so that executions only bind parameter values.
+ *
+ * <pre class="code">
+ * PreparedAggregation prepared = PreparedAggregation.of(newAggregation(Order.class,
+ * 		match(where("customerId").is(parameter("customerId"))),
+ * 		group("status").sum("total").as("total")));
+ *
+ * template.aggregate(prepared.bind("customerId", customerId), Summary.class);
+ * </pre>
+ *
+ * Bound values are converted with the {@link org.springframework.data.mongodb.core.convert.MongoConverter} of the
+ * template without considering property specific mapping metadata such as
+ * {@link org.springframework.data.mongodb.core.mapping.Field#targetType() target types}. A parameter that is the only
+ * value of an {@code $in}, {@code $nin} or {@code $all} operator is expanded when bound to a {@link Collection}.
+ * <p>
+ * Rendered stages without parameters are shared across executions. {@link AggregationOptions} need to be applied to
+ * the {@link Aggregation} before preparing it.
+ *
+ * @since 5.1
+ * @see AggregationParameter
+ */
+public class PreparedAggregation {
+
+	private static final int MAX_RENDERINGS = 16;
+	private static final Set<String> EXPANDING_OPERATORS = Set.of("$in", "$nin", "$all");
+
+	private final Aggregation aggregation;
+	private final Map<Object, RenderedPipeline> renderings = new ConcurrentHashMap<>();
+
+	private PreparedAggregation(Aggregation aggregation) {
+		this.aggregation = aggregation;
+	}
+
+	/**
+	 * Prepare the given {@link Aggregation}.
+	 *
+	 * @param aggregation must not be {@literal null}.
+	 * @return new instance of {@link PreparedAggregation}.
+	 */
+	public static PreparedAggregation of(Aggregation aggregation) {
+
+		Assert.notNull(aggregation, "Aggregation must not be null");
+		return new PreparedAggregation(aggregation);
+	}
+
+	/**
+	 * @return the prepared {@link Aggregation}.
+	 */
+	public Aggregation getAggregation() {
+		return aggregation;
+	}
+
+	/**
+	 * Bind the given value to the single parameter of the prepared {@link Aggregation}.
+	 *
+	 * @param name the parameter name.
+	 * @param value the value to bind. Can be {@literal null}.
+	 * @return a new {@link Aggregation} with the given value bound.
+	 */
+	public Aggregation bind(String name, @Nullable Object value) {
+		return bind(Collections.singletonMap(name, value));
+	}
+
+	/**
+	 * Bind the given values to the parameters of the prepared {@link Aggregation}. Values need to be provided for all
+	 * parameters.
+	 *
+	 * @param values parameter values by parameter name. Must not be {@literal null}.
+	 * @return a new {@link Aggregation} with the given values bound.
+	 */
+	public Aggregation bind(Map<String, ? extends @Nullable Object> values) {
+
+		Assert.notNull(values, "Values must not be null");
+
+		Map<String, @Nullable Object> bindings = new LinkedHashMap<>(values);
+
+		if (aggregation instanceof TypedAggregation<?> typedAggregation) {
+			return new BoundTypedAggregation<>(typedAggregation.getInputType(), this, bindings, aggregation.getOptions());
+		}
+
+		return new BoundAggregation(this, bindings, aggregation.getOptions());
+	}
+
+	/**
+	 * Render the pipeline for the given {@link AggregationOperationContext} and bind the given values.
+	 */
+	List<Document> toPipeline(AggregationOperationContext context, Map<String, @Nullable Object> values) {
+
+		Object key = getRenderingKey(context);
+		RenderedPipeline rendered = key != null ? renderings.get(key) : null;
+
+		if (rendered == null) {
+
+			rendered = RenderedPipeline.render(aggregation, context);
+
+			if (key != null && renderings.size() < MAX_RENDERINGS) {
+				renderings.putIfAbsent(key, rendered);
+			}
+		}
+
+		return rendered.bind(values, context);
+	}
+
+	/**
+	 * @return the number of cached renderings.
+	 */
+	int getRenderingCount() {
+		return renderings.size();
+	}
+
+	private static @Nullable Object getRenderingKey(AggregationOperationContext context) {
+
+		if (context instanceof TypeBasedAggregationOperationContext typeBasedContext) {
+			return typeBasedContext.getRenderingKey();
+		}
+
+		return context == Aggregation.DEFAULT_CONTEXT ? context : null;
+	}
+
+	/**
+	 * A rendered pipeline along with its {@link AggregationParameter parameters} and the containers holding them.
+	 */
+	private static class RenderedPipeline {
+
+		private final List<Document> pipeline;
+		private final Map<String, AggregationParameter> parameters;
+		private final Set<Object> parameterContainers;
+
+		private RenderedPipeline(List<Document> pipeline, Map<String, AggregationParameter> parameters,
+				Set<Object> parameterContainers) {
+
+			this.pipeline = pipeline;
+			this.parameters = parameters;
+			this.parameterContainers = parameterContainers;
+		}
+
+		static RenderedPipeline render(Aggregation aggregation, AggregationOperationContext context) {
+
+			List<Document> pipeline = aggregation.toPipeline(context);
+			Map<String, AggregationParameter> parameters = new LinkedHashMap<>();
+			Set<Object> containers = Collections.newSetFromMap(new IdentityHashMap<>());
+
+			for (Document stage : pipeline) {
+				collectParameters(stage, parameters, containers);
+			}
+
+			return new RenderedPipeline(pipeline, parameters, containers);
+		}
+
+		List<Document> bind(Map<String, @Nullable Object> values, AggregationOperationContext context) {
+
+			for (String name : values.keySet()) {
+				Assert.isTrue(parameters.containsKey(name),
+						() -> String.format("Aggregation does not declare parameter '%s'", name));
+			}
+
+			for (AggregationParameter parameter : parameters.values()) {
+
+				Assert.isTrue(values.containsKey(parameter.getName()),
+						() -> String.format("No value bound for parameter '%s'", parameter.getName()));
+				validate(parameter, values.get(parameter.getName()));
+			}
+
+			if (parameters.isEmpty()) {
+				return new ArrayList<>(pipeline);
+			}
+
+			Document converted = context.getMappedObject(new Document(values), null);
+			List<Document> bound = new ArrayList<>(pipeline.size());
+
+			for (Document stage : pipeline) {
+				bound.add((Document) bindValue(stage, converted));
+			}
+
+			return bound;
+		}
+
+		private @Nullable Object bindValue(@Nullable Object value, Document values) {
+
+			if (value instanceof AggregationParameter parameter) {
+				return values.get(parameter.getName());
+			}
+
+			if (!parameterContainers.contains(value)) {
+				return value;
+			}
+
+			if (value instanceof Map<?, ?> map) {
+
+				Map<String, @Nullable Object> target = value instanceof Document ? new Document() : new LinkedHashMap<>();
+
+				for (Map.Entry<?, ?> entry : map.entrySet()) {
+
+					String key = entry.getKey().toString();
+					Object expanded = EXPANDING_OPERATORS.contains(key) ? getExpandedValue(entry.getValue(), values) : null;
+					target.put(key, expanded != null ? expanded : bindValue(entry.getValue(), values));
+				}
+
+				return target;
+			}
+
+			if (value instanceof Collection<?> collection) {
+
+				List<@Nullable Object> target = new ArrayList<>(collection.size());
+				for (Object element : collection) {
+					target.add(bindValue(element, values));
+				}
+				return target;
+			}
+
+			return value;
+		}
+
+		private static @Nullable Object getExpandedValue(@Nullable Object value, Document values) {
+
+			if (value instanceof List<?> list && list.size() == 1
+					&& list.get(0) instanceof AggregationParameter parameter
+					&& values.get(parameter.getName()) instanceof Collection<?> collection) {
+				return new ArrayList<>(collection);
+			}
+
+			return null;
+		}
+
+		private static void validate(AggregationParameter parameter, @Nullable Object value) {
+
+			Class<?> type = parameter.getType();
+
+			if (type == null || value == null) {
+				return;
+			}
+
+			if (value instanceof Collection<?> collection && !Collection.class.isAssignableFrom(type)) {
+
+				for (Object element : collection) {
+					validate(parameter, element);
+				}
+				return;
+			}
+
+			Assert.isTrue(ClassUtils.isAssignableValue(type, value),
+					() -> String.format("Value %s of parameter '%s' is not of type %s", value, parameter.getName(),
+							type.getName()));
+		}
+
+		private static boolean collectParameters(@Nullable Object value, Map<String, AggregationParameter> parameters,
+				Set<Object> containers) {
+
+			if (value instanceof AggregationParameter parameter) {
+
+				AggregationParameter existing = parameters.putIfAbsent(parameter.getName(), parameter);
+
+				Assert.isTrue(existing == null || existing.equals(parameter),
+						() -> String.format("Parameter '%s' is declared with different types", parameter.getName()));
+				return true;
+			}
+
+			boolean containsParameter = false;
+
+			if (value instanceof Map<?, ?> map) {
+				for (Object element : map.values()) {
+					containsParameter |= collectParameters(element, parameters, containers);
+				}
+			} else if (value instanceof Collection<?> collection) {
+				for (Object element : collection) {
+					containsParameter |= collectParameters(element, parameters, containers);
+				}
+			}
+
+			if (containsParameter) {
+				containers.add(value);
+			}
+
+			return containsParameter;
+		}
+	}
+
+	/**
+	 * {@link Aggregation} rendering a {@link PreparedAggregation} with bound values.
+	 */
+	private static class BoundAggregation extends Aggregation {
+
+		private final PreparedAggregation prepared;
+		private final Map<String, @Nullable Object> values;
+
+		BoundAggregation(PreparedAggregation prepared, Map<String, @Nullable Object> values, AggregationOptions options) {
+
+			super(prepared.aggregation.getPipeline().getOperations(), options);
+
+			this.prepared = prepared;
+			this.values = values;
+		}
+
+		@Override
+		public Aggregation withOptions(AggregationOptions options) {
+
+			Assert.notNull(options, "AggregationOptions must not be null");
+			return new BoundAggregation(prepared, values, options);
+		}
+
+		@Override
+		public List<Document> toPipeline(AggregationOperationContext rootContext) {
+			return prepared.toPipeline(rootContext, values);
+		}
+	}
+
+	/**
+	 * {@link TypedAggregation} rendering a {@link PreparedAggregation} with bound values.
+	 */
+	private static class BoundTypedAggregation<I> extends TypedAggregation<I> {
+
+		private final PreparedAggregation prepared;
+		private final Map<String, @Nullable Object> values;
+
+		BoundTypedAggregation(Class<I> inputType, PreparedAggregation prepared, Map<String, @Nullable Object> values,
+				AggregationOptions options) {
+
+			super(inputType, prepared.aggregation.getPipeline().getOperations(), options);
+
+			this.prepared = prepared;
+			this.values = values;
+		}
+
+		@Override
+		public TypedAggregation<I> withOptions(AggregationOptions options) {
+
+			Assert.notNull(options, "AggregationOptions must not be null");
+			return new BoundTypedAggregation<>(getInputType(), prepared, values, options);
+		}
+
+		@Override
+		public List<Document> toPipeline(AggregationOperationContext rootContext) {
+			return prepared.toPipeline(rootContext, values);
+		}
+	}
+}
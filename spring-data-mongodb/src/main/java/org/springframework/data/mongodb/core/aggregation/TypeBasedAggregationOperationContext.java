@@ -117,6 +117,15 @@ public class TypeBasedAggregationOperationContext implements AggregationOperatio
 		this.lookupPolicy = lookupPolicy;
 	}
 
+	/**
+	 * @return key identifying how this context renders aggregation operations. Contexts with equal keys render the same
+	 *         operations to the same pipeline.
+	 * @since 5.1
+	 */
+	Object getRenderingKey() {
+		return List.of(getClass(), type, mappingContext, mapper, lookupPolicy);
+	}
+
 	@Override
 	public Document getMappedObject(Document document) {
 		return getMappedObject(document, type);
@@ -15,6 +15,11 @@
  */
 package org.springframework.data.mongodb.core.bulk;
 
+import java.util.concurrent.Executor;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
 /**
  * Options for executing a {@link Bulk} write, such as whether operations run in {@link Order#ORDERED ordered} or
  * {@link Order#UNORDERED unordered} mode.
@@ -24,10 +29,20 @@ package org.springframework.data.mongodb.core.bulk;
  */
 public class BulkWriteOptions {
 
+	private static final int DEFAULT_MAX_CONCURRENCY = 8;
+
 	private final Order order;
+	private final int perCollectionConcurrency;
+	private final @Nullable Executor executor;
 
 	BulkWriteOptions(Order order) {
+		this(order, 0, null);
+	}
+
+	private BulkWriteOptions(Order order, int perCollectionConcurrency, @Nullable Executor executor) {
 		this.order = order;
+		this.perCollectionConcurrency = perCollectionConcurrency;
+		this.executor = executor;
 	}
 
 	/**
@@ -58,6 +73,86 @@ public class BulkWriteOptions {
 		return order;
 	}
 
+	/**
+	 * Returns options writing a {@link Bulk} that spans multiple collections through one collection level bulk write per
+	 * collection instead of a single client level bulk write. Use this for servers prior to MongoDB 8.0 that do not
+	 * support bulk writes across multiple collections. Collections of an {@link Order#UNORDERED unordered} bulk are written
+	 * concurrently using up to {@literal 8} concurrent writes. Collections of an {@link Order#ORDERED ordered} bulk are
+	 * written one after the other in the order of their first operation.
+	 *
+	 * @return new instance of {@link BulkWriteOptions}; never {@literal null}.
+	 * @since 5.1
+	 */
+	public BulkWriteOptions perCollection() {
+		return perCollection(DEFAULT_MAX_CONCURRENCY);
+	}
+
+	/**
+	 * Returns options writing a {@link Bulk} that spans multiple collections through one collection level bulk write per
+	 * collection, writing collections of an {@link Order#UNORDERED unordered} bulk using up to {@code maxConcurrency}
+	 * concurrent writes on a shared thread pool.
+	 *
+	 * @param maxConcurrency maximum number of collections written concurrently. Must be greater than zero.
+	 * @return new instance of {@link BulkWriteOptions}; never {@literal null}.
+	 * @since 5.1
+	 * @see #perCollection()
+	 */
+	public BulkWriteOptions perCollection(int maxConcurrency) {
+
+		Assert.isTrue(maxConcurrency > 0, "Max concurrency must be greater than zero");
+		return new BulkWriteOptions(order, maxConcurrency, executor);
+	}
+
+	/**
+	 * Returns options writing a {@link Bulk} that spans multiple collections through one collection level bulk write per
+	 * collection, writing collections of an {@link Order#UNORDERED unordered} bulk using up to {@code maxConcurrency}
+	 * concurrent writes on the given {@link Executor}.
+	 *
+	 * @param maxConcurrency maximum number of collections written concurrently. Must be greater than zero.
+	 * @param executor the {@link Executor} to run concurrent writes on. Must not be {@literal null}.
+	 * @return new instance of {@link BulkWriteOptions}; never {@literal null}.
+	 * @since 5.1
+	 * @see #perCollection(int)
+	 */
+	public BulkWriteOptions perCollection(int maxConcurrency, Executor executor) {
+
+		Assert.isTrue(maxConcurrency > 0, "Max concurrency must be greater than zero");
+		Assert.notNull(executor, "Executor must not be null");
+		return new BulkWriteOptions(order, maxConcurrency, executor);
+	}
+
+	/**
+	 * Returns whether a {@link Bulk} spanning multiple collections is written through one bulk write per collection.
+	 *
+	 * @return {@literal true} if writes are dispatched per collection.
+	 * @since 5.1
+	 */
+	public boolean isPerCollection() {
+		return perCollectionConcurrency > 0;
+	}
+
+	/**
+	 * Returns the maximum number of collections written concurrently when writing {@link #isPerCollection() per
+	 * collection}. Collections of {@link Order#ORDERED ordered} bulks are always written one after the other.
+	 *
+	 * @return the maximum number of concurrent per collection writes.
+	 * @since 5.1
+	 */
+	public int getMaxConcurrency() {
+		return order == Order.ORDERED ? 1 : Math.max(perCollectionConcurrency, 1);
+	}
+
+	/**
+	 * Returns the {@link Executor} to write collections concurrently on when writing {@link #isPerCollection() per
+	 * collection}.
+	 *
+	 * @return the configured {@link Executor} or {@literal null} to use a shared default one.
+	 * @since 5.1
+	 */
+	public @Nullable Executor getExecutor() {
+		return executor;
+	}
+
 	/**
 	 * Execution order for bulk write operations.
 	 */
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.convert.TypeInformationMapper;
+import org.springframework.data.core.TypeInformation;
+import org.springframework.data.mapping.Alias;
+import org.springframework.data.mongodb.MongoManagedTypes;
+import org.springframework.util.Assert;
+
+/**
+ * {@link TypeInformationMapper} using a fixed registry of compact type aliases, such as short names or numbers,
+ * instead of fully qualified class names. Aliases are registered upfront, typically from {@link MongoManagedTypes},
+ * so that reading a type hint is a plain map lookup. Numeric aliases are written as they are registered and matched
+ * regardless of whether they are read back as {@link Integer} or {@link Long}.
+ * <p>
+ * Aliases are persisted with the documents and must therefore remain stable across application versions. Register
+ * this mapper ahead of a {@link org.springframework.data.convert.SimpleTypeInformationMapper} with
+ * {@link DefaultMongoTypeMapper} to keep reading documents that carry fully qualified class names.
+ *
+ * @since 5.1
+ * @see DefaultMongoTypeMapper#DefaultMongoTypeMapper(String, org.springframework.data.mapping.context.MappingContext,
+ *      java.util.function.UnaryOperator, java.util.List)
+ */
+public class CompactTypeInformationMapper implements TypeInformationMapper {
+
+	private final Map<Class<?>, Alias> typeToAlias;
+	private final Map<Object, TypeInformation<?>> aliasToType;
+
+	private CompactTypeInformationMapper(Map<? extends Class<?>, ?> aliases) {
+
+		this.typeToAlias = new HashMap<>(aliases.size());
+		this.aliasToType = new HashMap<>(aliases.size());
+
+		aliases.forEach((type, alias) -> {
+
+			Assert.notNull(type, "Type must not be null");
+			Assert.isTrue(alias instanceof String || alias instanceof Integer || alias instanceof Long,
+					() -> "Alias for %s must be a String, Integer or Long but was %s".formatted(type.getName(), alias));
+
+			TypeInformation<?> existing = aliasToType.putIfAbsent(normalize(alias), TypeInformation.of(type));
+
+			if (existing != null) {
+				throw new IllegalArgumentException("Alias '%s' is used for both %s and %s".formatted(alias,
+						existing.getType().getName(), type.getName()));
+			}
+
+			typeToAlias.put(type, Alias.of(alias));
+		});
+	}
+
+	/**
+	 * Create a new {@link CompactTypeInformationMapper} for the given type to alias mapping.
+	 *
+	 * @param aliases must not be {@literal null}. Aliases must be unique {@link String}, {@link Integer} or {@link Long}
+	 *          values.
+	 * @return new instance of {@link CompactTypeInformationMapper}.
+	 */
+	public static CompactTypeInformationMapper of(Map<? extends Class<?>, ?> aliases) {
+
+		Assert.notNull(aliases, "Aliases must not be null");
+
+		return new CompactTypeInformationMapper(aliases);
+	}
+
+	/**
+	 * Create a new {@link CompactTypeInformationMapper} computing the alias for each of the given
+	 * {@link MongoManagedTypes}.
+	 *
+	 * @param managedTypes must not be {@literal null}.
+	 * @param aliasFunction must not be {@literal null}. Must return unique {@link String}, {@link Integer} or
+	 *          {@link Long} values.
+	 * @return new instance of {@link CompactTypeInformationMapper}.
+	 */
+	public static CompactTypeInformationMapper from(MongoManagedTypes managedTypes,
+			Function<Class<?>, ?> aliasFunction) {
+
+		Assert.notNull(managedTypes, "MongoManagedTypes must not be null");
+		Assert.notNull(aliasFunction, "Alias function must not be null");
+
+		Map<Class<?>, Object> aliases = new LinkedHashMap<>();
+		managedTypes.forEach(type -> aliases.put(type, aliasFunction.apply(type)));
+
+		return new CompactTypeInformationMapper(aliases);
+	}
+
+	/**
+	 * Create a new {@link CompactTypeInformationMapper} using the {@link Class#getSimpleName() simple name} of each of
+	 * the given {@link MongoManagedTypes} as alias.
+	 *
+	 * @param managedTypes must not be {@literal null}.
+	 * @return new instance of {@link CompactTypeInformationMapper}.
+	 * @throws IllegalArgumentException if simple names are ambiguous.
+	 */
+	public static CompactTypeInformationMapper simpleNames(MongoManagedTypes managedTypes) {
+		return from(managedTypes, Class::getSimpleName);
+	}
+
+	@Override
+	public @Nullable TypeInformation<?> resolveTypeFrom(Alias alias) {
+
+		Object value = alias.getValue();
+		return value != null ? aliasToType.get(normalize(value)) : null;
+	}
+
+	@Override
+	public Alias createAliasFor(TypeInformation<?> type) {
+		return typeToAlias.getOrDefault(type.getType(), Alias.NONE);
+	}
+
+	private static Object normalize(Object alias) {
+		return alias instanceof Integer number ? Long.valueOf(number) : alias;
+	}
+}
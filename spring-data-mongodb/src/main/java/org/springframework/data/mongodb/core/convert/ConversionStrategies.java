@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.convert.CustomConversions;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Cache of the strategies {@link MappingMongoConverter} applies to convert simple values, resolved once per source and
+ * target type against {@link CustomConversions}. Lookups of already resolved strategies do not lock.
+ *
+ * @since 5.1
+ */
+class ConversionStrategies {
+
+	private final CustomConversions conversions;
+	private final Map<Class<?>, Map<Class<?>, ReadStrategy>> readStrategies = new ConcurrentHashMap<>();
+	private final Map<Class<?>, WriteStrategy> writeStrategies = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link ConversionStrategies} for the given {@link CustomConversions}.
+	 *
+	 * @param conversions must not be {@literal null}.
+	 */
+	ConversionStrategies(CustomConversions conversions) {
+		this.conversions = conversions;
+	}
+
+	/**
+	 * @param conversions the {@link CustomConversions} to check.
+	 * @return {@literal true} if strategies were resolved against the given {@link CustomConversions}.
+	 */
+	boolean isFor(CustomConversions conversions) {
+		return this.conversions == conversions;
+	}
+
+	/**
+	 * Returns the {@link ReadStrategy} to read a value of the given {@code sourceType} into the given
+	 * {@code targetType}.
+	 *
+	 * @param sourceType must not be {@literal null}.
+	 * @param targetType must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	ReadStrategy getReadStrategy(Class<?> sourceType, Class<?> targetType) {
+
+		Map<Class<?>, ReadStrategy> strategies = readStrategies.get(sourceType);
+
+		if (strategies == null) {
+			strategies = readStrategies.computeIfAbsent(sourceType, key -> new ConcurrentHashMap<>());
+		}
+
+		ReadStrategy strategy = strategies.get(targetType);
+
+		if (strategy == null) {
+			strategy = ReadStrategy.resolve(sourceType, targetType, conversions);
+			strategies.putIfAbsent(targetType, strategy);
+		}
+
+		return strategy;
+	}
+
+	/**
+	 * Returns the {@link WriteStrategy} to write a simple value of the given {@code sourceType}.
+	 *
+	 * @param sourceType must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	WriteStrategy getWriteStrategy(Class<?> sourceType) {
+
+		WriteStrategy strategy = writeStrategies.get(sourceType);
+
+		if (strategy == null) {
+			strategy = WriteStrategy.resolve(sourceType, conversions);
+			writeStrategies.putIfAbsent(sourceType, strategy);
+		}
+
+		return strategy;
+	}
+
+	/**
+	 * Strategy to read a simple value into a target type.
+	 */
+	enum ReadStrategy {
+
+		/**
+		 * A custom reading converter is registered for the source and target type.
+		 */
+		CUSTOM_CONVERSION,
+
+		/**
+		 * The value is assignable to the target type and used as is.
+		 */
+		PASSTHROUGH,
+
+		/**
+		 * The target type is an {@link Enum} obtained by the name of the value.
+		 */
+		ENUM,
+
+		/**
+		 * The value is converted using the {@link org.springframework.core.convert.ConversionService}.
+		 */
+		CONVERSION_SERVICE;
+
+		static ReadStrategy resolve(Class<?> sourceType, Class<?> targetType, CustomConversions conversions) {
+
+			if (conversions.hasCustomReadTarget(sourceType, targetType)) {
+				return CUSTOM_CONVERSION;
+			}
+
+			if (ClassUtils.isAssignable(targetType, sourceType)) {
+				return PASSTHROUGH;
+			}
+
+			return Enum.class.isAssignableFrom(targetType) ? ENUM : CONVERSION_SERVICE;
+		}
+	}
+
+	/**
+	 * Strategy to write a simple value.
+	 *
+	 * @param kind the kind of conversion to apply.
+	 * @param customTarget the target type of the custom writing converter, if {@link Kind#CUSTOM_CONVERSION}.
+	 */
+	record WriteStrategy(Kind kind, @Nullable Class<?> customTarget) {
+
+		private static final WriteStrategy PASSTHROUGH = new WriteStrategy(Kind.PASSTHROUGH, null);
+		private static final WriteStrategy ENUM = new WriteStrategy(Kind.ENUM, null);
+		private static final WriteStrategy ARRAY = new WriteStrategy(Kind.ARRAY, null);
+
+		static WriteStrategy resolve(Class<?> sourceType, CustomConversions conversions) {
+
+			Class<?> customTarget = conversions.getCustomWriteTarget(sourceType).orElse(null);
+
+			if (customTarget != null) {
+				return new WriteStrategy(Kind.CUSTOM_CONVERSION, customTarget);
+			}
+
+			if (sourceType.isArray()) {
+				return byte[].class.equals(sourceType) ? PASSTHROUGH : ARRAY;
+			}
+
+			return Enum.class.isAssignableFrom(sourceType) ? ENUM : PASSTHROUGH;
+		}
+
+		enum Kind {
+
+			/**
+			 * A custom writing converter is registered for the source type.
+			 */
+			CUSTOM_CONVERSION,
+
+			/**
+			 * The value is written as is.
+			 */
+			PASSTHROUGH,
+
+			/**
+			 * The value is an {@link Enum} written by its name.
+			 */
+			ENUM,
+
+			/**
+			 * The value is an array written as collection.
+			 */
+			ARRAY
+		}
+	}
+}
@@ -103,6 +103,26 @@ public class DefaultMongoTypeMapper extends DefaultTypeMapper<Bson> implements M
 		this.writeTarget = writeTarget;
 	}
 
+	/**
+	 * Create a new {@link MongoTypeMapper} using {@code typeKey} and the given {@link TypeInformationMapper mappers} to
+	 * map type hints of types that do not declare a {@link org.springframework.data.annotation.TypeAlias}. Uses
+	 * {@link UnaryOperator} to apply {@link CustomConversions}.
+	 *
+	 * @param typeKey name of the field to read and write type hints. Can be {@literal null} to disable type hints.
+	 * @param mappingContext the mapping context to look up types using type hints.
+	 * @param writeTarget must not be {@literal null}.
+	 * @param mappers must not be {@literal null}.
+	 * @since 5.1
+	 * @see MappingMongoConverter#getWriteTarget(Class)
+	 * @see CompactTypeInformationMapper
+	 */
+	public DefaultMongoTypeMapper(@Nullable String typeKey,
+			MappingContext<? extends PersistentEntity<?, ?>, ?> mappingContext, UnaryOperator<Class<?>> writeTarget,
+			List<? extends TypeInformationMapper> mappers) {
+		this(typeKey, new DocumentTypeAliasAccessor(typeKey), mappingContext, mappers);
+		this.writeTarget = writeTarget;
+	}
+
 	/**
 	 * Create a new {@link MongoTypeMapper} with fully-qualified type hints using {@code typeKey}. Uses
 	 * {@link TypeInformationMapper} to map type hints.
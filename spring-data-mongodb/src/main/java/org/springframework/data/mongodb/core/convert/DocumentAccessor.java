@@ -15,14 +15,13 @@
  */
 package org.springframework.data.mongodb.core.convert;
 
-import java.util.Arrays;
-import java.util.Iterator;
 import java.util.Map;
 
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.mongodb.core.mapping.FieldName;
+import org.springframework.data.mongodb.core.mapping.FieldPathAccessor;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.data.mongodb.util.BsonUtils;
@@ -96,19 +95,7 @@ class DocumentAccessor {
 			return;
 		}
 
-		Iterator<String> parts = Arrays.asList(prop.getMongoField().getName().parts()).iterator();
-		Bson document = this.document;
-
-		while (parts.hasNext()) {
-
-			String part = parts.next();
-
-			if (parts.hasNext()) {
-				document = getOrCreateNestedDocument(part, document);
-			} else {
-				BsonUtils.addToMap(document, part, value);
-			}
-		}
+		getFieldPathAccessor(prop).put(document, value);
 	}
 
 	/**
@@ -120,7 +107,7 @@ class DocumentAccessor {
 	 * @return can be {@literal null}.
 	 */
 	public @Nullable Object get(MongoPersistentProperty property) {
-		return BsonUtils.resolveValue(document, getFieldName(property));
+		return getFieldPathAccessor(property).get(document);
 	}
 
 	/**
@@ -146,33 +133,10 @@ class DocumentAccessor {
 
 		Assert.notNull(property, "Property must not be null");
 
-		return BsonUtils.hasValue(document, getFieldName(property));
+		return getFieldPathAccessor(property).hasValue(document);
 	}
 
-	FieldName getFieldName(MongoPersistentProperty prop) {
-		return prop.getMongoField().getName();
-	}
-
-	/**
-	 * Returns the {@link Document} which either already exists in the given source under the given key, or creates a new
-	 * nested one, registers it with the source and returns it.
-	 *
-	 * @param key must not be {@literal null} or empty.
-	 * @param source must not be {@literal null}.
-	 * @return
-	 */
-	private static Document getOrCreateNestedDocument(String key, Bson source) {
-
-		Object existing = BsonUtils.asMap(source).get(key);
-
-		if (existing instanceof Document document) {
-			return document;
-		}
-
-		Document nested = new Document();
-		BsonUtils.addToMap(source, key, nested);
-
-		return nested;
+	FieldPathAccessor getFieldPathAccessor(MongoPersistentProperty prop) {
+		return prop.getFieldPathAccessor();
 	}
-
 }
@@ -240,17 +240,18 @@ public final class LazyLoadingProxyFactory {
 				return source;
 			}
 
+			// lazily read properties delegate Object methods to the converted value
 			if (isObjectMethod(method) && Object.class.equals(method.getDeclaringClass())) {
 
-				if (ReflectionUtils.isToStringMethod(method)) {
+				if (ReflectionUtils.isToStringMethod(method) && isReference()) {
 					return proxyToString(source);
 				}
 
-				if (ReflectionUtils.isEqualsMethod(method) && args != null) {
+				if (ReflectionUtils.isEqualsMethod(method) && args != null && isReference()) {
 					return proxyEquals(o, args[0]);
 				}
 
-				if (ReflectionUtils.isHashCodeMethod(method)) {
+				if (ReflectionUtils.isHashCodeMethod(method) && isReference()) {
 					return proxyHashCode();
 				}
 
@@ -271,6 +272,10 @@ public final class LazyLoadingProxyFactory {
 			return method.invoke(target, args);
 		}
 
+		private boolean isReference() {
+			return property == null || property.isAssociation();
+		}
+
 		@Nullable
 		private Object ensureResolved() {
 
@@ -375,6 +380,10 @@ public final class LazyLoadingProxyFactory {
 					throw new LazyLoadingException("Unable to lazily resolve DBRef; Invalid session state", ex);
 				}
 
+				if (!property.isAssociation()) {
+					throw new LazyLoadingException("Unable to lazily read property %s".formatted(property.getName()), ex);
+				}
+
 				throw new LazyLoadingException("Unable to lazily resolve DBRef",
 						translatedException != null ? translatedException : ex);
 			}
@@ -17,6 +17,7 @@ package org.springframework.data.mongodb.core.convert;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -27,6 +28,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
 import java.util.stream.Collectors;
 
@@ -79,9 +81,11 @@ import org.springframework.data.mapping.model.ValueExpressionEvaluator;
 import org.springframework.data.mapping.model.ValueExpressionParameterValueProvider;
 import org.springframework.data.mongodb.CodecRegistryProvider;
 import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.ConversionStrategies.ReadStrategy;
+import org.springframework.data.mongodb.core.convert.ConversionStrategies.WriteStrategy;
 import org.springframework.data.mongodb.core.mapping.BasicMongoPersistentProperty;
 import org.springframework.data.mongodb.core.mapping.DocumentPointer;
-import org.springframework.data.mongodb.core.mapping.FieldName;
+import org.springframework.data.mongodb.core.mapping.FieldPathAccessor;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.data.mongodb.core.mapping.PersistentPropertyTranslator;
@@ -96,12 +100,12 @@ import org.springframework.data.projection.EntityProjection;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.util.Predicates;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.lang.Contract;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
-import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
 import com.mongodb.BasicDBList;
@@ -156,7 +160,7 @@ public class MappingMongoConverter extends AbstractMongoConverter
 	protected final QueryMapper idMapper;
 	protected final DbRefResolver dbRefResolver;
 	protected final DefaultDbRefProxyHandler dbRefProxyHandler;
-	protected final ReferenceLookupDelegate referenceLookupDelegate;
+	protected ReferenceLookupDelegate referenceLookupDelegate;
 
 	protected @Nullable ApplicationContext applicationContext;
 	protected @Nullable Environment environment;
@@ -167,12 +171,15 @@ public class MappingMongoConverter extends AbstractMongoConverter
 	private MongoTypeMapper defaultTypeMapper;
 	private SpELContext spELContext;
 	private @Nullable EntityCallbacks entityCallbacks;
+	private volatile @Nullable ConversionStrategies conversionStrategies;
+	private final Map<Class<?>, Boolean> enclosingTypes = new ConcurrentHashMap<>();
 	private final SpelExpressionParser expressionParser = new SpelExpressionParser();
 	private final DocumentPointerFactory documentPointerFactory;
 	private final SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory(
 			expressionParser);
 	private final CachingValueExpressionEvaluatorFactory expressionEvaluatorFactory = new CachingValueExpressionEvaluatorFactory(
 			expressionParser, this, o -> spELContext.getEvaluationContext(o));
+	private final LazyLoadingProxyFactory lazyReadProxyFactory = new LazyLoadingProxyFactory(ex -> null);
 
 	/**
 	 * Creates a new {@link MappingMongoConverter} given the new {@link DbRefResolver} and {@link MappingContext}.
@@ -298,6 +305,23 @@ public class MappingMongoConverter extends AbstractMongoConverter
 		this.codecRegistryProvider = codecRegistryProvider;
 	}
 
+	/**
+	 * Configure the {@link SpelParserConfiguration} to parse SpEL expressions within
+	 * {@link org.springframework.data.mongodb.core.mapping.DocumentReference @DocumentReference} lookups with, e.g. to
+	 * compile frequently evaluated expressions using {@link org.springframework.expression.spel.SpelCompilerMode#MIXED}.
+	 *
+	 * @param configuration must not be {@literal null}.
+	 * @since 5.1
+	 */
+	public void setExpressionParserConfiguration(SpelParserConfiguration configuration) {
+
+		Assert.notNull(configuration, "SpelParserConfiguration must not be null");
+
+		SpELContext context = new SpELContext(new SpelExpressionParser(configuration), DocumentPropertyAccessor.INSTANCE);
+		this.spELContext = applicationContext != null ? new SpELContext(context, applicationContext) : context;
+		this.referenceLookupDelegate = new ReferenceLookupDelegate(mappingContext, this.spELContext);
+	}
+
 	@Override
 	public MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> getMappingContext() {
 		return mappingContext;
@@ -402,8 +426,8 @@ public class MappingMongoConverter extends AbstractMongoConverter
 				Predicates.negate(MongoPersistentProperty::hasExplicitFieldName));
 		DocumentAccessor documentAccessor = new DocumentAccessor(bson) {
 			@Override
-			FieldName getFieldName(MongoPersistentProperty prop) {
-				return propertyTranslator.translate(prop).getMongoField().getName();
+			FieldPathAccessor getFieldPathAccessor(MongoPersistentProperty prop) {
+				return propertyTranslator.translate(prop).getFieldPathAccessor();
 			}
 		};
 
@@ -593,8 +617,9 @@ public class MappingMongoConverter extends AbstractMongoConverter
 		// Make sure id property is set before all other properties
 
 		Object rawId = readAndPopulateIdentifier(context, accessor, documentAccessor, entity, evaluator);
-		ObjectPath currentPath = context.getPath().push(accessor.getBean(), entity, rawId);
-		ConversionContext contextToUse = context.withPath(currentPath);
+		ConversionContext contextToUse = requiresPathElement(entity, rawId)
+				? context.withPath(context.getPath().push(accessor.getBean(), entity, rawId))
+				: context;
 
 		MongoDbPropertyValueProvider valueProvider = new MongoDbPropertyValueProvider(contextToUse, documentAccessor,
 				evaluator, spELContext);
@@ -604,6 +629,28 @@ public class MappingMongoConverter extends AbstractMongoConverter
 		return accessor.getBean();
 	}
 
+	/**
+	 * Returns whether the object read for the given entity needs to be added to the {@link ObjectPath}. Objects without
+	 * an identifier cannot be resolved through {@link ObjectPath#getPathItem(Object, String, Class)} and are only
+	 * required as enclosing instance when reading a non-static inner class of their type.
+	 */
+	private boolean requiresPathElement(MongoPersistentEntity<?> entity, @Nullable Object id) {
+		return id != null || enclosingTypes.computeIfAbsent(entity.getType(), MappingMongoConverter::declaresInnerClass);
+	}
+
+	private static boolean declaresInnerClass(Class<?> type) {
+
+		for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+			for (Class<?> declared : current.getDeclaredClasses()) {
+				if (ClassUtils.isInnerClass(declared)) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
 	/**
 	 * Reads the identifier from either the bean backing the {@link PersistentPropertyAccessor} or the source document in
 	 * case the identifier has not be populated yet. In this case the identifier is set on the bean for further reference.
@@ -681,10 +728,33 @@ public class MappingMongoConverter extends AbstractMongoConverter
 				continue;
 			}
 
+			if (prop.isReadLazily() && isLazilyReadable(prop)) {
+
+				Object source = documentAccessor.get(prop);
+
+				if (source != null) {
+					accessor.setProperty(prop,
+							lazyReadProxyFactory.createLazyLoadingProxy(prop, valueProvider::getPropertyValue, source));
+					continue;
+				}
+			}
+
 			accessor.setProperty(prop, valueProvider.getPropertyValue(prop));
 		}
 	}
 
+	/**
+	 * Return whether the value of the given property can be read through a lazy loading proxy of its declared type.
+	 */
+	private boolean isLazilyReadable(MongoPersistentProperty property) {
+
+		Class<?> type = property.getType();
+
+		return (property.isEntity() || property.isMap() || property.isCollectionLike()) && !type.isArray()
+				&& !Modifier.isFinal(type.getModifiers()) && property.getSpelExpression() == null
+				&& !conversions.hasValueConverter(property);
+	}
+
 	private DbRefResolverCallback getDbRefResolverCallback(ConversionContext context, DocumentAccessor documentAccessor,
 			ValueExpressionEvaluator evaluator) {
 
@@ -947,6 +1017,10 @@ public class MappingMongoConverter extends AbstractMongoConverter
 
 			Object value = accessor.getProperty(prop);
 
+			if (value instanceof LazyLoadingProxy proxy) {
+				value = proxy.getTarget();
+			}
+
 			if (value == null) {
 
 				if (conversions.hasValueConverter(prop)) {
@@ -1054,11 +1128,11 @@ public class MappingMongoConverter extends AbstractMongoConverter
 		}
 
 		// Lookup potential custom target type
-		Optional<Class<?>> basicTargetType = conversions.getCustomWriteTarget(obj.getClass());
+		Class<?> basicTargetType = getCustomWriteTarget(obj.getClass());
 
-		if (basicTargetType.isPresent()) {
+		if (basicTargetType != null) {
 
-			accessor.put(prop, doConvert(obj, basicTargetType.get()));
+			accessor.put(prop, doConvert(obj, basicTargetType));
 			return;
 		}
 
@@ -1383,21 +1457,14 @@ public class MappingMongoConverter extends AbstractMongoConverter
 			}
 		}
 
-		Optional<Class<?>> customTarget = conversions.getCustomWriteTarget(value.getClass());
-
-		if (customTarget.isPresent()) {
-			return doConvert(value, customTarget.get());
-		}
-
-		if (ObjectUtils.isArray(value)) {
+		WriteStrategy strategy = getConversionStrategies().getWriteStrategy(value.getClass());
 
-			if (value instanceof byte[]) {
-				return value;
-			}
-			return BsonUtils.asCollection(value);
-		}
-
-		return Enum.class.isAssignableFrom(value.getClass()) ? ((Enum<?>) value).name() : value;
+		return switch (strategy.kind()) {
+			case CUSTOM_CONVERSION -> doConvert(value, strategy.customTarget());
+			case ARRAY -> BsonUtils.asCollection(value);
+			case ENUM -> ((Enum<?>) value).name();
+			case PASSTHROUGH -> value;
+		};
 	}
 
 	/**
@@ -1422,19 +1489,11 @@ public class MappingMongoConverter extends AbstractMongoConverter
 			return value;
 		}
 
-		if (conversions.hasCustomReadTarget(value.getClass(), target)) {
-			return doConvert(value, target);
-		}
-
-		if (ClassUtils.isAssignableValue(target, value)) {
-			return value;
-		}
-
-		if (Enum.class.isAssignableFrom(target)) {
-			return Enum.valueOf((Class<Enum>) target, value.toString());
-		}
-
-		return doConvert(value, target);
+		return switch (getConversionStrategies().getReadStrategy(value.getClass(), target)) {
+			case PASSTHROUGH -> value;
+			case ENUM -> Enum.valueOf((Class<Enum>) target, value.toString());
+			case CUSTOM_CONVERSION, CONVERSION_SERVICE -> doConvert(value, target);
+		};
 	}
 
 	@SuppressWarnings("NullAway")
@@ -1584,9 +1643,9 @@ public class MappingMongoConverter extends AbstractMongoConverter
 			return null;
 		}
 
-		Optional<Class<?>> target = conversions.getCustomWriteTarget(obj.getClass());
-		if (target.isPresent()) {
-			return doConvert(obj, target.get());
+		Class<?> target = getCustomWriteTarget(obj.getClass());
+		if (target != null) {
+			return doConvert(obj, target);
 		}
 
 		if (conversions.isSimpleType(obj.getClass())) {
@@ -1743,7 +1802,7 @@ public class MappingMongoConverter extends AbstractMongoConverter
 
 		Class<?> rawType = type.getType();
 
-		if (conversions.hasCustomReadTarget(value.getClass(), rawType)) {
+		if (getConversionStrategies().getReadStrategy(value.getClass(), rawType) == ReadStrategy.CUSTOM_CONVERSION) {
 			return (T) doConvert(value, rawType);
 		} else if (value instanceof DBRef dbRef) {
 			return (T) readDBRef(context, dbRef, type);
@@ -1888,6 +1947,7 @@ public class MappingMongoConverter extends AbstractMongoConverter
 		target.applicationContext = applicationContext;
 		target.conversions = conversions;
 		target.spELContext = spELContext;
+		target.referenceLookupDelegate = referenceLookupDelegate;
 		target.setInstantiators(instantiators);
 		target.defaultTypeMapper = defaultTypeMapper;
 		target.typeMapper = typeMapper;
@@ -1905,12 +1965,34 @@ public class MappingMongoConverter extends AbstractMongoConverter
 	private <T extends Object> @Nullable T doConvert(Object value, Class<? extends T> target,
 			@Nullable Class<? extends T> fallback) {
 
-		if (conversionService.canConvert(value.getClass(), target) || fallback == null) {
+		if (fallback == null || conversionService.canConvert(value.getClass(), target)) {
 			return conversionService.convert(value, target);
 		}
 		return conversionService.convert(value, fallback);
 	}
 
+	private @Nullable Class<?> getCustomWriteTarget(Class<?> type) {
+
+		WriteStrategy strategy = getConversionStrategies().getWriteStrategy(type);
+		return strategy.kind() == WriteStrategy.Kind.CUSTOM_CONVERSION ? strategy.customTarget() : null;
+	}
+
+	/**
+	 * Returns the {@link ConversionStrategies} resolved against the current {@link CustomConversions}, re-creating them
+	 * if the {@link CustomConversions} were replaced.
+	 */
+	private ConversionStrategies getConversionStrategies() {
+
+		ConversionStrategies strategies = this.conversionStrategies;
+
+		if (strategies == null || !strategies.isFor(conversions)) {
+			strategies = new ConversionStrategies(conversions);
+			this.conversionStrategies = strategies;
+		}
+
+		return strategies;
+	}
+
 	/**
 	 * Returns whether the given {@link Iterable} contains {@link DBRef} instances all pointing to the same collection.
 	 *
@@ -49,6 +49,7 @@ import org.springframework.data.convert.PropertyValueConverterRegistrar;
 import org.springframework.data.convert.SimplePropertyValueConversions;
 import org.springframework.data.convert.WritingConverter;
 import org.springframework.data.mapping.model.SimpleTypeHolder;
+import org.springframework.data.mongodb.core.aggregation.AggregationParameter;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.data.mongodb.core.mapping.MongoSimpleTypes;
 import org.springframework.lang.Contract;
@@ -174,6 +175,11 @@ public class MongoCustomConversions extends org.springframework.data.convert.Cus
 		private static final Set<Class<?>> JAVA_DRIVER_TIME_SIMPLE_TYPES = Set.of(LocalDate.class, LocalTime.class,
 				LocalDateTime.class);
 
+		/**
+		 * Types passed on as-is when rendering aggregations that are not known to the mapping layer.
+		 */
+		private static final Set<Class<?>> AGGREGATION_SIMPLE_TYPES = Set.of(AggregationParameter.class);
+
 		private boolean useNativeDriverJavaTimeCodecs = false;
 		private BigDecimalRepresentation bigDecimals = BigDecimalRepresentation.UNSPECIFIED;
 		private final List<Object> customConverters = new ArrayList<>();
@@ -420,7 +426,7 @@ public class MongoCustomConversions extends org.springframework.data.convert.Cus
 				storeConverters.addAll(STORE_CONVERTERS);
 
 				StoreConversions storeConversions = StoreConversions
-						.of(new SimpleTypeHolder(JAVA_DRIVER_TIME_SIMPLE_TYPES, MongoSimpleTypes.HOLDER), storeConverters);
+						.of(new SimpleTypeHolder(JAVA_DRIVER_TIME_SIMPLE_TYPES, getStoreSimpleTypeHolder()), storeConverters);
 
 				return new MongoConverterConfiguration(storeConversions, fallbackConversionServiceConverters,
 						this.customConverters, convertiblePair -> {
@@ -435,11 +441,15 @@ public class MongoCustomConversions extends org.springframework.data.convert.Cus
 
 			storeConverters.addAll(STORE_CONVERTERS);
 			return new MongoConverterConfiguration(
-					StoreConversions.of(MongoSimpleTypes.createSimpleTypeHolder(), storeConverters),
+					StoreConversions.of(getStoreSimpleTypeHolder(), storeConverters),
 					fallbackConversionServiceConverters, this.customConverters, convertiblePair -> true,
 					this.propertyValueConversions);
 		}
 
+		private static SimpleTypeHolder getStoreSimpleTypeHolder() {
+			return MongoSimpleTypes.createSimpleTypeHolder(AGGREGATION_SIMPLE_TYPES);
+		}
+
 		private boolean hasDefaultPropertyValueConversions() {
 			return propertyValueConversions == internalValueConversion;
 		}
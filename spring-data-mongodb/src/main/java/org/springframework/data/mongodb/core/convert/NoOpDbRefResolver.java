@@ -19,6 +19,7 @@ import java.util.List;
 
 import org.bson.Document;
 import org.jspecify.annotations.Nullable;
+import org.springframework.data.mongodb.core.convert.ReactiveReferenceResolver.ResolvedReference;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 
 import com.mongodb.DBRef;
@@ -60,6 +61,9 @@ public enum NoOpDbRefResolver implements DbRefResolver {
 	@Override
 	public Object resolveReference(MongoPersistentProperty property, Object source,
 			ReferenceLookupDelegate referenceLookupDelegate, MongoEntityReader entityReader) {
-		return null;
+
+		return DocumentReferenceSource.getTargetSource(source) instanceof ResolvedReference resolved
+				? resolved.read(property, entityReader)
+				: null;
 	}
 }
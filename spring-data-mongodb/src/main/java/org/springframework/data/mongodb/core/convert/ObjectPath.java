@@ -20,7 +20,6 @@ import java.util.List;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
-import org.springframework.data.util.Lazy;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ObjectUtils;
@@ -47,30 +46,30 @@ public class ObjectPath {
 	private final @Nullable ObjectPath parent;
 	private final @Nullable Object object;
 	private final @Nullable Object idValue;
-	private final Lazy<String> collection;
+	private final @Nullable MongoPersistentEntity<?> entity;
 
 	private ObjectPath() {
 
 		this.parent = null;
 		this.object = null;
 		this.idValue = null;
-		this.collection = Lazy.empty();
+		this.entity = null;
 	}
 
 	/**
 	 * Creates a new {@link ObjectPath} from the given parent {@link ObjectPath} and adding the provided path values.
 	 *
 	 * @param parent must not be {@literal null}.
-	 * @param collection
+	 * @param object
 	 * @param idValue
-	 * @param collection
+	 * @param entity
 	 */
-	private ObjectPath(ObjectPath parent, Object object, @Nullable Object idValue, Lazy<String> collection) {
+	private ObjectPath(ObjectPath parent, Object object, @Nullable Object idValue, MongoPersistentEntity<?> entity) {
 
 		this.parent = parent;
 		this.object = object;
 		this.idValue = idValue;
-		this.collection = collection;
+		this.entity = entity;
 	}
 
 	/**
@@ -86,7 +85,7 @@ public class ObjectPath {
 		Assert.notNull(object, "Object must not be null");
 		Assert.notNull(entity, "MongoPersistentEntity must not be null");
 
-		return new ObjectPath(this, object, id, Lazy.of(entity::getCollection));
+		return new ObjectPath(this, object, id, entity);
 	}
 
 	/**
@@ -140,8 +139,8 @@ public class ObjectPath {
 		return idValue;
 	}
 
-	private String getCollection() {
-		return collection.get();
+	private @Nullable String getCollection() {
+		return entity != null ? entity.getCollection() : null;
 	}
 
 	@Override
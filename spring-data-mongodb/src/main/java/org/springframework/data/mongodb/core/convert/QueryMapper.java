@@ -67,6 +67,7 @@ import org.springframework.data.mongodb.core.mapping.FieldName;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty.PropertyToFieldNameConverter;
+import org.springframework.data.mongodb.core.query.MappedQueryDocument;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.util.BsonUtils;
 import org.springframework.data.mongodb.util.DotPath;
@@ -134,7 +135,7 @@ public class QueryMapper {
 
 	/**
 	 * Replaces the property keys used in the given {@link Document} with the appropriate keys by using the
-	 * {@link PersistentEntity} metadata.
+	 * {@link PersistentEntity} metadata. {@link MappedQueryDocument Already mapped documents} are returned as they are.
 	 *
 	 * @param query must not be {@literal null}.
 	 * @param entity can be {@literal null}.
@@ -143,6 +144,10 @@ public class QueryMapper {
 	@SuppressWarnings("NullAway")
 	public Document getMappedObject(Bson query, @Nullable MongoPersistentEntity<?> entity) {
 
+		if (query instanceof MappedQueryDocument mapped) {
+			return new Document(mapped);
+		}
+
 		if (isNestedKeyword(query)) {
 			return getMappedKeyword(new Keyword(query), entity);
 		}
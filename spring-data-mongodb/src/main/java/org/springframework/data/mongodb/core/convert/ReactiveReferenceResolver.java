@@ -0,0 +1,452 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.bson.Document;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.mapping.DocumentReference;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+
+import com.mongodb.DBRef;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+
+/**
+ * Resolves {@link org.springframework.data.mongodb.core.mapping.DBRef} and {@link DocumentReference} properties of
+ * documents read through the reactive driver before they are converted. Documents are collected in windows and the
+ * references of a window are fetched with a single {@code $in} query per target collection. Resolved documents are
+ * inlined into the source documents so that {@link MappingMongoConverter} reads them without issuing blocking calls.
+ * <p>
+ * Windows are requested on demand, so at most one window of documents and its resolved references is held in memory
+ * ahead of the consumer. Documents of tailable cursors are resolved one by one through
+ * {@link #resolveEach(Flux, Class)}. The following references are resolved:
+ * <ul>
+ * <li>Eager {@link org.springframework.data.mongodb.core.mapping.DBRef} properties holding a single reference, a
+ * collection or a map of references.</li>
+ * <li>Eager {@link DocumentReference} properties holding a single reference or a collection of references using the
+ * default {@literal _id} based {@link DocumentReference#lookup() lookup} without {@link DocumentReference#sort() sort}
+ * or {@link DocumentReference#db() database}.</li>
+ * </ul>
+ * Other references are passed on unresolved. Resolution requires a {@link MappingMongoConverter} using
+ * {@link NoOpDbRefResolver}.
+ *
+ * @since 5.1
+ */
+public class ReactiveReferenceResolver {
+
+	private static final int DEFAULT_WINDOW_SIZE = 100;
+	private static final String DEFAULT_LOOKUP = (String) AnnotationUtils.getDefaultValue(DocumentReference.class,
+			"lookup");
+
+	private final ReactiveMongoDatabaseFactory databaseFactory;
+	private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
+	private final int windowSize;
+	private final Map<Class<?>, Boolean> resolvableTypes = new ConcurrentHashMap<>();
+
+	/**
+	 * Create a new {@link ReactiveReferenceResolver} collecting up to {@literal 100} documents per window.
+	 *
+	 * @param databaseFactory must not be {@literal null}.
+	 * @param mappingContext must not be {@literal null}.
+	 */
+	public ReactiveReferenceResolver(ReactiveMongoDatabaseFactory databaseFactory,
+			MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext) {
+		this(databaseFactory, mappingContext, DEFAULT_WINDOW_SIZE);
+	}
+
+	/**
+	 * Create a new {@link ReactiveReferenceResolver}.
+	 *
+	 * @param databaseFactory must not be {@literal null}.
+	 * @param mappingContext must not be {@literal null}.
+	 * @param windowSize number of documents whose references are fetched together. Must be greater than zero.
+	 */
+	public ReactiveReferenceResolver(ReactiveMongoDatabaseFactory databaseFactory,
+			MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext, int windowSize) {
+
+		Assert.notNull(databaseFactory, "ReactiveMongoDatabaseFactory must not be null");
+		Assert.notNull(mappingContext, "MappingContext must not be null");
+		Assert.isTrue(windowSize > 0, "Window size must be greater than zero");
+
+		this.databaseFactory = databaseFactory;
+		this.mappingContext = mappingContext;
+		this.windowSize = windowSize;
+	}
+
+	/**
+	 * Create a new {@link ReactiveReferenceResolver} using the given {@link ReactiveMongoDatabaseFactory} retaining the
+	 * configuration of this instance. Used to bind resolution to a session.
+	 *
+	 * @param databaseFactory must not be {@literal null}.
+	 * @return a new {@link ReactiveReferenceResolver}.
+	 */
+	public ReactiveReferenceResolver withDatabaseFactory(ReactiveMongoDatabaseFactory databaseFactory) {
+		return new ReactiveReferenceResolver(databaseFactory, mappingContext, windowSize);
+	}
+
+	/**
+	 * Resolve the references of the given documents read for the given type.
+	 *
+	 * @param documents the documents to resolve references for.
+	 * @param type the type the documents are read into.
+	 * @return the documents with resolved references inlined, in the order of the source.
+	 */
+	public Flux<Document> resolve(Flux<Document> documents, Class<?> type) {
+
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(type);
+
+		if (entity == null || !hasResolvableReferences(entity)) {
+			return documents;
+		}
+
+		return documents.buffer(windowSize).concatMap(window -> resolveWindow(window, entity), 1);
+	}
+
+	/**
+	 * Resolve the references of the given documents read for the given type one document at a time. Use this method for
+	 * sources emitting documents as they arrive, such as tailable cursors, that must not wait for a window to fill up.
+	 *
+	 * @param documents the documents to resolve references for.
+	 * @param type the type the documents are read into.
+	 * @return the documents with resolved references inlined, in the order of the source.
+	 */
+	public Flux<Document> resolveEach(Flux<Document> documents, Class<?> type) {
+
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(type);
+
+		if (entity == null || !hasResolvableReferences(entity)) {
+			return documents;
+		}
+
+		return documents.concatMap(document -> resolveWindow(List.of(document), entity), 1);
+	}
+
+	/**
+	 * Resolve the references of the given document read for the given type.
+	 *
+	 * @param document the document to resolve references for.
+	 * @param type the type the document is read into.
+	 * @return the document with resolved references inlined.
+	 */
+	public Mono<Document> resolve(Mono<Document> document, Class<?> type) {
+
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(type);
+
+		if (entity == null || !hasResolvableReferences(entity)) {
+			return document;
+		}
+
+		return document.flatMap(it -> resolveWindow(List.of(it), entity).next());
+	}
+
+	boolean hasResolvableReferences(MongoPersistentEntity<?> entity) {
+
+		Boolean resolvable = resolvableTypes.get(entity.getType());
+
+		if (resolvable == null) {
+			resolvable = hasResolvableReferences(entity, new HashSet<>());
+			resolvableTypes.put(entity.getType(), resolvable);
+		}
+
+		return resolvable;
+	}
+
+	private boolean hasResolvableReferences(MongoPersistentEntity<?> entity, Set<Class<?>> visited) {
+
+		if (!visited.add(entity.getType())) {
+			return false;
+		}
+
+		for (MongoPersistentProperty property : entity) {
+
+			if (isResolvableDbRef(property) || isResolvableDocumentReference(property)) {
+				return true;
+			}
+
+			MongoPersistentEntity<?> embedded = getEmbeddedEntity(property);
+			if (embedded != null && hasResolvableReferences(embedded, visited)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private Flux<Document> resolveWindow(List<Document> window, MongoPersistentEntity<?> entity) {
+
+		ReferenceCollector collector = new ReferenceCollector();
+
+		for (Document document : window) {
+			collector.collect(document, entity);
+		}
+
+		if (collector.targets.isEmpty()) {
+			return Flux.fromIterable(window);
+		}
+
+		return Flux.fromIterable(collector.targets.entrySet()) //
+				.flatMap(entry -> fetch(entry.getKey(), entry.getValue()).map(found -> Map.entry(entry.getKey(), found))) //
+				.collectMap(Map.Entry::getKey, Map.Entry::getValue) //
+				.flatMapIterable(resolved -> {
+
+					collector.sites.forEach(site -> site.accept(resolved));
+					return window;
+				});
+	}
+
+	private Mono<Map<Object, Document>> fetch(Target target, Set<Object> ids) {
+
+		Mono<MongoDatabase> database = StringUtils.hasText(target.database())
+				? databaseFactory.getMongoDatabase(target.database())
+				: databaseFactory.getMongoDatabase();
+
+		return database.flatMap(db -> Flux.from(db.getCollection(target.collection())
+				.find(new Document("_id", new Document("$in", new ArrayList<>(ids))))) //
+				.collectMap(document -> document.get("_id")));
+	}
+
+	private @Nullable MongoPersistentEntity<?> getEmbeddedEntity(MongoPersistentProperty property) {
+
+		if (property.isAssociation() || property.isUnwrapped() || !property.isEntity() || property.isMap()) {
+			return null;
+		}
+
+		return mappingContext.getPersistentEntity(property);
+	}
+
+	private static boolean isResolvableDbRef(MongoPersistentProperty property) {
+
+		org.springframework.data.mongodb.core.mapping.DBRef dbRef = property.getDBRef();
+		return property.isDbReference() && dbRef != null && !dbRef.lazy();
+	}
+
+	private static boolean isResolvableDocumentReference(MongoPersistentProperty property) {
+
+		if (!property.isDocumentReference() || property.isMap()) {
+			return false;
+		}
+
+		DocumentReference reference = property.getDocumentReference();
+
+		return reference != null && !reference.lazy() && ObjectUtils.nullSafeEquals(DEFAULT_LOOKUP, reference.lookup())
+				&& !StringUtils.hasText(reference.sort()) && !StringUtils.hasText(reference.db())
+				&& !reference.collection().contains("#{");
+	}
+
+	private static boolean isSimpleReferenceValue(@Nullable Object value) {
+		return value != null && !(value instanceof Map) && !(value instanceof Collection) && !(value instanceof DBRef);
+	}
+
+	/**
+	 * Target collection of references.
+	 */
+	private record Target(@Nullable String database, String collection) {
+
+		static Target of(DBRef dbRef) {
+			return new Target(dbRef.getDatabaseName(), dbRef.getCollectionName());
+		}
+
+		@Nullable
+		Document lookup(Map<Target, Map<Object, Document>> resolved, Object id) {
+
+			Map<Object, Document> documents = resolved.get(this);
+			return documents != null ? documents.get(id) : null;
+		}
+	}
+
+	/**
+	 * Collects references of documents along with the sites to inline resolved documents into.
+	 */
+	private class ReferenceCollector {
+
+		final Map<Target, Set<Object>> targets = new LinkedHashMap<>();
+		final List<Consumer<Map<Target, Map<Object, Document>>>> sites = new ArrayList<>();
+
+		void collect(Document document, MongoPersistentEntity<?> entity) {
+
+			for (MongoPersistentProperty property : entity) {
+
+				if (property.getMongoField().getName().parts().length > 1) {
+					continue;
+				}
+
+				String fieldName = property.getFieldName();
+				Object value = document.get(fieldName);
+
+				if (value == null) {
+					continue;
+				}
+
+				if (isResolvableDbRef(property)) {
+					collectDbRefs(document, fieldName, value);
+				} else if (isResolvableDocumentReference(property)) {
+					collectDocumentReferences(document, fieldName, value, property);
+				} else {
+
+					MongoPersistentEntity<?> embedded = getEmbeddedEntity(property);
+
+					if (embedded != null) {
+						collectEmbedded(value, embedded);
+					}
+				}
+			}
+		}
+
+		private void collectEmbedded(Object value, MongoPersistentEntity<?> entity) {
+
+			if (value instanceof Document nested) {
+				collect(nested, entity);
+			} else if (value instanceof Collection<?> collection) {
+				for (Object element : collection) {
+					if (element instanceof Document nested) {
+						collect(nested, entity);
+					}
+				}
+			}
+		}
+
+		private void collectDbRefs(Document document, String fieldName, Object value) {
+
+			if (value instanceof DBRef dbRef) {
+
+				register(Target.of(dbRef), dbRef.getId());
+				sites.add(resolved -> document.put(fieldName, Target.of(dbRef).lookup(resolved, dbRef.getId())));
+				return;
+			}
+
+			if (value instanceof Collection<?> collection && !collection.isEmpty()
+					&& collection.stream().allMatch(DBRef.class::isInstance)) {
+
+				collection.forEach(it -> register(Target.of((DBRef) it), ((DBRef) it).getId()));
+				sites.add(resolved -> document.put(fieldName, lookupAll(collection, resolved, it -> Target.of((DBRef) it),
+						it -> ((DBRef) it).getId())));
+				return;
+			}
+
+			if (value instanceof Document map && !map.isEmpty() && map.values().stream().allMatch(DBRef.class::isInstance)) {
+
+				map.values().forEach(it -> register(Target.of((DBRef) it), ((DBRef) it).getId()));
+				sites.add(resolved -> {
+
+					Document target = new Document();
+					map.forEach((key, it) -> {
+
+						Document found = Target.of((DBRef) it).lookup(resolved, ((DBRef) it).getId());
+						if (found != null) {
+							target.put(key, found);
+						}
+					});
+					document.put(fieldName, target);
+				});
+			}
+		}
+
+		private void collectDocumentReferences(Document document, String fieldName, Object value,
+				MongoPersistentProperty property) {
+
+			Target target = getTarget(property);
+
+			if (property.isCollectionLike()) {
+
+				if (value instanceof Collection<?> collection && !collection.isEmpty()
+						&& collection.stream().allMatch(ReactiveReferenceResolver::isSimpleReferenceValue)) {
+
+					collection.forEach(it -> register(target, it));
+					sites.add(resolved -> document.put(fieldName,
+							new ResolvedReference(lookupAll(collection, resolved, it -> target, Function.identity()))));
+				}
+				return;
+			}
+
+			if (isSimpleReferenceValue(value)) {
+
+				register(target, value);
+				sites.add(resolved -> document.put(fieldName, new ResolvedReference(target.lookup(resolved, value))));
+			}
+		}
+
+		private Target getTarget(MongoPersistentProperty property) {
+
+			DocumentReference reference = property.getRequiredAnnotation(DocumentReference.class);
+
+			if (StringUtils.hasText(reference.collection())) {
+				return new Target(null, reference.collection());
+			}
+
+			Class<?> targetType = property.getAssociationTargetType() != null ? property.getAssociationTargetType()
+					: property.getActualType();
+			return new Target(null, mappingContext.getRequiredPersistentEntity(targetType).getCollection());
+		}
+
+		private void register(Target target, Object id) {
+			targets.computeIfAbsent(target, key -> new LinkedHashSet<>()).add(id);
+		}
+
+		private List<Document> lookupAll(Collection<?> references, Map<Target, Map<Object, Document>> resolved,
+				Function<Object, Target> targetFunction, Function<Object, Object> idFunction) {
+
+			List<Document> result = new ArrayList<>(references.size());
+
+			for (Object reference : references) {
+
+				Document found = targetFunction.apply(reference).lookup(resolved, idFunction.apply(reference));
+				if (found != null) {
+					result.add(found);
+				}
+			}
+
+			return result;
+		}
+	}
+
+	/**
+	 * A {@link DocumentReference} value resolved ahead of conversion.
+	 */
+	static final class ResolvedReference {
+
+		private final @Nullable Object value;
+
+		ResolvedReference(@Nullable Object value) {
+			this.value = value;
+		}
+
+		@Nullable
+		Object read(MongoPersistentProperty property, ReferenceResolver.MongoEntityReader entityReader) {
+			return value != null ? entityReader.read(value, property.getTypeInformation()) : null;
+		}
+	}
+}
@@ -45,9 +45,11 @@ import org.springframework.data.mongodb.util.BsonUtils;
 import org.springframework.data.mongodb.util.json.ParameterBindingContext;
 import org.springframework.data.mongodb.util.json.ParameterBindingDocumentCodec;
 import org.springframework.data.mongodb.util.json.ValueProvider;
+import org.springframework.data.mongodb.util.spel.CachingExpressionParser;
 import org.springframework.data.mongodb.util.spel.ExpressionUtils;
 import org.springframework.data.util.Streamable;
 import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.ExpressionParser;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
@@ -69,6 +71,7 @@ public final class ReferenceLookupDelegate {
 	private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
 	private final SpELContext spELContext;
 	private final ParameterBindingDocumentCodec codec;
+	private final ExpressionParser expressionParser;
 
 	/**
 	 * Create a new {@link ReferenceLookupDelegate}.
@@ -86,6 +89,7 @@ public final class ReferenceLookupDelegate {
 		this.mappingContext = mappingContext;
 		this.spELContext = spELContext;
 		this.codec = new ParameterBindingDocumentCodec();
+		this.expressionParser = new CachingExpressionParser(spELContext.getParser());
 	}
 
 	/**
@@ -212,7 +216,7 @@ public final class ReferenceLookupDelegate {
 			return (T) codec.decode(value, bindingContext);
 		}
 
-		if (!value.startsWith("#") && ExpressionUtils.detectExpression(value) == null) {
+		if (!value.startsWith("#") && ExpressionUtils.detectExpression(expressionParser, value) == null) {
 			return (T) value;
 		}
 
@@ -224,7 +228,7 @@ public final class ReferenceLookupDelegate {
 
 		ValueProvider valueProvider = valueProviderFor(DocumentReferenceSource.getTargetSource(source));
 
-		return new ParameterBindingContext(valueProvider, spELContext.getParser(),
+		return new ParameterBindingContext(valueProvider, expressionParser,
 				() -> evaluationContextFor(property, source, spELContext));
 	}
 
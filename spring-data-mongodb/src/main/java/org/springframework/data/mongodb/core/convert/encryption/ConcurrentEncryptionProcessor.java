@@ -0,0 +1,286 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert.encryption;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.bson.BsonBinary;
+import org.bson.BsonBinarySubType;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.mongodb.core.encryption.Encryption;
+import org.springframework.data.mongodb.core.encryption.EncryptionOptions;
+import org.springframework.util.Assert;
+
+/**
+ * Processor to decrypt and encrypt explicitly encrypted values of a whole batch of documents concurrently instead of
+ * value by value while mapping.
+ * <p>
+ * {@link #decrypt(List) Decryption} collects all {@link BsonBinarySubType#ENCRYPTED encrypted} binaries contained in
+ * the given documents, decrypts them on the configured {@link Executor} and replaces the ciphertext in place. The
+ * {@link MongoEncryptionConverter} accepts already decrypted values when reading the documents afterwards.
+ * <p>
+ * {@link #encrypt(List) Encryption} requires a processor {@link #ConcurrentEncryptionProcessor(MongoEncryptionConverter,
+ * Executor, int) created} for a {@link MongoEncryptionConverter} and the documents to be converted within
+ * {@link #deferEncryption(Supplier)}. That converter then only captures values and options on the calling thread and
+ * leaves the actual encryption to the processor. Other converters and any conversion outside of the deferred scope
+ * keep encrypting values directly.
+ * <p>
+ * Work is split into at most {@code maxConcurrency} tasks. Failures do not stop processing of other values and are
+ * reported for each affected document and field path once the batch has been processed.
+ *
+ * @since 5.1
+ */
+public class ConcurrentEncryptionProcessor {
+
+	private final Encryption<BsonValue, BsonBinary> encryption;
+	private final @Nullable MongoEncryptionConverter converter;
+	private final Executor executor;
+	private final int maxConcurrency;
+
+	/**
+	 * Create a new {@link ConcurrentEncryptionProcessor} decrypting values only. Values are encrypted by the converter
+	 * while mapping.
+	 *
+	 * @param encryption the {@link Encryption} used for decrypting values. Must not be {@literal null}.
+	 * @param executor the {@link Executor} to run encryption tasks on. Must not be {@literal null}.
+	 * @param maxConcurrency maximum number of concurrent tasks per batch. Must be greater than zero.
+	 */
+	public ConcurrentEncryptionProcessor(Encryption<BsonValue, BsonBinary> encryption, Executor executor,
+			int maxConcurrency) {
+		this(encryption, null, executor, maxConcurrency);
+	}
+
+	/**
+	 * Create a new {@link ConcurrentEncryptionProcessor} decrypting values and encrypting values captured by the given
+	 * {@link MongoEncryptionConverter}.
+	 *
+	 * @param converter the {@link MongoEncryptionConverter} to defer encryption for. Must not be {@literal null}.
+	 * @param executor the {@link Executor} to run encryption tasks on. Must not be {@literal null}.
+	 * @param maxConcurrency maximum number of concurrent tasks per batch. Must be greater than zero.
+	 */
+	public ConcurrentEncryptionProcessor(MongoEncryptionConverter converter, Executor executor, int maxConcurrency) {
+		this(converter.getEncryption(), converter, executor, maxConcurrency);
+	}
+
+	private ConcurrentEncryptionProcessor(Encryption<BsonValue, BsonBinary> encryption,
+			@Nullable MongoEncryptionConverter converter, Executor executor, int maxConcurrency) {
+
+		Assert.notNull(encryption, "Encryption must not be null");
+		Assert.notNull(executor, "Executor must not be null");
+		Assert.isTrue(maxConcurrency > 0, "Max concurrency must be greater than zero");
+
+		this.encryption = encryption;
+		this.converter = converter;
+		this.executor = executor;
+		this.maxConcurrency = maxConcurrency;
+	}
+
+	/**
+	 * @return {@literal true} if the processor has been created for a {@link MongoEncryptionConverter} and can
+	 *         {@link #deferEncryption(Supplier) defer} encryption.
+	 */
+	public boolean canDeferEncryption() {
+		return converter != null;
+	}
+
+	/**
+	 * Decrypt all explicitly encrypted values within the given documents. Values are replaced in place.
+	 *
+	 * @param documents must not be {@literal null}.
+	 * @throws IllegalStateException if decryption of one or more values failed.
+	 */
+	public void decrypt(List<Document> documents) {
+
+		List<Slot> slots = new ArrayList<>();
+		for (int i = 0; i < documents.size(); i++) {
+			collect(i, "", documents.get(i), value -> value instanceof Binary binary
+					&& binary.getType() == BsonBinarySubType.ENCRYPTED.getValue(), slots);
+		}
+
+		process(slots, "decrypt", value -> {
+			Binary binary = (Binary) value;
+			return encryption.decrypt(new BsonBinary(binary.getType(), binary.getData()));
+		});
+	}
+
+	/**
+	 * Run the given {@link Supplier action} capturing values the {@link MongoEncryptionConverter} of this processor
+	 * writes on the calling thread instead of encrypting them directly. Values are encrypted when passing the resulting
+	 * documents to {@link #encrypt(List)}. Keep the action limited to converting documents as any write issued within
+	 * it would store unencrypted placeholders.
+	 *
+	 * @param action must not be {@literal null}.
+	 * @return the result of the action.
+	 * @throws IllegalStateException if the processor was not created for a {@link MongoEncryptionConverter}.
+	 */
+	public <T> T deferEncryption(Supplier<T> action) {
+
+		Assert.notNull(action, "Action must not be null");
+		Assert.state(converter != null, "Deferring encryption requires a MongoEncryptionConverter");
+
+		return converter.deferEncryption(action);
+	}
+
+	/**
+	 * Encrypt all values captured while {@link #deferEncryption(Supplier) converting} the given documents. Values are
+	 * replaced in place.
+	 *
+	 * @param documents must not be {@literal null}.
+	 * @throws IllegalStateException if encryption of one or more values failed.
+	 */
+	public void encrypt(List<Document> documents) {
+
+		List<Slot> slots = new ArrayList<>();
+		for (int i = 0; i < documents.size(); i++) {
+			collect(i, "", documents.get(i), DeferredEncryption.class::isInstance, slots);
+		}
+
+		process(slots, "encrypt", value -> ((DeferredEncryption) value).encrypt());
+	}
+
+	private void process(List<Slot> slots, String operation, Function<Object, Object> function) {
+
+		if (slots.isEmpty()) {
+			return;
+		}
+
+		int tasks = Math.min(maxConcurrency, slots.size());
+		int sliceSize = (slots.size() + tasks - 1) / tasks;
+
+		List<CompletableFuture<Void>> futures = new ArrayList<>(tasks);
+		for (int start = 0; start < slots.size(); start += sliceSize) {
+
+			List<Slot> slice = slots.subList(start, Math.min(start + sliceSize, slots.size()));
+			futures.add(CompletableFuture.runAsync(() -> slice.forEach(slot -> slot.apply(function)), executor));
+		}
+
+		try {
+			CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+		} catch (CompletionException e) {
+			throw new IllegalStateException(String.format("Failed to %s values", operation), e.getCause());
+		}
+
+		List<Slot> failed = slots.stream().filter(Slot::failed).toList();
+		if (failed.isEmpty()) {
+			slots.forEach(Slot::write);
+			return;
+		}
+
+		List<String> paths = failed.stream().map(Slot::describe).toList();
+		IllegalStateException exception = new IllegalStateException(
+				String.format("Failed to %s %s value(s) at %s", operation, failed.size(), paths));
+		failed.forEach(it -> exception.addSuppressed(it.failure));
+		throw exception;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void collect(int index, String path, @Nullable Object source,
+			Predicate<Object> filter, List<Slot> slots) {
+
+		if (source instanceof Document document) {
+			for (Map.Entry<String, Object> entry : document.entrySet()) {
+
+				String entryPath = path.isEmpty() ? entry.getKey() : path + "." + entry.getKey();
+				if (filter.test(entry.getValue())) {
+					slots.add(new Slot(index, entryPath, entry.getValue(), entry::setValue));
+				} else {
+					collect(index, entryPath, entry.getValue(), filter, slots);
+				}
+			}
+		} else if (source instanceof List<?> list) {
+			for (int i = 0; i < list.size(); i++) {
+
+				int position = i;
+				String entryPath = path + "." + i;
+				if (filter.test(list.get(i))) {
+					slots.add(new Slot(index, entryPath, list.get(i), it -> ((List<Object>) list).set(position, it)));
+				} else {
+					collect(index, entryPath, list.get(i), filter, slots);
+				}
+			}
+		}
+	}
+
+	/**
+	 * A single value to process along with its location within the batch.
+	 */
+	private static class Slot {
+
+		private final int index;
+		private final String path;
+		private final Object source;
+		private final Consumer<Object> target;
+
+		private @Nullable Object result;
+		private @Nullable RuntimeException failure;
+
+		Slot(int index, String path, Object source, Consumer<Object> target) {
+
+			this.index = index;
+			this.path = path;
+			this.source = source;
+			this.target = target;
+		}
+
+		void apply(Function<Object, Object> function) {
+
+			try {
+				result = function.apply(source);
+			} catch (RuntimeException e) {
+				failure = e;
+			}
+		}
+
+		boolean failed() {
+			return failure != null;
+		}
+
+		void write() {
+			target.accept(result);
+		}
+
+		String describe() {
+			return String.format("[%s].%s", index, path);
+		}
+	}
+
+	/**
+	 * Placeholder for a value to be encrypted later on by {@link ConcurrentEncryptionProcessor#encrypt(List)}.
+	 *
+	 * @param encryption the {@link Encryption} to use.
+	 * @param value the value to encrypt.
+	 * @param options the options to apply.
+	 */
+	record DeferredEncryption(Encryption<BsonValue, BsonBinary> encryption, BsonValue value,
+			EncryptionOptions options) {
+
+		BsonBinary encrypt() {
+			return encryption.encrypt(value, options);
+		}
+	}
+}
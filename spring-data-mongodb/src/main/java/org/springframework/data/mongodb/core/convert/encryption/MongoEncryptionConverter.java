@@ -23,6 +23,8 @@ import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -35,6 +37,7 @@ import org.bson.types.Binary;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.core.CollectionFactory;
+import org.springframework.core.NamedThreadLocal;
 import org.springframework.data.mongodb.core.convert.MongoConversionContext;
 import org.springframework.data.mongodb.core.convert.MongoConversionContext.OperatorContext;
 import org.springframework.data.mongodb.core.encryption.Encryption;
@@ -65,6 +68,8 @@ public class MongoEncryptionConverter implements EncryptingConverter<Object, Obj
 
 	private final Encryption<BsonValue, BsonBinary> encryption;
 	private final EncryptionKeyResolver keyResolver;
+	private final Map<MongoPersistentProperty, EncryptionPlan> plans = new ConcurrentHashMap<>();
+	private final ThreadLocal<Boolean> deferring = new NamedThreadLocal<>("Deferred Encryption");
 
 	public MongoEncryptionConverter(Encryption<BsonValue, BsonBinary> encryption, EncryptionKeyResolver keyResolver) {
 
@@ -163,84 +168,85 @@ public class MongoEncryptionConverter implements EncryptingConverter<Object, Obj
 		}
 
 		MongoPersistentProperty persistentProperty = getProperty(context);
+		EncryptionPlan plan = plans.computeIfAbsent(persistentProperty, EncryptionPlan::of);
 
-		Encrypted annotation = persistentProperty.findAnnotation(Encrypted.class);
-		if (annotation == null) {
-			annotation = persistentProperty.getOwner().findAnnotation(Encrypted.class);
-		}
-
-		if (annotation == null) {
-			throw new IllegalStateException(String.format("Property %s.%s is not annotated with @Encrypted",
-					persistentProperty.getOwner().getName(), persistentProperty.getName()));
-		}
-
-		String algorithm = annotation.algorithm();
 		EncryptionKey key = keyResolver.getKey(context);
 		OperatorContext operatorContext = context.getOperatorContext();
 
-		EncryptionOptions encryptionOptions = new EncryptionOptions(algorithm, key,
-				getEQOptions(persistentProperty, operatorContext));
-
-		if (operatorContext != null && !operatorContext.isWriteOperation() && encryptionOptions.queryableEncryptionOptions() != null
-				&& !encryptionOptions.queryableEncryptionOptions().getQueryType().equals("equality")) {
-			return encryptExpression(operatorContext, value, encryptionOptions);
-		} else {
-			return encryptValue(value, context, persistentProperty, encryptionOptions);
-		}
-	}
-
-	private static @Nullable QueryableEncryptionOptions getEQOptions(MongoPersistentProperty persistentProperty,
-			@Nullable OperatorContext operatorContext) {
+		if (operatorContext != null && !operatorContext.isWriteOperation()) {
 
-		Queryable queryableAnnotation = persistentProperty.findAnnotation(Queryable.class);
-		if (queryableAnnotation == null || !StringUtils.hasText(queryableAnnotation.queryType())) {
-			return null;
+			EncryptionOptions encryptionOptions = new EncryptionOptions(plan.algorithm(), key, plan.queryOptions());
+			if (plan.isRange()) {
+				return encryptExpression(operatorContext, value, encryptionOptions);
+			}
+			return encryptValue(value, context, persistentProperty, encryptionOptions, false);
 		}
 
-		QueryableEncryptionOptions queryableEncryptionOptions = QueryableEncryptionOptions.none();
-
-		String queryAttributes = queryableAnnotation.queryAttributes();
-		if (!queryAttributes.isEmpty()) {
-			queryableEncryptionOptions = queryableEncryptionOptions.attributes(Document.parse(queryAttributes));
-		}
+		return encryptValue(value, context, persistentProperty,
+				new EncryptionOptions(plan.algorithm(), key, plan.writeOptions()), Boolean.TRUE.equals(deferring.get()));
+	}
 
-		if (queryableAnnotation.contentionFactor() >= 0) {
-			queryableEncryptionOptions = queryableEncryptionOptions.contentionFactor(queryableAnnotation.contentionFactor());
+	/**
+	 * Run the given {@link Supplier action} capturing values written by this converter on the current thread instead of
+	 * encrypting them directly. Query values are always encrypted right away.
+	 *
+	 * @param action must not be {@literal null}.
+	 * @return the result of the action.
+	 * @see ConcurrentEncryptionProcessor#deferEncryption(Supplier)
+	 */
+	<T> T deferEncryption(Supplier<T> action) {
+
+		Boolean previous = deferring.get();
+		deferring.set(Boolean.TRUE);
+		try {
+			return action.get();
+		} finally {
+			if (previous == null) {
+				deferring.remove();
+			} else {
+				deferring.set(previous);
+			}
 		}
+	}
 
-		boolean isPartOfARangeQuery = operatorContext != null && !operatorContext.isWriteOperation();
-		if (isPartOfARangeQuery) {
-			queryableEncryptionOptions = queryableEncryptionOptions.queryType(queryableAnnotation.queryType());
-		}
-		return queryableEncryptionOptions;
+	Encryption<BsonValue, BsonBinary> getEncryption() {
+		return encryption;
 	}
 
-	private BsonBinary encryptValue(Object value, EncryptionContext context, MongoPersistentProperty persistentProperty,
-			EncryptionOptions encryptionOptions) {
+	private Object encryptValue(Object value, EncryptionContext context, MongoPersistentProperty persistentProperty,
+			EncryptionOptions encryptionOptions, boolean defer) {
 
 		if (!persistentProperty.isEntity()) {
 
 			if (persistentProperty.isCollectionLike()) {
-				return encryption.encrypt(collectionLikeToBsonValue(value, persistentProperty, context), encryptionOptions);
+				return doEncrypt(collectionLikeToBsonValue(value, persistentProperty, context), encryptionOptions, defer);
 			}
 			if (persistentProperty.isMap()) {
 				Object convertedMap = context.write(value);
 				if (convertedMap instanceof Document document) {
-					return encryption.encrypt(document.toBsonDocument(), encryptionOptions);
+					return doEncrypt(document.toBsonDocument(), encryptionOptions, defer);
 				}
 			}
-			return encryption.encrypt(BsonUtils.simpleToBsonValue(value), encryptionOptions);
+			return doEncrypt(BsonUtils.simpleToBsonValue(value), encryptionOptions, defer);
 		}
 
 		if (persistentProperty.isCollectionLike()) {
-			return encryption.encrypt(collectionLikeToBsonValue(value, persistentProperty, context), encryptionOptions);
+			return doEncrypt(collectionLikeToBsonValue(value, persistentProperty, context), encryptionOptions, defer);
 		}
 
 		Object write = context.write(value);
 		if (write instanceof Document doc) {
-			return encryption.encrypt(doc.toBsonDocument(), encryptionOptions);
+			return doEncrypt(doc.toBsonDocument(), encryptionOptions, defer);
 		}
-		return encryption.encrypt(BsonUtils.simpleToBsonValue(write), encryptionOptions);
+		return doEncrypt(BsonUtils.simpleToBsonValue(write), encryptionOptions, defer);
+	}
+
+	private Object doEncrypt(BsonValue value, EncryptionOptions encryptionOptions, boolean defer) {
+
+		if (defer) {
+			return new ConcurrentEncryptionProcessor.DeferredEncryption(encryption, value, encryptionOptions);
+		}
+		return encryption.encrypt(value, encryptionOptions);
 	}
 
 	/**
@@ -314,4 +320,58 @@ public class MongoEncryptionConverter implements EncryptingConverter<Object, Obj
 	protected MongoPersistentProperty getProperty(EncryptionContext context) {
 		return context.getProperty();
 	}
+
+	/**
+	 * Immutable, per {@link MongoPersistentProperty property} snapshot of the {@link Encrypted} and {@link Queryable}
+	 * metadata required to encrypt values. Computed once so that annotation lookup and parsing of
+	 * {@link Queryable#queryAttributes()} do not happen for every single value.
+	 *
+	 * @param algorithm the encryption algorithm to use.
+	 * @param writeOptions the {@link QueryableEncryptionOptions} to apply when writing values, can be {@literal null}.
+	 * @param queryOptions the {@link QueryableEncryptionOptions} to apply when encrypting query values, can be
+	 *          {@literal null}.
+	 * @since 5.1
+	 */
+	private record EncryptionPlan(String algorithm, @Nullable QueryableEncryptionOptions writeOptions,
+			@Nullable QueryableEncryptionOptions queryOptions) {
+
+		static EncryptionPlan of(MongoPersistentProperty persistentProperty) {
+
+			Encrypted annotation = persistentProperty.findAnnotation(Encrypted.class);
+			if (annotation == null) {
+				annotation = persistentProperty.getOwner().findAnnotation(Encrypted.class);
+			}
+
+			if (annotation == null) {
+				throw new IllegalStateException(String.format("Property %s.%s is not annotated with @Encrypted",
+						persistentProperty.getOwner().getName(), persistentProperty.getName()));
+			}
+
+			Queryable queryableAnnotation = persistentProperty.findAnnotation(Queryable.class);
+			if (queryableAnnotation == null || !StringUtils.hasText(queryableAnnotation.queryType())) {
+				return new EncryptionPlan(annotation.algorithm(), null, null);
+			}
+
+			QueryableEncryptionOptions queryableEncryptionOptions = QueryableEncryptionOptions.none();
+
+			String queryAttributes = queryableAnnotation.queryAttributes();
+			if (!queryAttributes.isEmpty()) {
+				queryableEncryptionOptions = queryableEncryptionOptions.attributes(Document.parse(queryAttributes));
+			}
+
+			if (queryableAnnotation.contentionFactor() >= 0) {
+				queryableEncryptionOptions = queryableEncryptionOptions.contentionFactor(queryableAnnotation.contentionFactor());
+			}
+
+			return new EncryptionPlan(annotation.algorithm(), queryableEncryptionOptions,
+					queryableEncryptionOptions.queryType(queryableAnnotation.queryType()));
+		}
+
+		/**
+		 * @return {@literal true} if query values need to be encrypted as range expression.
+		 */
+		boolean isRange() {
+			return queryOptions != null && !"equality".equals(queryOptions.getQueryType());
+		}
+	}
 }
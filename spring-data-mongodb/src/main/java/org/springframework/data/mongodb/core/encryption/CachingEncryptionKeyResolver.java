@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.encryption;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.mongodb.core.mapping.Encrypted;
+import org.springframework.data.mongodb.core.mapping.ExplicitEncrypted;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.util.spel.ExpressionUtils;
+import org.springframework.util.Assert;
+
+/**
+ * {@link EncryptionKeyResolver} caching resolved {@link EncryptionKey keys} per {@link MongoPersistentProperty}.
+ * Properties whose key depends on the actual value being written, such as {@link ExplicitEncrypted#keyAltName()
+ * references to other fields} or {@link Encrypted#keyId() expression based key ids}, are always resolved via the
+ * delegate. The cache is bounded, once {@code maxSize} entries are held, keys for further properties are resolved
+ * without being cached.
+ *
+ * @since 5.1
+ */
+class CachingEncryptionKeyResolver implements EncryptionKeyResolver {
+
+	private final EncryptionKeyResolver delegate;
+	private final int maxSize;
+	private final Map<MongoPersistentProperty, EncryptionKey> cache;
+	private final Map<MongoPersistentProperty, Boolean> cacheable;
+
+	CachingEncryptionKeyResolver(EncryptionKeyResolver delegate, int maxSize) {
+
+		Assert.notNull(delegate, "Delegate EncryptionKeyResolver must not be null");
+		Assert.isTrue(maxSize > 0, "Max size must be greater than zero");
+
+		this.delegate = delegate;
+		this.maxSize = maxSize;
+		this.cache = new ConcurrentHashMap<>(Math.min(maxSize, 64));
+		this.cacheable = new ConcurrentHashMap<>(Math.min(maxSize, 64));
+	}
+
+	@Override
+	public EncryptionKey getKey(EncryptionContext encryptionContext) {
+
+		MongoPersistentProperty property = encryptionContext.getProperty();
+
+		EncryptionKey key = cache.get(property);
+		if (key != null) {
+			return key;
+		}
+
+		key = delegate.getKey(encryptionContext);
+
+		if (cache.size() < maxSize && isCacheable(property)) {
+			cache.putIfAbsent(property, key);
+		}
+
+		return key;
+	}
+
+	private boolean isCacheable(MongoPersistentProperty property) {
+		return cacheable.computeIfAbsent(property, CachingEncryptionKeyResolver::hasStaticKey);
+	}
+
+	private static boolean hasStaticKey(MongoPersistentProperty property) {
+
+		ExplicitEncrypted explicitEncrypted = property.findAnnotation(ExplicitEncrypted.class);
+		if (explicitEncrypted != null && explicitEncrypted.keyAltName().startsWith("/")) {
+			return false;
+		}
+
+		Encrypted encrypted = property.getOwner().findAnnotation(Encrypted.class);
+		if (encrypted != null) {
+			for (String keyId : encrypted.keyId()) {
+				if (ExpressionUtils.detectExpression(keyId) != null) {
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+}
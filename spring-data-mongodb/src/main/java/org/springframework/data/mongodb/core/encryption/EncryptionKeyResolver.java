@@ -97,4 +97,19 @@ public interface EncryptionKeyResolver {
 			}
 		});
 	}
+
+	/**
+	 * Obtain an {@link EncryptionKeyResolver} that caches the {@link EncryptionKey keys} obtained from the given
+	 * {@link EncryptionKeyResolver resolver} per property. Keys referencing values of the document being written (e.g.
+	 * {@code @ExplicitEncrypted(keyAltName = "/path")}) or using expressions are not cached. Use only with resolvers that
+	 * otherwise return the same key for a given property.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 * @param maxSize maximum number of properties to cache keys for. Must be greater than zero.
+	 * @return new instance of {@link EncryptionKeyResolver}.
+	 * @since 5.1
+	 */
+	static EncryptionKeyResolver cached(EncryptionKeyResolver delegate, int maxSize) {
+		return new CachingEncryptionKeyResolver(delegate, maxSize);
+	}
 }
@@ -32,6 +32,7 @@ public class CachingMongoPersistentProperty extends BasicMongoPersistentProperty
 
 	private final Lazy<Boolean> isEntity = Lazy.of(super::isEntity);
 	private final Lazy<Boolean> isUnwrapped = Lazy.of(super::isUnwrapped);
+	private final Lazy<Boolean> isReadLazily = Lazy.of(super::isReadLazily);
 	private final Lazy<Boolean> isIdProperty = Lazy.of(super::isIdProperty);
 	private final Lazy<Boolean> isAssociation = Lazy.of(super::isAssociation);
 	private final Lazy<DBRef> dbref = Lazy.of(super::getDBRef);
@@ -42,6 +43,7 @@ public class CachingMongoPersistentProperty extends BasicMongoPersistentProperty
 	private final Lazy<Boolean> usePropertyAccess = Lazy.of(super::usePropertyAccess);
 	private final Lazy<Boolean> isTransient = Lazy.of(super::isTransient);
 	private final Lazy<MongoField> mongoField = Lazy.of(super::getMongoField);
+	private final Lazy<FieldPathAccessor> fieldPathAccessor = Lazy.of(super::getFieldPathAccessor);
 	private final Lazy<Boolean> isTextScoreProperty = Lazy.of(super::isTextScoreProperty);
 	private final Lazy<Boolean> isLanguageProperty = Lazy.of(super::isLanguageProperty);
 	private final Lazy<Boolean> isExplicitLanguageProperty = Lazy.of(super::isExplicitLanguageProperty);
@@ -70,6 +72,11 @@ public class CachingMongoPersistentProperty extends BasicMongoPersistentProperty
 		return isUnwrapped.get();
 	}
 
+	@Override
+	public boolean isReadLazily() {
+		return isReadLazily.get();
+	}
+
 	@Override
 	public boolean isIdProperty() {
 		return isIdProperty.get();
@@ -145,4 +152,9 @@ public class CachingMongoPersistentProperty extends BasicMongoPersistentProperty
 		return mongoField.get();
 	}
 
+	@Override
+	public FieldPathAccessor getFieldPathAccessor() {
+		return fieldPathAccessor.get();
+	}
+
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks nested entity, collection and map properties to be converted from the source document on first access instead
+ * of when reading the owning entity. Lazily read properties are set to a proxy of the declared property type that
+ * holds on to the raw value and converts it when a method gets invoked for the first time.
+ * <p>
+ * Applies to all eligible properties when used on a type and can be disabled for individual properties through
+ * {@code @LazyRead(false)}. Properties are read eagerly if their declared type is an array or a {@code final} class,
+ * they are set through the persistence constructor, they are associations or use property value conversion.
+ *
+ * <pre class="code">
+ * &#64;LazyRead
+ * class CatalogItem {
+ * 	String id;
+ * 	String name;
+ * 	List&lt;Variant&gt; variants; // converted on first access
+ * 	&#64;LazyRead(false) Price price;
+ * }
+ * </pre>
+ *
+ * @since 5.1
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.FIELD, ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+public @interface LazyRead {
+
+	/**
+	 * @return {@literal true} to read the property lazily. {@literal true} by default.
+	 */
+	boolean value() default true;
+}
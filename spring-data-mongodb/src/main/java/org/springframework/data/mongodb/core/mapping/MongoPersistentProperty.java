@@ -170,6 +170,22 @@ public interface MongoPersistentProperty extends PersistentProperty<MongoPersist
 		return isEntity() && isAnnotationPresent(Unwrapped.class);
 	}
 
+	/**
+	 * @return {@literal true} if the property is {@link LazyRead configured} to be converted on first access. Considers
+	 *         {@link LazyRead} on the property before the one on its owning type.
+	 * @since 5.1
+	 */
+	default boolean isReadLazily() {
+
+		LazyRead lazyRead = findAnnotation(LazyRead.class);
+
+		if (lazyRead == null) {
+			lazyRead = getOwner().findAnnotation(LazyRead.class);
+		}
+
+		return lazyRead != null && lazyRead.value();
+	}
+
 	/**
 	 * @return the resolved encryption keyIds if applicable. An empty {@link Collection} if no keyIds specified.
 	 *         {@literal null} no {@link Encrypted} annotation found.
@@ -183,6 +199,14 @@ public interface MongoPersistentProperty extends PersistentProperty<MongoPersist
 	 */
 	MongoField getMongoField();
 
+	/**
+	 * @return the {@link FieldPathAccessor} to read/write the {@link #getMongoField() field} in a MongoDB document.
+	 * @since 5.1
+	 */
+	default FieldPathAccessor getFieldPathAccessor() {
+		return FieldPathAccessor.of(getMongoField().getName());
+	}
+
 	/**
 	 * Simple {@link Converter} implementation to transform a {@link MongoPersistentProperty} into its field name.
 	 *
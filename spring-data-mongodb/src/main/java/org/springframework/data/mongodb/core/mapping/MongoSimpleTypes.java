@@ -18,6 +18,8 @@ package org.springframework.data.mongodb.core.mapping;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.Instant;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 import java.util.regex.Pattern;
@@ -66,8 +68,22 @@ public abstract class MongoSimpleTypes {
 	public static final SimpleTypeHolder HOLDER = createSimpleTypeHolder();
 
 	public static SimpleTypeHolder createSimpleTypeHolder() {
+		return createSimpleTypeHolder(Collections.emptySet());
+	}
+
+	/**
+	 * Create a new {@link SimpleTypeHolder} considering the given types simple in addition to the MongoDB simple types.
+	 *
+	 * @param additionalSimpleTypes must not be {@literal null}.
+	 * @return new instance of {@link SimpleTypeHolder}.
+	 * @since 5.1
+	 */
+	public static SimpleTypeHolder createSimpleTypeHolder(Set<Class<?>> additionalSimpleTypes) {
+
+		Set<Class<?>> simpleTypes = new HashSet<>(MONGO_SIMPLE_TYPES);
+		simpleTypes.addAll(additionalSimpleTypes);
 
-		return new SimpleTypeHolder(MONGO_SIMPLE_TYPES, true) {
+		return new SimpleTypeHolder(simpleTypes, true) {
 
 			@Override
 			public boolean isSimpleType(Class<?> type) {
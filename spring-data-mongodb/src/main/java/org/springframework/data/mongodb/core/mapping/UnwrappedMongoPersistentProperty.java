@@ -156,6 +156,16 @@ class UnwrappedMongoPersistentProperty implements MongoPersistentProperty {
 		return delegate.getMongoField().withPrefix(context.getProperty().findAnnotation(Unwrapped.class).prefix());
 	}
 
+	@Override
+	public FieldPathAccessor getFieldPathAccessor() {
+
+		if (!context.getProperty().isUnwrapped()) {
+			return delegate.getFieldPathAccessor();
+		}
+
+		return FieldPathAccessor.of(getMongoField().getName());
+	}
+
 	@Override
 	public TypeInformation<?> getTypeInformation() {
 		return delegate.getTypeInformation();
@@ -281,6 +291,11 @@ class UnwrappedMongoPersistentProperty implements MongoPersistentProperty {
 		return delegate.isUnwrapped();
 	}
 
+	@Override
+	public boolean isReadLazily() {
+		return delegate.isReadLazily();
+	}
+
 	@Override
 	public Collection<Object> getEncryptionKeyIds() {
 		return delegate.getEncryptionKeyIds();
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.query;
+
+import java.util.Map;
+
+import org.bson.Document;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Query {@link Document} that is already expressed in terms of the stored document structure, using mapped field names
+ * and values converted to their MongoDB representation. {@link org.springframework.data.mongodb.core.convert.QueryMapper}
+ * passes on such documents without inspecting the domain type metadata.
+ * <p>
+ * Mainly intended for generated code (e.g. AOT repositories) that resolves property paths ahead of time. Using a
+ * {@link MappedQueryDocument} for queries that reference domain property names bypasses field name translation and
+ * value conversion.
+ *
+ * @since 5.1
+ */
+public class MappedQueryDocument extends Document {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Create a new, empty {@link MappedQueryDocument}.
+	 */
+	public MappedQueryDocument() {}
+
+	/**
+	 * Create a new {@link MappedQueryDocument} with the given mapped field name and value.
+	 *
+	 * @param key the mapped field name.
+	 * @param value the converted value.
+	 */
+	public MappedQueryDocument(String key, @Nullable Object value) {
+		super(key, value);
+	}
+
+	/**
+	 * Create a new {@link MappedQueryDocument} holding the given already mapped fields.
+	 *
+	 * @param map the mapped fields.
+	 */
+	public MappedQueryDocument(Map<String, ?> map) {
+		super(map);
+	}
+}
@@ -0,0 +1,447 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import static com.mongodb.client.model.Filters.*;
+import static org.springframework.data.mongodb.gridfs.GridFsChunks.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.bson.BsonType;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.bson.types.ObjectId;
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+import com.mongodb.MongoGridFSException;
+import com.mongodb.ReadPreference;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.IndexOptions;
+
+/**
+ * Writes GridFS files by inserting chunk documents directly into the {@literal chunks} collection. Chunks are inserted
+ * in batches, optionally keeping multiple batches in flight, and the {@literal files} document is only written once all
+ * chunks have been stored.
+ * <p>
+ * If a {@link Settings#digestAlgorithm() digest algorithm} is configured, the content digest is computed while reading
+ * the content and stored in the file metadata. If {@link Settings#deduplicate() enabled}, uploads without a given file
+ * id that fit into the in-flight window are deduplicated against existing files with an {@link ObjectId} and the same
+ * digest and length before writing any chunk. The chunks of the existing file are then copied on the server for a new
+ * {@literal files} document carrying the filename and metadata of the upload. Deduplication therefore saves transferring
+ * the content but not storage. Larger content is written as is.
+ * <p>
+ * Like the driver, the writer creates the {@literal files} and unique {@literal chunks} indexes of the bucket before
+ * the first write if the {@literal files} collection is empty, and an index on the content digest and length before the
+ * first deduplicating write.
+ *
+ * @since 5.1
+ */
+class GridFsChunkWriter {
+
+	static final String FILENAME = "filename";
+	static final String LENGTH = "length";
+	static final String CHUNK_SIZE = "chunkSize";
+	static final String UPLOAD_DATE = "uploadDate";
+	static final String METADATA = "metadata";
+
+	static final Document FILES_INDEX = new Document(FILENAME, 1).append(UPLOAD_DATE, 1);
+	static final Document CHUNKS_INDEX = new Document(FILES_ID, 1).append(N, 1);
+	static final Document DIGEST_INDEX = new Document(METADATA + "." + GridFsResource.CONTENT_DIGEST_FIELD, 1)
+			.append(LENGTH, 1);
+
+	private final Supplier<MongoCollection<Document>> files;
+	private final Supplier<MongoCollection<Document>> chunks;
+
+	private volatile boolean checkedIndexes;
+	private volatile boolean checkedDigestIndex;
+
+	/**
+	 * @param files must not be {@literal null}.
+	 * @param chunks must not be {@literal null}.
+	 */
+	GridFsChunkWriter(Supplier<MongoCollection<Document>> files, Supplier<MongoCollection<Document>> chunks) {
+
+		Assert.notNull(files, "Files collection must not be null");
+		Assert.notNull(chunks, "Chunks collection must not be null");
+
+		this.files = files;
+		this.chunks = chunks;
+	}
+
+	/**
+	 * Write the given content.
+	 *
+	 * @param fileId the id of the file to create. Can be {@literal null} to generate a new id and allow deduplication.
+	 * @param filename the file name.
+	 * @param content the content to write.
+	 * @param chunkSize the chunk size in bytes.
+	 * @param metadata the file metadata.
+	 * @param settings the {@link Settings} to apply.
+	 * @return the id of the written file.
+	 * @throws MongoGridFSException if the content cannot be read or written.
+	 */
+	Object write(@Nullable Object fileId, @Nullable String filename, InputStream content, int chunkSize,
+			Document metadata, Settings settings) {
+
+		Assert.isTrue(chunkSize > 0, "Chunk size must be greater than zero");
+
+		ensureIndexes(settings);
+
+		Upload upload = new Upload(fileId != null ? fileId : new ObjectId(), fileId == null, settings);
+
+		try {
+			long length = upload.writeChunks(content, chunkSize);
+			int fileChunkSize = chunkSize;
+
+			if (upload.digest != null) {
+
+				String digest = HexFormat.of().formatHex(upload.digest.digest());
+
+				if (upload.canDeduplicate()) {
+
+					Document existing = findExisting(digest, length);
+					if (existing != null) {
+						upload.copyChunksOf(existing.get("_id"));
+						fileChunkSize = existing.getInteger(CHUNK_SIZE, chunkSize);
+					}
+				}
+
+				metadata.put(GridFsResource.CONTENT_DIGEST_FIELD, digest);
+			}
+
+			upload.flush();
+
+			Document file = new Document("_id", upload.fileId);
+			if (filename != null) {
+				file.append(FILENAME, filename);
+			}
+			file.append(LENGTH, length).append(CHUNK_SIZE, fileChunkSize).append(UPLOAD_DATE, new Date()).append(METADATA,
+					metadata);
+
+			files.get().insertOne(file);
+			return upload.fileId;
+		} catch (RuntimeException e) {
+
+			upload.abort();
+			throw e instanceof MongoGridFSException ex ? ex : new MongoGridFSException("Failed to upload chunks", e);
+		}
+	}
+
+	/**
+	 * Create the indexes the driver creates for a new bucket before the first write and, if deduplicating, an index to
+	 * look up existing files by their digest.
+	 */
+	private void ensureIndexes(Settings settings) {
+
+		if (!checkedIndexes) {
+
+			MongoCollection<Document> filesCollection = files.get();
+			if (filesCollection.withReadPreference(ReadPreference.primary()).find().projection(new Document("_id", 1))
+					.first() == null) {
+
+				createIndexIfMissing(filesCollection, FILES_INDEX, new IndexOptions());
+				createIndexIfMissing(chunks.get(), CHUNKS_INDEX, new IndexOptions().unique(true));
+			}
+			checkedIndexes = true;
+		}
+
+		if (settings.deduplicate() && !checkedDigestIndex) {
+
+			createIndexIfMissing(files.get(), DIGEST_INDEX, new IndexOptions());
+			checkedDigestIndex = true;
+		}
+	}
+
+	private static void createIndexIfMissing(MongoCollection<Document> collection, Document keys, IndexOptions options) {
+
+		for (Document index : collection.listIndexes().into(new ArrayList<>())) {
+			if (hasKeys(index.get("key", Document.class), keys)) {
+				return;
+			}
+		}
+
+		collection.createIndex(keys, options);
+	}
+
+	/**
+	 * Compare index keys by name, order and direction as the server may report directions as {@link Double}.
+	 */
+	private static boolean hasKeys(@Nullable Document actual, Document expected) {
+
+		if (actual == null || !new ArrayList<>(actual.keySet()).equals(new ArrayList<>(expected.keySet()))) {
+			return false;
+		}
+
+		for (String key : expected.keySet()) {
+			if (!(actual.get(key) instanceof Number direction)
+					|| direction.intValue() != ((Number) expected.get(key)).intValue()) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private @Nullable Document findExisting(String digest, long length) {
+
+		return files.get().find(and(type("_id", BsonType.OBJECT_ID),
+				eq(METADATA + "." + GridFsResource.CONTENT_DIGEST_FIELD, digest), eq(LENGTH, length))).first();
+	}
+
+	/**
+	 * Settings for writing chunks.
+	 *
+	 * @param batchSize number of chunks to insert per batch.
+	 * @param window maximum number of batches in flight. {@literal 0} inserts batches on the calling thread.
+	 * @param executor the {@link Executor} to insert batches on. Can be {@literal null} if {@code window} is
+	 *          {@literal 0}.
+	 * @param digestAlgorithm the {@link MessageDigest} algorithm to compute the content digest with. Can be
+	 *          {@literal null} to not compute a digest.
+	 * @param deduplicate whether to reuse the chunks of existing files with identical content. Requires a
+	 *          {@code digestAlgorithm}. Only content fitting into {@code max(1, window)} batches is deduplicated. The chunks
+	 *          of an existing file are copied on the server, so deduplication avoids transferring the content but does
+	 *          not save storage.
+	 */
+	record Settings(int batchSize, int window, @Nullable Executor executor, @Nullable String digestAlgorithm,
+			boolean deduplicate) {
+
+		static final Settings NONE = new Settings(1, 0, null, null);
+
+		Settings {
+
+			Assert.isTrue(batchSize > 0, "Batch size must be greater than zero");
+			Assert.isTrue(window >= 0, "Window must not be negative");
+			Assert.isTrue(window == 0 || executor != null, "Executor must not be null when using an upload window");
+			Assert.isTrue(!deduplicate || digestAlgorithm != null, "Deduplication requires a digest algorithm");
+		}
+
+		Settings(int batchSize, int window, @Nullable Executor executor, @Nullable String digestAlgorithm) {
+			this(batchSize, window, executor, digestAlgorithm, false);
+		}
+
+		/**
+		 * @return {@literal true} if chunks should be written by {@link GridFsChunkWriter} instead of the driver.
+		 */
+		boolean isEnabled() {
+			return window > 0 || digestAlgorithm != null;
+		}
+
+		@Nullable
+		MessageDigest createDigest() {
+
+			if (digestAlgorithm == null) {
+				return null;
+			}
+
+			try {
+				return MessageDigest.getInstance(digestAlgorithm);
+			} catch (NoSuchAlgorithmException e) {
+				throw new IllegalStateException(String.format("Digest algorithm %s not available", digestAlgorithm), e);
+			}
+		}
+	}
+
+	/**
+	 * State of a single upload.
+	 */
+	private class Upload {
+
+		final Object fileId;
+		final boolean deduplicate;
+		final @Nullable MessageDigest digest;
+
+		private final Settings settings;
+		private final Deque<CompletableFuture<Void>> inFlight;
+		private final List<List<Document>> held = new ArrayList<>();
+		private boolean written;
+
+		Upload(Object fileId, boolean deduplicate, Settings settings) {
+
+			this.fileId = fileId;
+			this.digest = settings.createDigest();
+			this.deduplicate = deduplicate && settings.deduplicate();
+			this.settings = settings;
+			this.inFlight = new ArrayDeque<>(settings.window() + 1);
+		}
+
+		long writeChunks(InputStream content, int chunkSize) {
+
+			long length = 0;
+			int n = 0;
+			List<Document> batch = new ArrayList<>(settings.batchSize());
+
+			byte[] buffer = new byte[chunkSize];
+			int read;
+			while ((read = readChunk(content, buffer)) > 0) {
+
+				byte[] data = read == chunkSize ? buffer : Arrays.copyOf(buffer, read);
+				buffer = new byte[chunkSize];
+
+				if (digest != null) {
+					digest.update(data);
+				}
+
+				batch.add(new Document(FILES_ID, fileId).append(N, n++).append(DATA, new Binary(data)));
+				length += read;
+
+				if (batch.size() == settings.batchSize()) {
+					submit(batch);
+					batch = new ArrayList<>(settings.batchSize());
+				}
+			}
+
+			if (!batch.isEmpty()) {
+				submit(batch);
+			}
+
+			return length;
+		}
+
+		/**
+		 * Insert the given batch unless held back for deduplication. Batches are held back until the in-flight window is
+		 * exceeded so that small content can be checked for duplicates before writing any chunk.
+		 */
+		private void submit(List<Document> batch) {
+
+			if (deduplicate && !written) {
+
+				held.add(batch);
+				if (held.size() <= Math.max(1, settings.window())) {
+					return;
+				}
+
+				flush();
+				return;
+			}
+
+			insert(batch);
+		}
+
+		/**
+		 * Insert all held back batches and wait for in-flight batches to complete.
+		 */
+		void flush() {
+
+			written = true;
+			held.forEach(this::insert);
+			held.clear();
+
+			while (!inFlight.isEmpty()) {
+				await(inFlight.poll());
+			}
+		}
+
+		private void insert(List<Document> batch) {
+
+			written = true;
+
+			if (settings.window() == 0) {
+				chunks.get().insertMany(batch);
+				return;
+			}
+
+			while (inFlight.size() >= settings.window()) {
+				await(inFlight.poll());
+			}
+
+			inFlight.add(CompletableFuture.runAsync(() -> chunks.get().insertMany(batch), settings.executor()));
+		}
+
+		/**
+		 * @return {@literal true} if deduplication is enabled and no chunk has been written yet.
+		 */
+		boolean canDeduplicate() {
+			return deduplicate && !written;
+		}
+
+		/**
+		 * Drop the held back chunks and copy the chunks of the existing file with the given id on the server instead.
+		 */
+		void copyChunksOf(Object existingId) {
+
+			held.clear();
+			written = true;
+
+			MongoCollection<Document> collection = chunks.get();
+			collection.aggregate(List.of(Aggregates.match(eq(FILES_ID, existingId)),
+					Aggregates.project(new Document("_id", 0).append(FILES_ID, new Document("$literal", fileId)).append(N, 1)
+							.append(DATA, 1)),
+					Aggregates.merge(collection.getNamespace().getCollectionName()))).toCollection();
+		}
+
+		/**
+		 * Stop the upload and remove chunks written so far, suppressing further failures.
+		 */
+		void abort() {
+
+			held.clear();
+			inFlight.forEach(it -> {
+				try {
+					it.join();
+				} catch (RuntimeException e) {
+					// already failing
+				}
+			});
+			inFlight.clear();
+
+			if (written) {
+				try {
+					chunks.get().deleteMany(eq(FILES_ID, fileId));
+				} catch (RuntimeException e) {
+					// best effort cleanup
+				}
+			}
+		}
+
+		private static void await(@Nullable CompletableFuture<Void> future) {
+
+			if (future == null) {
+				return;
+			}
+
+			try {
+				future.join();
+			} catch (CompletionException e) {
+				throw e.getCause() instanceof RuntimeException ex ? ex : e;
+			}
+		}
+
+		private static int readChunk(InputStream content, byte[] buffer) {
+
+			try {
+				return content.readNBytes(buffer, 0, buffer.length);
+			} catch (IOException e) {
+				throw new MongoGridFSException("IOException when reading from the InputStream", e);
+			}
+		}
+	}
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import static com.mongodb.client.model.Filters.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.Binary;
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+import com.mongodb.MongoGridFSException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.gridfs.model.GridFSFile;
+import com.mongodb.client.model.Sorts;
+
+/**
+ * Direct access to the {@literal chunks} collection of a GridFS bucket allowing to read byte ranges of a file by
+ * fetching only the chunks covering the requested range.
+ *
+ * @since 5.1
+ */
+class GridFsChunks {
+
+	static final String FILES_ID = "files_id";
+	static final String N = "n";
+	static final String DATA = "data";
+
+	private final Supplier<MongoCollection<Document>> collection;
+
+	/**
+	 * @param collection must not be {@literal null}.
+	 */
+	GridFsChunks(Supplier<MongoCollection<Document>> collection) {
+
+		Assert.notNull(collection, "Chunks collection must not be null");
+		this.collection = collection;
+	}
+
+	/**
+	 * Obtain an {@link InputStream} reading {@code length} bytes of the given file starting at {@code position}.
+	 *
+	 * @param file the file to read.
+	 * @param position the position of the first byte to read.
+	 * @param length the maximum number of bytes to read.
+	 * @param prefetch number of chunks to fetch concurrently ahead of the current one. Use {@literal 0} to read chunks
+	 *          sequentially from a single cursor.
+	 * @param executor the {@link Executor} to fetch chunks on when prefetching. Can be {@literal null} if
+	 *          {@code prefetch} is {@literal 0}.
+	 * @return never {@literal null}.
+	 */
+	InputStream read(GridFSFile file, long position, long length, int prefetch, @Nullable Executor executor) {
+
+		ChunkRange range = ChunkRange.of(file, position, length);
+
+		if (prefetch > 0) {
+
+			Assert.notNull(executor, "Executor must not be null when prefetching chunks");
+			return new PrefetchingChunkInputStream(range, prefetch, executor);
+		}
+
+		return new CursorChunkInputStream(range);
+	}
+
+	private Bson chunk(BsonValue fileId, int n) {
+		return and(eq(FILES_ID, fileId), eq(N, n));
+	}
+
+	private Document fetchChunk(BsonValue fileId, int n) {
+
+		Document chunk = collection.get().find(chunk(fileId, n)).first();
+		if (chunk == null) {
+			throw missingChunk(fileId, n);
+		}
+		return chunk;
+	}
+
+	static MongoGridFSException missingChunk(BsonValue fileId, int n) {
+		return new MongoGridFSException(
+				String.format("Could not find file chunk for file_id: %s at chunk index %s", fileId, n));
+	}
+
+	static byte[] getData(Document chunk) {
+
+		Object data = chunk.get(DATA);
+		if (data instanceof Binary binary) {
+			return binary.getData();
+		}
+		if (data instanceof byte[] bytes) {
+			return bytes;
+		}
+		throw new MongoGridFSException(String.format("Unexpected chunk data type %s",
+				data == null ? "null" : data.getClass().getName()));
+	}
+
+	/**
+	 * The chunks and offsets covering a byte range of a {@link GridFSFile}.
+	 *
+	 * @param fileId the file id.
+	 * @param chunkSize the chunk size of the file.
+	 * @param firstChunk index of the first chunk to read.
+	 * @param lastChunk index of the last chunk to read.
+	 * @param offset offset within the first chunk.
+	 * @param length number of bytes to read.
+	 */
+	record ChunkRange(BsonValue fileId, int chunkSize, int firstChunk, int lastChunk, int offset, long length) {
+
+		static ChunkRange of(GridFSFile file, long position, long length) {
+
+			Assert.isTrue(position >= 0, "Position must not be negative");
+			Assert.isTrue(length >= 0, "Length must not be negative");
+
+			int chunkSize = file.getChunkSize();
+			long available = Math.max(0, file.getLength() - position);
+			long toRead = Math.min(length, available);
+
+			int firstChunk = Math.toIntExact(position / chunkSize);
+			int lastChunk = toRead == 0 ? firstChunk - 1 : Math.toIntExact((position + toRead - 1) / chunkSize);
+
+			return new ChunkRange(file.getId(), chunkSize, firstChunk, lastChunk, (int) (position % chunkSize), toRead);
+		}
+
+		boolean isEmpty() {
+			return length == 0;
+		}
+
+		int chunkCount() {
+			return lastChunk - firstChunk + 1;
+		}
+	}
+
+	/**
+	 * Base {@link InputStream} handing out the bytes of the {@link ChunkRange}.
+	 */
+	private abstract static class ChunkInputStream extends InputStream {
+
+		final ChunkRange range;
+		int nextChunk;
+		long remaining;
+
+		private byte @Nullable [] buffer;
+		private int bufferOffset;
+		private int bufferLimit;
+		boolean closed;
+
+		ChunkInputStream(ChunkRange range) {
+
+			this.range = range;
+			this.nextChunk = range.firstChunk();
+			this.remaining = range.length();
+		}
+
+		@Override
+		public int read() throws IOException {
+
+			byte[] single = new byte[1];
+			int read = read(single, 0, 1);
+			return read == -1 ? -1 : single[0] & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+
+			if (closed) {
+				throw new IOException("Stream already closed");
+			}
+
+			if (len == 0) {
+				return 0;
+			}
+
+			if (remaining <= 0) {
+				return -1;
+			}
+
+			if (buffer == null || bufferOffset >= bufferLimit) {
+				nextBuffer();
+			}
+
+			int toCopy = (int) Math.min(Math.min(len, bufferLimit - bufferOffset), remaining);
+			System.arraycopy(buffer, bufferOffset, b, off, toCopy);
+			bufferOffset += toCopy;
+			remaining -= toCopy;
+			return toCopy;
+		}
+
+		@Override
+		public int available() {
+			return buffer == null ? 0 : (int) Math.min(bufferLimit - bufferOffset, remaining);
+		}
+
+		private void nextBuffer() throws IOException {
+
+			int n = nextChunk++;
+			Document chunk;
+			try {
+				chunk = fetch(n);
+			} catch (RuntimeException e) {
+				throw new IOException(e.getMessage(), e);
+			}
+
+			byte[] data = getData(chunk);
+			this.buffer = data;
+			this.bufferOffset = n == range.firstChunk() ? range.offset() : 0;
+			this.bufferLimit = data.length;
+
+			if (bufferOffset >= bufferLimit) {
+				throw new IOException(missingChunk(range.fileId(), n));
+			}
+		}
+
+		/**
+		 * Fetch the chunk document with the given index.
+		 */
+		abstract Document fetch(int n);
+
+		@Override
+		public void close() {
+			closed = true;
+			buffer = null;
+		}
+	}
+
+	/**
+	 * Reads chunks of the range sequentially using a single cursor seeking directly to the first chunk.
+	 */
+	private class CursorChunkInputStream extends ChunkInputStream {
+
+		private @Nullable MongoCursor<Document> cursor;
+
+		CursorChunkInputStream(ChunkRange range) {
+			super(range);
+		}
+
+		@Override
+		Document fetch(int n) {
+
+			if (cursor == null) {
+				cursor = collection.get()
+						.find(and(eq(FILES_ID, range.fileId()), gte(N, range.firstChunk()), lte(N, range.lastChunk())))
+						.sort(Sorts.ascending(N)).iterator();
+			}
+
+			if (!cursor.hasNext()) {
+				throw missingChunk(range.fileId(), n);
+			}
+
+			Document chunk = cursor.next();
+			if (chunk.getInteger(N, -1) != n) {
+				throw missingChunk(range.fileId(), n);
+			}
+			return chunk;
+		}
+
+		@Override
+		public void close() {
+
+			super.close();
+			if (cursor != null) {
+				cursor.close();
+				cursor = null;
+			}
+		}
+	}
+
+	/**
+	 * Reads chunks of the range keeping up to {@code prefetch} single-chunk queries in flight.
+	 */
+	private class PrefetchingChunkInputStream extends ChunkInputStream {
+
+		private final int prefetch;
+		private final Executor executor;
+		private final Deque<CompletableFuture<Document>> inFlight;
+		private int nextToRequest;
+
+		PrefetchingChunkInputStream(ChunkRange range, int prefetch, Executor executor) {
+
+			super(range);
+
+			this.prefetch = prefetch;
+			this.executor = executor;
+			this.inFlight = new ArrayDeque<>(prefetch + 1);
+			this.nextToRequest = range.firstChunk();
+		}
+
+		@Override
+		Document fetch(int n) {
+
+			request();
+			CompletableFuture<Document> next = inFlight.poll();
+			if (next == null) {
+				throw missingChunk(range.fileId(), n);
+			}
+
+			try {
+				return next.join();
+			} catch (CompletionException e) {
+				throw e.getCause() instanceof RuntimeException ex ? ex : e;
+			} finally {
+				request();
+			}
+		}
+
+		private void request() {
+
+			while (!closed && inFlight.size() <= prefetch && nextToRequest <= range.lastChunk()) {
+
+				int n = nextToRequest++;
+				inFlight.add(CompletableFuture.supplyAsync(() -> fetchChunk(range.fileId(), n), executor));
+			}
+		}
+
+		@Override
+		public void close() {
+
+			super.close();
+			inFlight.forEach(it -> it.cancel(false));
+			inFlight.clear();
+		}
+	}
+}
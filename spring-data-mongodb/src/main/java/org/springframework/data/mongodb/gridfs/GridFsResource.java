@@ -17,6 +17,7 @@ package org.springframework.data.mongodb.gridfs;
 
 import java.io.ByteArrayInputStream;
 import java.io.FileNotFoundException;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Optional;
@@ -41,10 +42,12 @@ import com.mongodb.client.gridfs.model.GridFSFile;
 public class GridFsResource extends InputStreamResource implements GridFsObject<Object, InputStream> {
 
 	static final String CONTENT_TYPE_FIELD = "_contentType";
+	static final String CONTENT_DIGEST_FIELD = "_contentDigest";
 	private static final ByteArrayInputStream EMPTY_INPUT_STREAM = new ByteArrayInputStream(new byte[0]);
 
 	private final @Nullable GridFSFile file;
 	private final String filename;
+	private final @Nullable RangeSource rangeSource;
 
 	/**
 	 * Creates a new, absent {@link GridFsResource}.
@@ -58,6 +61,7 @@ public class GridFsResource extends InputStreamResource implements GridFsObject<
 
 		this.file = null;
 		this.filename = filename;
+		this.rangeSource = null;
 	}
 
 	/**
@@ -76,11 +80,25 @@ public class GridFsResource extends InputStreamResource implements GridFsObject<
 	 * @param inputStream must not be {@literal null}.
 	 */
 	public GridFsResource(GridFSFile file, InputStream inputStream) {
+		this(file, inputStream, null);
+	}
+
+	/**
+	 * Creates a new {@link GridFsResource} from the given {@link GridFSFile}, {@link InputStream} and {@link RangeSource}
+	 * used to read ranges of the content.
+	 *
+	 * @param file must not be {@literal null}.
+	 * @param inputStream must not be {@literal null}.
+	 * @param rangeSource can be {@literal null}.
+	 * @since 5.1
+	 */
+	GridFsResource(GridFSFile file, InputStream inputStream, @Nullable RangeSource rangeSource) {
 
 		super(inputStream, String.format("GridFs resource [%s]", file.getFilename()));
 
 		this.file = file;
 		this.filename = file.getFilename();
+		this.rangeSource = rangeSource;
 	}
 
 	/**
@@ -104,6 +122,33 @@ public class GridFsResource extends InputStreamResource implements GridFsObject<
 		return super.getInputStream();
 	}
 
+	/**
+	 * Obtain an {@link InputStream} reading at most {@code length} bytes of the content starting at the given
+	 * {@code position}. Other than {@link #getInputStream()} this method can be called multiple times, e.g. to serve
+	 * several HTTP {@literal Range} requests. Resources obtained via {@link GridFsTemplate} only read the chunks covering
+	 * the requested range instead of streaming the content from its beginning.
+	 *
+	 * @param position the position of the first byte to read. Must not be negative.
+	 * @param length the maximum number of bytes to read. Must not be negative.
+	 * @return the {@link InputStream} to read the range from.
+	 * @throws IOException if the range cannot be read.
+	 * @throws FileNotFoundException if the file does not {@link #exists()}.
+	 * @since 5.1
+	 */
+	public InputStream getInputStream(long position, long length) throws IOException {
+
+		Assert.isTrue(position >= 0, "Position must not be negative");
+		Assert.isTrue(length >= 0, "Length must not be negative");
+
+		verifyExists();
+
+		if (rangeSource != null) {
+			return rangeSource.open(position, length);
+		}
+
+		return range(getInputStream(), position, length);
+	}
+
 	@Override
 	@SuppressWarnings("NullAway")
 	public long contentLength() throws IOException {
@@ -203,4 +248,103 @@ public class GridFsResource extends InputStreamResource implements GridFsObject<
 			throw new FileNotFoundException(String.format("%s does not exist.", getDescription()));
 		}
 	}
+
+	/**
+	 * Skip {@code position} bytes of the given {@link InputStream} and limit the remaining content to {@code length}
+	 * bytes.
+	 */
+	static InputStream range(InputStream inputStream, long position, long length) throws IOException {
+
+		long toSkip = position;
+		while (toSkip > 0) {
+
+			long skipped = inputStream.skip(toSkip);
+			if (skipped <= 0) {
+				if (inputStream.read() == -1) {
+					break;
+				}
+				skipped = 1;
+			}
+			toSkip -= skipped;
+		}
+
+		return new BoundedInputStream(inputStream, length);
+	}
+
+	/**
+	 * Strategy to open an {@link InputStream} for a range of the content.
+	 *
+	 * @since 5.1
+	 */
+	@FunctionalInterface
+	interface RangeSource {
+
+		/**
+		 * @param position the position of the first byte to read.
+		 * @param length the maximum number of bytes to read.
+		 * @return never {@literal null}.
+		 * @throws IOException if the range cannot be read.
+		 */
+		InputStream open(long position, long length) throws IOException;
+	}
+
+	/**
+	 * {@link FilterInputStream} reading at most a given number of bytes.
+	 */
+	private static class BoundedInputStream extends FilterInputStream {
+
+		private long remaining;
+
+		BoundedInputStream(InputStream in, long limit) {
+
+			super(in);
+			this.remaining = limit;
+		}
+
+		@Override
+		public int read() throws IOException {
+
+			if (remaining <= 0) {
+				return -1;
+			}
+
+			int read = super.read();
+			if (read != -1) {
+				remaining--;
+			}
+			return read;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+
+			if (remaining <= 0) {
+				return -1;
+			}
+
+			int read = super.read(b, off, (int) Math.min(len, remaining));
+			if (read > 0) {
+				remaining -= read;
+			}
+			return read;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+
+			long skipped = super.skip(Math.min(n, remaining));
+			remaining -= skipped;
+			return skipped;
+		}
+
+		@Override
+		public int available() throws IOException {
+			return (int) Math.min(super.available(), remaining);
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+	}
 }
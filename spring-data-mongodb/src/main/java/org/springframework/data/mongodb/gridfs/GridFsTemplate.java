@@ -18,10 +18,12 @@ package org.springframework.data.mongodb.gridfs;
 import static org.springframework.data.mongodb.core.query.Query.*;
 import static org.springframework.data.mongodb.gridfs.GridFsCriteria.*;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import org.bson.Document;
@@ -36,6 +38,7 @@ import org.springframework.data.util.Lazy;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
+import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.gridfs.GridFSBucket;
 import com.mongodb.client.gridfs.GridFSBuckets;
@@ -59,6 +62,12 @@ import com.mongodb.client.gridfs.model.GridFSUploadOptions;
 public class GridFsTemplate extends GridFsOperationsSupport implements GridFsOperations, ResourcePatternResolver {
 
 	private final Supplier<GridFSBucket> bucketSupplier;
+	private final @Nullable GridFsChunks chunks;
+	private final @Nullable GridFsChunkWriter chunkWriter;
+
+	private int chunkPrefetch = 0;
+	private @Nullable Executor chunkPrefetchExecutor;
+	private GridFsChunkWriter.Settings uploadSettings = GridFsChunkWriter.Settings.NONE;
 
 	/**
 	 * Creates a new {@link GridFsTemplate} using the given {@link MongoDatabaseFactory} and {@link MongoConverter}.
@@ -86,7 +95,7 @@ public class GridFsTemplate extends GridFsOperationsSupport implements GridFsOpe
 	 * @param bucket can be {@literal null}.
 	 */
 	public GridFsTemplate(MongoDatabaseFactory dbFactory, MongoConverter converter, @Nullable String bucket) {
-		this(converter, Lazy.of(() -> getGridFs(dbFactory, bucket)));
+		this(converter, Lazy.of(() -> getGridFs(dbFactory, bucket)), Lazy.of(dbFactory::getMongoDatabase), bucket);
 	}
 
 	/**
@@ -98,12 +107,106 @@ public class GridFsTemplate extends GridFsOperationsSupport implements GridFsOpe
 	 * @since 4.2
 	 */
 	public GridFsTemplate(MongoConverter converter, Supplier<GridFSBucket> gridFSBucket) {
+		this(converter, gridFSBucket, null, null);
+	}
+
+	private GridFsTemplate(MongoConverter converter, Supplier<GridFSBucket> gridFSBucket,
+			@Nullable Supplier<MongoDatabase> database, @Nullable String bucket) {
 
 		super(converter);
 
 		Assert.notNull(gridFSBucket, "GridFSBucket supplier must not be null");
 
 		this.bucketSupplier = gridFSBucket;
+
+		if (database != null) {
+
+			Supplier<MongoCollection<Document>> chunksCollection = Lazy
+					.of(() -> database.get().getCollection(getChunksCollectionName(bucket)));
+			Supplier<MongoCollection<Document>> filesCollection = Lazy
+					.of(() -> database.get().getCollection(getFilesCollectionName(bucket)));
+
+			this.chunks = new GridFsChunks(chunksCollection);
+			this.chunkWriter = new GridFsChunkWriter(filesCollection, chunksCollection);
+		} else {
+			this.chunks = null;
+			this.chunkWriter = null;
+		}
+	}
+
+	/**
+	 * Configure the number of chunks to fetch concurrently ahead of the chunk currently being read when reading
+	 * {@link GridFsResource#getInputStream(long, long) ranges} of a {@link GridFsResource}. Prefetching requires direct
+	 * access to the {@literal chunks} collection and is therefore only available for templates created with a
+	 * {@link MongoDatabaseFactory}. Set {@code prefetch} to {@literal 0} (default) to read chunks sequentially.
+	 *
+	 * @param prefetch number of chunks to fetch ahead. Must not be negative.
+	 * @param executor the {@link Executor} to fetch chunks on. Must not be {@literal null} if {@code prefetch} is
+	 *          greater than zero.
+	 * @since 5.1
+	 */
+	public void setChunkPrefetch(int prefetch, @Nullable Executor executor) {
+
+		Assert.isTrue(prefetch >= 0, "Prefetch must not be negative");
+		Assert.isTrue(prefetch == 0 || executor != null, "Executor must not be null when prefetching chunks");
+
+		this.chunkPrefetch = prefetch;
+		this.chunkPrefetchExecutor = executor;
+	}
+
+	/**
+	 * Configure uploads to insert chunks directly into the {@literal chunks} collection in batches of {@code batchSize}
+	 * chunks keeping up to {@code window} batches in flight instead of writing chunks one after another through the
+	 * driver upload stream. Requires direct access to the {@literal chunks} collection and is therefore only available
+	 * for templates created with a {@link MongoDatabaseFactory}. Set {@code window} to {@literal 0} (default) to use the
+	 * driver upload stream.
+	 *
+	 * @param batchSize number of chunks to insert per batch. Must be greater than zero.
+	 * @param window maximum number of batches in flight. Must not be negative.
+	 * @param executor the {@link Executor} to insert batches on. Must not be {@literal null} if {@code window} is
+	 *          greater than zero.
+	 * @since 5.1
+	 */
+	public void setChunkUpload(int batchSize, int window, @Nullable Executor executor) {
+
+		this.uploadSettings = new GridFsChunkWriter.Settings(batchSize, window, executor,
+				uploadSettings.digestAlgorithm(), uploadSettings.deduplicate());
+	}
+
+	/**
+	 * Configure the {@link java.security.MessageDigest} algorithm (e.g. {@literal SHA-256}) to compute a digest of the
+	 * content while uploading. The digest is stored in the file metadata. Requires a template created with a
+	 * {@link MongoDatabaseFactory}.
+	 *
+	 * @param algorithm the digest algorithm. Can be {@literal null} to disable content digests (default).
+	 * @since 5.1
+	 * @see #setContentDigest(String, boolean)
+	 */
+	public void setContentDigest(@Nullable String algorithm) {
+		setContentDigest(algorithm, false);
+	}
+
+	/**
+	 * Configure the {@link java.security.MessageDigest} algorithm (e.g. {@literal SHA-256}) to compute a digest of the
+	 * content while uploading and whether to deduplicate uploads. The digest is stored in the file metadata. When
+	 * deduplicating, uploads without an explicit file id whose content does not exceed the upload window are checked
+	 * for an existing file with an {@link ObjectId}, identical digest and length before writing any chunk. If one
+	 * exists, its chunks are copied on the server for a new file carrying the given filename, content type and metadata
+	 * instead of transferring the content again. The id of the new file is returned. Copying chunks avoids transferring
+	 * the content but does not save storage. Content exceeding {@code max(1, window)} batches of
+	 * {@link #setChunkUpload(int, int, Executor) chunks} is never deduplicated. An index on the digest and length is
+	 * created before the first deduplicating upload. Requires a template created with a {@link MongoDatabaseFactory}.
+	 *
+	 * @param algorithm the digest algorithm. Can be {@literal null} to disable content digests (default).
+	 * @param deduplicate whether to reuse the chunks of existing files with identical content. Requires an
+	 *          {@code algorithm}.
+	 * @since 5.1
+	 */
+	public void setContentDigest(@Nullable String algorithm, boolean deduplicate) {
+
+		this.uploadSettings = new GridFsChunkWriter.Settings(uploadSettings.batchSize(), uploadSettings.window(),
+				uploadSettings.executor(), algorithm, deduplicate);
+		uploadSettings.createDigest();
 	}
 
 	@Override
@@ -123,6 +226,20 @@ public class GridFsTemplate extends GridFsOperationsSupport implements GridFsOpe
 			uploadOptions.chunkSizeBytes(upload.getOptions().getChunkSize());
 		}
 
+		if (uploadSettings.isEnabled()) {
+
+			Assert.state(chunkWriter != null,
+					"Chunk upload and content digests require a GridFsTemplate created with a MongoDatabaseFactory");
+
+			int chunkSize = upload.getOptions().getChunkSize() > 0 ? upload.getOptions().getChunkSize()
+					: getGridFs().getChunkSizeBytes();
+			Object fileId = upload.getFileId() != null ? BsonUtils.simpleToBsonValue(upload.getFileId()) : null;
+			Object id = chunkWriter.write(fileId, upload.getFilename(), upload.getContent(), chunkSize,
+					uploadOptions.getMetadata(), uploadSettings);
+
+			return upload.getFileId() != null ? upload.getFileId() : (T) id;
+		}
+
 		if (upload.getFileId() == null) {
 			return (T) getGridFs().uploadFromStream(upload.getFilename(), upload.getContent(), uploadOptions);
 		}
@@ -184,7 +301,18 @@ public class GridFsTemplate extends GridFsOperationsSupport implements GridFsOpe
 
 		Assert.notNull(file, "GridFSFile must not be null");
 
-		return new GridFsResource(file, getGridFs().openDownloadStream(file.getId()));
+		return new GridFsResource(file, getGridFs().openDownloadStream(file.getId()),
+				(position, length) -> openRange(file, position, length));
+	}
+
+	private InputStream openRange(GridFSFile file, long position, long length) throws IOException {
+
+		if (chunks != null) {
+			return chunks.read(file, position, length, chunkPrefetch, chunkPrefetchExecutor);
+		}
+
+		// the driver download stream skips to the target chunk without reading the ones in between
+		return GridFsResource.range(getGridFs().openDownloadStream(file.getId()), position, length);
 	}
 
 	@Override
@@ -215,6 +343,14 @@ public class GridFsTemplate extends GridFsOperationsSupport implements GridFsOpe
 		return this.bucketSupplier.get();
 	}
 
+	static String getChunksCollectionName(@Nullable String bucket) {
+		return (StringUtils.hasText(bucket) ? bucket : "fs") + ".chunks";
+	}
+
+	static String getFilesCollectionName(@Nullable String bucket) {
+		return (StringUtils.hasText(bucket) ? bucket : "fs") + ".files";
+	}
+
 	private static GridFSBucket getGridFs(MongoDatabaseFactory dbFactory, @Nullable String bucket) {
 
 		Assert.notNull(dbFactory, "MongoDatabaseFactory must not be null");
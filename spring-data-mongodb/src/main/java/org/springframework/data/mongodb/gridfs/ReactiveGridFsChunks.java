@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import static com.mongodb.client.model.Filters.*;
+import static org.springframework.data.mongodb.gridfs.GridFsChunks.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.gridfs.GridFsChunks.ChunkRange;
+import org.springframework.util.Assert;
+
+import com.mongodb.client.gridfs.model.GridFSFile;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.reactivestreams.client.MongoCollection;
+
+/**
+ * Reactive direct access to the {@literal chunks} collection of a GridFS bucket allowing to read byte ranges of a file
+ * by fetching only the chunks covering the requested range.
+ *
+ * @since 5.1
+ */
+class ReactiveGridFsChunks {
+
+	private final Mono<MongoCollection<Document>> collection;
+
+	/**
+	 * @param collection must not be {@literal null}.
+	 */
+	ReactiveGridFsChunks(Mono<MongoCollection<Document>> collection) {
+
+		Assert.notNull(collection, "Chunks collection must not be null");
+		this.collection = collection;
+	}
+
+	/**
+	 * Read {@code length} bytes of the given file starting at {@code position}. Emitted {@link ByteBuffer buffers} wrap
+	 * the chunk data without copying it.
+	 *
+	 * @param file the file to read.
+	 * @param position the position of the first byte to read.
+	 * @param length the maximum number of bytes to read.
+	 * @param prefetch number of chunks to fetch concurrently. Use {@literal 0} to read chunks sequentially from a single
+	 *          cursor.
+	 * @return never {@literal null}.
+	 */
+	Flux<ByteBuffer> read(GridFSFile file, long position, long length, int prefetch) {
+
+		ChunkRange range = ChunkRange.of(file, position, length);
+
+		if (range.isEmpty()) {
+			return Flux.empty();
+		}
+
+		Flux<Document> chunks;
+		if (prefetch > 0) {
+
+			chunks = Flux.range(range.firstChunk(), range.chunkCount()) //
+					.flatMapSequential(n -> collection //
+							.flatMap(it -> Mono.from(it.find(and(eq(FILES_ID, range.fileId()), eq(N, n))).first())) //
+							.switchIfEmpty(Mono.error(() -> missingChunk(range.fileId(), n))), prefetch);
+		} else {
+			chunks = Flux.defer(() -> readSequentially(range));
+		}
+
+		return chunks.map(chunk -> slice(range, chunk));
+	}
+
+	private Flux<Document> readSequentially(ChunkRange range) {
+
+		AtomicInteger expected = new AtomicInteger(range.firstChunk());
+
+		return collection
+				.flatMapMany(it -> it
+						.find(and(eq(FILES_ID, range.fileId()), gte(N, range.firstChunk()), lte(N, range.lastChunk())))
+						.sort(Sorts.ascending(N))) //
+				.<Document> handle((chunk, sink) -> {
+
+					int n = expected.getAndIncrement();
+					if (chunk.getInteger(N, -1) != n) {
+						sink.error(missingChunk(range.fileId(), n));
+						return;
+					}
+					sink.next(chunk);
+				}) //
+				.concatWith(Mono.defer(() -> expected.get() <= range.lastChunk() //
+						? Mono.error(missingChunk(range.fileId(), expected.get())) //
+						: Mono.empty()));
+	}
+
+	private static ByteBuffer slice(ChunkRange range, Document chunk) {
+
+		int n = chunk.getInteger(N);
+		byte[] data = getData(chunk);
+
+		long chunkStart = (long) n * range.chunkSize();
+		long rangeStart = (long) range.firstChunk() * range.chunkSize() + range.offset();
+		long rangeEnd = rangeStart + range.length();
+
+		int from = (int) Math.max(0, rangeStart - chunkStart);
+		int to = (int) Math.min(data.length, rangeEnd - chunkStart);
+
+		return ByteBuffer.wrap(data, from, Math.max(0, to - from)).slice();
+	}
+}
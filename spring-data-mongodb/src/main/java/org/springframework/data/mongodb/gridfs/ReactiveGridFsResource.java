@@ -19,6 +19,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.io.InputStream;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.bson.BsonValue;
@@ -52,6 +53,7 @@ public class ReactiveGridFsResource implements GridFsObject<Object, Publisher<Da
 	private final String filename;
 	private final @Nullable GridFSDownloadPublisher downloadPublisher;
 	private final DataBufferFactory dataBufferFactory;
+	private final @Nullable RangeSource rangeSource;
 
 	/**
 	 * Creates a new, absent {@link ReactiveGridFsResource}.
@@ -78,7 +80,12 @@ public class ReactiveGridFsResource implements GridFsObject<Object, Publisher<Da
 	}
 
 	ReactiveGridFsResource(GridFSFile file, @Nullable GridFSDownloadPublisher downloadPublisher, DataBufferFactory dataBufferFactory) {
-		this(file.getId(), file.getFilename(), Options.from(file), downloadPublisher, dataBufferFactory);
+		this(file, downloadPublisher, dataBufferFactory, null);
+	}
+
+	ReactiveGridFsResource(GridFSFile file, @Nullable GridFSDownloadPublisher downloadPublisher,
+			DataBufferFactory dataBufferFactory, @Nullable RangeSource rangeSource) {
+		this(file.getId(), file.getFilename(), Options.from(file), downloadPublisher, dataBufferFactory, rangeSource);
 	}
 
 	/**
@@ -93,12 +100,19 @@ public class ReactiveGridFsResource implements GridFsObject<Object, Publisher<Da
 	 */
 	ReactiveGridFsResource(@Nullable Object id, String filename, Options options,
 			@Nullable GridFSDownloadPublisher downloadPublisher, DataBufferFactory dataBufferFactory) {
+		this(id, filename, options, downloadPublisher, dataBufferFactory, null);
+	}
+
+	private ReactiveGridFsResource(@Nullable Object id, String filename, Options options,
+			@Nullable GridFSDownloadPublisher downloadPublisher, DataBufferFactory dataBufferFactory,
+			@Nullable RangeSource rangeSource) {
 
 		this.id = id;
 		this.filename = filename;
 		this.options = options;
 		this.downloadPublisher = downloadPublisher;
 		this.dataBufferFactory = dataBufferFactory;
+		this.rangeSource = rangeSource;
 	}
 
 	/**
@@ -182,7 +196,8 @@ public class ReactiveGridFsResource implements GridFsObject<Object, Publisher<Da
 	}
 
 	/**
-	 * Obtain the download stream emitting chunks of data with given {@code chunkSize} as they come in.
+	 * Obtain the download stream emitting chunks of data with given {@code chunkSize} as they come in. Data is copied
+	 * into buffers of the requested size. Consider {@link #getChunkAlignedDownloadStream(int)} to avoid copying.
 	 *
 	 * @param chunkSize the preferred number of bytes per emitted {@link DataBuffer}.
 	 * @return {@link Flux#empty()} if the file does not exist.
@@ -190,6 +205,7 @@ public class ReactiveGridFsResource implements GridFsObject<Object, Publisher<Da
 	 * @see org.springframework.core.io.InputStreamResource#getInputStream()
 	 * @see #getDownloadStream()
 	 * @see DataBufferUtils#join(Publisher)
+	 * @see #getChunkAlignedDownloadStream(int)
 	 * @since 3.0
 	 */
 	public Flux<DataBuffer> getDownloadStream(int chunkSize) {
@@ -201,6 +217,67 @@ public class ReactiveGridFsResource implements GridFsObject<Object, Publisher<Da
 		return createDownloadStream(downloadPublisher.bufferSizeBytes(chunkSize));
 	}
 
+	/**
+	 * Obtain the download stream emitting buffers aligned to the chunks of the stored file. Chunk data is wrapped into
+	 * {@link DataBuffer buffers} without copying it, so that buffers can be written to the network as they are. Buffers
+	 * spanning multiple chunks are composed via {@link DataBufferFactory#join(List)} which avoids copying for factories
+	 * supporting composite buffers such as {@literal NettyDataBufferFactory}.
+	 * <p>
+	 * Resources obtained via {@link ReactiveGridFsTemplate} can be subscribed to multiple times.
+	 *
+	 * @param chunksPerBuffer the number of chunks per emitted {@link DataBuffer}. The last buffer may contain fewer
+	 *          chunks. Must be greater than zero.
+	 * @return {@link Flux#empty()} if the file does not exist.
+	 * @throws IllegalStateException if the underlying {@link Publisher} has already been consumed.
+	 * @since 5.1
+	 */
+	public Flux<DataBuffer> getChunkAlignedDownloadStream(int chunksPerBuffer) {
+
+		Assert.isTrue(chunksPerBuffer > 0, "Chunks per buffer must be greater than zero");
+
+		if (downloadPublisher == null) {
+			return Flux.empty();
+		}
+
+		// the driver emits one buffer per chunk unless a buffer size is configured
+		Flux<DataBuffer> chunks = rangeSource != null ? rangeSource.open(0, Long.MAX_VALUE)
+				: createDownloadStream(downloadPublisher);
+
+		if (chunksPerBuffer == 1) {
+			return chunks;
+		}
+
+		return chunks.buffer(chunksPerBuffer).map(it -> it.size() == 1 ? it.get(0) : dataBufferFactory.join(it));
+	}
+
+	/**
+	 * Obtain the download stream emitting at most {@code length} bytes of the content starting at the given
+	 * {@code position}. Other than {@link #getDownloadStream()} the returned {@link Flux} can be subscribed to multiple
+	 * times, e.g. to serve several HTTP {@literal Range} requests. Resources obtained via {@link ReactiveGridFsTemplate}
+	 * only read the chunks covering the requested range instead of streaming the content from its beginning.
+	 *
+	 * @param position the position of the first byte to read. Must not be negative.
+	 * @param length the maximum number of bytes to read. Must not be negative.
+	 * @return {@link Flux#empty()} if the file does not exist.
+	 * @since 5.1
+	 */
+	public Flux<DataBuffer> getDownloadStream(long position, long length) {
+
+		Assert.isTrue(position >= 0, "Position must not be negative");
+		Assert.isTrue(length >= 0, "Length must not be negative");
+
+		if (downloadPublisher == null) {
+			return Flux.empty();
+		}
+
+		if (rangeSource != null) {
+			return rangeSource.open(position, length);
+		}
+
+		return DataBufferUtils.takeUntilByteCount(DataBufferUtils.skipUntilByteCount(getDownloadStream(), position),
+				length);
+	}
+
 	private Flux<DataBuffer> createDownloadStream(GridFSDownloadPublisher publisher) {
 
 		return Flux.from(publisher) //
@@ -218,4 +295,20 @@ public class ReactiveGridFsResource implements GridFsObject<Object, Publisher<Da
 			throw new IllegalStateException("Stream already consumed.");
 		}
 	}
+
+	/**
+	 * Strategy to obtain the content of a given range.
+	 *
+	 * @since 5.1
+	 */
+	@FunctionalInterface
+	interface RangeSource {
+
+		/**
+		 * @param position the position of the first byte to read.
+		 * @param length the maximum number of bytes to read.
+		 * @return never {@literal null}.
+		 */
+		Flux<DataBuffer> open(long position, long length);
+	}
 }
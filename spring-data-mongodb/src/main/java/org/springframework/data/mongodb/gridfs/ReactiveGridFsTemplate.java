@@ -30,6 +30,7 @@ import org.jspecify.annotations.Nullable;
 import org.reactivestreams.Publisher;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
@@ -63,6 +64,9 @@ public class ReactiveGridFsTemplate extends GridFsOperationsSupport implements R
 
 	private final DataBufferFactory dataBufferFactory;
 	private final Mono<GridFSBucket> bucketSupplier;
+	private final @Nullable ReactiveGridFsChunks chunks;
+
+	private int chunkPrefetch = 0;
 
 	/**
 	 * Creates a new {@link ReactiveGridFsTemplate} using the given {@link ReactiveMongoDatabaseFactory} and
@@ -114,7 +118,9 @@ public class ReactiveGridFsTemplate extends GridFsOperationsSupport implements R
 	 */
 	public ReactiveGridFsTemplate(DataBufferFactory dataBufferFactory, ReactiveMongoDatabaseFactory dbFactory,
 			MongoConverter converter, @Nullable String bucket) {
-		this(converter, Mono.defer(Lazy.of(() -> doGetBucket(dbFactory, bucket))), dataBufferFactory);
+		this(converter, Mono.defer(Lazy.of(() -> doGetBucket(dbFactory, bucket))), dataBufferFactory,
+				new ReactiveGridFsChunks(Mono.defer(Lazy.of(() -> dbFactory.getMongoDatabase()
+						.map(db -> db.getCollection(GridFsTemplate.getChunksCollectionName(bucket)))))));
 	}
 
 	/**
@@ -128,6 +134,11 @@ public class ReactiveGridFsTemplate extends GridFsOperationsSupport implements R
 	 */
 	public ReactiveGridFsTemplate(MongoConverter converter, Mono<GridFSBucket> gridFSBucket,
 			DataBufferFactory dataBufferFactory) {
+		this(converter, gridFSBucket, dataBufferFactory, null);
+	}
+
+	private ReactiveGridFsTemplate(MongoConverter converter, Mono<GridFSBucket> gridFSBucket,
+			DataBufferFactory dataBufferFactory, @Nullable ReactiveGridFsChunks chunks) {
 
 		super(converter);
 
@@ -136,6 +147,23 @@ public class ReactiveGridFsTemplate extends GridFsOperationsSupport implements R
 
 		this.bucketSupplier = gridFSBucket;
 		this.dataBufferFactory = dataBufferFactory;
+		this.chunks = chunks;
+	}
+
+	/**
+	 * Configure the number of chunks to fetch concurrently when reading
+	 * {@link ReactiveGridFsResource#getDownloadStream(long, long) ranges} of a {@link ReactiveGridFsResource}.
+	 * Prefetching requires direct access to the {@literal chunks} collection and is therefore only available for
+	 * templates created with a {@link ReactiveMongoDatabaseFactory}. Set {@code prefetch} to {@literal 0} (default) to
+	 * read chunks sequentially.
+	 *
+	 * @param prefetch number of chunks to fetch concurrently. Must not be negative.
+	 * @since 5.1
+	 */
+	public void setChunkPrefetch(int prefetch) {
+
+		Assert.isTrue(prefetch >= 0, "Prefetch must not be negative");
+		this.chunkPrefetch = prefetch;
 	}
 
 	@Override
@@ -226,8 +254,22 @@ public class ReactiveGridFsTemplate extends GridFsOperationsSupport implements R
 
 		Assert.notNull(file, "GridFSFile must not be null");
 
-		return doGetBucket()
-				.map(it -> new ReactiveGridFsResource(file, it.downloadToPublisher(file.getId()), dataBufferFactory));
+		return doGetBucket().map(it -> new ReactiveGridFsResource(file, it.downloadToPublisher(file.getId()),
+				dataBufferFactory, (position, length) -> readRange(file, position, length)));
+	}
+
+	private Flux<DataBuffer> readRange(GridFSFile file, long position, long length) {
+
+		if (chunks != null) {
+			return chunks.read(file, position, length, chunkPrefetch).map(dataBufferFactory::wrap);
+		}
+
+		Flux<DataBuffer> content = doGetBucket()
+				.flatMapMany(it -> it.downloadToPublisher(file.getId())).map(dataBufferFactory::wrap);
+		if (position > 0) {
+			content = DataBufferUtils.skipUntilByteCount(content, position);
+		}
+		return length < file.getLength() ? DataBufferUtils.takeUntilByteCount(content, length) : content;
 	}
 
 	@Override
@@ -0,0 +1,287 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.mongodb.util.QueryShapes;
+import org.springframework.util.Assert;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+
+/**
+ * {@link CommandListener} recording command durations as {@link Timer timers} directly to a {@link MeterRegistry}
+ * without creating an {@link io.micrometer.observation.Observation} per command. Timers are tagged with the collection,
+ * the command name and the {@link QueryShapes shape} of the command filter so that latencies of {@code find} commands
+ * filtering by {@code lastname} and by {@code age} are reported separately.
+ * <p>
+ * Timers are registered once per distinct combination of collection, command and shape. The number of registered
+ * shapes is bounded by {@code maxShapes}, commands with shapes beyond that limit are recorded with the
+ * {@link #OTHER other} collection and shape. Shapes are looked up by their {@link QueryShapes#hash(Map) hash} so that
+ * recording a command with a known shape does not render the shape.
+ * <p>
+ * A fraction of commands can be forwarded to a {@link CommandListener} creating full tracing observations by providing
+ * a {@code sampledListener} along with a {@code sampleRate}.
+ *
+ * <pre class="code">
+ * MongoClientSettings.builder()
+ * 		.addCommandListener(new MongoCommandMetricsListener(meterRegistry, 500,
+ * 				new MongoObservationCommandListener(observationRegistry), 0.01))
+ * 		.contextProvider(ContextProviderFactory.create(observationRegistry));
+ * </pre>
+ *
+ * @since 5.1
+ */
+public class MongoCommandMetricsListener implements CommandListener {
+
+	/**
+	 * Name of the recorded {@link Timer timers}.
+	 */
+	public static final String METRIC_NAME = "spring.data.mongodb.command.duration";
+
+	/**
+	 * Collection and shape tag value of commands exceeding the maximum number of shapes.
+	 */
+	public static final String OTHER = "other";
+
+	private static final int DEFAULT_MAX_SHAPES = 1000;
+
+	private final MeterRegistry meterRegistry;
+	private final int maxShapes;
+	private final @Nullable CommandListener sampledListener;
+	private final double sampleRate;
+
+	private final Map<Long, CommandTimers> timers = new ConcurrentHashMap<>();
+	private final Map<String, CommandTimers> overflowTimers = new ConcurrentHashMap<>();
+	private final Map<Integer, InFlightCommand> inFlight = new ConcurrentHashMap<>();
+
+	/**
+	 * Create a new {@link MongoCommandMetricsListener} registering up to {@literal 1000} shapes.
+	 *
+	 * @param meterRegistry must not be {@literal null}.
+	 */
+	public MongoCommandMetricsListener(MeterRegistry meterRegistry) {
+		this(meterRegistry, DEFAULT_MAX_SHAPES);
+	}
+
+	/**
+	 * Create a new {@link MongoCommandMetricsListener}.
+	 *
+	 * @param meterRegistry must not be {@literal null}.
+	 * @param maxShapes maximum number of distinct collection, command and shape combinations to register timers for.
+	 */
+	public MongoCommandMetricsListener(MeterRegistry meterRegistry, int maxShapes) {
+		this(meterRegistry, maxShapes, null, 0);
+	}
+
+	/**
+	 * Create a new {@link MongoCommandMetricsListener} forwarding a sample of commands to {@code sampledListener}.
+	 *
+	 * @param meterRegistry must not be {@literal null}.
+	 * @param maxShapes maximum number of distinct collection, command and shape combinations to register timers for.
+	 * @param sampledListener listener to forward sampled commands to, typically creating tracing observations. Can be
+	 *          {@literal null}.
+	 * @param sampleRate fraction of commands to forward to {@code sampledListener} between {@literal 0} and
+	 *          {@literal 1}.
+	 */
+	public MongoCommandMetricsListener(MeterRegistry meterRegistry, int maxShapes,
+			@Nullable CommandListener sampledListener, double sampleRate) {
+
+		Assert.notNull(meterRegistry, "MeterRegistry must not be null");
+		Assert.isTrue(maxShapes > 0, "Max shapes must be greater than zero");
+		Assert.isTrue(sampleRate >= 0 && sampleRate <= 1, "Sample rate must be between 0 and 1");
+
+		this.meterRegistry = meterRegistry;
+		this.maxShapes = maxShapes;
+		this.sampledListener = sampledListener;
+		this.sampleRate = sampleRate;
+	}
+
+	@Override
+	public void commandStarted(CommandStartedEvent event) {
+
+		if ("admin".equals(event.getDatabaseName())) {
+			return; // don't instrument commands like "endSessions"
+		}
+
+		String commandName = event.getCommandName();
+		BsonDocument command = event.getCommand();
+		String collectionName = getCollectionName(commandName, command);
+		Map<String, ?> filter = command != null ? getFilter(commandName, command) : null;
+
+		boolean sampled = sampledListener != null && sampleRate > 0
+				&& (sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate);
+
+		inFlight.put(event.getRequestId(),
+				new InFlightCommand(getTimers(collectionName, commandName, filter), sampled));
+
+		if (sampled) {
+			sampledListener.commandStarted(event);
+		}
+	}
+
+	@Override
+	public void commandSucceeded(CommandSucceededEvent event) {
+
+		InFlightCommand command = inFlight.remove(event.getRequestId());
+
+		if (command == null) {
+			return;
+		}
+
+		command.timers().success().record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+
+		if (command.sampled() && sampledListener != null) {
+			sampledListener.commandSucceeded(event);
+		}
+	}
+
+	@Override
+	public void commandFailed(CommandFailedEvent event) {
+
+		InFlightCommand command = inFlight.remove(event.getRequestId());
+
+		if (command == null) {
+			return;
+		}
+
+		command.timers().failure().record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+
+		if (command.sampled() && sampledListener != null) {
+			sampledListener.commandFailed(event);
+		}
+	}
+
+	/**
+	 * @return the number of registered shapes.
+	 */
+	int getShapeCount() {
+		return timers.size();
+	}
+
+	private CommandTimers getTimers(String collectionName, String commandName, @Nullable Map<String, ?> filter) {
+
+		long key = QueryShapes.hash(filter);
+		key = 31 * key + collectionName.hashCode();
+		key = 31 * key + commandName.hashCode();
+
+		CommandTimers commandTimers = timers.get(key);
+
+		if (commandTimers != null) {
+			return commandTimers;
+		}
+
+		if (timers.size() >= maxShapes) {
+			return overflowTimers.computeIfAbsent(commandName, it -> createTimers(OTHER, it, OTHER));
+		}
+
+		return timers.computeIfAbsent(key, it -> createTimers(collectionName, commandName, QueryShapes.render(filter)));
+	}
+
+	private CommandTimers createTimers(String collectionName, String commandName, String shape) {
+		return new CommandTimers(createTimer(collectionName, commandName, shape, "SUCCESS"),
+				createTimer(collectionName, commandName, shape, "FAILED"));
+	}
+
+	private Timer createTimer(String collectionName, String commandName, String shape, String status) {
+
+		return Timer.builder(METRIC_NAME) //
+				.description("Duration of MongoDB commands by query shape") //
+				.tag("db.mongodb.collection", collectionName) //
+				.tag("db.operation", commandName) //
+				.tag("db.mongodb.query.shape", shape) //
+				.tag("status", status) //
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Obtain the filter of commands carrying a query. Write commands are represented by the filter of their first
+	 * statement and aggregations by their leading {@code $match} stage.
+	 */
+	private static @Nullable Map<String, ?> getFilter(String commandName, BsonDocument command) {
+
+		return switch (commandName) {
+			case "find" -> asDocument(command.get("filter"));
+			case "count", "distinct", "findAndModify" -> asDocument(command.get("query"));
+			case "update" -> getFirstStatementFilter(command.get("updates"));
+			case "delete" -> getFirstStatementFilter(command.get("deletes"));
+			case "aggregate" -> getLeadingMatch(command.get("pipeline"));
+			default -> null;
+		};
+	}
+
+	private static @Nullable BsonDocument getFirstStatementFilter(@Nullable BsonValue statements) {
+
+		BsonDocument statement = asDocument(first(statements));
+		return statement != null ? asDocument(statement.get("q")) : null;
+	}
+
+	private static @Nullable BsonDocument getLeadingMatch(@Nullable BsonValue pipeline) {
+
+		BsonDocument stage = asDocument(first(pipeline));
+		return stage != null ? asDocument(stage.get("$match")) : null;
+	}
+
+	private static @Nullable BsonValue first(@Nullable BsonValue value) {
+
+		if (value instanceof BsonArray array && !array.isEmpty()) {
+			return array.get(0);
+		}
+
+		return null;
+	}
+
+	private static @Nullable BsonDocument asDocument(@Nullable BsonValue value) {
+		return value instanceof BsonDocument document ? document : null;
+	}
+
+	private static String getCollectionName(String commandName, @Nullable BsonDocument command) {
+
+		if (command == null) {
+			return "";
+		}
+
+		BsonValue value = command.get(commandName);
+
+		if (value == null || !value.isString()) {
+			// Some commands, like getMore, have a field like {"collection": collectionName}.
+			value = command.get("collection");
+		}
+
+		return value != null && value.isString() ? value.asString().getValue() : "";
+	}
+
+	private record CommandTimers(Timer success, Timer failure) {
+
+	}
+
+	private record InFlightCommand(CommandTimers timers, boolean sampled) {
+
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.observability;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.data.mongodb.core.QueryPlanListener;
+import org.springframework.data.mongodb.core.QueryPlanSampler;
+import org.springframework.data.mongodb.core.QueryPlanSampler.QueryPlan;
+import org.springframework.util.Assert;
+
+/**
+ * {@link QueryPlanListener} counting {@link QueryPlan.Issue issues} of {@link QueryPlan query plans} sampled by a
+ * {@link QueryPlanSampler}. Counters are tagged with the collection, the query shape and the issue. The number of
+ * distinct shapes is bounded by the sampler.
+ *
+ * @since 5.1
+ */
+public class QueryPlanMetricsListener implements QueryPlanListener {
+
+	/**
+	 * Name of the recorded {@link Counter counters}.
+	 */
+	public static final String METRIC_NAME = "spring.data.mongodb.query.plan.issues";
+
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * Create a new {@link QueryPlanMetricsListener}.
+	 *
+	 * @param meterRegistry must not be {@literal null}.
+	 */
+	public QueryPlanMetricsListener(MeterRegistry meterRegistry) {
+
+		Assert.notNull(meterRegistry, "MeterRegistry must not be null");
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public void onQueryPlan(QueryPlan plan) {
+
+		for (QueryPlan.Issue issue : plan.issues()) {
+
+			Counter.builder(METRIC_NAME) //
+					.description("Issues detected in sampled MongoDB query plans") //
+					.tag("db.mongodb.collection", plan.collectionName()) //
+					.tag("db.mongodb.query.shape", plan.shape()) //
+					.tag("issue", issue.name()) //
+					.register(meterRegistry) //
+					.increment();
+		}
+	}
+}
@@ -181,7 +181,6 @@ class AggregationBlocks {
 		private final AotQueryMethodGenerationContext context;
 		private final SimpleTypeHolder simpleTypeHolder;
 		private final MongoQueryMethod queryMethod;
-		private final String parameterNames;
 
 		private AggregationInteraction source;
 
@@ -194,7 +193,6 @@ class AggregationBlocks {
 			this.context = context;
 			this.simpleTypeHolder = simpleTypeHolder;
 			this.queryMethod = queryMethod;
-			this.parameterNames = StringUtils.collectionToDelimitedString(context.getAllParameterNames(), ", ");
 		}
 
 		AggregationCodeBlockBuilder stages(AggregationInteraction aggregation) {
@@ -320,7 +318,7 @@ class AggregationBlocks {
 
 				VariableSnippet stageSnippet = Snippet.declare(builder)
 						.variable(Document.class, context.localVariable("stage_%s".formatted(stageCounter)))
-						.of(MongoCodeBlocks.asDocument(context.getExpressionMarker(), stage, parameterNames));
+						.of(MongoCodeBlocks.asDocument(context, stage));
 				builder.addStatement("$L.add($L)", stageListVariableName, stageSnippet.getVariableName());
 
 				stageCounter++;
@@ -71,8 +71,12 @@ import com.mongodb.DBRef;
  */
 record AotQueryCreator(MappingContext<?, MongoPersistentProperty> mappingContext) {
 
+	/**
+	 * Create the query for the given {@link PartTree} and, if possible, the query using mapped field names of the
+	 * {@code domainType}.
+	 */
 	@SuppressWarnings("NullAway")
-	AotStringQuery createQuery(PartTree partTree, QueryMethod queryMethod, Method source) {
+	AotStringQuery createQuery(PartTree partTree, QueryMethod queryMethod, Method source, Class<?> domainType) {
 
 		boolean geoNear = queryMethod instanceof MongoQueryMethod mqm && mqm.isGeoNearQuery();
 		boolean searchQuery = queryMethod instanceof MongoQueryMethod mqm
@@ -86,7 +90,15 @@ record AotQueryCreator(MappingContext<?, MongoPersistentProperty> mappingContext
 		if (partTree.isLimiting()) {
 			query.limit(partTree.getMaxResults());
 		}
-		return new AotStringQuery(query, placeholderAccessor.getPlaceholders());
+
+		AotStringQuery aotStringQuery = new AotStringQuery(query, placeholderAccessor.getPlaceholders());
+
+		if (!geoNear && !searchQuery && queryMethod instanceof MongoQueryMethod mqm
+				&& mqm.getEntityInformation().getCollectionEntity().getType().equals(domainType)) {
+			aotStringQuery.mappedQuery(new AotQueryMapper(mappingContext).getMappedObject(query.getQueryObject(), domainType));
+		}
+
+		return aotStringQuery;
 	}
 
 	static class AotMongoQueryCreator extends MongoQueryCreator {
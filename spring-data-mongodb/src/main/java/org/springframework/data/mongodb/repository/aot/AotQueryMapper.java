@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.aot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bson.Document;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.convert.ValueConverter;
+import org.springframework.data.core.PropertyReferenceException;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mongodb.core.mapping.Encrypted;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+
+/**
+ * Maps field names of derived queries at build time so that generated repositories can hand
+ * {@link org.springframework.data.mongodb.core.query.MappedQueryDocument already mapped queries} to the template.
+ * <p>
+ * Mapping is only applied to queries whose values can be converted without consulting the property metadata at
+ * runtime. Queries referencing identifiers, associations, embedded entities, unwrapped or encrypted properties,
+ * properties with an explicit target type or a value converter, as well as operators other than simple comparisons
+ * are left to {@link org.springframework.data.mongodb.core.convert.QueryMapper}.
+ *
+ * @since 5.1
+ */
+record AotQueryMapper(MappingContext<?, MongoPersistentProperty> mappingContext) {
+
+	private static final Set<String> LOGICAL_OPERATORS = Set.of("$and", "$or", "$nor");
+	private static final Set<String> VALUE_OPERATORS = Set.of("$eq", "$ne", "$gt", "$gte", "$lt", "$lte", "$in", "$nin",
+			"$all", "$exists", "$regex", "$options", "$size", "$type", "$mod", "$not");
+
+	/**
+	 * Map the field names of the given query.
+	 *
+	 * @param query the query using property paths of the {@code domainType}.
+	 * @param domainType the domain type.
+	 * @return the query using mapped field names or {@literal null} if the query requires runtime mapping.
+	 */
+	@Nullable
+	Document getMappedObject(Document query, Class<?> domainType) {
+
+		Document result = new Document();
+
+		for (Map.Entry<String, Object> entry : query.entrySet()) {
+
+			String key = entry.getKey();
+			Object value = entry.getValue();
+
+			if (LOGICAL_OPERATORS.contains(key)) {
+
+				if (!(value instanceof List<?> conditions)) {
+					return null;
+				}
+
+				List<Object> mapped = new ArrayList<>(conditions.size());
+				for (Object condition : conditions) {
+
+					Document mappedCondition = condition instanceof Document document ? getMappedObject(document, domainType)
+							: null;
+					if (mappedCondition == null) {
+						return null;
+					}
+					mapped.add(mappedCondition);
+				}
+
+				result.put(key, mapped);
+				continue;
+			}
+
+			String fieldName = getMappedFieldName(key, domainType);
+			if (fieldName == null || !isSimpleValue(value)) {
+				return null;
+			}
+
+			result.put(fieldName, value);
+		}
+
+		return result;
+	}
+
+	private @Nullable String getMappedFieldName(String key, Class<?> domainType) {
+
+		if (key.startsWith("$")) {
+			return null;
+		}
+
+		PersistentPropertyPath<MongoPersistentProperty> path;
+		try {
+			path = mappingContext.getPersistentPropertyPath(key, domainType);
+		} catch (MappingException | PropertyReferenceException e) {
+			return null;
+		}
+
+		MongoPersistentProperty leaf = path.getLeafProperty();
+		for (MongoPersistentProperty property : path) {
+
+			if (!isPreMappable(property) || (property != leaf && property.isMap())) {
+				return null;
+			}
+		}
+
+		if (leaf.isEntity()) {
+			return null;
+		}
+
+		return path.toDotPath(MongoPersistentProperty::getFieldName);
+	}
+
+	private static boolean isPreMappable(MongoPersistentProperty property) {
+
+		return !property.isIdProperty() && !property.isAssociation() && !property.isDbReference()
+				&& !property.isDocumentReference() && !property.isUnwrapped() && !property.hasExplicitWriteTarget()
+				&& !property.isAnnotationPresent(ValueConverter.class) && !property.isAnnotationPresent(Encrypted.class)
+				&& !property.isTextScoreProperty();
+	}
+
+	private static boolean isSimpleValue(@Nullable Object value) {
+
+		if (!(value instanceof Document document)) {
+			return true;
+		}
+
+		for (Map.Entry<String, Object> entry : document.entrySet()) {
+
+			if (!VALUE_OPERATORS.contains(entry.getKey())) {
+				return false;
+			}
+
+			if (entry.getValue() instanceof Document && !isSimpleValue(entry.getValue())) {
+				return false;
+			}
+		}
+
+		return !document.isEmpty();
+	}
+}
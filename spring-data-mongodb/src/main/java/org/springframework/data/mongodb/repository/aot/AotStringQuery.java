@@ -46,6 +46,7 @@ class AotStringQuery extends Query {
 	private @Nullable String raw;
 	private @Nullable String sort;
 	private @Nullable String fields;
+	private @Nullable Document mappedQuery;
 
 	private List<AotPlaceholders.Placeholder> placeholders = new ArrayList<>();
 
@@ -73,6 +74,19 @@ class AotStringQuery extends Query {
 		return toJson(queryObj);
 	}
 
+	/**
+	 * @return the query using mapped field names or {@literal null} if the query requires runtime mapping.
+	 */
+	@Nullable
+	String getMappedQueryString() {
+		return mappedQuery != null ? toJson(mappedQuery) : null;
+	}
+
+	AotStringQuery mappedQuery(@Nullable Document mappedQuery) {
+		this.mappedQuery = mappedQuery;
+		return this;
+	}
+
 	public Query sort(String sort) {
 		this.sort = sort;
 		return this;
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.aot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.bson.BsonRegularExpression;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.expression.ValueExpression;
+import org.springframework.data.mapping.model.ValueExpressionEvaluator;
+import org.springframework.data.mongodb.util.json.ParameterBindingContext;
+import org.springframework.data.mongodb.util.json.ParameterBindingDocumentCodec;
+import org.springframework.javapoet.CodeBlock;
+
+/**
+ * Renders JSON sources of string based queries, updates and aggregation stages into code constructing the equivalent
+ * {@link Document} directly, so that generated repositories do not have to parse JSON on each invocation.
+ * <p>
+ * Placeholders ({@code ?0}) are supported if they represent an entire value, e.g. {@code { 'lastname' : ?0 }} or
+ * {@code { 'age' : { '$in' : [?0, ?1] } } }, and are rendered as references to the corresponding method argument.
+ * Sources using {@link ValueExpression value expressions}, placeholders within strings, keys, regular expressions or
+ * constructor functions such as {@code ISODate(?0)} cannot be rendered and require runtime binding.
+ *
+ * @since 5.1
+ */
+class DocumentBlocks {
+
+	private static final ParameterBindingDocumentCodec CODEC = new ParameterBindingDocumentCodec();
+	private static final Pattern PARAMETER_BINDING_PATTERN = Pattern.compile("\\?(\\d+)");
+	private static final String SLOT_MARKER = "\u0000aot-slot\u0000";
+
+	/**
+	 * Render code constructing the {@link Document} represented by the given JSON {@code source}.
+	 *
+	 * @param source the JSON source.
+	 * @param arguments function resolving the code referencing the value of the bindable parameter with the given index.
+	 *          Returns {@literal null} if the parameter requires runtime binding.
+	 * @return the {@link CodeBlock} constructing the document or {@literal null} if the source requires runtime
+	 *         binding.
+	 */
+	static @Nullable CodeBlock render(String source, IntFunction<@Nullable CodeBlock> arguments) {
+		return render(source, arguments, Document.class);
+	}
+
+	/**
+	 * Render code constructing the {@link Document} represented by the given JSON {@code source} using the given
+	 * {@code documentType} for the top level document.
+	 *
+	 * @param source the JSON source.
+	 * @param arguments function resolving the code referencing the value of the bindable parameter with the given index.
+	 *          Returns {@literal null} if the parameter requires runtime binding.
+	 * @param documentType the {@link Document} type to create for the top level document.
+	 * @return the {@link CodeBlock} constructing the document or {@literal null} if the source requires runtime
+	 *         binding.
+	 */
+	static @Nullable CodeBlock render(String source, IntFunction<@Nullable CodeBlock> arguments,
+			Class<? extends Document> documentType) {
+
+		if (!source.trim().startsWith("{") || MongoCodeBlocks.containsNamedPlaceholder(source)) {
+			return null;
+		}
+
+		int placeholders = countEntireValuePlaceholders(source);
+		if (placeholders == -1) {
+			return null;
+		}
+
+		Document document;
+		try {
+			document = CODEC.decode(source, new ParameterBindingContext(Slot::new, UnsupportedExpressionEvaluator.INSTANCE));
+		} catch (RuntimeException e) {
+			return null;
+		}
+
+		Renderer renderer = new Renderer(arguments);
+		CodeBlock code = renderer.render(document, documentType);
+
+		return code != null && renderer.slots == placeholders ? code : null;
+	}
+
+	/**
+	 * Count placeholders in the given source verifying all of them represent an entire value.
+	 *
+	 * @return the number of placeholders or {@literal -1} if any placeholder is not an entire value.
+	 */
+	private static int countEntireValuePlaceholders(String source) {
+
+		int count = 0;
+		Matcher matcher = PARAMETER_BINDING_PATTERN.matcher(source);
+		while (matcher.find()) {
+
+			char before = nextNonWhitespace(source, matcher.start() - 1, -1);
+			char after = nextNonWhitespace(source, matcher.end(), 1);
+
+			if ((before != ':' && before != '[' && before != ',') || (after != ',' && after != '}' && after != ']')) {
+				return -1;
+			}
+			count++;
+		}
+		return count;
+	}
+
+	private static char nextNonWhitespace(String source, int index, int direction) {
+
+		for (int i = index; i >= 0 && i < source.length(); i += direction) {
+			if (!Character.isWhitespace(source.charAt(i))) {
+				return source.charAt(i);
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Renders decoded values into code. Returns {@literal null} for values that cannot be rendered.
+	 */
+	private static class Renderer {
+
+		private final IntFunction<@Nullable CodeBlock> arguments;
+		int slots;
+
+		Renderer(IntFunction<@Nullable CodeBlock> arguments) {
+			this.arguments = arguments;
+		}
+
+		@Nullable
+		CodeBlock render(Document document, Class<? extends Document> documentType) {
+
+			if (document.isEmpty()) {
+				return CodeBlock.of("new $T()", documentType);
+			}
+
+			CodeBlock.Builder builder = CodeBlock.builder();
+			boolean first = true;
+			for (Map.Entry<String, Object> entry : document.entrySet()) {
+
+				CodeBlock value = renderValue(entry.getValue(), false);
+				if (value == null || entry.getKey().contains(SLOT_MARKER)) {
+					return null;
+				}
+
+				if (first) {
+					builder.add("new $T($S, $L)", documentType, entry.getKey(), value);
+					first = false;
+				} else {
+					builder.add(".append($S, $L)", entry.getKey(), value);
+				}
+			}
+			return builder.build();
+		}
+
+		@SuppressWarnings("unchecked")
+		private @Nullable CodeBlock renderValue(@Nullable Object value, boolean inList) {
+
+			if (value == null) {
+				return CodeBlock.of("null");
+			}
+			if (value instanceof Slot slot) {
+
+				CodeBlock argument = arguments.apply(slot.index());
+				if (argument == null) {
+					return null;
+				}
+				slots++;
+
+				// avoid spreading array arguments into the list
+				return inList ? CodeBlock.of("($T) $L", Object.class, argument) : argument;
+			}
+			if (value instanceof String string) {
+				return string.contains(SLOT_MARKER) ? null : CodeBlock.of("$S", string);
+			}
+			if (value instanceof Integer || value instanceof Boolean) {
+				return CodeBlock.of("$L", value);
+			}
+			if (value instanceof Long longValue) {
+				return CodeBlock.of("$LL", longValue);
+			}
+			if (value instanceof Double doubleValue) {
+				return renderDouble(doubleValue);
+			}
+			if (value instanceof Document document) {
+				return render(document, Document.class);
+			}
+			if (value instanceof List<?> list) {
+				return renderList((List<Object>) list);
+			}
+			if (value instanceof ObjectId objectId) {
+				return CodeBlock.of("new $T($S)", ObjectId.class, objectId.toHexString());
+			}
+			if (value instanceof Date date) {
+				return CodeBlock.of("new $T($LL)", Date.class, date.getTime());
+			}
+			if (value instanceof Decimal128 decimal) {
+				return CodeBlock.of("$T.parse($S)", Decimal128.class, decimal.toString());
+			}
+			if (value instanceof BsonRegularExpression regex) {
+				return regex.getPattern().contains(SLOT_MARKER) ? null
+						: CodeBlock.of("new $T($S, $S)", BsonRegularExpression.class, regex.getPattern(), regex.getOptions());
+			}
+			return null;
+		}
+
+		private @Nullable CodeBlock renderList(List<Object> list) {
+
+			if (list.isEmpty()) {
+				return CodeBlock.of("new $T<>()", ArrayList.class);
+			}
+
+			List<CodeBlock> elements = new ArrayList<>(list.size());
+			for (Object element : list) {
+
+				CodeBlock code = renderValue(element, true);
+				if (code == null) {
+					return null;
+				}
+				elements.add(code);
+			}
+
+			return CodeBlock.of("new $T<>($T.asList($L))", ArrayList.class, Arrays.class, CodeBlock.join(elements, ", "));
+		}
+
+		private static CodeBlock renderDouble(Double value) {
+
+			if (value.isNaN()) {
+				return CodeBlock.of("$T.NaN", Double.class);
+			}
+			if (value.isInfinite()) {
+				return CodeBlock.of("$T.$L", Double.class, value > 0 ? "POSITIVE_INFINITY" : "NEGATIVE_INFINITY");
+			}
+			return CodeBlock.of("$Ld", value);
+		}
+	}
+
+	/**
+	 * Marker for the value of a placeholder.
+	 *
+	 * @param index the bindable parameter index.
+	 */
+	private record Slot(int index) {
+
+		@Override
+		public String toString() {
+			return SLOT_MARKER;
+		}
+	}
+
+	/**
+	 * Rejects expressions as those require runtime evaluation.
+	 */
+	private enum UnsupportedExpressionEvaluator implements ValueExpressionEvaluator {
+
+		INSTANCE;
+
+		@Override
+		public <T> @Nullable T evaluate(String expression) {
+			throw new UnsupportedOperationException("Expressions require runtime evaluation");
+		}
+	}
+}
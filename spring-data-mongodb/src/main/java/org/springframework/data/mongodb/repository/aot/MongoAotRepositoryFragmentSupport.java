@@ -18,9 +18,11 @@ package org.springframework.data.mongodb.repository.aot;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
@@ -44,9 +46,12 @@ import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.geo.GeoJson;
 import org.springframework.data.mongodb.core.geo.Sphere;
 import org.springframework.data.mongodb.core.mapping.FieldName;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.core.query.Collation;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.MappedQueryDocument;
 import org.springframework.data.mongodb.core.query.MongoRegexCreator;
 import org.springframework.data.mongodb.core.query.MongoRegexCreator.MatchMode;
 import org.springframework.data.mongodb.repository.query.MongoParameters;
@@ -83,6 +88,7 @@ public class MongoAotRepositoryFragmentSupport {
 	private final Lazy<ConcurrentLruCache<String, ValueExpression>> expressions;
 	private final Lazy<ConcurrentLruCache<Method, MongoParameters>> mongoParameters;
 	private final Lazy<ConcurrentLruCache<Method, ValueEvaluationContextProvider>> contextProviders;
+	private final Lazy<Boolean> preMappedQueries;
 
 	protected MongoAotRepositoryFragmentSupport(MongoOperations mongoOperations,
 			RepositoryFactoryBeanSupport.FragmentCreationContext context) {
@@ -104,6 +110,7 @@ public class MongoAotRepositoryFragmentSupport {
 				.of(() -> new ConcurrentLruCache<>(32, it -> new MongoParameters(ParametersSource.of(repositoryMetadata, it))));
 		this.contextProviders = Lazy.of(() -> new ConcurrentLruCache<>(32,
 				it -> valueExpressions.createValueContextProvider(mongoParameters.get().get(it))));
+		this.preMappedQueries = Lazy.of(() -> supportsPreMappedQueries(repositoryMetadata.getDomainType()));
 	}
 
 	protected Document parse(String json) {
@@ -249,6 +256,64 @@ public class MongoAotRepositoryFragmentSupport {
 		return source;
 	}
 
+	/**
+	 * Return whether queries mapped at build time can be used for the repository domain type. Build time mapping assumes
+	 * field names derived from property names or {@link org.springframework.data.mongodb.core.mapping.Field explicit
+	 * field names} and no registered property value converters.
+	 *
+	 * @return {@literal true} if {@link MappedQueryDocument pre-mapped queries} can be used.
+	 * @since 5.1
+	 */
+	protected boolean usePreMappedQueries() {
+		return preMappedQueries.get();
+	}
+
+	/**
+	 * Convert the given value of a {@link MappedQueryDocument pre-mapped query} into its MongoDB representation.
+	 *
+	 * @param value the method argument. Can be {@literal null}.
+	 * @return the converted value.
+	 * @since 5.1
+	 */
+	protected @Nullable Object toMongoValue(@Nullable Object value) {
+		return value != null ? mongoConverter.convertToMongoType(value) : null;
+	}
+
+	private boolean supportsPreMappedQueries(Class<?> domainType) {
+
+		MongoPersistentEntity<?> entity = mongoConverter.getMappingContext().getPersistentEntity(domainType);
+		return entity == null || usesDefaultMapping(entity, new HashSet<>());
+	}
+
+	private boolean usesDefaultMapping(MongoPersistentEntity<?> entity, Set<Class<?>> visited) {
+
+		if (!visited.add(entity.getType())) {
+			return true;
+		}
+
+		for (MongoPersistentProperty property : entity) {
+
+			if (property.isIdProperty()) {
+				continue;
+			}
+
+			if (mongoConverter.getCustomConversions().hasValueConverter(property)
+					|| (!property.hasExplicitFieldName() && !property.getFieldName().equals(property.getName()))) {
+				return false;
+			}
+
+			if (property.isEntity() && !property.isAssociation()) {
+
+				MongoPersistentEntity<?> nested = mongoConverter.getMappingContext().getPersistentEntity(property);
+				if (nested != null && !usesDefaultMapping(nested, visited)) {
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+
 	protected BasicQuery createQuery(Method method, String queryString, Object... parameters) {
 
 		Document queryDocument = bindParameters(method, queryString, parameters);
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.mongodb.repository.aot;
 
+import java.util.List;
+import java.util.function.IntFunction;
 import java.util.regex.Pattern;
 
 import org.bson.Document;
@@ -22,7 +24,9 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.core.annotation.MergedAnnotation;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.geo.Shape;
 import org.springframework.data.mapping.model.SimpleTypeHolder;
+import org.springframework.data.mongodb.core.geo.GeoJson;
 import org.springframework.data.mongodb.repository.ReadPreference;
 import org.springframework.data.mongodb.repository.aot.AggregationBlocks.AggregationCodeBlockBuilder;
 import org.springframework.data.mongodb.repository.aot.AggregationBlocks.AggregationExecutionCodeBlockBuilder;
@@ -35,8 +39,8 @@ import org.springframework.data.mongodb.repository.aot.UpdateBlocks.UpdateCodeBl
 import org.springframework.data.mongodb.repository.aot.UpdateBlocks.UpdateExecutionCodeBlockBuilder;
 import org.springframework.data.mongodb.repository.query.MongoQueryMethod;
 import org.springframework.data.repository.aot.generate.AotQueryMethodGenerationContext;
-import org.springframework.data.repository.aot.generate.ExpressionMarker;
 import org.springframework.data.repository.aot.generate.MethodReturn;
+import org.springframework.data.repository.util.QueryExecutionConverters;
 import org.springframework.data.util.Streamable;
 import org.springframework.javapoet.CodeBlock;
 import org.springframework.javapoet.CodeBlock.Builder;
@@ -151,20 +155,41 @@ class MongoCodeBlocks {
 		return new GeoNearExecutionCodeBlockBuilder(context);
 	}
 
-	static CodeBlock asDocument(ExpressionMarker expressionMarker, String source, String argNames) {
-		return asDocument(expressionMarker, source, CodeBlock.of("$L", argNames));
+	static CodeBlock asDocument(AotQueryMethodGenerationContext context, String source) {
+		return asDocument(context, source, CodeBlock.of("$L",
+				StringUtils.collectionToDelimitedString(context.getAllParameterNames(), ", ")), bindableArguments(context));
 	}
 
-	static CodeBlock asDocument(ExpressionMarker expressionMarker, String source, CodeBlock arguments) {
+	/**
+	 * Render code obtaining the {@link Document} for the given JSON {@code source}. Sources without placeholders and
+	 * sources using placeholders for entire values only are rendered into {@link DocumentBlocks direct document
+	 * construction}. Sources requiring runtime binding, e.g. for value expressions, are parsed at runtime.
+	 *
+	 * @param context the generation context.
+	 * @param source the JSON source.
+	 * @param arguments the method arguments to pass on for runtime binding.
+	 * @param bindableArguments function resolving the argument for a bindable parameter index.
+	 */
+	static CodeBlock asDocument(AotQueryMethodGenerationContext context, String source, CodeBlock arguments,
+			IntFunction<@Nullable CodeBlock> bindableArguments) {
 
 		Builder builder = CodeBlock.builder();
 		if (!StringUtils.hasText(source)) {
 			builder.add("new $T()", Document.class);
-		} else if (containsPlaceholder(source)) {
+			return builder.build();
+		}
+
+		CodeBlock document = DocumentBlocks.render(source, bindableArguments);
+		if (document != null) {
+			return document;
+		}
+
+		if (containsPlaceholder(source)) {
 			if (arguments.isEmpty()) {
-				builder.add("bindParameters($L, $S)", expressionMarker.enclosingMethod(), source);
+				builder.add("bindParameters($L, $S)", context.getExpressionMarker().enclosingMethod(), source);
 			} else {
-				builder.add("bindParameters($L, $S, $L)", expressionMarker.enclosingMethod(), source, arguments);
+				builder.add("bindParameters($L, $S, $L)", context.getExpressionMarker().enclosingMethod(), source,
+						arguments);
 			}
 		} else {
 			builder.add("parse($S)", source);
@@ -172,20 +197,60 @@ class MongoCodeBlocks {
 		return builder.build();
 	}
 
-	static CodeBlock renderExpressionToDocument(@Nullable String source, String variableName, String argNames) {
+	static CodeBlock renderExpressionToDocument(AotQueryMethodGenerationContext context, @Nullable String source,
+			String variableName) {
 
 		Builder builder = CodeBlock.builder();
 		if (!StringUtils.hasText(source)) {
 			builder.addStatement("$1T $2L = new $1T()", Document.class, variableName);
-		} else if (containsPlaceholder(source)) {
-			builder.add("$T $L = bindParameters(ExpressionMarker.class.getEnclosingMethod(), $S$L);\n", Document.class,
-					variableName, source, argNames);
 		} else {
-			builder.addStatement("$1T $2L = parse($3S)", Document.class, variableName, source);
+			builder.addStatement("$T $L = $L", Document.class, variableName, asDocument(context, source));
 		}
 		return builder.build();
 	}
 
+	/**
+	 * Resolve the code referencing the argument of the bindable parameter with the given index using plain parameter
+	 * names.
+	 */
+	static IntFunction<@Nullable CodeBlock> bindableArguments(AotQueryMethodGenerationContext context) {
+		return bindableArguments(context,
+				context.getAllParameterNames().stream().map(it -> CodeBlock.of("$L", it)).toList());
+	}
+
+	/**
+	 * Resolve the code referencing the argument of the bindable parameter with the given index from {@code arguments}
+	 * holding the code for each method parameter. Parameters whose values are prepared before runtime binding, such as
+	 * wrapper types, geo shapes or untyped parameters, resolve to {@literal null}.
+	 */
+	static IntFunction<@Nullable CodeBlock> bindableArguments(AotQueryMethodGenerationContext context,
+			List<CodeBlock> arguments) {
+
+		List<String> parameterNames = context.getAllParameterNames();
+		List<String> bindableParameterNames = context.getBindableParameterNames();
+
+		return index -> {
+
+			if (index >= bindableParameterNames.size()) {
+				return null;
+			}
+
+			String name = bindableParameterNames.get(index);
+			int position = parameterNames.indexOf(name);
+			if (position == -1 || position >= arguments.size()) {
+				return null;
+			}
+
+			Class<?> type = context.getMethodParameter(name).getParameterType();
+			if (type == Object.class || QueryExecutionConverters.supportsUnwrapping(type)
+					|| (Shape.class.isAssignableFrom(type) && !GeoJson.class.isAssignableFrom(type))) {
+				return null;
+			}
+
+			return arguments.get(position);
+		};
+	}
+
 	static CodeBlock evaluateNumberPotentially(String value, Class<? extends Number> targetType,
 			AotQueryMethodGenerationContext context) {
 
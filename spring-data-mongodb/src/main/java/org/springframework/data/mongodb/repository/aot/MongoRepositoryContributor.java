@@ -247,7 +247,8 @@ public class MongoRepositoryContributor extends RepositoryContributor {
 		} else {
 
 			PartTree partTree = new PartTree(queryMethod.getName(), repositoryInformation.getDomainType());
-			AotStringQuery aotStringQuery = queryCreator.createQuery(partTree, queryMethod, source);
+			AotStringQuery aotStringQuery = queryCreator.createQuery(partTree, queryMethod, source,
+					repositoryInformation.getDomainType());
 			query = new QueryInteraction(aotStringQuery,
 					partTree.isCountProjection(), partTree.isDelete(), partTree.isExistsProjection());
 		}
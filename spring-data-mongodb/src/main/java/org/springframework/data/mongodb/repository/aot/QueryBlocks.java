@@ -15,11 +15,14 @@
  */
 package org.springframework.data.mongodb.repository.aot;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.IntFunction;
 
 import org.bson.Document;
 import org.jspecify.annotations.NullUnmarked;
+import org.jspecify.annotations.Nullable;
 
 import org.springframework.core.annotation.MergedAnnotation;
 import org.springframework.data.domain.ScrollPosition;
@@ -29,6 +32,7 @@ import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.annotation.Collation;
 import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.core.query.DiskUse;
+import org.springframework.data.mongodb.core.query.MappedQueryDocument;
 import org.springframework.data.mongodb.repository.Hint;
 import org.springframework.data.mongodb.repository.Meta;
 import org.springframework.data.mongodb.repository.query.MongoEntityMetadata;
@@ -170,6 +174,7 @@ class QueryBlocks {
 
 		private final AotQueryMethodGenerationContext context;
 		private final MongoQueryMethod queryMethod;
+		private final Lazy<List<CodeBlock>> queryArguments;
 		private final Lazy<CodeBlock> queryParameters;
 
 		private QueryInteraction source;
@@ -179,19 +184,15 @@ class QueryBlocks {
 
 			this.context = context;
 			this.queryMethod = queryMethod;
+			this.queryArguments = Lazy.of(this::queryArguments);
 			this.queryParameters = Lazy.of(this::queryParametersCodeBlock);
 		}
 
-		CodeBlock queryParametersCodeBlock() {
+		List<CodeBlock> queryArguments() {
 
 			List<String> allParameterNames = context.getAllParameterNames();
+			List<CodeBlock> arguments = new ArrayList<>(allParameterNames.size());
 
-			if (allParameterNames.isEmpty()) {
-				return CodeBlock.builder().build();
-			}
-
-			CodeBlock.Builder formatted = CodeBlock.builder();
-			boolean containsArrayParameter = false;
 			for (int i = 0; i < allParameterNames.size(); i++) {
 
 				String parameterName = allParameterNames.get(i);
@@ -200,35 +201,54 @@ class QueryBlocks {
 					String regexOptions = source.getQuery().getRegexOptions(i);
 
 					if (StringUtils.hasText(regexOptions)) {
-						formatted.add(CodeBlock.of("toRegex($L, $S)", parameterName, regexOptions));
+						arguments.add(CodeBlock.of("toRegex($L, $S)", parameterName, regexOptions));
 					} else {
-						formatted.add(CodeBlock.of("toRegex($L)", parameterName));
+						arguments.add(CodeBlock.of("toRegex($L)", parameterName));
 					}
 				} else {
-					formatted.add(CodeBlock.of("$L", parameterName));
+					arguments.add(CodeBlock.of("$L", parameterName));
 				}
+			}
 
-				if (i + 1 < allParameterNames.size()) {
-					formatted.add(", ");
-				}
+			return arguments;
+		}
+
+		CodeBlock queryParametersCodeBlock() {
+
+			List<String> allParameterNames = context.getAllParameterNames();
+
+			if (allParameterNames.isEmpty()) {
+				return CodeBlock.builder().build();
+			}
 
-				if (!containsArrayParameter && parameterType != null && parameterType.isArray()) {
+			boolean containsArrayParameter = false;
+			for (String parameterName : allParameterNames) {
+
+				Class<?> parameterType = context.getMethodParameter(parameterName).getParameterType();
+				if (parameterType != null && parameterType.isArray()) {
 					containsArrayParameter = true;
+					break;
 				}
 			}
 
+			CodeBlock formatted = CodeBlock.join(queryArguments.get(), ", ");
+
 			// wrap single array argument to avoid problems with vargs when calling method
 			if (containsArrayParameter && allParameterNames.size() == 1) {
-				return CodeBlock.of("new $T[] { $L }", Object.class, formatted.build());
+				return CodeBlock.of("new $T[] { $L }", Object.class, formatted);
 			}
 
-			return formatted.build();
+			return formatted;
 		}
 
 		public CodeBlock getQueryParameters() {
 			return queryParameters.get();
 		}
 
+		IntFunction<@Nullable CodeBlock> getBindableArguments() {
+			return MongoCodeBlocks.bindableArguments(context, queryArguments.get());
+		}
+
 		QueryCodeBlockBuilder filter(QueryInteraction query) {
 
 			this.source = query;
@@ -250,16 +270,16 @@ class QueryBlocks {
 			if (StringUtils.hasText(source.getQuery().getFieldsString())) {
 
 				VariableSnippet fields = Snippet.declare(builder).variable(Document.class, context.localVariable("fields"))
-						.of(MongoCodeBlocks.asDocument(context.getExpressionMarker(), source.getQuery().getFieldsString(),
-								queryParameters.get()));
+						.of(MongoCodeBlocks.asDocument(context, source.getQuery().getFieldsString(), queryParameters.get(),
+								getBindableArguments()));
 				builder.addStatement("$L.setFieldsObject($L)", queryVariableName, fields.getVariableName());
 			}
 
 			if (StringUtils.hasText(source.getQuery().getSortString())) {
 
 				VariableSnippet sort = Snippet.declare(builder).variable(Document.class, context.localVariable("sort"))
-						.of(MongoCodeBlocks.asDocument(context.getExpressionMarker(), source.getQuery().getSortString(),
-								getQueryParameters()));
+						.of(MongoCodeBlocks.asDocument(context, source.getQuery().getSortString(), getQueryParameters(),
+								getBindableArguments()));
 				builder.addStatement("$L.setSortObject($L)", queryVariableName, sort.getVariableName());
 			}
 
@@ -347,11 +367,39 @@ class QueryBlocks {
 			return builder.build();
 		}
 
+		/**
+		 * Render the query using field names mapped at build time, converting arguments to their MongoDB representation.
+		 */
+		private @Nullable CodeBlock renderMappedQuery() {
+
+			String mappedSource = this.source.getQuery().getMappedQueryString();
+			if (mappedSource == null) {
+				return null;
+			}
+
+			IntFunction<@Nullable CodeBlock> arguments = getBindableArguments();
+			return DocumentBlocks.render(mappedSource, index -> {
+
+				CodeBlock argument = arguments.apply(index);
+				return argument != null ? CodeBlock.of("toMongoValue($L)", argument) : null;
+			}, MappedQueryDocument.class);
+		}
+
 		private CodeBlock renderExpressionToQuery() {
 
 			String source = this.source.getQuery().getQueryString();
 			if (!StringUtils.hasText(source)) {
 				return CodeBlock.of("new $T(new $T())", BasicQuery.class, Document.class);
+			}
+
+			CodeBlock document = DocumentBlocks.render(source, getBindableArguments());
+			if (document != null) {
+
+				CodeBlock mappedDocument = renderMappedQuery();
+				if (mappedDocument != null) {
+					return CodeBlock.of("new $T(usePreMappedQueries() ? $L : $L)", BasicQuery.class, mappedDocument, document);
+				}
+				return CodeBlock.of("new $T($L)", BasicQuery.class, document);
 			} else if (MongoCodeBlocks.containsPlaceholder(source)) {
 				Builder builder = CodeBlock.builder();
 				if (getQueryParameters().isEmpty()) {
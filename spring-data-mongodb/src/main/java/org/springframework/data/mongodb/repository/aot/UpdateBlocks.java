@@ -28,7 +28,6 @@ import org.springframework.javapoet.CodeBlock;
 import org.springframework.javapoet.CodeBlock.Builder;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.NumberUtils;
-import org.springframework.util.StringUtils;
 
 /**
  * Code blocks for building update operations in AOT processing for MongoDB repositories.
@@ -102,20 +101,11 @@ class UpdateBlocks {
 	static class UpdateCodeBlockBuilder {
 
 		private final AotQueryMethodGenerationContext context;
-		private final String parameterNames;
 		private UpdateInteraction source;
 		private String updateVariableName;
 
 		public UpdateCodeBlockBuilder(AotQueryMethodGenerationContext context) {
 			this.context = context;
-
-			String parameterNames = StringUtils.collectionToDelimitedString(context.getAllParameterNames(), ", ");
-
-			if (StringUtils.hasText(parameterNames)) {
-				this.parameterNames = ", " + parameterNames;
-			} else {
-				this.parameterNames = "";
-			}
 		}
 
 		public UpdateCodeBlockBuilder update(UpdateInteraction update) {
@@ -135,8 +125,7 @@ class UpdateBlocks {
 			builder.add("\n");
 			String tmpVariableName = updateVariableName + "Document";
 			builder.add(
-					MongoCodeBlocks.renderExpressionToDocument(source.getUpdate().getUpdateString(), tmpVariableName,
-							parameterNames));
+					MongoCodeBlocks.renderExpressionToDocument(context, source.getUpdate().getUpdateString(), tmpVariableName));
 			builder.addStatement("$1T $2L = new $1T($3L)", BasicUpdate.class, updateVariableName, tmpVariableName);
 
 			return builder.build();
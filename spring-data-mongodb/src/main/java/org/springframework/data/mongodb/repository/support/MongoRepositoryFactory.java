@@ -21,6 +21,7 @@ import java.util.Optional;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.data.expression.ValueExpressionParser;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
@@ -38,10 +39,14 @@ import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
 import org.springframework.data.repository.core.support.RepositoryFactorySupport;
+import org.springframework.data.repository.query.CachingValueExpressionDelegate;
 import org.springframework.data.repository.query.QueryLookupStrategy;
 import org.springframework.data.repository.query.QueryLookupStrategy.Key;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ValueExpressionDelegate;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.util.Assert;
 
 /**
@@ -58,6 +63,7 @@ public class MongoRepositoryFactory extends RepositoryFactorySupport {
 	private final MongoOperations operations;
 	private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
 	private MongoRepositoryFragmentsContributor fragmentsContributor = MongoRepositoryFragmentsContributor.DEFAULT;
+	private @Nullable SpelParserConfiguration expressionParserConfiguration;
 
 	/**
 	 * Creates a new {@link MongoRepositoryFactory} with the given {@link MongoOperations}.
@@ -85,6 +91,21 @@ public class MongoRepositoryFactory extends RepositoryFactorySupport {
 		this.fragmentsContributor = fragmentsContributor;
 	}
 
+	/**
+	 * Configures the {@link SpelParserConfiguration} to parse SpEL expressions within query methods (e.g. in
+	 * {@link org.springframework.data.mongodb.repository.Query @Query}) with. Parsed expressions are cached per
+	 * repository regardless of this setting. A {@link SpelParserConfiguration#getCompilerMode() compiler mode} of
+	 * {@link SpelCompilerMode#IMMEDIATE} or {@link SpelCompilerMode#MIXED} compiles frequently evaluated expressions to
+	 * bytecode. Defaults to the configured {@link ValueExpressionDelegate} that follows the
+	 * {@code spring.expression.compiler.mode} property.
+	 *
+	 * @param expressionParserConfiguration the parser configuration to use, can be {@literal null} to use the default.
+	 * @since 5.1
+	 */
+	public void setExpressionParserConfiguration(@Nullable SpelParserConfiguration expressionParserConfiguration) {
+		this.expressionParserConfiguration = expressionParserConfiguration;
+	}
+
 	@Override
 	public void setBeanClassLoader(@Nullable ClassLoader classLoader) {
 
@@ -138,7 +159,19 @@ public class MongoRepositoryFactory extends RepositoryFactorySupport {
 	@Override
 	protected Optional<QueryLookupStrategy> getQueryLookupStrategy(@Nullable Key key,
 			ValueExpressionDelegate valueExpressionDelegate) {
-		return Optional.of(new MongoQueryLookupStrategy(operations, mappingContext, valueExpressionDelegate));
+		return Optional.of(
+				new MongoQueryLookupStrategy(operations, mappingContext, createCachingDelegate(valueExpressionDelegate)));
+	}
+
+	private ValueExpressionDelegate createCachingDelegate(ValueExpressionDelegate valueExpressionDelegate) {
+
+		if (expressionParserConfiguration == null) {
+			return new CachingValueExpressionDelegate(valueExpressionDelegate);
+		}
+
+		SpelExpressionParser parser = new SpelExpressionParser(expressionParserConfiguration);
+		return new CachingValueExpressionDelegate(valueExpressionDelegate.getEvaluationContextAccessor(),
+				ValueExpressionParser.create(() -> parser));
 	}
 
 	@Deprecated
@@ -24,6 +24,7 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
 import org.springframework.data.repository.core.support.RepositoryFactorySupport;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.util.Assert;
 
 /**
@@ -39,6 +40,7 @@ public class MongoRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 	private @Nullable MongoOperations operations;
 	private MongoRepositoryFragmentsContributor repositoryFragmentsContributor = MongoRepositoryFragmentsContributor.DEFAULT;
 	private boolean createIndexesForQueryMethods = false;
+	private @Nullable SpelParserConfiguration expressionParserConfiguration;
 	private boolean mappingContextConfigured = false;
 
 	/**
@@ -84,6 +86,18 @@ public class MongoRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 		this.createIndexesForQueryMethods = createIndexesForQueryMethods;
 	}
 
+	/**
+	 * Configures the {@link SpelParserConfiguration} to parse SpEL expressions within query methods with, e.g. to
+	 * compile frequently evaluated expressions. Defaults to the {@code spring.expression.compiler.mode} property.
+	 *
+	 * @param expressionParserConfiguration the parser configuration to use, can be {@literal null} to use the default.
+	 * @since 5.1
+	 * @see MongoRepositoryFactory#setExpressionParserConfiguration(SpelParserConfiguration)
+	 */
+	public void setExpressionParserConfiguration(@Nullable SpelParserConfiguration expressionParserConfiguration) {
+		this.expressionParserConfiguration = expressionParserConfiguration;
+	}
+
 	@Override
 	public void setMappingContext(MappingContext<?, ?> mappingContext) {
 
@@ -96,6 +110,7 @@ public class MongoRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 
 		MongoRepositoryFactory factory = getFactoryInstance(operations);
 		factory.setFragmentsContributor(repositoryFragmentsContributor);
+		factory.setExpressionParserConfiguration(expressionParserConfiguration);
 
 		if (createIndexesForQueryMethods) {
 			factory.addQueryCreationListener(
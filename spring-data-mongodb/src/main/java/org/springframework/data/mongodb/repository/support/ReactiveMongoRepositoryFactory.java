@@ -21,6 +21,7 @@ import java.util.Optional;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.data.expression.ValueExpressionParser;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
@@ -38,11 +39,15 @@ import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.core.support.ReactiveRepositoryFactorySupport;
 import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.springframework.data.repository.query.CachingValueExpressionDelegate;
 import org.springframework.data.repository.query.QueryLookupStrategy;
 import org.springframework.data.repository.query.QueryLookupStrategy.Key;
 import org.springframework.data.repository.query.QueryMethodValueEvaluationContextAccessor;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ValueExpressionDelegate;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.util.Assert;
 
 /**
@@ -59,6 +64,7 @@ public class ReactiveMongoRepositoryFactory extends ReactiveRepositoryFactorySup
 	private final ReactiveMongoOperations operations;
 	private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
 	private ReactiveMongoRepositoryFragmentsContributor fragmentsContributor = ReactiveMongoRepositoryFragmentsContributor.DEFAULT;
+	private @Nullable SpelParserConfiguration expressionParserConfiguration;
 	@Nullable private QueryMethodValueEvaluationContextAccessor accessor;
 
 	/**
@@ -87,6 +93,21 @@ public class ReactiveMongoRepositoryFactory extends ReactiveRepositoryFactorySup
 		this.fragmentsContributor = fragmentsContributor;
 	}
 
+	/**
+	 * Configures the {@link SpelParserConfiguration} to parse SpEL expressions within query methods (e.g. in
+	 * {@link org.springframework.data.mongodb.repository.Query @Query}) with. Parsed expressions are cached per
+	 * repository regardless of this setting. A {@link SpelParserConfiguration#getCompilerMode() compiler mode} of
+	 * {@link SpelCompilerMode#IMMEDIATE} or {@link SpelCompilerMode#MIXED} compiles frequently evaluated expressions to
+	 * bytecode. Defaults to the configured {@link ValueExpressionDelegate} that follows the
+	 * {@code spring.expression.compiler.mode} property.
+	 *
+	 * @param expressionParserConfiguration the parser configuration to use, can be {@literal null} to use the default.
+	 * @since 5.1
+	 */
+	public void setExpressionParserConfiguration(@Nullable SpelParserConfiguration expressionParserConfiguration) {
+		this.expressionParserConfiguration = expressionParserConfiguration;
+	}
+
 	@Override
 	public void setBeanClassLoader(@Nullable ClassLoader classLoader) {
 
@@ -139,7 +160,19 @@ public class ReactiveMongoRepositoryFactory extends ReactiveRepositoryFactorySup
 	@SuppressWarnings("NullAway")
 	protected Optional<QueryLookupStrategy> getQueryLookupStrategy(Key key,
 			ValueExpressionDelegate valueExpressionDelegate) {
-		return Optional.of(new MongoQueryLookupStrategy(operations, mappingContext, valueExpressionDelegate));
+		return Optional.of(
+				new MongoQueryLookupStrategy(operations, mappingContext, createCachingDelegate(valueExpressionDelegate)));
+	}
+
+	private ValueExpressionDelegate createCachingDelegate(ValueExpressionDelegate valueExpressionDelegate) {
+
+		if (expressionParserConfiguration == null) {
+			return new CachingValueExpressionDelegate(valueExpressionDelegate);
+		}
+
+		SpelExpressionParser parser = new SpelExpressionParser(expressionParserConfiguration);
+		return new CachingValueExpressionDelegate(valueExpressionDelegate.getEvaluationContextAccessor(),
+				ValueExpressionParser.create(() -> parser));
 	}
 
 	@Deprecated
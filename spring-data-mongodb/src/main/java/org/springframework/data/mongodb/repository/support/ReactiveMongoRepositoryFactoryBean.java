@@ -24,6 +24,7 @@ import org.springframework.data.mongodb.core.index.IndexOperationsAdapter;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
 import org.springframework.data.repository.core.support.RepositoryFactorySupport;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.util.Assert;
 
 /**
@@ -42,6 +43,7 @@ public class ReactiveMongoRepositoryFactoryBean<T extends Repository<S, ID>, S,
 	private @Nullable ReactiveMongoOperations operations;
 	private ReactiveMongoRepositoryFragmentsContributor repositoryFragmentsContributor = ReactiveMongoRepositoryFragmentsContributor.DEFAULT;
 	private boolean createIndexesForQueryMethods = false;
+	private @Nullable SpelParserConfiguration expressionParserConfiguration;
 	private boolean mappingContextConfigured = false;
 
 	/**
@@ -88,6 +90,18 @@ public class ReactiveMongoRepositoryFactoryBean<T extends Repository<S, ID>, S,
 		this.createIndexesForQueryMethods = createIndexesForQueryMethods;
 	}
 
+	/**
+	 * Configures the {@link SpelParserConfiguration} to parse SpEL expressions within query methods with, e.g. to
+	 * compile frequently evaluated expressions. Defaults to the {@code spring.expression.compiler.mode} property.
+	 *
+	 * @param expressionParserConfiguration the parser configuration to use, can be {@literal null} to use the default.
+	 * @since 5.1
+	 * @see ReactiveMongoRepositoryFactory#setExpressionParserConfiguration(SpelParserConfiguration)
+	 */
+	public void setExpressionParserConfiguration(@Nullable SpelParserConfiguration expressionParserConfiguration) {
+		this.expressionParserConfiguration = expressionParserConfiguration;
+	}
+
 	@Override
 	public void setMappingContext(MappingContext<?, ?> mappingContext) {
 
@@ -101,6 +115,7 @@ public class ReactiveMongoRepositoryFactoryBean<T extends Repository<S, ID>, S,
 
 		ReactiveMongoRepositoryFactory factory = getFactoryInstance(operations);
 		factory.setFragmentsContributor(repositoryFragmentsContributor);
+		factory.setExpressionParserConfiguration(expressionParserConfiguration);
 
 		if (createIndexesForQueryMethods) {
 			factory.addQueryCreationListener(new IndexEnsuringQueryCreationListener(
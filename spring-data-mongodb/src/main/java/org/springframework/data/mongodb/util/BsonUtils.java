@@ -36,6 +36,7 @@ import org.bson.codecs.EncoderContext;
 import org.bson.codecs.configuration.CodecConfigurationException;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
+import org.bson.io.BasicOutputBuffer;
 import org.bson.json.JsonParseException;
 import org.bson.types.Binary;
 import org.bson.types.Decimal128;
@@ -474,6 +475,39 @@ public class BsonUtils {
 		}
 	}
 
+	/**
+	 * Compute the size of the given {@link Bson} object in its BSON binary representation by encoding it with the given
+	 * {@link CodecRegistry}. {@link RawBsonDocument raw documents} report their size without encoding.
+	 *
+	 * @param bson must not be {@literal null}.
+	 * @param codecRegistry must not be {@literal null}.
+	 * @return the encoded size in bytes.
+	 * @since 5.1
+	 */
+	public static int getEncodedSize(Bson bson, CodecRegistry codecRegistry) {
+
+		Assert.notNull(bson, "Bson must not be null");
+		Assert.notNull(codecRegistry, "CodecRegistry must not be null");
+
+		if (bson instanceof RawBsonDocument raw) {
+			return raw.getByteBuffer().remaining();
+		}
+
+		try (BasicOutputBuffer buffer = new BasicOutputBuffer(); BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+
+			EncoderContext context = EncoderContext.builder().build();
+			if (bson instanceof Document document) {
+				codecRegistry.get(Document.class).encode(writer, document, context);
+			} else {
+				BsonDocument document = bson instanceof BsonDocument bsonDocument ? bsonDocument
+						: bson.toBsonDocument(Document.class, codecRegistry);
+				codecRegistry.get(BsonDocument.class).encode(writer, document, context);
+			}
+
+			return buffer.getSize();
+		}
+	}
+
 	/**
 	 * Check if a given String looks like {@link Document#parse(String) parsable} json.
 	 *
@@ -0,0 +1,320 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bson.BsonArray;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.ByteBuf;
+import org.bson.Document;
+import org.bson.RawBsonArray;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonValueCodec;
+import org.bson.codecs.Decoder;
+import org.bson.codecs.DecoderContext;
+import org.bson.io.ByteBufferBsonInput;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link Document} backed by a {@link RawBsonDocument}. Values are decoded from the raw bytes on first access by key
+ * and nested documents are exposed as {@link LazyDocument} themselves so that subtrees that are never read are never
+ * decoded. Operations that require all entries, such as iteration, modification, {@link #equals(Object)} or
+ * {@link #hashCode()}, decode the entire document once and detach it from the raw bytes.
+ * <p>
+ * Nested documents of a {@link LazyDocument} are {@link LazyDocument}s as well. As {@link Document#equals(Object)}
+ * compares document types, {@link LazyDocument}s are only equal to other {@link LazyDocument}s with equal content.
+ *
+ * @since 5.1
+ */
+class LazyDocument extends Document {
+
+	private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+	private static final BsonValueCodec VALUE_CODEC = new BsonValueCodec();
+
+	private final Decoder<Document> decoder;
+
+	private @Nullable RawBsonDocument source;
+	private @Nullable Map<String, @Nullable Object> resolved;
+
+	/**
+	 * Creates a new {@link LazyDocument} for the given {@link RawBsonDocument}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param decoder the {@link Decoder} to decode values with. Must not be {@literal null}.
+	 */
+	LazyDocument(RawBsonDocument source, Decoder<Document> decoder) {
+
+		this.source = source;
+		this.decoder = decoder;
+	}
+
+	/**
+	 * @return {@literal true} if the document has not been decoded entirely yet.
+	 */
+	boolean isRaw() {
+		return source != null;
+	}
+
+	@Override
+	public @Nullable Object get(Object key) {
+
+		RawBsonDocument source = this.source;
+
+		if (source == null) {
+			return super.get(key);
+		}
+
+		if (!(key instanceof String name)) {
+			return null;
+		}
+
+		if (resolved == null) {
+			resolved = new HashMap<>();
+		} else if (resolved.containsKey(name)) {
+			return resolved.get(name);
+		}
+
+		BsonValue value = source.get(name);
+
+		if (value == null) {
+			return null;
+		}
+
+		Object result = decode(name, value);
+		resolved.put(name, result);
+
+		return result;
+	}
+
+	@Override
+	public <T> @Nullable T get(Object key, Class<T> clazz) {
+		return clazz.cast(get(key));
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, T defaultValue) {
+
+		Object value = get(key);
+		return value == null ? defaultValue : (T) value;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return source != null ? source.containsKey(key) : super.containsKey(key);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return source != null ? source.isEmpty() : super.isEmpty();
+	}
+
+	@Override
+	public int size() {
+
+		materialize();
+		return super.size();
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+
+		materialize();
+		return super.containsValue(value);
+	}
+
+	@Override
+	public Object put(String key, Object value) {
+
+		materialize();
+		return super.put(key, value);
+	}
+
+	@Override
+	public Document append(String key, Object value) {
+
+		materialize();
+		return super.append(key, value);
+	}
+
+	@Override
+	public Object remove(Object key) {
+
+		materialize();
+		return super.remove(key);
+	}
+
+	@Override
+	public void putAll(Map<? extends String, ?> map) {
+
+		materialize();
+		super.putAll(map);
+	}
+
+	@Override
+	public void clear() {
+
+		materialize();
+		super.clear();
+	}
+
+	@Override
+	public Set<String> keySet() {
+
+		materialize();
+		return super.keySet();
+	}
+
+	@Override
+	public Collection<Object> values() {
+
+		materialize();
+		return super.values();
+	}
+
+	@Override
+	public Set<Entry<String, Object>> entrySet() {
+
+		materialize();
+		return super.entrySet();
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		if (!(o instanceof LazyDocument that)) {
+			return false;
+		}
+
+		materialize();
+		that.materialize();
+
+		return super.equals(that);
+	}
+
+	@Override
+	public int hashCode() {
+
+		materialize();
+		return super.hashCode();
+	}
+
+	@Override
+	public String toString() {
+
+		materialize();
+		return super.toString();
+	}
+
+	private Object writeReplace() {
+		return new Document(this);
+	}
+
+	/**
+	 * Decode all entries not yet resolved into the backing {@link Document} and release the raw bytes. Nested documents
+	 * remain {@link LazyDocument}s and values already handed out by {@link #get(Object)} are retained so that
+	 * modifications to them remain visible.
+	 */
+	private void materialize() {
+
+		RawBsonDocument source = this.source;
+
+		if (source == null) {
+			return;
+		}
+
+		Map<String, @Nullable Object> resolved = this.resolved;
+		ByteBuf buffer = source.getByteBuffer();
+		byte[] bytes = buffer.array();
+
+		this.source = null;
+		this.resolved = null;
+
+		try (BsonBinaryReader reader = new BsonBinaryReader(new ByteBufferBsonInput(buffer))) {
+
+			reader.readStartDocument();
+
+			while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+
+				String key = reader.readName();
+				BsonType type = reader.getCurrentBsonType();
+
+				if (resolved != null && resolved.containsKey(key)) {
+
+					reader.skipValue();
+					super.put(key, resolved.get(key));
+				} else if (type == BsonType.DOCUMENT || type == BsonType.ARRAY) {
+
+					int offset = reader.getBsonInput().getPosition();
+					reader.skipValue();
+					int length = reader.getBsonInput().getPosition() - offset;
+
+					super.put(key, decode(key, type == BsonType.DOCUMENT ? new RawBsonDocument(bytes, offset, length)
+							: new RawBsonArray(bytes, offset, length)));
+				} else {
+					super.put(key, decode(key, VALUE_CODEC.decode(reader, DECODER_CONTEXT)));
+				}
+			}
+
+			reader.readEndDocument();
+		}
+	}
+
+	private @Nullable Object decode(String key, BsonValue value) {
+
+		if (value instanceof RawBsonDocument document) {
+			return new LazyDocument(document, decoder);
+		}
+
+		if (value instanceof BsonArray array && containsDocuments(array)) {
+
+			List<@Nullable Object> list = new ArrayList<>(array.size());
+
+			for (BsonValue element : array) {
+				list.add(decode(key, element));
+			}
+
+			return list;
+		}
+
+		return decoder.decode(new BsonDocumentReader(new BsonDocument(key, value)), DECODER_CONTEXT).get(key);
+	}
+
+	private static boolean containsDocuments(BsonArray array) {
+
+		for (BsonValue element : array) {
+			if (element.isDocument() || element.isArray()) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.util;
+
+import java.util.Map;
+
+import org.bson.BsonReader;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.CollectibleCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.RawBsonDocumentCodec;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.springframework.data.mongodb.core.mapping.FieldName;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * {@link Codec} reading {@link Document}s as {@link RawBsonDocument raw bytes} that are decoded lazily on field access.
+ * Fields and nested documents that are never read are never decoded. Encoding is delegated to the {@link Document}
+ * {@link Codec} of the underlying {@link CodecRegistry}, as is {@link CollectibleCodec identifier handling}.
+ * <p>
+ * Use {@link #withLazyDocuments(CodecRegistry)} to obtain a {@link CodecRegistry} decoding {@link Document}s lazily,
+ * for example via {@link com.mongodb.client.MongoCollection#withCodecRegistry(CodecRegistry)}.
+ *
+ * @since 5.1
+ */
+public class LazyDocumentCodec implements CollectibleCodec<Document> {
+
+	private static final Map<CodecRegistry, CodecRegistry> REGISTRIES = new ConcurrentReferenceHashMap<>();
+
+	private final RawBsonDocumentCodec rawCodec = new RawBsonDocumentCodec();
+	private final Codec<Document> delegate;
+
+	/**
+	 * Creates a new {@link LazyDocumentCodec} decoding values with the {@link Document} {@link Codec} obtained from the
+	 * given {@link CodecRegistry}.
+	 *
+	 * @param codecRegistry must not be {@literal null}.
+	 */
+	public LazyDocumentCodec(CodecRegistry codecRegistry) {
+
+		Assert.notNull(codecRegistry, "CodecRegistry must not be null");
+
+		this.delegate = codecRegistry.get(Document.class);
+	}
+
+	/**
+	 * Return a {@link CodecRegistry} that decodes {@link Document}s lazily and otherwise uses the given
+	 * {@link CodecRegistry}. Registries are cached per source {@link CodecRegistry}.
+	 *
+	 * @param codecRegistry must not be {@literal null}.
+	 * @return the {@link CodecRegistry} decoding {@link Document}s lazily.
+	 */
+	public static CodecRegistry withLazyDocuments(CodecRegistry codecRegistry) {
+
+		Assert.notNull(codecRegistry, "CodecRegistry must not be null");
+
+		return REGISTRIES.computeIfAbsent(codecRegistry, it -> CodecRegistries
+				.fromRegistries(CodecRegistries.fromCodecs(new LazyDocumentCodec(it)), it));
+	}
+
+	@Override
+	public Document decode(BsonReader reader, DecoderContext decoderContext) {
+		return new LazyDocument(rawCodec.decode(reader, decoderContext), delegate);
+	}
+
+	@Override
+	public void encode(BsonWriter writer, Document value, EncoderContext encoderContext) {
+		delegate.encode(writer, value, encoderContext);
+	}
+
+	@Override
+	public Class<Document> getEncoderClass() {
+		return Document.class;
+	}
+
+	@Override
+	public Document generateIdIfAbsentFromDocument(Document document) {
+		return delegate instanceof CollectibleCodec<Document> codec ? codec.generateIdIfAbsentFromDocument(document)
+				: document;
+	}
+
+	@Override
+	public boolean documentHasId(Document document) {
+		return delegate instanceof CollectibleCodec<Document> codec ? codec.documentHasId(document)
+				: document.containsKey(FieldName.ID.name());
+	}
+
+	@Override
+	public BsonValue getDocumentId(Document document) {
+
+		if (delegate instanceof CollectibleCodec<Document> codec) {
+			return codec.getDocumentId(document);
+		}
+
+		throw new IllegalStateException("Cannot obtain the _id of a document using %s".formatted(delegate));
+	}
+}
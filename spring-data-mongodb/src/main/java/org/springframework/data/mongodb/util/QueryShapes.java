@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.util;
+
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Utility to compute the shape of a query document. The shape retains field names and operators of a filter while
+ * replacing values with {@code ?}, so that {@code { "age" : { "$gt" : 30 }, "name" : "Walter" }} and
+ * {@code { "age" : { "$gt" : 50 }, "name" : "Skyler" }} share the shape {@code {age: {$gt: ?}, name: ?}}.
+ * <p>
+ * Both {@link org.bson.Document} and {@link org.bson.BsonDocument} are supported as both are {@link Map maps}.
+ * {@link #hash(Map)} computes a hash of the shape without rendering it and allows to look up shapes without
+ * allocating the shape string.
+ *
+ * @since 5.1
+ */
+public abstract class QueryShapes {
+
+	private static final int MAX_DEPTH = 16;
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private QueryShapes() {
+
+	}
+
+	/**
+	 * Render the shape of the given query document.
+	 *
+	 * @param query the query document. Can be {@literal null}.
+	 * @return the shape, {@code {}} for {@literal null} or empty documents.
+	 */
+	public static String render(@Nullable Map<String, ?> query) {
+
+		if (query == null || query.isEmpty()) {
+			return "{}";
+		}
+
+		StringBuilder shape = new StringBuilder();
+		render(query, shape, 0);
+		return shape.toString();
+	}
+
+	/**
+	 * Compute a hash of the shape of the given query document. Documents sharing the same {@link #render(Map) shape}
+	 * share the same hash.
+	 *
+	 * @param query the query document. Can be {@literal null}.
+	 * @return the shape hash.
+	 */
+	public static long hash(@Nullable Map<String, ?> query) {
+
+		if (query == null || query.isEmpty()) {
+			return FNV_OFFSET;
+		}
+
+		return hash(query, FNV_OFFSET, 0);
+	}
+
+	private static void render(Map<String, ?> document, StringBuilder shape, int depth) {
+
+		if (depth > MAX_DEPTH) {
+			shape.append('?');
+			return;
+		}
+
+		shape.append('{');
+		boolean first = true;
+
+		for (Map.Entry<String, ?> entry : document.entrySet()) {
+
+			if (!first) {
+				shape.append(", ");
+			}
+			first = false;
+
+			shape.append(entry.getKey()).append(": ");
+			renderValue(entry.getKey(), entry.getValue(), shape, depth);
+		}
+
+		shape.append('}');
+	}
+
+	private static void renderValue(String key, @Nullable Object value, StringBuilder shape, int depth) {
+
+		if (value instanceof Map<?, ?> map) {
+			render(asDocument(map), shape, depth + 1);
+			return;
+		}
+
+		if (value instanceof List<?> list && isLogicalOperator(key)) {
+
+			shape.append('[');
+			for (int i = 0; i < list.size(); i++) {
+
+				if (i > 0) {
+					shape.append(", ");
+				}
+
+				Object element = list.get(i);
+				if (element instanceof Map<?, ?> map) {
+					render(asDocument(map), shape, depth + 1);
+				} else {
+					shape.append('?');
+				}
+			}
+			shape.append(']');
+			return;
+		}
+
+		shape.append('?');
+	}
+
+	private static long hash(Map<String, ?> document, long hash, int depth) {
+
+		if (depth > MAX_DEPTH) {
+			return mix(hash, '?');
+		}
+
+		hash = mix(hash, '{');
+
+		for (Map.Entry<String, ?> entry : document.entrySet()) {
+
+			String key = entry.getKey();
+			for (int i = 0; i < key.length(); i++) {
+				hash = mix(hash, key.charAt(i));
+			}
+
+			hash = mix(hash, ':');
+			hash = hashValue(key, entry.getValue(), hash, depth);
+		}
+
+		return mix(hash, '}');
+	}
+
+	private static long hashValue(String key, @Nullable Object value, long hash, int depth) {
+
+		if (value instanceof Map<?, ?> map) {
+			return hash(asDocument(map), hash, depth + 1);
+		}
+
+		if (value instanceof List<?> list && isLogicalOperator(key)) {
+
+			hash = mix(hash, '[');
+			for (int i = 0; i < list.size(); i++) {
+
+				Object element = list.get(i);
+				hash = element instanceof Map<?, ?> map ? hash(asDocument(map), hash, depth + 1) : mix(hash, '?');
+				hash = mix(hash, ',');
+			}
+			return mix(hash, ']');
+		}
+
+		return mix(hash, '?');
+	}
+
+	private static long mix(long hash, char value) {
+		return (hash ^ value) * FNV_PRIME;
+	}
+
+	private static boolean isLogicalOperator(String key) {
+		return "$and".equals(key) || "$or".equals(key) || "$nor".equals(key);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, ?> asDocument(Map<?, ?> map) {
+		return (Map<String, ?>) map;
+	}
+}
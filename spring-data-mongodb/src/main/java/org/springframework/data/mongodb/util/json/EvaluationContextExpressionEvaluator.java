@@ -45,7 +45,7 @@ class EvaluationContextExpressionEvaluator implements ValueExpressionEvaluator {
 		return evaluateExpression(expression, Collections.emptyMap());
 	}
 
-	EvaluationContext getEvaluationContext(String expressionString) {
+	EvaluationContext getEvaluationContext(Expression expression) {
 		return new StandardEvaluationContext();
 	}
 
@@ -57,7 +57,7 @@ class EvaluationContextExpressionEvaluator implements ValueExpressionEvaluator {
 	<T> @Nullable T evaluateExpression(String expressionString, Map<String, Object> variables) {
 
 		Expression expression = getParsedExpression(expressionString);
-		EvaluationContext ctx = getEvaluationContext(expressionString);
+		EvaluationContext ctx = getEvaluationContext(expression);
 		variables.forEach(ctx::setVariable);
 
 		Object result = expression.getValue(ctx, Object.class);
@@ -52,7 +52,7 @@ public class ParameterBindingContext {
 			Supplier<EvaluationContext> evaluationContext) {
 		this(valueProvider, new EvaluationContextExpressionEvaluator(valueProvider, unwrap(expressionParser)) {
 			@Override
-			public EvaluationContext getEvaluationContext(String expressionString) {
+			public EvaluationContext getEvaluationContext(Expression expression) {
 				return evaluationContext.get();
 			}
 		});
@@ -105,9 +105,8 @@ public class ParameterBindingContext {
 				new EvaluationContextExpressionEvaluator(valueProvider, expressionParser) {
 
 					@Override
-					public EvaluationContext getEvaluationContext(String expressionString) {
+					public EvaluationContext getEvaluationContext(Expression expression) {
 
-						Expression expression = getParsedExpression(expressionString);
 						ExpressionDependencies dependencies = ExpressionDependencies.discover(expression);
 						return contextFunction.apply(dependencies);
 					}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.util.spel;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.ParseException;
+import org.springframework.expression.ParserContext;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * {@link ExpressionParser} caching parsed {@link Expression expressions} by their source string. Reusing the parsed
+ * {@link Expression} avoids repeated parsing and allows the SpEL compiler (if enabled via
+ * {@link org.springframework.expression.spel.SpelParserConfiguration}) to compile frequently evaluated expressions.
+ *
+ * @since 5.1
+ */
+public class CachingExpressionParser implements ExpressionParser {
+
+	private static final int DEFAULT_CACHE_SIZE = 256;
+
+	private final ExpressionParser delegate;
+	private final ConcurrentLruCache<CacheKey, Expression> cache;
+
+	/**
+	 * Create a new {@link CachingExpressionParser} for the given {@link ExpressionParser}.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 */
+	public CachingExpressionParser(ExpressionParser delegate) {
+		this(delegate, DEFAULT_CACHE_SIZE);
+	}
+
+	/**
+	 * Create a new {@link CachingExpressionParser} for the given {@link ExpressionParser} retaining at most
+	 * {@code cacheSize} expressions.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 * @param cacheSize maximum number of cached expressions. Must be greater or equal to zero.
+	 */
+	public CachingExpressionParser(ExpressionParser delegate, int cacheSize) {
+
+		Assert.notNull(delegate, "ExpressionParser must not be null");
+		Assert.isTrue(cacheSize >= 0, "Cache size must be greater or equal to zero");
+
+		this.delegate = delegate;
+		this.cache = new ConcurrentLruCache<>(cacheSize,
+				key -> key.context() != null ? delegate.parseExpression(key.expression(), key.context())
+						: delegate.parseExpression(key.expression()));
+	}
+
+	/**
+	 * @return the underlying {@link ExpressionParser}.
+	 */
+	public ExpressionParser getDelegate() {
+		return delegate;
+	}
+
+	@Override
+	public Expression parseExpression(String expressionString) throws ParseException {
+		return cache.get(new CacheKey(expressionString, null));
+	}
+
+	@Override
+	public Expression parseExpression(String expressionString, ParserContext context) throws ParseException {
+		return cache.get(new CacheKey(expressionString, context));
+	}
+
+	private record CacheKey(String expression, @Nullable ParserContext context) {
+
+	}
+}
@@ -21,6 +21,7 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.data.expression.ValueEvaluationContext;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.ParserContext;
 import org.springframework.expression.common.LiteralExpression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
@@ -34,7 +35,7 @@ import org.springframework.util.StringUtils;
  */
 public final class ExpressionUtils {
 
-	private static final SpelExpressionParser PARSER = new SpelExpressionParser();
+	private static final ExpressionParser PARSER = new CachingExpressionParser(new SpelExpressionParser());
 
 	/**
 	 * Returns a SpEL {@link Expression} if the given {@link String} is actually an expression that does not evaluate to a
@@ -44,12 +45,26 @@ public final class ExpressionUtils {
 	 * @return can be {@literal null}.
 	 */
 	public static @Nullable Expression detectExpression(@Nullable String potentialExpression) {
+		return detectExpression(PARSER, potentialExpression);
+	}
+
+	/**
+	 * Returns a SpEL {@link Expression} parsed with the given {@link ExpressionParser} if the given {@link String} is
+	 * actually an expression that does not evaluate to a {@link LiteralExpression} (indicating that no subsequent
+	 * evaluation is necessary).
+	 *
+	 * @param parser must not be {@literal null}.
+	 * @param potentialExpression can be {@literal null}
+	 * @return can be {@literal null}.
+	 * @since 5.1
+	 */
+	public static @Nullable Expression detectExpression(ExpressionParser parser, @Nullable String potentialExpression) {
 
 		if (!StringUtils.hasText(potentialExpression)) {
 			return null;
 		}
 
-		Expression expression = PARSER.parseExpression(potentialExpression, ParserContext.TEMPLATE_EXPRESSION);
+		Expression expression = parser.parseExpression(potentialExpression, ParserContext.TEMPLATE_EXPRESSION);
 		return expression instanceof LiteralExpression ? null : expression;
 	}
 
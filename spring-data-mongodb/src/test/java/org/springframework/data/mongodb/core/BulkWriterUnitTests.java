@@ -23,6 +23,9 @@ import static org.springframework.data.mongodb.core.query.Query.*;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.bson.Document;
@@ -61,7 +64,9 @@ import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
 import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.core.query.Collation;
 import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
@@ -156,6 +161,107 @@ class BulkWriterUnitTests {
 		verifyNoInteractions(collection);
 	}
 
+	@Test
+	void writesEachCollectionOnPerCollectionDispatch() {
+
+		when(collection.bulkWrite(anyList(), any()))
+				.thenReturn(BulkWriteResult.acknowledged(1, 0, 0, 0, List.of(), List.of()));
+
+		ops.insert(new BaseDoc());
+		builder.inCollection("other-collection", it -> it.insert(new BaseDoc()));
+		builder.inCollection("third-collection", it -> it.insert(new BaseDoc()));
+
+		org.springframework.data.mongodb.core.bulk.BulkWriteResult result = template.bulkWrite(builder.build(),
+				BulkWriteOptions.unordered().perCollection(2));
+
+		verify(database).getCollection(eq("default-collection"), eq(Document.class));
+		verify(database).getCollection(eq("other-collection"), eq(Document.class));
+		verify(database).getCollection(eq("third-collection"), eq(Document.class));
+		verify(collection, times(3)).bulkWrite(anyList(), any());
+		verify(client, never()).bulkWrite(anyList(), any());
+		assertThat(result.insertCount()).isEqualTo(3);
+		assertThat(result.acknowledged()).isTrue();
+	}
+
+	@Test
+	void writesCollectionsOnConfiguredExecutorWithinConcurrencyLimit() {
+
+		List<Thread> threads = new CopyOnWriteArrayList<>();
+		when(collection.bulkWrite(anyList(), any())).thenAnswer(invocation -> {
+			threads.add(Thread.currentThread());
+			return BulkWriteResult.acknowledged(1, 0, 0, 0, List.of(), List.of());
+		});
+
+		AtomicInteger tasks = new AtomicInteger();
+		Executor executor = command -> {
+			tasks.incrementAndGet();
+			command.run();
+		};
+
+		ops.insert(new BaseDoc());
+		builder.inCollection("other-collection", it -> it.insert(new BaseDoc()));
+		builder.inCollection("third-collection", it -> it.insert(new BaseDoc()));
+
+		org.springframework.data.mongodb.core.bulk.BulkWriteResult result = template.bulkWrite(builder.build(),
+				BulkWriteOptions.unordered().perCollection(2, executor));
+
+		assertThat(tasks).hasValue(2);
+		assertThat(threads).hasSize(3);
+		assertThat(result.insertCount()).isEqualTo(3);
+	}
+
+	@Test
+	void writesCollectionsOnCallingThreadWithinTransaction() {
+
+		List<Thread> threads = new CopyOnWriteArrayList<>();
+		when(collection.bulkWrite(anyList(), any())).thenAnswer(invocation -> {
+			threads.add(Thread.currentThread());
+			return BulkWriteResult.acknowledged(1, 0, 0, 0, List.of(), List.of());
+		});
+
+		ops.insert(new BaseDoc());
+		builder.inCollection("other-collection", it -> it.insert(new BaseDoc()));
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			template.bulkWrite(builder.build(), BulkWriteOptions.unordered().perCollection(2));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		assertThat(threads).hasSize(2).containsOnly(Thread.currentThread());
+	}
+
+	@Test
+	void orderedPerCollectionDispatchStopsOnFirstFailure() {
+
+		when(collection.bulkWrite(anyList(), any())).thenThrow(new IllegalStateException("o_O"));
+
+		ops.insert(new BaseDoc());
+		builder.inCollection("other-collection", it -> it.insert(new BaseDoc()));
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> template.bulkWrite(builder.build(), BulkWriteOptions.ordered().perCollection()));
+
+		verify(collection).bulkWrite(anyList(), any());
+		verify(afterSaveCallback, never()).onAfterSave(any(), any(), anyString());
+	}
+
+	@Test
+	void unorderedPerCollectionDispatchReportsAllFailures() {
+
+		when(collection.bulkWrite(anyList(), any())).thenThrow(new IllegalStateException("o_O"))
+				.thenReturn(BulkWriteResult.acknowledged(1, 0, 0, 0, List.of(), List.of()));
+
+		ops.insert(new BaseDoc());
+		builder.inCollection("other-collection", it -> it.insert(new BaseDoc()));
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> template.bulkWrite(builder.build(), BulkWriteOptions.unordered().perCollection()));
+
+		verify(collection, times(2)).bulkWrite(anyList(), any());
+	}
+
 	@Test // GH-5087
 	void updateOneShouldUseCollationWhenPresent() {
 
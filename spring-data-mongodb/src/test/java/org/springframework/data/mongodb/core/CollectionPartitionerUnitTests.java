@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.mongodb.core.query.Criteria.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Collation;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.mongodb.ReadPreference;
+
+/**
+ * Unit tests for {@link CollectionPartitioner}.
+ */
+class CollectionPartitionerUnitTests {
+
+	@Test
+	void createsSamplePipeline() {
+
+		CollectionPartitioner partitioner = new CollectionPartitioner(new Query(), "last_name",
+				PartitionedScanOptions.partitions(4).sampleSize(50));
+
+		assertThat(partitioner.getSamplePipeline(new Document("age", 42))).containsExactly(
+				Document.parse("{ '$match' : { 'age' : 42 } }"), Document.parse("{ '$sample' : { 'size' : 50 } }"),
+				Document.parse("{ '$project' : { '_id' : 0, 'value' : '$last_name' } }"),
+				Document.parse("{ '$sort' : { 'value' : 1 } }"));
+	}
+
+	@Test
+	void splitsSamplesIntoRanges() {
+
+		CollectionPartitioner partitioner = new CollectionPartitioner(new Query(), "_id",
+				PartitionedScanOptions.partitions(3));
+
+		List<Query> partitions = partitioner.partition(samples(1, 2, 3, 4, 5, 6, 7, 8, 9));
+
+		assertThat(partitions).extracting(Query::getQueryObject).containsExactly(
+				Document.parse("{ '_id' : { '$lt' : 4 } }"), Document.parse("{ '_id' : { '$gte' : 4, '$lt' : 7 } }"),
+				Document.parse("{ '_id' : { '$gte' : 7 } }"),
+				Document.parse("{ '_id' : { '$not' : { '$type' : 'number' } } }"));
+	}
+
+	@Test
+	void skipsDuplicateBoundaries() {
+
+		CollectionPartitioner partitioner = new CollectionPartitioner(new Query(), "_id",
+				PartitionedScanOptions.partitions(4));
+
+		List<Query> partitions = partitioner.partition(samples(1, 1, 1, 1, 1, 1, 1, 2));
+
+		assertThat(partitions).extracting(Query::getQueryObject).containsExactly(
+				Document.parse("{ '_id' : { '$lt' : 1 } }"), Document.parse("{ '_id' : { '$gte' : 1 } }"),
+				Document.parse("{ '_id' : { '$not' : { '$type' : 'number' } } }"));
+	}
+
+	@Test
+	void fallsBackToSinglePartitionForMixedOrUnsupportedTypes() {
+
+		Query query = new Query(where("age").gt(18));
+		CollectionPartitioner partitioner = new CollectionPartitioner(query, "_id", PartitionedScanOptions.partitions(2));
+
+		assertThat(partitioner.partition(samples(1, "two"))).containsExactly(query);
+		assertThat(partitioner.partition(samples(List.of(1), List.of(2)))).containsExactly(query);
+		assertThat(partitioner.partition(List.of())).containsExactly(query);
+	}
+
+	@Test
+	void ignoresMissingValues() {
+
+		CollectionPartitioner partitioner = new CollectionPartitioner(new Query(), "_id",
+				PartitionedScanOptions.partitions(2));
+
+		List<Document> samples = samples(new ObjectId(), new ObjectId());
+		samples.add(0, new Document());
+
+		assertThat(partitioner.partition(samples)).hasSize(3).last().extracting(Query::getQueryObject)
+				.isEqualTo(Document.parse("{ '_id' : { '$not' : { '$type' : 'objectId' } } }"));
+	}
+
+	@Test
+	void retainsQuerySettings() {
+
+		Query query = new Query(where("age").gt(18)).withReadPreference(ReadPreference.secondary())
+				.collation(Collation.of("de")).withHint("age_1");
+		query.fields().include("name");
+
+		CollectionPartitioner partitioner = new CollectionPartitioner(query, "_id", PartitionedScanOptions.partitions(2));
+
+		Query partition = partitioner.partition(samples(1, 2)).get(0);
+
+		assertThat(partition.getQueryObject())
+				.isEqualTo(Document.parse("{ '$and' : [ { 'age' : { '$gt' : 18 } }, { '_id' : { '$lt' : 2 } } ] }"));
+		assertThat(partition.getFieldsObject()).isEqualTo(query.getFieldsObject());
+		assertThat(partition.getReadPreference()).isEqualTo(ReadPreference.secondary());
+		assertThat(partition.getCollation()).contains(Collation.of("de"));
+		assertThat(partition.getHint()).isEqualTo("age_1");
+	}
+
+	@Test
+	void rejectsSortedOrLimitedQueries() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> new CollectionPartitioner(
+				new Query().with(Sort.by("name")), "_id", PartitionedScanOptions.partitions(2)));
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> new CollectionPartitioner(new Query().limit(10), "_id", PartitionedScanOptions.partitions(2)));
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> new CollectionPartitioner(new Query().skip(10), "_id", PartitionedScanOptions.partitions(2)));
+	}
+
+	private static List<Document> samples(Object... values) {
+
+		List<Document> samples = new ArrayList<>(values.length);
+		for (Object value : values) {
+			samples.add(new Document("value", value));
+		}
+		return samples;
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.DefaultBulkOperationsUnitTests.NullExceptionTranslator;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteInsert;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+
+/**
+ * Unit tests for {@link DefaultReactiveStreamingBulkOperations}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DefaultReactiveStreamingBulkOperationsUnitTests {
+
+	@Mock ReactiveMongoDatabaseFactory factory;
+	@Mock MongoDatabase database;
+	@Mock(answer = Answers.RETURNS_DEEP_STUBS) MongoCollection<Document> collection;
+	@Captor ArgumentCaptor<List<WriteModel<Document>>> captor;
+
+	ReactiveMongoTemplate template;
+
+	@BeforeEach
+	void setUp() {
+
+		when(factory.getMongoDatabase()).thenReturn(Mono.just(database));
+		when(factory.getExceptionTranslator()).thenReturn(new NullExceptionTranslator());
+		when(database.getCollection(anyString(), eq(Document.class))).thenReturn(collection);
+
+		MongoMappingContext mappingContext = new MongoMappingContext();
+		mappingContext.afterPropertiesSet();
+
+		template = new ReactiveMongoTemplate(factory,
+				new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext));
+	}
+
+	@Test
+	void writesElementsInBatches() {
+
+		when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class)))
+				.thenAnswer(it -> Mono.just(insertResult(it.getArgument(0))));
+
+		template.streamingBulkOps(BulkMode.UNORDERED, null, "collection-1", StreamingBulkOptions.flushEvery(2))
+				.insert(Flux.fromIterable(documents(5))) //
+				.as(StepVerifier::create) //
+				.assertNext(result -> {
+
+					assertThat(result.getInsertedCount()).isEqualTo(5);
+					assertThat(result.getInserts()).extracting(BulkWriteInsert::getIndex).containsExactlyInAnyOrder(0, 1, 2, 3,
+							4);
+				}).verifyComplete();
+
+		verify(collection, times(3)).bulkWrite(captor.capture(), any(BulkWriteOptions.class));
+		assertThat(captor.getAllValues()).extracting(List::size).containsExactly(2, 2, 1);
+	}
+
+	@Test
+	void writesBatchesOnceSizeThresholdIsReached() {
+
+		when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class)))
+				.thenAnswer(it -> Mono.just(insertResult(it.getArgument(0))));
+
+		template
+				.streamingBulkOps(BulkMode.UNORDERED, null, "collection-1",
+						StreamingBulkOptions.flushEvery(100).flushAtBytes(50))
+				.insert(Flux.just(new Document("value", "a".repeat(20)), new Document("value", "b".repeat(20)),
+						new Document("value", "c"))) //
+				.as(StepVerifier::create) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		verify(collection, times(2)).bulkWrite(captor.capture(), any(BulkWriteOptions.class));
+		assertThat(captor.getAllValues()).extracting(List::size).containsExactly(2, 1);
+	}
+
+	@Test
+	void batchesEntitiesByOperationCountOnly() {
+
+		when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class)))
+				.thenAnswer(it -> Mono.just(insertResult(it.getArgument(0))));
+
+		template
+				.streamingBulkOps(BulkMode.UNORDERED, Person.class, "collection-1",
+						StreamingBulkOptions.flushEvery(2).flushAtBytes(1))
+				.insert(Flux.just(new Person("Walter"), new Person("Skyler"), new Person("Jesse"))) //
+				.as(StepVerifier::create) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		verify(collection, times(2)).bulkWrite(captor.capture(), any(BulkWriteOptions.class));
+		assertThat(captor.getAllValues()).extracting(List::size).containsExactly(2, 1);
+	}
+
+	@Test
+	void orderedWriteStopsAfterFailedBatch() {
+
+		when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class)))
+				.thenReturn(Mono.error(bulkWriteException(1)));
+
+		template.streamingBulkOps(BulkMode.ORDERED, null, "collection-1", StreamingBulkOptions.flushEvery(2))
+				.insert(Flux.fromIterable(documents(6))) //
+				.as(StepVerifier::create) //
+				.consumeErrorWith(ex -> {
+
+					assertThat(ex).isInstanceOf(BulkOperationException.class);
+					assertThat(((BulkOperationException) ex).getErrors()).extracting(BulkWriteError::getIndex)
+							.containsExactly(1);
+				}).verify();
+
+		verify(collection, times(1)).bulkWrite(anyList(), any(BulkWriteOptions.class));
+	}
+
+	private static List<Document> documents(int count) {
+		return IntStream.range(0, count).mapToObj(i -> new Document("_id", i)).toList();
+	}
+
+	private static BulkWriteResult insertResult(List<?> models) {
+		return BulkWriteResult.acknowledged(models.size(), 0, 0, 0, List.of(),
+				IntStream.range(0, models.size()).mapToObj(i -> new BulkWriteInsert(i, new BsonInt32(i))).toList());
+	}
+
+	private static MongoBulkWriteException bulkWriteException(int failedIndex) {
+
+		BulkWriteResult partial = BulkWriteResult.acknowledged(failedIndex, 0, 0, 0, List.of(), List.of());
+		return new MongoBulkWriteException(partial,
+				List.of(new BulkWriteError(11000, "duplicate key", new BsonDocument(), failedIndex)), null,
+				new ServerAddress(), Set.of());
+	}
+}
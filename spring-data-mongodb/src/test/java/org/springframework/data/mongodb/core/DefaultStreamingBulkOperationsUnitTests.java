@@ -0,0 +1,252 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteInsert;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.WriteModel;
+
+/**
+ * Unit tests for {@link DefaultStreamingBulkOperations}.
+ */
+@ExtendWith(MockitoExtension.class)
+class DefaultStreamingBulkOperationsUnitTests {
+
+	@Mock MongoDatabaseFactory factory;
+	@Mock MongoDatabase database;
+	@Mock(answer = Answers.RETURNS_DEEP_STUBS) MongoCollection<Document> collection;
+	@Captor ArgumentCaptor<List<WriteModel<Document>>> captor;
+
+	MongoTemplate template;
+	ExecutorService executor;
+
+	@BeforeEach
+	void setUp() {
+
+		lenient().when(factory.getMongoDatabase()).thenReturn(database);
+		when(factory.getExceptionTranslator()).thenReturn(new DefaultBulkOperationsUnitTests.NullExceptionTranslator());
+		lenient().when(database.getCollection(anyString(), eq(Document.class))).thenReturn(collection);
+
+		MongoMappingContext mappingContext = new MongoMappingContext();
+		mappingContext.afterPropertiesSet();
+
+		template = new MongoTemplate(factory, new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext));
+		executor = Executors.newFixedThreadPool(4);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void flushesOnceBatchSizeIsReached() {
+
+		when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class))).thenAnswer(it -> insertResult(it.getArgument(0)));
+
+		StreamingBulkOperations ops = template.streamingBulkOps(BulkMode.UNORDERED, null, "collection-1",
+				StreamingBulkOptions.flushEvery(2).executor(Runnable::run));
+
+		ops.insert(documents(5));
+
+		verify(collection, times(2)).bulkWrite(anyList(), any(BulkWriteOptions.class));
+
+		BulkWriteResult result = ops.execute();
+
+		verify(collection, times(3)).bulkWrite(captor.capture(), any(BulkWriteOptions.class));
+		assertThat(captor.getAllValues()).extracting(List::size).containsExactly(2, 2, 1);
+		assertThat(result.getInsertedCount()).isEqualTo(5);
+		assertThat(result.getInserts()).extracting(BulkWriteInsert::getIndex).containsExactlyInAnyOrder(0, 1, 2, 3, 4);
+	}
+
+	@Test
+	void flushesOnceSizeThresholdIsReached() {
+
+		when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class))).thenAnswer(it -> insertResult(it.getArgument(0)));
+
+		StreamingBulkOperations ops = template.streamingBulkOps(BulkMode.UNORDERED, null, "collection-1",
+				StreamingBulkOptions.flushEvery(100).flushAtBytes(50).executor(Runnable::run));
+
+		ops.insert(new Document("value", "a".repeat(20))).insert(new Document("value", "b".repeat(20)))
+				.insert(new Document("value", "c"));
+
+		verify(collection, times(1)).bulkWrite(captor.capture(), any(BulkWriteOptions.class));
+		assertThat(captor.getValue()).hasSize(2);
+
+		assertThat(ops.execute().getInsertedCount()).isEqualTo(3);
+	}
+
+	@Test
+	void doesNotFlushEmptyBatch() {
+
+		StreamingBulkOperations ops = template.streamingBulkOps(BulkMode.UNORDERED, null, "collection-1",
+				StreamingBulkOptions.defaults().executor(Runnable::run));
+
+		BulkWriteResult result = ops.flush().execute();
+
+		verifyNoInteractions(collection);
+		assertThat(result.getInsertedCount()).isZero();
+	}
+
+	@Test
+	void mergesWriteErrorsOfAllFlushes() {
+
+		when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class)))
+				.thenAnswer(it -> insertResult(it.getArgument(0)))
+				.thenThrow(bulkWriteException(1))
+				.thenThrow(bulkWriteException(0));
+
+		StreamingBulkOperations ops = template.streamingBulkOps(BulkMode.UNORDERED, null, "collection-1",
+				StreamingBulkOptions.flushEvery(2).executor(Runnable::run));
+
+		ops.insert(documents(6));
+
+		assertThatExceptionOfType(BulkOperationException.class).isThrownBy(ops::execute).satisfies(ex -> {
+
+			assertThat(ex.getErrors()).extracting(BulkWriteError::getIndex).containsExactlyInAnyOrder(3, 4);
+			assertThat(ex.getResult().getInsertedCount()).isEqualTo(3);
+		});
+	}
+
+	@Test
+	void orderedOperationsStopAfterFailedFlush() {
+
+		when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class))).thenThrow(bulkWriteException(0));
+
+		StreamingBulkOperations ops = template.streamingBulkOps(BulkMode.ORDERED, null, "collection-1",
+				StreamingBulkOptions.flushEvery(2).executor(Runnable::run));
+
+		ops.insert(documents(2));
+
+		assertThatExceptionOfType(BulkOperationException.class).isThrownBy(() -> ops.insert(documents(2)));
+		verify(collection, times(1)).bulkWrite(anyList(), any(BulkWriteOptions.class));
+	}
+
+	@Test
+	void limitsFlushesInFlight() throws InterruptedException {
+
+		AtomicInteger concurrent = new AtomicInteger();
+		AtomicInteger maxConcurrent = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+
+		when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class))).thenAnswer(it -> {
+
+			maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+			release.await(5, TimeUnit.SECONDS);
+			concurrent.decrementAndGet();
+			return insertResult(it.getArgument(0));
+		});
+
+		StreamingBulkOperations ops = template.streamingBulkOps(BulkMode.UNORDERED, null, "collection-1",
+				StreamingBulkOptions.flushEvery(1).maxInFlight(2).executor(executor));
+
+		Thread producer = new Thread(() -> ops.insert(documents(5)));
+		producer.start();
+
+		producer.join(200);
+		assertThat(producer.isAlive()).isTrue();
+
+		release.countDown();
+		producer.join(5000);
+
+		assertThat(ops.execute().getInsertedCount()).isEqualTo(5);
+		assertThat(maxConcurrent).hasValue(2);
+	}
+
+	@Test
+	void flushesOnCallingThreadWithinTransaction() {
+
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class))).thenAnswer(it -> {
+
+			threads.add(Thread.currentThread());
+			return insertResult(it.getArgument(0));
+		});
+
+		StreamingBulkOperations ops = template.streamingBulkOps(BulkMode.UNORDERED, null, "collection-1",
+				StreamingBulkOptions.flushEvery(2).maxInFlight(2).executor(executor));
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+
+			ops.insert(documents(5));
+
+			assertThat(ops.execute().getInsertedCount()).isEqualTo(5);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		verify(collection, times(3)).bulkWrite(anyList(), any(BulkWriteOptions.class));
+		assertThat(threads).containsExactly(Thread.currentThread());
+	}
+
+	private static List<Document> documents(int count) {
+		return IntStream.range(0, count).mapToObj(i -> new Document("_id", i)).toList();
+	}
+
+	private static BulkWriteResult insertResult(List<?> models) {
+		return BulkWriteResult.acknowledged(models.size(), 0, 0, 0, List.of(),
+				IntStream.range(0, models.size()).mapToObj(i -> new BulkWriteInsert(i, new BsonInt32(i))).toList());
+	}
+
+	private static MongoBulkWriteException bulkWriteException(int failedIndex) {
+
+		BulkWriteResult partial = BulkWriteResult.acknowledged(failedIndex, 0, 0, 0, List.of(), List.of());
+		return new MongoBulkWriteException(partial,
+				List.of(new BulkWriteError(11000, "duplicate key", new BsonDocument(), failedIndex)), null,
+				new ServerAddress(), Set.of());
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.ScrollUtils.MappedKeysetQuery;
+
+/**
+ * Unit tests for {@link KeysetScrollIterator}.
+ */
+class KeysetScrollIteratorUnitTests {
+
+	MappedKeysetQuery query = new MappedKeysetQuery(new Document(), new Document(), new Document("_id", 1), Map.of(), 2);
+
+	@Test
+	void readsAllWindows() {
+
+		List<Document> filters = new ArrayList<>();
+		Function<Document, List<Document>> windowReader = filter -> {
+
+			filters.add(filter);
+			return switch (filters.size()) {
+				case 1 -> List.of(new Document("_id", 1), new Document("_id", 2));
+				case 2 -> List.of(new Document("_id", 3), new Document("_id", 4));
+				default -> List.of(new Document("_id", 5));
+			};
+		};
+
+		try (Stream<Object> stream = new KeysetScrollIterator<>(query, windowReader, it -> it.get("_id"), Runnable::run)
+				.stream()) {
+			assertThat(stream).containsExactly(1, 2, 3, 4, 5);
+		}
+
+		assertThat(filters).containsExactly(new Document(), Document.parse("{ '$or' : [ { '_id' : { '$gt' : 2 } } ] }"),
+				Document.parse("{ '$or' : [ { '_id' : { '$gt' : 4 } } ] }"));
+	}
+
+	@Test
+	void prefetchesNextWindowBeforeConsumingCurrentOne() {
+
+		List<Runnable> tasks = new ArrayList<>();
+		Executor executor = tasks::add;
+		List<Document> filters = new ArrayList<>();
+
+		KeysetScrollIterator<Object> iterator = new KeysetScrollIterator<>(query, filter -> {
+			filters.add(filter);
+			return List.of(new Document("_id", filters.size() * 2 - 1), new Document("_id", filters.size() * 2));
+		}, it -> it.get("_id"), executor);
+
+		assertThat(tasks).hasSize(1);
+		tasks.remove(0).run();
+
+		assertThat(iterator.next()).isEqualTo(1);
+		assertThat(tasks).hasSize(1);
+
+		tasks.remove(0).run();
+		iterator.close();
+
+		assertThat(filters).hasSize(2);
+		assertThat(iterator.hasNext()).isFalse();
+	}
+
+	@Test
+	void readsWindowsOnConsumingThreadWithoutExecutor() {
+
+		List<Thread> threads = new ArrayList<>();
+
+		KeysetScrollIterator<Object> iterator = new KeysetScrollIterator<>(query, filter -> {
+			threads.add(Thread.currentThread());
+			return threads.size() == 1 ? List.of(new Document("_id", 1), new Document("_id", 2))
+					: List.of(new Document("_id", 3));
+		}, it -> it.get("_id"), null);
+
+		assertThat(threads).isEmpty();
+		assertThat(iterator.next()).isEqualTo(1);
+		assertThat(iterator.next()).isEqualTo(2);
+		assertThat(threads).hasSize(1);
+
+		assertThat(iterator.next()).isEqualTo(3);
+		assertThat(iterator.hasNext()).isFalse();
+		assertThat(threads).containsOnly(Thread.currentThread()).hasSize(2);
+	}
+
+	@Test
+	void stopsAfterEmptyWindow() {
+
+		KeysetScrollIterator<Object> iterator = new KeysetScrollIterator<>(query, filter -> List.of(), it -> it,
+				Runnable::run);
+
+		assertThat(iterator.hasNext()).isFalse();
+	}
+
+	@Test
+	void rethrowsWindowReadFailure() {
+
+		KeysetScrollIterator<Object> iterator = new KeysetScrollIterator<>(query, filter -> {
+			throw new IllegalStateException("failed");
+		}, it -> it, Runnable::run);
+
+		assertThatIllegalStateException().isThrownBy(iterator::hasNext).withMessage("failed");
+		assertThat(iterator.hasNext()).isFalse();
+	}
+}
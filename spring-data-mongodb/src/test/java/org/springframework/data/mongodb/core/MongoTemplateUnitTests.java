@@ -32,11 +32,22 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.assertj.core.api.Assertions;
+import org.bson.BsonBinary;
+import org.bson.BsonBinarySubType;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
 import org.bson.types.ObjectId;
 import org.jspecify.annotations.Nullable;
@@ -51,6 +62,7 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.support.GenericApplicationContext;
@@ -62,6 +74,7 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Transient;
 import org.springframework.data.annotation.Version;
 import org.springframework.data.convert.CustomConversions;
+import org.springframework.data.convert.PropertyValueConverterFactory;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.geo.Point;
 import org.springframework.data.mapping.MappingException;
@@ -69,6 +82,7 @@ import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.mapping.context.InvalidPersistentPropertyPath;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.aggregation.*;
 import org.springframework.data.mongodb.core.aggregation.ComparisonOperators.Gte;
 import org.springframework.data.mongodb.core.aggregation.ConditionalOperators.Switch.CaseOperator;
@@ -76,20 +90,29 @@ import org.springframework.data.mongodb.core.convert.DefaultDbRefResolver;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
 import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.convert.encryption.ConcurrentEncryptionProcessor;
+import org.springframework.data.mongodb.core.convert.encryption.MongoEncryptionConverter;
+import org.springframework.data.mongodb.core.encryption.Encryption;
+import org.springframework.data.mongodb.core.encryption.EncryptionKey;
 import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
 import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexCreator;
+import org.springframework.data.mongodb.core.mapping.DocumentReference;
+import org.springframework.data.mongodb.core.mapping.ExplicitEncrypted;
 import org.springframework.data.mongodb.core.mapping.Field;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.core.mapping.Sharded;
 import org.springframework.data.mongodb.core.mapping.TimeSeries;
 import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
 import org.springframework.data.mongodb.core.mapping.event.AfterConvertCallback;
+import org.springframework.data.mongodb.core.mapping.event.AfterConvertEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterLoadEvent;
 import org.springframework.data.mongodb.core.mapping.event.AfterSaveCallback;
 import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
 import org.springframework.data.mongodb.core.mapping.event.BeforeConvertCallback;
 import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
 import org.springframework.data.mongodb.core.mapping.event.BeforeSaveCallback;
 import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
+import org.springframework.data.mongodb.core.mapping.event.MongoMappingEvent;
 import org.springframework.data.mongodb.core.mapreduce.MapReduceOptions;
 import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.core.query.Collation;
@@ -99,11 +122,14 @@ import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.data.mongodb.core.timeseries.Granularity;
 import org.springframework.data.mongodb.util.BsonUtils;
+import org.springframework.data.mongodb.util.LazyDocumentCodec;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.mock.env.MockEnvironment;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.CollectionUtils;
 
+import com.mongodb.ExplainVerbosity;
 import com.mongodb.MongoClientSettings;
 import com.mongodb.MongoException;
 import com.mongodb.MongoNamespace;
@@ -112,6 +138,7 @@ import com.mongodb.ReadPreference;
 import com.mongodb.ServerAddress;
 import com.mongodb.ServerCursor;
 import com.mongodb.WriteConcern;
+import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.DistinctIterable;
 import com.mongodb.client.FindIterable;
@@ -126,9 +153,11 @@ import com.mongodb.client.model.DeleteOptions;
 import com.mongodb.client.model.FindOneAndDeleteOptions;
 import com.mongodb.client.model.FindOneAndReplaceOptions;
 import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.InsertOneModel;
 import com.mongodb.client.model.MapReduceAction;
 import com.mongodb.client.model.TimeSeriesGranularity;
 import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.UpdateResult;
 
@@ -478,6 +507,28 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 		verify(collection).withReadPreference(eq(ReadPreference.secondary()));
 	}
 
+	@Test
+	void findShouldDecodeDocumentsLazilyWhenEnabled() {
+
+		when(collection.getCodecRegistry()).thenReturn(MongoClientSettings.getDefaultCodecRegistry());
+		when(collection.withCodecRegistry(any())).thenReturn(collection);
+
+		template.setLazyDocumentDecoding(true);
+		template.find(new Query(), Person.class);
+
+		ArgumentCaptor<CodecRegistry> captor = ArgumentCaptor.forClass(CodecRegistry.class);
+		verify(collection).withCodecRegistry(captor.capture());
+		assertThat(captor.getValue().get(Document.class)).isInstanceOf(LazyDocumentCodec.class);
+	}
+
+	@Test
+	void findShouldNotDecodeDocumentsLazilyByDefault() {
+
+		template.find(new Query(), Person.class);
+
+		verify(collection, never()).withCodecRegistry(any());
+	}
+
 	@Test // DATAMONGO-1166, DATAMONGO-1824
 	void aggregateShouldIgnoreReadPreferenceWhenNotSet() {
 
@@ -525,6 +576,228 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 		verify(aggregateIterable).maxTime(20000, TimeUnit.MILLISECONDS);
 	}
 
+	@Test
+	void aggregateStreamShouldPrefetchBatches() {
+
+		when(aggregateIterable.iterator()).thenReturn(cursor);
+		when(cursor.hasNext()).thenReturn(true, false);
+		when(cursor.available()).thenReturn(2);
+		when(cursor.next()).thenReturn(new Document("value", 1), new Document("value", 2));
+
+		AggregationOptions options = AggregationOptions.builder().prefetch(2).build();
+		try (Stream<Document> stream = template.aggregateStream(
+				newAggregation(Aggregation.unwind("foo")).withOptions(options), "collection-1", Document.class)) {
+
+			assertThat(stream).extracting(it -> it.get("value")).containsExactly(1, 2);
+		}
+
+		verify(cursor, timeout(1000)).close();
+	}
+
+	@Test
+	void aggregateStreamShouldNotPrefetchWithinTransaction() {
+
+		List<Thread> threads = new CopyOnWriteArrayList<>();
+
+		when(aggregateIterable.iterator()).thenReturn(cursor);
+		when(cursor.hasNext()).thenAnswer(invocation -> threads.add(Thread.currentThread())).thenReturn(false);
+		when(cursor.next()).thenAnswer(invocation -> {
+			threads.add(Thread.currentThread());
+			return new Document("value", 1);
+		});
+
+		AggregationOptions options = AggregationOptions.builder().prefetch(2).build();
+
+		TransactionSynchronizationManager.initSynchronization();
+		try (Stream<Document> stream = template.aggregateStream(
+				newAggregation(Aggregation.unwind("foo")).withOptions(options), "collection-1", Document.class)) {
+
+			assertThat(stream).extracting(it -> it.get("value")).containsExactly(1);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		assertThat(threads).isNotEmpty().containsOnly(Thread.currentThread());
+		verify(cursor, never()).available();
+	}
+
+	@Test
+	void aggregateStreamShouldReadRawResultsWithoutConversion() {
+
+		RawBsonDocument result = RawBsonDocument.parse("{ 'value' : 1 }");
+		MongoCursor<RawBsonDocument> rawCursor = mock(MongoCursor.class);
+
+		when(aggregateIterable.iterator()).thenReturn(rawCursor);
+		when(rawCursor.hasNext()).thenReturn(true, false);
+		when(rawCursor.next()).thenReturn(result);
+
+		try (Stream<RawBsonDocument> stream = template.aggregateStream(newAggregation(Aggregation.unwind("foo")),
+				"collection-1", RawBsonDocument.class)) {
+
+			assertThat(stream).containsExactly(result);
+		}
+
+		verify(collection).aggregate(anyList(), eq(RawBsonDocument.class));
+	}
+
+	@Test
+	void aggregateStreamShouldConvertBsonDocumentResults() {
+
+		List<MongoMappingEvent<?>> events = new CopyOnWriteArrayList<>();
+		StaticApplicationContext ctx = new StaticApplicationContext();
+		ctx.registerBean(ApplicationListener.class, () -> (ApplicationListener<MongoMappingEvent<?>>) events::add);
+		ctx.refresh();
+		template.setApplicationContext(ctx);
+
+		when(aggregateIterable.iterator()).thenReturn(cursor);
+		when(cursor.hasNext()).thenReturn(true, false);
+		when(cursor.next()).thenReturn(new Document("value", new BsonString("one")));
+
+		try (Stream<BsonDocument> stream = template.aggregateStream(newAggregation(Aggregation.unwind("foo")),
+				"collection-1", BsonDocument.class)) {
+
+			assertThat(stream).singleElement().isNotInstanceOf(RawBsonDocument.class)
+					.satisfies(it -> it.put("added", new BsonString("value")));
+		}
+
+		verify(collection).aggregate(anyList(), eq(Document.class));
+		assertThat(events).hasAtLeastOneElementOfType(AfterLoadEvent.class)
+				.hasAtLeastOneElementOfType(AfterConvertEvent.class);
+	}
+
+	@Test
+	void scanPartitionedShouldReadSampledRanges() {
+
+		List<Document> samples = new ArrayList<>();
+		for (int i = 1; i <= 10; i++) {
+			samples.add(new Document("value", i));
+		}
+
+		when(aggregateIterable.into(any())).thenAnswer(invocation -> {
+
+			List<Document> target = invocation.getArgument(0);
+			target.addAll(samples);
+			return target;
+		});
+		when(findIterable.iterator()).thenAnswer(invocation -> new OneElementCursor<>(new Document("_id", 1)));
+
+		List<Object> ids = Collections.synchronizedList(new ArrayList<>());
+		template.scanPartitioned(new Query(), Document.class, "collection-1",
+				PartitionedScanOptions.partitions(2).executor(Runnable::run), it -> ids.add(it.get("_id")));
+
+		ArgumentCaptor<Document> filters = ArgumentCaptor.forClass(Document.class);
+		verify(collection, times(3)).find(filters.capture(), eq(Document.class));
+
+		assertThat(ids).hasSize(3);
+		assertThat(filters.getAllValues()).containsExactly(Document.parse("{ '_id' : { '$lt' : 6 } }"),
+				Document.parse("{ '_id' : { '$gte' : 6 } }"), Document.parse("{ '_id' : { '$not' : { '$type' : 'number' } } }"));
+	}
+
+	@Test
+	void scanPartitionedShouldRethrowFailure() {
+
+		when(findIterable.iterator()).thenAnswer(invocation -> new OneElementCursor<>(new Document("_id", 1)));
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> template.scanPartitioned(new Query(), Document.class, "collection-1",
+						PartitionedScanOptions.partitions(1), it -> {
+							throw new IllegalStateException("failed");
+						}))
+				.withMessage("failed");
+	}
+
+	@Test
+	void scanPartitionedShouldSampleUsingQueryCollation() {
+
+		when(aggregateIterable.into(any())).thenAnswer(invocation -> invocation.getArgument(0));
+		when(findIterable.iterator()).thenAnswer(invocation -> new OneElementCursor<>(new Document("_id", 1)));
+
+		template.scanPartitioned(new Query().collation(Collation.of("de")), Document.class, "collection-1",
+				PartitionedScanOptions.partitions(2).executor(Runnable::run), it -> {});
+
+		verify(aggregateIterable).collation(eq(Collation.of("de").toMongoCollation()));
+	}
+
+	@Test
+	void scanPartitionedShouldReadSinglePartitionOnCallingThreadWithinTransaction() {
+
+		List<Thread> threads = new CopyOnWriteArrayList<>();
+		when(findIterable.iterator()).thenAnswer(invocation -> {
+			threads.add(Thread.currentThread());
+			return new OneElementCursor<>(new Document("_id", 1));
+		});
+
+		List<Object> ids = new ArrayList<>();
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			template.scanPartitioned(new Query(), Document.class, "collection-1",
+					PartitionedScanOptions.partitions(4).executor(command -> {
+						throw new IllegalStateException("must not be called");
+					}), it -> ids.add(it.get("_id")));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		assertThat(ids).containsExactly(1);
+		assertThat(threads).containsExactly(Thread.currentThread());
+		verify(collection, never()).aggregate(anyList(), eq(Document.class));
+		verify(collection).find(eq(new Document()), eq(Document.class));
+	}
+
+	@Test
+	void scrollAllShouldContinueFromLastDocumentOfWindow() {
+
+		Iterator<List<Document>> windows = List.of(List.of(new Document("_id", 1), new Document("_id", 2)),
+				List.of(new Document("_id", 3))).iterator();
+
+		when(findIterable.batchSize(anyInt())).thenReturn(findIterable);
+		when(findIterable.into(any())).thenAnswer(invocation -> {
+
+			List<Document> target = invocation.getArgument(0);
+			target.addAll(windows.next());
+			return target;
+		});
+
+		try (Stream<Document> stream = template.scrollAll(new Query().limit(2), Document.class, "collection-1")) {
+			assertThat(stream).extracting(it -> it.get("_id")).containsExactly(1, 2, 3);
+		}
+
+		ArgumentCaptor<Document> filters = ArgumentCaptor.forClass(Document.class);
+		verify(collection, times(2)).find(filters.capture(), eq(Document.class));
+		verify(findIterable, times(2)).sort(new Document("_id", 1));
+		verify(findIterable, times(2)).limit(2);
+
+		assertThat(filters.getAllValues()).containsExactly(new Document(),
+				Document.parse("{ '$or' : [ { '_id' : { '$gt' : 2 } } ] }"));
+	}
+
+	@Test
+	void scrollAllShouldReadWindowsOnCallingThreadWithinTransaction() {
+
+		List<Thread> threads = new CopyOnWriteArrayList<>();
+		Iterator<List<Document>> windows = List.of(List.of(new Document("_id", 1), new Document("_id", 2)),
+				List.of(new Document("_id", 3))).iterator();
+
+		when(findIterable.batchSize(anyInt())).thenReturn(findIterable);
+		when(findIterable.into(any())).thenAnswer(invocation -> {
+
+			threads.add(Thread.currentThread());
+			List<Document> target = invocation.getArgument(0);
+			target.addAll(windows.next());
+			return target;
+		});
+
+		TransactionSynchronizationManager.initSynchronization();
+		try (Stream<Document> stream = template.scrollAll(new Query().limit(2), Document.class, "collection-1")) {
+			assertThat(stream).extracting(it -> it.get("_id")).containsExactly(1, 2, 3);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		assertThat(threads).containsExactly(Thread.currentThread(), Thread.currentThread());
+	}
+
 	@Test // DATAMONGO-2153
 	void aggregateShouldHonorOptionsComment() {
 
@@ -888,6 +1161,45 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 		verify(collection).withReadPreference(ReadPreference.secondary());
 	}
 
+	@Test
+	void findShouldSampleQueryPlan() {
+
+		when(findIterable.explain(any(ExplainVerbosity.class)))
+				.thenReturn(new Document("queryPlanner", new Document("winningPlan", new Document("stage", "COLLSCAN"))));
+
+		QueryPlanSampler sampler = new QueryPlanSampler(Duration.ofMinutes(1), 10, Runnable::run, 10);
+		template.setQueryPlanSampler(sampler);
+
+		template.find(new BasicQuery("{'foo' : 'bar'}"), AutogenerateableId.class);
+		template.find(new BasicQuery("{'foo' : 'baz'}"), AutogenerateableId.class);
+
+		verify(findIterable).explain(ExplainVerbosity.EXECUTION_STATS);
+		assertThat(sampler.getQueryPlans()).singleElement()
+				.satisfies(plan -> assertThat(plan.hasIssue(QueryPlanSampler.QueryPlan.Issue.COLLECTION_SCAN)).isTrue());
+	}
+
+	@Test
+	void findShouldRecordOperationWithQueryProfiler() {
+
+		when(findIterable.hintString(anyString())).thenReturn(findIterable);
+
+		QueryProfiler profiler = new QueryProfiler();
+		profiler.setCaptureQueryValues(true);
+		template.setQueryProfiler(profiler);
+
+		template.find(new BasicQuery("{'foo' : 'bar'}").with(Sort.by("foo")).withHint("foo_1")
+				.withReadPreference(ReadPreference.secondary()), AutogenerateableId.class);
+
+		assertThat(profiler.getSlowestOperations()).singleElement().satisfies(operation -> {
+			assertThat(operation.operation()).isEqualTo("find");
+			assertThat(operation.shape()).isEqualTo("{foo: ?}");
+			assertThat(operation.query()).isEqualTo("{ \"foo\" : \"bar\"}");
+			assertThat(operation.sort()).isEqualTo("{ \"foo\" : 1}");
+			assertThat(operation.hint()).isEqualTo("foo_1");
+			assertThat(operation.readPreference()).isEqualTo("secondary");
+		});
+	}
+
 	@Test // DATAMONGO-1518
 	void executeQueryShouldUseCollationWhenPresent() {
 
@@ -1176,11 +1488,62 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 	void doesNotApplyFieldsWhenInterfaceProjectionIsOpen() {
 
 		template.doFind(CollectionPreparer.identity(), "star-wars", new Document(), new Document(), Person.class,
-				PersonSpELProjection.class, QueryResultConverter.entity(), CursorPreparer.NO_OP_PREPARER);
+				PersonOpaqueSpELProjection.class, QueryResultConverter.entity(), CursorPreparer.NO_OP_PREPARER);
 
 		verify(findIterable).projection(eq(BsonUtils.EMPTY_DOCUMENT));
 	}
 
+	@Test
+	void appliesFieldsReferencedByOpenInterfaceProjection() {
+
+		template.doFind(CollectionPreparer.identity(), "star-wars", new Document(), new Document(), Person.class,
+				PersonSpELProjection.class, QueryResultConverter.entity(), CursorPreparer.NO_OP_PREPARER);
+
+		verify(findIterable).projection(eq(new Document("firstname", 1)));
+	}
+
+	@Test
+	void appliesNestedFieldsForNestedClosedInterfaceProjection() {
+
+		template.doFind(CollectionPreparer.identity(), "star-wars", new Document(), new Document(), Customer.class,
+				CustomerWithCity.class, QueryResultConverter.entity(), CursorPreparer.NO_OP_PREPARER);
+
+		verify(findIterable).projection(eq(new Document("name", 1).append("addr.city", 1)));
+	}
+
+	@Test
+	void appliesReferenceFieldsForNestedClosedInterfaceProjectionOfReferences() {
+
+		template.doFind(CollectionPreparer.identity(), "star-wars", new Document(), new Document(), Book.class,
+				BookView.class, QueryResultConverter.entity(), CursorPreparer.NO_OP_PREPARER);
+
+		verify(findIterable).projection(eq(new Document("title", 1).append("author", 1).append("editor", 1)));
+	}
+
+	@Test
+	void appendsProjectionStageForInterfaceProjectionOfTypedAggregation() {
+
+		template.aggregate(Aggregation.newAggregation(WithNamedFields.class, Aggregation.match(new Criteria())),
+				"collection-1", NamedFieldsProjection.class);
+
+		ArgumentCaptor<List<Document>> captor = ArgumentCaptor.forClass(List.class);
+		verify(collection).aggregate(captor.capture(), eq(Document.class));
+
+		assertThat(captor.getValue()).last().isEqualTo(new Document("$project", new Document("custom-named-field", 1)));
+	}
+
+	@Test
+	void doesNotAppendProjectionStageAfterOutStage() {
+
+		template.aggregate(Aggregation.newAggregation(WithNamedFields.class, Aggregation.out("target")), "collection-1",
+				NamedFieldsProjection.class);
+
+		ArgumentCaptor<List<Document>> captor = ArgumentCaptor.forClass(List.class);
+		verify(collection).aggregate(captor.capture(), eq(Document.class));
+
+		assertThat(captor.getValue()).last().isEqualTo(new Document("$out", "target"));
+	}
+
 	@Test // DATAMONGO-1733, DATAMONGO-2041
 	void appliesFieldsToDtoProjection() {
 
@@ -1708,6 +2071,96 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 		verify(beforeSaveCallback, times(2)).onBeforeSave(any(), any(), anyString());
 	}
 
+	@Test
+	void insertAllShouldNotDeferEncryptionOfNestedInserts() {
+
+		MongoTemplate template = createEncryptingTemplate(Runnable::run);
+		template.setEntityCallbacks(EntityCallbacks.create(new NestedInsertingBeforeConvertCallback(template)));
+
+		template.insertAll(List.of(new EncryptedPerson("outer", "one")));
+
+		ArgumentCaptor<Document> nested = ArgumentCaptor.forClass(Document.class);
+		verify(collection).insertOne(nested.capture());
+		assertThat(nested.getValue().get("ssn"))
+				.isEqualTo(new BsonBinary(BsonBinarySubType.ENCRYPTED, "nested".getBytes()));
+
+		ArgumentCaptor<List<Document>> batch = ArgumentCaptor.forClass(List.class);
+		verify(collection).insertMany(batch.capture());
+		assertThat(batch.getValue()).singleElement().extracting(it -> it.get("ssn"))
+				.isEqualTo(new BsonBinary(BsonBinarySubType.ENCRYPTED, "one".getBytes()));
+	}
+
+	@Test
+	void insertAllEncryptingBatchShouldRetainPerDocumentEventOrder() {
+
+		List<String> events = new CopyOnWriteArrayList<>();
+		StaticApplicationContext ctx = new StaticApplicationContext();
+		ctx.registerBean(ApplicationListener.class, () -> (ApplicationListener<MongoMappingEvent<?>>) event -> {
+			if (event instanceof BeforeConvertEvent<?> || event instanceof BeforeSaveEvent<?>) {
+				events.add(event.getClass().getSimpleName() + ":" + ((EncryptedPerson) event.getSource()).id);
+			}
+		});
+		ctx.refresh();
+
+		MongoTemplate template = createEncryptingTemplate(Runnable::run);
+		template.setApplicationContext(ctx);
+
+		template.insertAll(List.of(new EncryptedPerson("1", "one"), new EncryptedPerson("2", "two")));
+
+		assertThat(events).containsExactly("BeforeConvertEvent:1", "BeforeSaveEvent:1", "BeforeConvertEvent:2",
+				"BeforeSaveEvent:2");
+
+		ArgumentCaptor<List<Document>> batch = ArgumentCaptor.forClass(List.class);
+		verify(collection).insertMany(batch.capture());
+		assertThat(batch.getValue()).extracting(it -> it.get("ssn")).containsExactly(
+				new BsonBinary(BsonBinarySubType.ENCRYPTED, "one".getBytes()),
+				new BsonBinary(BsonBinarySubType.ENCRYPTED, "two".getBytes()));
+	}
+
+	@Test
+	void bulkOpsShouldEncryptInsertedDocumentsAsBatch() {
+
+		AtomicInteger tasks = new AtomicInteger();
+		MongoTemplate template = createEncryptingTemplate(it -> {
+			tasks.incrementAndGet();
+			it.run();
+		});
+
+		when(collection.bulkWrite(anyList(), any(com.mongodb.client.model.BulkWriteOptions.class)))
+				.thenReturn(BulkWriteResult.acknowledged(2, 0, 0, 0, List.of(), List.of()));
+
+		template.bulkOps(BulkMode.ORDERED, EncryptedPerson.class, "collection-1")
+				.insert(List.of(new EncryptedPerson("1", "one"), new EncryptedPerson("2", "two"))).execute();
+
+		ArgumentCaptor<List<WriteModel<Document>>> models = ArgumentCaptor.forClass(List.class);
+		verify(collection).bulkWrite(models.capture(), any(com.mongodb.client.model.BulkWriteOptions.class));
+		assertThat(models.getValue()).extracting(it -> ((InsertOneModel<Document>) it).getDocument().get("ssn"))
+				.containsExactly(new BsonBinary(BsonBinarySubType.ENCRYPTED, "one".getBytes()),
+						new BsonBinary(BsonBinarySubType.ENCRYPTED, "two".getBytes()));
+		assertThat(tasks).hasPositiveValue();
+	}
+
+	private MongoTemplate createEncryptingTemplate(Executor executor) {
+
+		Encryption<BsonValue, BsonBinary> encryption = mock(Encryption.class);
+		when(encryption.encrypt(any(), any())).thenAnswer(it -> {
+			BsonString value = it.getArgument(0);
+			return new BsonBinary(BsonBinarySubType.ENCRYPTED, value.getValue().getBytes());
+		});
+		MongoEncryptionConverter encryptionConverter = new MongoEncryptionConverter(encryption,
+				ctx -> EncryptionKey.keyAltName("key"));
+
+		MappingMongoConverter converter = new MappingMongoConverter(new DefaultDbRefResolver(factory), mappingContext);
+		converter.setCustomConversions(MongoCustomConversions.create(it -> it.registerPropertyValueConverterFactory(
+				PropertyValueConverterFactory.beanFactoryAware(new StaticListableBeanFactory(
+						Map.of("encryptionConverter", encryptionConverter))))));
+		converter.afterPropertiesSet();
+
+		MongoTemplate template = new MongoTemplate(factory, converter);
+		template.setEncryptionProcessor(new ConcurrentEncryptionProcessor(encryptionConverter, executor, 2));
+		return template;
+	}
+
 	@Test // DATAMONGO-2261
 	void findAndReplaceShouldInvokeCallbacks() {
 
@@ -2667,6 +3120,19 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 		}
 	}
 
+	static class EncryptedPerson {
+
+		@Id String id;
+
+		@ExplicitEncrypted(algorithm = EncryptionAlgorithms.AEAD_AES_256_CBC_HMAC_SHA_512_Deterministic) //
+		String ssn;
+
+		EncryptedPerson(String id, String ssn) {
+			this.id = id;
+			this.ssn = ssn;
+		}
+	}
+
 	@org.springframework.data.mongodb.core.mapping.Document(collection = "star-wars")
 	static class Person {
 
@@ -2734,6 +3200,67 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 		String getName();
 	}
 
+	static class Customer {
+
+		@Id String id;
+		String name;
+		@Field("addr") CustomerAddress address;
+	}
+
+	static class CustomerAddress {
+
+		String city;
+		String street;
+	}
+
+	interface CustomerWithCity {
+
+		String getName();
+
+		City getAddress();
+
+		interface City {
+			String getCity();
+		}
+	}
+
+	static class Book {
+
+		@Id String id;
+		String title;
+		@DocumentReference BookAuthor author;
+		@org.springframework.data.mongodb.core.mapping.DBRef BookAuthor editor;
+	}
+
+	static class BookAuthor {
+
+		@Id String id;
+		String name;
+	}
+
+	interface BookView {
+
+		String getTitle();
+
+		AuthorName getAuthor();
+
+		AuthorName getEditor();
+
+		interface AuthorName {
+			String getName();
+		}
+	}
+
+	interface NamedFieldsProjection {
+		String getCustomName();
+	}
+
+	public interface PersonOpaqueSpELProjection {
+
+		@Value("#{target.toString()}")
+		String getName();
+	}
+
 	static class Human {
 		@Id String id;
 
@@ -2914,6 +3441,24 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 
 	}
 
+	static class NestedInsertingBeforeConvertCallback implements BeforeConvertCallback<EncryptedPerson> {
+
+		private final MongoTemplate template;
+
+		NestedInsertingBeforeConvertCallback(MongoTemplate template) {
+			this.template = template;
+		}
+
+		@Override
+		public EncryptedPerson onBeforeConvert(EncryptedPerson entity, String collection) {
+
+			if ("outer".equals(entity.id)) {
+				template.insert(new EncryptedPerson("nested", "nested"));
+			}
+			return entity;
+		}
+	}
+
 	static class ValueCapturingBeforeConvertCallback extends ValueCapturingEntityCallback<Person>
 			implements BeforeConvertCallback<Person> {
 
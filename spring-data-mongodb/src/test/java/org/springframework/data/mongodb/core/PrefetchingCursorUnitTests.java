@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import com.mongodb.MongoException;
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+
+/**
+ * Unit tests for {@link PrefetchingCursor}.
+ */
+class PrefetchingCursorUnitTests {
+
+	@Test
+	void returnsAllDocumentsInOrder() {
+
+		BatchCursor delegate = new BatchCursor(List.of(List.of(1, 2, 3), List.of(4, 5), List.of(6)), null);
+		PrefetchingCursor<Integer> cursor = new PrefetchingCursor<>(delegate, 2);
+
+		List<Integer> result = new ArrayList<>();
+		cursor.forEachRemaining(result::add);
+
+		assertThat(result).containsExactly(1, 2, 3, 4, 5, 6);
+		assertThat(cursor.hasNext()).isFalse();
+		await().untilTrue(delegate.closed);
+	}
+
+	@Test
+	void boundsBufferedBatches() {
+
+		BatchCursor delegate = new BatchCursor(List.of(List.of(1), List.of(2), List.of(3), List.of(4), List.of(5)), null);
+		PrefetchingCursor<Integer> cursor = new PrefetchingCursor<>(delegate, 2);
+
+		await().until(() -> delegate.fetchedBatches.get() >= 3);
+		assertThat(delegate.fetchedBatches).hasValue(3);
+
+		assertThat(cursor.next()).isEqualTo(1);
+		await().until(() -> delegate.fetchedBatches.get() >= 4);
+
+		cursor.close();
+	}
+
+	@Test
+	void rethrowsErrorAfterFetchedBatches() {
+
+		BatchCursor delegate = new BatchCursor(List.of(List.of(1, 2)), new MongoException("cursor killed"));
+		PrefetchingCursor<Integer> cursor = new PrefetchingCursor<>(delegate, 2);
+
+		assertThat(cursor.next()).isEqualTo(1);
+		assertThat(cursor.next()).isEqualTo(2);
+		assertThatExceptionOfType(MongoException.class).isThrownBy(cursor::hasNext).withMessage("cursor killed");
+		assertThat(cursor.hasNext()).isFalse();
+	}
+
+	@Test
+	void closeStopsDrainingAndClosesDelegate() {
+
+		BatchCursor delegate = new BatchCursor(List.of(List.of(1), List.of(2), List.of(3), List.of(4), List.of(5)), null);
+		PrefetchingCursor<Integer> cursor = new PrefetchingCursor<>(delegate, 1);
+
+		assertThat(cursor.next()).isEqualTo(1);
+		cursor.close();
+
+		await().untilTrue(delegate.closed);
+		assertThat(delegate.fetchedBatches.get()).isLessThan(5);
+		assertThat(cursor.hasNext()).isFalse();
+		assertThat(cursor.tryNext()).isNull();
+	}
+
+	/**
+	 * {@link MongoCursor} returning predefined batches.
+	 */
+	static class BatchCursor implements MongoCursor<Integer> {
+
+		final List<List<Integer>> batches;
+		final @Nullable RuntimeException error;
+		final AtomicInteger fetchedBatches = new AtomicInteger();
+		final AtomicBoolean closed = new AtomicBoolean();
+
+		List<Integer> current = List.of();
+		int position;
+
+		BatchCursor(List<List<Integer>> batches, @Nullable RuntimeException error) {
+			this.batches = batches;
+			this.error = error;
+		}
+
+		@Override
+		public boolean hasNext() {
+
+			if (position < current.size()) {
+				return true;
+			}
+
+			if (fetchedBatches.get() < batches.size()) {
+
+				current = batches.get(fetchedBatches.getAndIncrement());
+				position = 0;
+				return true;
+			}
+
+			if (error != null) {
+				throw error;
+			}
+
+			return false;
+		}
+
+		@Override
+		public Integer next() {
+
+			hasNext();
+			return current.get(position++);
+		}
+
+		@Override
+		public int available() {
+			return current.size() - position;
+		}
+
+		@Override
+		public @Nullable Integer tryNext() {
+			return hasNext() ? next() : null;
+		}
+
+		@Override
+		public void close() {
+			closed.set(true);
+		}
+
+		@Override
+		public @Nullable ServerCursor getServerCursor() {
+			return null;
+		}
+
+		@Override
+		public ServerAddress getServerAddress() {
+			return new ServerAddress();
+		}
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Value;
+
+/**
+ * Unit tests for {@link ProjectionExpressionAnalyzer}.
+ */
+class ProjectionExpressionAnalyzerUnitTests {
+
+	@Test
+	void collectsReferencedTargetProperties() {
+
+		assertThat(collect("#{target.firstname + ' ' + target.lastname}")).containsExactly("firstname", "lastname");
+		assertThat(collect("Lives in #{target.address.city}")).containsExactly("address");
+		assertThat(collect("#{target.name?.toUpperCase()}")).containsExactly("name");
+		assertThat(collect("#{args[0] + target.name.concat(target.suffix)}")).containsExactly("name", "suffix");
+		assertThat(collect("#{target.items.![sku]}")).containsExactly("items");
+		assertThat(collect("constant")).isEmpty();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "#{target}", "#{@formatter.format(target)}", "#{target['name']}", "#{target.toString()}",
+			"#{#root.target.name}", "#{#this.target.name}", "#{target.name" })
+	void rejectsExpressionsNotResolvableToProperties(String expression) {
+		assertThat(ProjectionExpressionAnalyzer.collectTargetProperties(expression, new LinkedHashSet<>())).isFalse();
+	}
+
+	@Test
+	void collectsPropertiesOfOpenProjection() {
+
+		assertThat(ProjectionExpressionAnalyzer.getTargetProperties(OpenProjection.class))
+				.containsExactlyInAnyOrder("firstname", "lastname", "email");
+	}
+
+	@Test
+	void rejectsProjectionWithNonAccessorMethod() {
+		assertThat(ProjectionExpressionAnalyzer.getTargetProperties(ProjectionWithNonAccessor.class)).isNull();
+	}
+
+	private static Set<String> collect(String expression) {
+
+		Set<String> properties = new LinkedHashSet<>();
+
+		assertThat(ProjectionExpressionAnalyzer.collectTargetProperties(expression, properties)).isTrue();
+		return properties;
+	}
+
+	interface OpenProjection {
+
+		@Value("#{target.firstname + ' ' + target.lastname}")
+		String getFullName();
+
+		String getEmail();
+
+		default String getGreeting() {
+			return "Hello " + getFullName();
+		}
+	}
+
+	interface ProjectionWithNonAccessor {
+
+		String format(String pattern);
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.QueryPlanSampler.QueryPlan;
+import org.springframework.data.mongodb.core.QueryPlanSampler.QueryPlan.Issue;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+
+/**
+ * Unit tests for {@link QueryPlanSampler}.
+ */
+class QueryPlanSamplerUnitTests {
+
+	QueryPlanSampler sampler = new QueryPlanSampler(Duration.ofMinutes(1), 10, Runnable::run, 10);
+
+	@Test
+	void detectsCollectionScanWithUnusedDeclaredIndex() {
+
+		QueryPlan plan = sampler.analyze("person", new Document("lastname", "White"), null,
+				explain("{ 'stage' : 'COLLSCAN' }", 1, 1000),
+				List.of(new Index().on("lastname", Direction.ASC).named("lastname_idx")));
+
+		assertThat(plan.issues()).containsExactlyInAnyOrder(Issue.COLLECTION_SCAN, Issue.HIGH_EXAMINED_RATIO);
+		assertThat(plan.candidateIndexes()).containsExactly("lastname_idx");
+		assertThat(plan.describe()).contains("lastname_idx");
+	}
+
+	@Test
+	void detectsCollectionScanWithoutDeclaredIndex() {
+
+		QueryPlan plan = sampler.analyze("person", Document.parse("{ '$or' : [ { 'firstname' : 'Walter' } ] }"), null,
+				explain("{ 'stage' : 'COLLSCAN' }", 1, 1), List.of(new Index().on("lastname", Direction.ASC)));
+
+		assertThat(plan.issues()).containsExactly(Issue.COLLECTION_SCAN);
+		assertThat(plan.filterFields()).containsExactly("firstname");
+		assertThat(plan.candidateIndexes()).isEmpty();
+		assertThat(plan.describe()).contains("no declared index covers firstname");
+	}
+
+	@Test
+	void detectsInMemorySort() {
+
+		QueryPlan plan = sampler.analyze("person", new Document("lastname", "White"), new Document("age", 1), explain(
+				"{ 'stage' : 'SORT', 'inputStage' : { 'stage' : 'FETCH', 'inputStage' : { 'stage' : 'IXSCAN', 'indexName' : 'lastname_1' } } }",
+				5, 5), List.of());
+
+		assertThat(plan.issues()).containsExactly(Issue.IN_MEMORY_SORT);
+		assertThat(plan.stages()).containsExactly("SORT", "FETCH", "IXSCAN");
+		assertThat(plan.indexNames()).containsExactly("lastname_1");
+		assertThat(plan.sort()).isEqualTo("{age: ?}");
+	}
+
+	@Test
+	void considersShardedAndSlotBasedPlans() {
+
+		Document winningPlan = Document.parse(
+				"{ 'stage' : 'SHARD_MERGE', 'shards' : [ { 'winningPlan' : { 'queryPlan' : { 'stage' : 'COLLSCAN' } } } ] }");
+		Document explain = new Document("queryPlanner", new Document("winningPlan", winningPlan));
+
+		QueryPlan plan = sampler.analyze("person", new Document("lastname", "White"), null, explain, List.of());
+
+		assertThat(plan.hasIssue(Issue.COLLECTION_SCAN)).isTrue();
+	}
+
+	@Test
+	void doesNotReportUnfilteredCollectionScan() {
+
+		QueryPlan plan = sampler.analyze("person", new Document(), null, explain("{ 'stage' : 'COLLSCAN' }", 10, 10),
+				List.of());
+
+		assertThat(plan.issues()).isEmpty();
+	}
+
+	@Test
+	void samplesShapeOncePerInterval() {
+
+		AtomicInteger explains = new AtomicInteger();
+		List<QueryPlan> plans = new ArrayList<>();
+		sampler.addListener(plans::add);
+
+		sample(new Document("lastname", "White"), explains);
+		sample(new Document("lastname", "Pinkman"), explains);
+		sample(new Document("age", 50), explains);
+
+		assertThat(explains).hasValue(2);
+		assertThat(plans).hasSize(2);
+		assertThat(sampler.getQueryPlans()).extracting(QueryPlan::shape).containsExactlyInAnyOrder("{lastname: ?}",
+				"{age: ?}");
+	}
+
+	@Test
+	void boundsNumberOfShapes() {
+
+		QueryPlanSampler sampler = new QueryPlanSampler(Duration.ofMinutes(1), 10, Runnable::run, 1);
+		AtomicInteger explains = new AtomicInteger();
+
+		sampler.sample("person", new Document("lastname", "White"), null, () -> {
+			explains.incrementAndGet();
+			return explain("{ 'stage' : 'IXSCAN' }", 1, 1);
+		}, List::of);
+		sampler.sample("person", new Document("age", 50), null, () -> {
+			explains.incrementAndGet();
+			return explain("{ 'stage' : 'IXSCAN' }", 1, 1);
+		}, List::of);
+
+		assertThat(explains).hasValue(1);
+	}
+
+	@Test
+	void ignoresFailingExplain() {
+
+		sampler.sample("person", new Document("lastname", "White"), null, () -> {
+			throw new IllegalStateException("explain failed");
+		}, List::of);
+
+		assertThat(sampler.getQueryPlans()).isEmpty();
+	}
+
+	private void sample(Document query, AtomicInteger explains) {
+
+		sampler.sample("person", query, null, () -> {
+			explains.incrementAndGet();
+			return explain("{ 'stage' : 'IXSCAN', 'indexName' : 'idx' }", 1, 1);
+		}, List::<IndexDefinition> of);
+	}
+
+	private static Document explain(String winningPlan, long returned, long docsExamined) {
+
+		return new Document("queryPlanner", new Document("winningPlan", Document.parse(winningPlan)))
+				.append("executionStats", new Document("nReturned", returned).append("totalDocsExamined", docsExamined)
+						.append("totalKeysExamined", 0));
+	}
+}
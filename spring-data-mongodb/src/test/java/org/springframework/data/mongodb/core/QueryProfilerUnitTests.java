@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.QueryProfiler.ProfiledOperation;
+
+import com.mongodb.ReadPreference;
+
+/**
+ * Unit tests for {@link QueryProfiler}.
+ */
+class QueryProfilerUnitTests {
+
+	@Test
+	void retainsSlowestOperations() {
+
+		QueryProfiler profiler = new QueryProfiler(2, Duration.ZERO);
+
+		profile(profiler, "a", 10);
+		profile(profiler, "b", 30);
+		profile(profiler, "c", 20);
+		profile(profiler, "d", 5);
+
+		assertThat(profiler.getSlowestOperations()).extracting(ProfiledOperation::collectionName).containsExactly("b",
+				"c");
+		assertThat(profiler.getProfiledOperationCount()).isEqualTo(4);
+	}
+
+	@Test
+	void skipsOperationsBelowThreshold() {
+
+		QueryProfiler profiler = new QueryProfiler(10, Duration.ofMillis(100));
+
+		assertThat(profile(profiler, "fast", 10)).isFalse();
+		assertThat(profile(profiler, "slow", 200)).isTrue();
+
+		assertThat(profiler.getSlowestOperations()).extracting(ProfiledOperation::collectionName).containsExactly("slow");
+	}
+
+	@Test
+	void capturesShapeWithoutValuesByDefault() {
+
+		QueryProfiler profiler = new QueryProfiler();
+
+		QueryProfiler.Recording recording = profiler.start("find", "person", TimeUnit.MILLISECONDS.toNanos(5));
+		recording.addConversionTime(TimeUnit.MILLISECONDS.toNanos(1));
+		recording.stop();
+		recording.record(new Document("lastname", "White"), new Document("firstname", 1), new Document("age", -1),
+				"lastname_1", ReadPreference.secondaryPreferred());
+
+		assertThat(profiler.getSlowestOperations()).singleElement().satisfies(operation -> {
+
+			assertThat(operation.operation()).isEqualTo("find");
+			assertThat(operation.shape()).isEqualTo("{lastname: ?}");
+			assertThat(operation.query()).isNull();
+			assertThat(operation.fields()).isEqualTo("{ \"firstname\" : 1}");
+			assertThat(operation.sort()).isEqualTo("{ \"age\" : -1}");
+			assertThat(operation.hint()).isEqualTo("lastname_1");
+			assertThat(operation.readPreference()).isEqualTo("secondaryPreferred");
+			assertThat(operation.mappingDuration()).isGreaterThanOrEqualTo(Duration.ofMillis(5));
+			assertThat(operation.conversionDuration()).isEqualTo(Duration.ofMillis(1));
+		});
+	}
+
+	@Test
+	void capturesQueryValuesIfEnabled() {
+
+		QueryProfiler profiler = new QueryProfiler();
+		profiler.setCaptureQueryValues(true);
+
+		profile(profiler, "person", 1);
+
+		assertThat(profiler.getSlowestOperations()).singleElement()
+				.satisfies(operation -> assertThat(operation.query()).isEqualTo("{ \"lastname\" : \"White\"}"));
+	}
+
+	@Test
+	void resetDiscardsOperations() {
+
+		QueryProfiler profiler = new QueryProfiler(1, Duration.ZERO);
+
+		profile(profiler, "slow", 100);
+		profiler.reset();
+
+		assertThat(profiler.getSlowestOperations()).isEmpty();
+		assertThat(profiler.getProfiledOperationCount()).isZero();
+		assertThat(profile(profiler, "fast", 1)).isTrue();
+	}
+
+	private static boolean profile(QueryProfiler profiler, String collectionName, long millis) {
+
+		QueryProfiler.Recording recording = profiler.start("find", collectionName, TimeUnit.MILLISECONDS.toNanos(millis));
+
+		if (!recording.stop()) {
+			return false;
+		}
+
+		recording.record(new Document("lastname", "White"), null, null, null, null);
+		return true;
+	}
+}
@@ -22,6 +22,7 @@ import static org.springframework.data.mongodb.core.query.Criteria.*;
 import static org.springframework.data.mongodb.core.query.Query.*;
 
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.util.Collection;
 import java.util.List;
@@ -64,6 +65,7 @@ import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.core.query.Collation;
 import org.springframework.data.mongodb.core.query.Update;
 
+import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.model.bulk.ClientBulkWriteResult;
 import com.mongodb.client.model.bulk.ClientNamespacedWriteModel;
 import com.mongodb.internal.client.model.bulk.AbstractClientNamespacedWriteModel;
@@ -165,6 +167,43 @@ class ReactiveBulkWriterUnitTests {
 		verifyNoInteractions(collection);
 	}
 
+	@Test
+	void writesEachCollectionOnPerCollectionDispatch() {
+
+		when(collection.bulkWrite(anyList(), any()))
+				.thenReturn(Mono.just(BulkWriteResult.acknowledged(1, 0, 0, 0, List.of(), List.of())));
+
+		ops.insert(new BaseDoc());
+		builder.inCollection("other-collection", it -> it.insert(new BaseDoc()));
+		builder.inCollection("third-collection", it -> it.insert(new BaseDoc()));
+
+		template.bulkWrite(builder.build(), BulkWriteOptions.unordered().perCollection(2)) //
+				.as(StepVerifier::create) //
+				.assertNext(result -> {
+
+					assertThat(result.insertCount()).isEqualTo(3);
+					assertThat(result.acknowledged()).isTrue();
+				}).verifyComplete();
+
+		verify(collection, times(3)).bulkWrite(anyList(), any());
+		verify(client, never()).bulkWrite(anyList(), any());
+	}
+
+	@Test
+	void orderedPerCollectionDispatchStopsOnFirstFailure() {
+
+		when(collection.bulkWrite(anyList(), any())).thenReturn(Mono.error(new IllegalStateException("o_O")));
+
+		ops.insert(new BaseDoc());
+		builder.inCollection("other-collection", it -> it.insert(new BaseDoc()));
+
+		template.bulkWrite(builder.build(), BulkWriteOptions.ordered().perCollection()) //
+				.as(StepVerifier::create) //
+				.verifyError(IllegalStateException.class);
+
+		verify(collection).bulkWrite(anyList(), any());
+	}
+
 	@Test // GH-5087
 	void updateOneShouldUseCollationWhenPresent() {
 
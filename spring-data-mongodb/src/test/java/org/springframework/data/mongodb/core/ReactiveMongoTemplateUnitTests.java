@@ -29,6 +29,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -41,6 +42,8 @@ import org.assertj.core.api.Assertions;
 import org.bson.BsonDocument;
 import org.bson.BsonString;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
 import org.bson.types.ObjectId;
 import org.jspecify.annotations.Nullable;
@@ -74,6 +77,7 @@ import org.springframework.data.mongodb.core.aggregation.ConditionalOperators.Sw
 import org.springframework.data.mongodb.core.aggregation.Fields;
 import org.springframework.data.mongodb.core.aggregation.SetOperation;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.ReactiveReferenceResolver;
 import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
 import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
 import org.springframework.data.mongodb.core.mapping.Field;
@@ -94,6 +98,7 @@ import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.data.mongodb.core.timeseries.Granularity;
 import org.springframework.data.mongodb.util.BsonUtils;
+import org.springframework.data.mongodb.util.LazyDocumentCodec;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.util.CollectionUtils;
@@ -413,6 +418,28 @@ public class ReactiveMongoTemplateUnitTests {
 		verify(aggregatePublisher).collation(eq(com.mongodb.client.model.Collation.builder().locale("fr").build()));
 	}
 
+	@Test
+	void findShouldDecodeDocumentsLazilyWhenEnabled() {
+
+		when(collection.getCodecRegistry()).thenReturn(MongoClientSettings.getDefaultCodecRegistry());
+		when(collection.withCodecRegistry(any())).thenReturn(collection);
+
+		template.setLazyDocumentDecoding(true);
+		template.find(new Query(), Person.class).subscribe();
+
+		ArgumentCaptor<CodecRegistry> captor = ArgumentCaptor.forClass(CodecRegistry.class);
+		verify(collection).withCodecRegistry(captor.capture());
+		assertThat(captor.getValue().get(Document.class)).isInstanceOf(LazyDocumentCodec.class);
+	}
+
+	@Test
+	void findShouldNotDecodeDocumentsLazilyByDefault() {
+
+		template.find(new Query(), Person.class).subscribe();
+
+		verify(collection, never()).withCodecRegistry(any());
+	}
+
 	@Test // GH-4277
 	void geoNearShouldHonorReadPreferenceFromQuery() {
 
@@ -458,12 +485,23 @@ public class ReactiveMongoTemplateUnitTests {
 
 		template
 				.doFind("star-wars", CollectionPreparer.identity(), new Document(), new Document(), Person.class,
-						PersonSpELProjection.class, QueryResultConverter.entity(), FindPublisherPreparer.NO_OP_PREPARER)
+						PersonOpaqueSpELProjection.class, QueryResultConverter.entity(), FindPublisherPreparer.NO_OP_PREPARER)
 				.subscribe();
 
 		verify(findPublisher, never()).projection(any());
 	}
 
+	@Test
+	void appliesFieldsReferencedByOpenInterfaceProjection() {
+
+		template
+				.doFind("star-wars", CollectionPreparer.identity(), new Document(), new Document(), Person.class,
+						PersonSpELProjection.class, QueryResultConverter.entity(), FindPublisherPreparer.NO_OP_PREPARER)
+				.subscribe();
+
+		verify(findPublisher).projection(eq(new Document("firstname", 1)));
+	}
+
 	@Test // DATAMONGO-1719, DATAMONGO-2041
 	void appliesFieldsToDtoProjection() {
 
@@ -730,6 +768,115 @@ public class ReactiveMongoTemplateUnitTests {
 		assertThat(request).hasValueGreaterThan(128);
 	}
 
+	@Test
+	void aggregateShouldRequestPrefetchedBatches() {
+
+		reset(collection);
+
+		List<Long> requests = new ArrayList<>();
+		Publisher<Document> realPublisher = Flux.range(0, 50).map(it -> new Document("value", it))
+				.doOnRequest(requests::add);
+
+		doAnswer(invocation -> {
+			Subscriber<Document> subscriber = invocation.getArgument(0);
+			realPublisher.subscribe(subscriber);
+			return null;
+		}).when(aggregatePublisher).subscribe(any());
+
+		when(collection.aggregate(anyList(), any(Class.class))).thenReturn(aggregatePublisher);
+		when(aggregatePublisher.batchSize(anyInt())).thenReturn(aggregatePublisher);
+
+		AggregationOptions options = AggregationOptions.builder().cursorBatchSize(10).prefetch(2).build();
+		template.aggregate(newAggregation(Sith.class, project("id")).withOptions(options), AutogenerateableId.class,
+				Document.class).as(StepVerifier::create).expectNextCount(50).verifyComplete();
+
+		assertThat(requests).first().isEqualTo(20L);
+	}
+
+	@Test
+	void aggregateShouldReadRawResultsWithoutConversion() {
+
+		reset(collection);
+
+		RawBsonDocument result = RawBsonDocument.parse("{ 'name' : 'Darth Vader' }");
+
+		doAnswer(invocation -> {
+			Subscriber<RawBsonDocument> subscriber = invocation.getArgument(0);
+			Flux.just(result).subscribe(subscriber);
+			return null;
+		}).when(aggregatePublisher).subscribe(any());
+
+		when(collection.aggregate(anyList(), eq(RawBsonDocument.class))).thenReturn(aggregatePublisher);
+
+		template.aggregate(newAggregation(Sith.class, project("name")), AutogenerateableId.class, RawBsonDocument.class)
+				.as(StepVerifier::create).expectNext(result).verifyComplete();
+	}
+
+	@Test
+	void aggregateShouldConvertBsonDocumentResults() {
+
+		doAnswer(invocation -> {
+			Subscriber<Document> subscriber = invocation.getArgument(0);
+			Flux.just(new Document("name", new BsonString("Darth Vader"))).subscribe(subscriber);
+			return null;
+		}).when(aggregatePublisher).subscribe(any());
+
+		template.aggregate(newAggregation(Sith.class, project("name")), AutogenerateableId.class, BsonDocument.class)
+				.as(StepVerifier::create) //
+				.assertNext(it -> assertThat(it).isNotInstanceOf(RawBsonDocument.class)
+						.containsEntry("name", new BsonString("Darth Vader"))) //
+				.verifyComplete();
+
+		verify(collection).aggregate(anyList(), eq(Document.class));
+	}
+
+	@Test
+	void scrollAllShouldContinueFromLastDocumentOfWindow() {
+
+		Iterator<List<Document>> windows = List.of(List.of(new Document("_id", 1), new Document("_id", 2)),
+				List.of(new Document("_id", 3))).iterator();
+
+		when(findPublisher.sort(any())).thenReturn(findPublisher);
+		when(findPublisher.batchSize(anyInt())).thenReturn(findPublisher);
+		doAnswer(invocation -> {
+			Subscriber<Document> subscriber = invocation.getArgument(0);
+			Flux.fromIterable(windows.next()).subscribe(subscriber);
+			return null;
+		}).when(findPublisher).subscribe(any());
+
+		template.scrollAll(new Query().limit(2), Document.class, "star-wars").map(it -> it.get("_id"))
+				.as(StepVerifier::create).expectNext(1, 2, 3).verifyComplete();
+
+		ArgumentCaptor<Document> filters = ArgumentCaptor.forClass(Document.class);
+		verify(collection, times(2)).find(filters.capture(), eq(Document.class));
+		verify(findPublisher, times(2)).limit(2);
+
+		assertThat(filters.getAllValues()).containsExactly(new Document(),
+				Document.parse("{ '$or' : [ { '_id' : { '$gt' : 2 } } ] }"));
+	}
+
+	@Test
+	void scanPartitionedShouldMergeSampledRanges() {
+
+		doAnswer(invocation -> {
+			Subscriber<Document> subscriber = invocation.getArgument(0);
+			Flux.just("a", "b", "c", "d", "e", "f", "g", "h", "i", "j").map(it -> new Document("value", it))
+					.subscribe(subscriber);
+			return null;
+		}).when(aggregatePublisher).subscribe(any());
+		stubFindSubscribe(new Document("_id", "luke").append("firstname", "Luke"));
+
+		template.scanPartitioned(new Query(), Person.class, PartitionedScanOptions.partitions(2).key("id"))
+				.as(StepVerifier::create).expectNextCount(3).verifyComplete();
+
+		ArgumentCaptor<Document> filters = ArgumentCaptor.forClass(Document.class);
+		verify(collection, times(3)).find(filters.capture(), eq(Document.class));
+
+		assertThat(filters.getAllValues()).containsExactlyInAnyOrder(Document.parse("{ '_id' : { '$lt' : 'f' } }"),
+				Document.parse("{ '_id' : { '$gte' : 'f' } }"),
+				Document.parse("{ '_id' : { '$not' : { '$type' : 'string' } } }"));
+	}
+
 	@Test // DATAMONGO-1854
 	void aggreateShouldUseCollationFromOptionsEvenIfDefaultCollationIsPresent() {
 
@@ -1294,6 +1441,63 @@ public class ReactiveMongoTemplateUnitTests {
 		assertThat(results.get(0).id).isEqualTo("after-convert");
 	}
 
+	@Test
+	void findShouldRecordOperationWithQueryProfiler() {
+
+		QueryProfiler profiler = new QueryProfiler();
+		template.setQueryProfiler(profiler);
+
+		Document document = new Document("_id", "init").append("firstname", "luke");
+		when(collection.find(Document.class)).thenReturn(findPublisher);
+		stubFindSubscribe(document);
+
+		template.find(new BasicQuery("{'firstname' : 'luke'}"), Person.class).as(StepVerifier::create).expectNextCount(1)
+				.verifyComplete();
+
+		assertThat(profiler.getSlowestOperations()).singleElement().satisfies(operation -> {
+			assertThat(operation.operation()).isEqualTo("find");
+			assertThat(operation.collectionName()).isEqualTo("star-wars");
+			assertThat(operation.shape()).isEqualTo("{firstname: ?}");
+			assertThat(operation.query()).isNull();
+		});
+	}
+
+	@Test
+	void findShouldResolveReferencesWithReferenceResolver() {
+
+		ReactiveReferenceResolver resolver = mock(ReactiveReferenceResolver.class);
+		when(resolver.resolve(any(Flux.class), eq(Person.class)))
+				.thenReturn(Flux.just(new Document("_id", "resolved").append("firstname", "luke")));
+		template.setReferenceResolver(resolver);
+
+		when(collection.find(Document.class)).thenReturn(findPublisher);
+		stubFindSubscribe(new Document("_id", "init"));
+
+		template.find(new BasicQuery("{'firstname' : 'luke'}"), Person.class).as(StepVerifier::create)
+				.assertNext(it -> assertThat(it.id).isEqualTo("resolved")).verifyComplete();
+	}
+
+	@Test
+	void tailShouldResolveReferencesPerDocument() {
+
+		ReactiveReferenceResolver resolver = mock(ReactiveReferenceResolver.class);
+		when(resolver.resolveEach(any(Flux.class), eq(Person.class)))
+				.thenReturn(Flux.just(new Document("_id", "resolved").append("firstname", "luke")));
+		template.setReferenceResolver(resolver);
+
+		when(collection.find(Document.class)).thenReturn(findPublisher);
+		when(findPublisher.cursorType(any())).thenReturn(findPublisher);
+		stubFindSubscribe(new Document("_id", "init"));
+
+		template.tail(new BasicQuery("{'firstname' : 'luke'}"), Person.class).as(StepVerifier::create)
+				.assertNext(it -> assertThat(it.id).isEqualTo("resolved")).verifyComplete();
+		template.tail(null, Person.class).as(StepVerifier::create)
+				.assertNext(it -> assertThat(it.id).isEqualTo("resolved")).verifyComplete();
+
+		verify(resolver, times(2)).resolveEach(any(Flux.class), eq(Person.class));
+		verify(resolver, never()).resolve(any(Flux.class), any());
+	}
+
 	@Test // GH-4543
 	void findShouldNotLimitBackpressure() {
 
@@ -1901,6 +2105,12 @@ public class ReactiveMongoTemplateUnitTests {
 		String getName();
 	}
 
+	public interface PersonOpaqueSpELProjection {
+
+		@Value("#{target.toString()}")
+		String getName();
+	}
+
 	static class Jedi {
 
 		@Field("firstname") String name;
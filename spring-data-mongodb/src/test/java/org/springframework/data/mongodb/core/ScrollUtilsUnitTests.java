@@ -15,18 +15,26 @@
  */
 package org.springframework.data.mongodb.core;
 
-import static org.assertj.core.api.AssertionsForClassTypes.*;
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import org.bson.Document;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Window;
 import org.springframework.data.mongodb.core.EntityOperations.Entity;
+import org.springframework.data.mongodb.core.ScrollUtils.MappedKeysetQuery;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.core.query.Query;
 
 /**
@@ -36,6 +44,8 @@ import org.springframework.data.mongodb.core.query.Query;
  */
 class ScrollUtilsUnitTests {
 
+	private final MongoMappingContext mappingContext = new MongoMappingContext();
+
 	@Test // GH-4413
 	void positionShouldRetainScrollDirection() {
 
@@ -53,4 +63,61 @@ class ScrollUtilsUnitTests {
 		assertThat(window.positionAt(0)).isInstanceOf(KeysetScrollPosition.class);
 		assertThat(((KeysetScrollPosition) window.positionAt(0)).scrollsBackward()).isTrue();
 	}
+
+	@Test
+	void mappedKeysetQueryShouldMapSortAndKeysOnce() {
+
+		Query query = new Query().with(Sort.by("lastname")).with(ScrollPosition.forward(Map.of("lastname", "White", "id", 1)))
+				.limit(10);
+
+		MappedKeysetQuery keysetQuery = MappedKeysetQuery.of(query, "id", queryMapper(), new Document(),
+				new Document("first_name", 1), mappingContext.getPersistentEntity(Person.class));
+
+		assertThat(keysetQuery.getWindowSize()).isEqualTo(10);
+		assertThat(keysetQuery.getSort()).isEqualTo(Document.parse("{ 'last_name' : 1, '_id' : 1 }"));
+		assertThat(keysetQuery.getFields()).isEqualTo(Document.parse("{ 'first_name' : 1, 'last_name' : 1, '_id' : 1 }"));
+		assertThat(keysetQuery.createInitialQuery()).isEqualTo(Document.parse(
+				"{ '$or' : [ { 'last_name' : { '$gt' : 'White' } }, { 'last_name' : 'White', '_id' : { '$gt' : 1 } } ] }"));
+	}
+
+	@Test
+	void mappedKeysetQueryShouldContinueFromRawDocument() {
+
+		MappedKeysetQuery keysetQuery = MappedKeysetQuery.of(new Query().with(Sort.by("address.city")), "id",
+				queryMapper(), new Document("age", 42), new Document(), mappingContext.getPersistentEntity(Person.class));
+
+		Document last = Document.parse("{ '_id' : 7, 'address' : { 'city' : 'Albuquerque' } }");
+
+		assertThat(keysetQuery.getWindowSize()).isEqualTo(MappedKeysetQuery.DEFAULT_WINDOW_SIZE);
+		assertThat(keysetQuery.createInitialQuery()).isEqualTo(new Document("age", 42));
+		assertThat(keysetQuery.createQuery(keysetQuery.extractKeys(last))).isEqualTo(Document.parse(
+				"{ 'age' : 42, '$or' : [ { 'address.city' : { '$gt' : 'Albuquerque' } }, { 'address.city' : 'Albuquerque', '_id' : { '$gt' : 7 } } ] }"));
+		assertThatIllegalStateException().isThrownBy(() -> keysetQuery.extractKeys(new Document("_id", 8)));
+	}
+
+	@Test
+	void mappedKeysetQueryShouldRejectBackwardScrollingAndSkip() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> MappedKeysetQuery.of(
+				new Query().with(ScrollPosition.keyset().backward()), "id", queryMapper(), new Document(), new Document(),
+				null));
+		assertThatIllegalArgumentException().isThrownBy(() -> MappedKeysetQuery.of(new Query().skip(10), "id",
+				queryMapper(), new Document(), new Document(), null));
+	}
+
+	private QueryMapper queryMapper() {
+		return new QueryMapper(new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext));
+	}
+
+	static class Person {
+
+		Integer id;
+		@Field("first_name") String firstname;
+		@Field("last_name") String lastname;
+		Address address;
+	}
+
+	static class Address {
+		String city;
+	}
 }
@@ -77,6 +77,14 @@ class AggregationOptionsTests {
 		assertThat(aggregationOptions.getHintObject()).contains(dummyHint);
 	}
 
+	@Test
+	void shouldConfigurePrefetch() {
+
+		assertThat(aggregationOptions.hasPrefetch()).isFalse();
+		assertThat(AggregationOptions.builder().prefetch(2).build().getPrefetch()).isEqualTo(2);
+		assertThatIllegalArgumentException().isThrownBy(() -> AggregationOptions.builder().prefetch(-1));
+	}
+
 	@Test // GH-4664
 	void omitsAllowDiskUseByDefault() {
 
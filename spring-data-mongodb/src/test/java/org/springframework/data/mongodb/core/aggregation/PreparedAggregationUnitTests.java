@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.aggregation;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
+import static org.springframework.data.mongodb.core.query.Criteria.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+/**
+ * Unit tests for {@link PreparedAggregation}.
+ */
+class PreparedAggregationUnitTests {
+
+	MongoMappingContext mappingContext;
+	QueryMapper mapper;
+
+	@BeforeEach
+	void setUp() {
+
+		mappingContext = new MongoMappingContext();
+		mapper = new QueryMapper(new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext));
+	}
+
+	@Test
+	void bindsParameterValues() {
+
+		PreparedAggregation prepared = PreparedAggregation.of(newAggregation(Person.class,
+				match(where("lastname").is(parameter("lastname")).and("age").gt(parameter("age", Integer.class))),
+				group("lastname").count().as("count")));
+
+		List<Document> pipeline = prepared.bind(Map.of("lastname", "White", "age", 50)).toPipeline(context());
+
+		assertThat(pipeline).containsExactly(Document.parse("{ '$match' : { 'last_name' : 'White', 'age' : { '$gt' : 50 } } }"),
+				Document.parse("{ '$group' : { '_id' : '$last_name', 'count' : { '$sum' : 1 } } }"));
+	}
+
+	@Test
+	void rendersOncePerContext() {
+
+		PreparedAggregation prepared = PreparedAggregation
+				.of(newAggregation(Person.class, match(where("lastname").is(parameter("lastname")))));
+
+		List<Document> white = prepared.bind("lastname", "White").toPipeline(context());
+		List<Document> pinkman = prepared.bind("lastname", "Pinkman").toPipeline(context());
+
+		assertThat(prepared.getRenderingCount()).isOne();
+		assertThat(white.get(0)).isEqualTo(Document.parse("{ '$match' : { 'last_name' : 'White' } }"));
+		assertThat(pinkman.get(0)).isEqualTo(Document.parse("{ '$match' : { 'last_name' : 'Pinkman' } }"));
+	}
+
+	@Test
+	void sharesStagesWithoutParameters() {
+
+		PreparedAggregation prepared = PreparedAggregation.of(newAggregation(Person.class,
+				match(where("lastname").is(parameter("lastname"))), sort(org.springframework.data.domain.Sort.by("age"))));
+
+		List<Document> first = prepared.bind("lastname", "White").toPipeline(context());
+		List<Document> second = prepared.bind("lastname", "Pinkman").toPipeline(context());
+
+		assertThat(first.get(0)).isNotSameAs(second.get(0));
+		assertThat(first.get(1)).isSameAs(second.get(1));
+	}
+
+	@Test
+	void expandsCollectionBoundToInOperator() {
+
+		PreparedAggregation prepared = PreparedAggregation
+				.of(newAggregation(Person.class, match(where("lastname").in(parameter("names", String.class)))));
+
+		List<Document> pipeline = prepared.bind("names", List.of("White", "Pinkman")).toPipeline(context());
+
+		assertThat(pipeline.get(0))
+				.isEqualTo(Document.parse("{ '$match' : { 'last_name' : { '$in' : [ 'White', 'Pinkman' ] } } }"));
+	}
+
+	@Test
+	void convertsBoundValues() {
+
+		PreparedAggregation prepared = PreparedAggregation
+				.of(newAggregation(Person.class, match(where("status").is(parameter("status")))));
+
+		List<Document> pipeline = prepared.bind("status", Status.ACTIVE).toPipeline(context());
+
+		assertThat(pipeline.get(0)).isEqualTo(Document.parse("{ '$match' : { 'status' : 'ACTIVE' } }"));
+	}
+
+	@Test
+	void rejectsMissingUnknownAndMistypedValues() {
+
+		PreparedAggregation prepared = PreparedAggregation
+				.of(newAggregation(Person.class, match(where("age").is(parameter("age", Integer.class)))));
+
+		assertThatIllegalArgumentException().isThrownBy(() -> prepared.bind(Map.of()).toPipeline(context()))
+				.withMessageContaining("No value bound for parameter 'age'");
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> prepared.bind(Map.of("age", 1, "name", "White")).toPipeline(context()))
+				.withMessageContaining("does not declare parameter 'name'");
+		assertThatIllegalArgumentException().isThrownBy(() -> prepared.bind("age", "fifty").toPipeline(context()))
+				.withMessageContaining("is not of type java.lang.Integer");
+	}
+
+	@Test
+	void retainsTypedAggregationAndOptions() {
+
+		Aggregation bound = PreparedAggregation
+				.of(newAggregation(Person.class, match(where("lastname").is(parameter("lastname"))))
+						.withOptions(newAggregationOptions().allowDiskUse(true).build()))
+				.bind("lastname", "White");
+
+		assertThat(bound).isInstanceOf(TypedAggregation.class);
+		assertThat(((TypedAggregation<?>) bound).getInputType()).isEqualTo(Person.class);
+		assertThat(bound.getOptions().isAllowDiskUse()).isTrue();
+		assertThat(bound.withOptions(newAggregationOptions().build()).toPipeline(context()).get(0))
+				.isEqualTo(Document.parse("{ '$match' : { 'last_name' : 'White' } }"));
+	}
+
+	@Test
+	void rejectsInvalidParameterNames() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> parameter("$name"));
+		assertThatIllegalArgumentException().isThrownBy(() -> parameter("address.city"));
+	}
+
+	private AggregationOperationContext context() {
+		return new TypeBasedAggregationOperationContext(Person.class, mappingContext, mapper);
+	}
+
+	enum Status {
+		ACTIVE, INACTIVE
+	}
+
+	static class Person {
+
+		String id;
+		@Field("last_name") String lastname;
+		int age;
+		Status status;
+	}
+}
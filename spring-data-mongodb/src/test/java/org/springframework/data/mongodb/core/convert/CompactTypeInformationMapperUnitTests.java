@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.TypeAlias;
+import org.springframework.data.convert.SimpleTypeInformationMapper;
+import org.springframework.data.core.TypeInformation;
+import org.springframework.data.mapping.Alias;
+import org.springframework.data.mongodb.MongoManagedTypes;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+/**
+ * Unit tests for {@link CompactTypeInformationMapper}.
+ */
+class CompactTypeInformationMapperUnitTests {
+
+	@Test
+	void mapsNumericAliases() {
+
+		CompactTypeInformationMapper mapper = CompactTypeInformationMapper.of(Map.of(Created.class, 1, Renamed.class, 2L));
+
+		assertThat(mapper.createAliasFor(TypeInformation.of(Created.class))).isEqualTo(Alias.of(1));
+		assertThat(mapper.createAliasFor(TypeInformation.of(Object.class))).isEqualTo(Alias.NONE);
+		assertThat(mapper.resolveTypeFrom(Alias.of(1))).isEqualTo(TypeInformation.of(Created.class));
+		assertThat(mapper.resolveTypeFrom(Alias.of(1L))).isEqualTo(TypeInformation.of(Created.class));
+		assertThat(mapper.resolveTypeFrom(Alias.of(2))).isEqualTo(TypeInformation.of(Renamed.class));
+		assertThat(mapper.resolveTypeFrom(Alias.of("1"))).isNull();
+		assertThat(mapper.resolveTypeFrom(Alias.NONE)).isNull();
+	}
+
+	@Test
+	void mapsSimpleNamesOfManagedTypes() {
+
+		CompactTypeInformationMapper mapper = CompactTypeInformationMapper
+				.simpleNames(MongoManagedTypes.from(Created.class, Renamed.class));
+
+		assertThat(mapper.createAliasFor(TypeInformation.of(Renamed.class))).isEqualTo(Alias.of("Renamed"));
+		assertThat(mapper.resolveTypeFrom(Alias.of("Created"))).isEqualTo(TypeInformation.of(Created.class));
+	}
+
+	@Test
+	void rejectsAmbiguousAliases() {
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> CompactTypeInformationMapper.of(Map.of(Created.class, 1, Renamed.class, 1L)))
+				.withMessageContaining("Alias '1'");
+		assertThatIllegalArgumentException().isThrownBy(() -> CompactTypeInformationMapper
+				.from(MongoManagedTypes.from(Created.class, Renamed.class), type -> "event"));
+	}
+
+	@Test
+	void rejectsUnsupportedAliasTypes() {
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> CompactTypeInformationMapper.of(Map.of(Created.class, 1.5d)));
+	}
+
+	@Test
+	void convertsUsingCompactAliases() {
+
+		MongoMappingContext mappingContext = new MongoMappingContext();
+		MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+		converter.setTypeMapper(new DefaultMongoTypeMapper(DefaultMongoTypeMapper.DEFAULT_TYPE_KEY, mappingContext,
+				converter::getWriteTarget, List.of(CompactTypeInformationMapper.of(Map.of(Created.class, 1, Aliased.class, 2)),
+						new SimpleTypeInformationMapper())));
+		converter.afterPropertiesSet();
+
+		Stream stream = new Stream();
+		stream.events = List.of(new Created(), new Renamed(), new Aliased());
+
+		Document target = new Document();
+		converter.write(stream, target);
+
+		assertThat(target.getList("events", Document.class)).extracting(it -> it.get("_class")).containsExactly(1,
+				Renamed.class.getName(), "aliased");
+		assertThat(converter.read(Stream.class, target).events).extracting(Object::getClass)
+				.containsExactly(Created.class, Renamed.class, Aliased.class);
+
+		Document legacy = new Document("events", List.of(new Document("_class", Created.class.getName())));
+		assertThat(converter.read(Stream.class, legacy).events).extracting(Object::getClass).containsExactly(Created.class);
+
+		Document restrictions = new Document();
+		converter.getTypeMapper().writeTypeRestrictions(restrictions, Set.of(Created.class));
+		assertThat(restrictions).containsEntry("_class", new Document("$in", List.of(1)));
+	}
+
+	static class Stream {
+		List<Event> events;
+	}
+
+	static abstract class Event {}
+
+	static class Created extends Event {}
+
+	static class Renamed extends Event {}
+
+	@TypeAlias("aliased")
+	static class Aliased extends Event {}
+}
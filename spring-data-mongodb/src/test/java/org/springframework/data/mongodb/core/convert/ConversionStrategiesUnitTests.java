@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.mongodb.core.convert.ConversionStrategies.ReadStrategy;
+import org.springframework.data.mongodb.core.convert.ConversionStrategies.WriteStrategy;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+/**
+ * Unit tests for {@link ConversionStrategies}.
+ */
+class ConversionStrategiesUnitTests {
+
+	MongoCustomConversions conversions = new MongoCustomConversions(
+			List.of(new ColorToStringConverter(), new StringToColorConverter()));
+	ConversionStrategies strategies = new ConversionStrategies(conversions);
+
+	@Test
+	void resolvesReadStrategies() {
+
+		assertThat(strategies.getReadStrategy(String.class, Color.class)).isEqualTo(ReadStrategy.CUSTOM_CONVERSION);
+		assertThat(strategies.getReadStrategy(String.class, Object.class)).isEqualTo(ReadStrategy.PASSTHROUGH);
+		assertThat(strategies.getReadStrategy(Integer.class, int.class)).isEqualTo(ReadStrategy.PASSTHROUGH);
+		assertThat(strategies.getReadStrategy(String.class, Shape.class)).isEqualTo(ReadStrategy.ENUM);
+		assertThat(strategies.getReadStrategy(Decimal128.class, BigDecimal.class))
+				.isEqualTo(ReadStrategy.CONVERSION_SERVICE);
+	}
+
+	@Test
+	void resolvesWriteStrategies() {
+
+		assertThat(strategies.getWriteStrategy(Color.class))
+				.isEqualTo(new WriteStrategy(WriteStrategy.Kind.CUSTOM_CONVERSION, String.class));
+		assertThat(strategies.getWriteStrategy(Shape.class).kind()).isEqualTo(WriteStrategy.Kind.ENUM);
+		assertThat(strategies.getWriteStrategy(String[].class).kind()).isEqualTo(WriteStrategy.Kind.ARRAY);
+		assertThat(strategies.getWriteStrategy(byte[].class).kind()).isEqualTo(WriteStrategy.Kind.PASSTHROUGH);
+		assertThat(strategies.getWriteStrategy(String.class).kind()).isEqualTo(WriteStrategy.Kind.PASSTHROUGH);
+	}
+
+	@Test
+	void cachesResolvedStrategies() {
+
+		assertThat(strategies.getWriteStrategy(Color.class)).isSameAs(strategies.getWriteStrategy(Color.class));
+		assertThat(strategies.isFor(conversions)).isTrue();
+		assertThat(strategies.isFor(new MongoCustomConversions(List.of()))).isFalse();
+	}
+
+	@Test
+	void converterPicksUpReplacedCustomConversions() {
+
+		MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext());
+		converter.afterPropertiesSet();
+
+		WithColor source = new WithColor();
+		source.color = Color.RED;
+
+		Document target = new Document();
+		converter.write(source, target);
+		assertThat(target.get("color")).isEqualTo("RED");
+
+		converter.setCustomConversions(conversions);
+		converter.afterPropertiesSet();
+
+		target = new Document();
+		converter.write(source, target);
+		assertThat(target.get("color")).isEqualTo("color:red");
+		assertThat(converter.read(WithColor.class, target).color).isEqualTo(Color.RED);
+	}
+
+	enum Color {
+		RED
+	}
+
+	enum Shape {
+		SQUARE
+	}
+
+	static class WithColor {
+		Color color;
+	}
+
+	@WritingConverter
+	static class ColorToStringConverter implements Converter<Color, String> {
+
+		@Override
+		public String convert(Color source) {
+			return "color:" + source.name().toLowerCase();
+		}
+	}
+
+	@ReadingConverter
+	static class StringToColorConverter implements Converter<String, Color> {
+
+		@Override
+		public Color convert(String source) {
+			return Color.valueOf(source.substring("color:".length()).toUpperCase());
+		}
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.mapping.LazyRead;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+/**
+ * Unit tests for {@link MappingMongoConverter} reading {@link LazyRead} properties.
+ */
+class LazyReadMappingMongoConverterUnitTests {
+
+	static final AtomicInteger variantsCreated = new AtomicInteger();
+
+	MappingMongoConverter converter;
+
+	@BeforeEach
+	void setUp() {
+
+		MongoMappingContext mappingContext = new MongoMappingContext();
+		converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+		converter.afterPropertiesSet();
+
+		variantsCreated.set(0);
+	}
+
+	@Test
+	void convertsLazyPropertiesOnFirstAccess() {
+
+		Document source = Document.parse(
+				"{ '_id' : 'item-1', 'name' : 'Shirt', 'variants' : [ { 'sku' : 'S' }, { 'sku' : 'M' } ], 'featured' : { 'sku' : 'L' }, 'attributes' : { 'color' : 'blue' } }");
+
+		CatalogItem item = converter.read(CatalogItem.class, source);
+
+		assertThat(item.name).isEqualTo("Shirt");
+		assertThat(item.variants).isInstanceOf(LazyLoadingProxy.class);
+		assertThat(item.featured).isInstanceOf(LazyLoadingProxy.class);
+		assertThat(item.attributes).isInstanceOf(LazyLoadingProxy.class);
+		assertThat(variantsCreated).hasValue(0);
+
+		assertThat(item.variants).extracting(Variant::getSku).containsExactly("S", "M");
+		assertThat(variantsCreated).hasValue(2);
+
+		assertThat(item.featured.getSku()).isEqualTo("L");
+		assertThat(item.attributes).containsEntry("color", "blue");
+	}
+
+	@Test
+	void delegatesObjectMethodsToConvertedValue() {
+
+		CatalogItem item = converter.read(CatalogItem.class,
+				Document.parse("{ 'variants' : [ { 'sku' : 'S' } ], 'featured' : { 'sku' : 'L' } }"));
+
+		assertThat(item.variants).isEqualTo(List.of(new Variant("S")));
+		assertThat(item.variants.hashCode()).isEqualTo(List.of(new Variant("S")).hashCode());
+		assertThat(item.featured).hasToString("Variant L");
+	}
+
+	@Test
+	void readsOptedOutAndNonProxyablePropertiesEagerly() {
+
+		CatalogItem item = converter.read(CatalogItem.class,
+				Document.parse("{ 'price' : { 'amount' : 10 }, 'sizes' : [ 'S', 'M' ], 'tags' : [ 'new' ] }"));
+
+		assertThat(item.price).isNotInstanceOf(LazyLoadingProxy.class);
+		assertThat(item.sizes).containsExactly("S", "M");
+		assertThat(item.tags).isNotInstanceOf(LazyLoadingProxy.class).containsExactly("new");
+	}
+
+	@Test
+	void readsPropertyAnnotatedLazily() {
+
+		Order order = converter.read(Order.class, Document.parse("{ 'items' : [ { 'sku' : 'S' } ], 'shipTo' : { 'sku' : 'M' } }"));
+
+		assertThat(order.items).isInstanceOf(LazyLoadingProxy.class);
+		assertThat(order.shipTo).isNotInstanceOf(LazyLoadingProxy.class);
+	}
+
+	@Test
+	void writesConvertedValueOfLazyProperties() {
+
+		Document source = Document.parse(
+				"{ '_id' : 'item-1', 'variants' : [ { 'sku' : 'S' } ], 'featured' : { 'sku' : 'L' }, 'attributes' : { 'color' : 'blue' } }");
+
+		Document target = new Document();
+		converter.write(converter.read(CatalogItem.class, source), target);
+
+		assertThat(target).containsEntry("variants", List.of(new Document("sku", "S")))
+				.containsEntry("featured", new Document("sku", "L"))
+				.containsEntry("attributes", new Document("color", "blue"));
+	}
+
+	@LazyRead
+	static class CatalogItem {
+
+		String id;
+		String name;
+		List<Variant> variants;
+		Variant featured;
+		Map<String, String> attributes;
+		@LazyRead(false) Price price;
+		String[] sizes;
+		@LazyRead(false) List<String> tags;
+	}
+
+	static class Order {
+
+		@LazyRead List<Variant> items;
+		Variant shipTo;
+	}
+
+	static class Variant {
+
+		String sku;
+
+		Variant(String sku) {
+
+			this.sku = sku;
+			variantsCreated.incrementAndGet();
+		}
+
+		String getSku() {
+			return sku;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Variant variant && Objects.equals(sku, variant.getSku());
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode(sku);
+		}
+
+		@Override
+		public String toString() {
+			return "Variant " + sku;
+		}
+	}
+
+	static class Price {
+		int amount;
+	}
+}
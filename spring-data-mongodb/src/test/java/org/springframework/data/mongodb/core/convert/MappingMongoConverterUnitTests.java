@@ -96,9 +96,10 @@ import org.springframework.data.mongodb.core.convert.MongoCustomConversions.Mong
 import org.springframework.data.mongodb.core.geo.Sphere;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldName;
 import org.springframework.data.mongodb.core.mapping.FieldName.Type;
+import org.springframework.data.mongodb.core.mapping.FieldPathAccessor;
 import org.springframework.data.mongodb.core.mapping.FieldType;
-import org.springframework.data.mongodb.core.mapping.MongoField;
 import org.springframework.data.mongodb.core.mapping.MongoId;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
@@ -1098,6 +1099,17 @@ class MappingMongoConverterUnitTests {
 		assertSyntheticFieldValueOf(outer.inner, outer);
 	}
 
+	@Test
+	void readsMemberClassOfEmbeddedObjectWithoutIdentifier() {
+
+		org.bson.Document document = new org.bson.Document("outer",
+				new org.bson.Document("inner", new org.bson.Document("value", "FOO!")));
+
+		OuterWrapper wrapper = converter.read(OuterWrapper.class, document);
+		assertThat(wrapper.outer.inner.value).isEqualTo("FOO!");
+		assertSyntheticFieldValueOf(wrapper.outer.inner, wrapper.outer);
+	}
+
 	@Test // DATAMONGO-458
 	void readEmptyCollectionIsModifiable() {
 
@@ -3110,7 +3122,7 @@ class MappingMongoConverterUnitTests {
 		DocumentAccessor accessor = new DocumentAccessor(new org.bson.Document());
 		MongoPersistentProperty persistentProperty = mock(MongoPersistentProperty.class);
 		when(persistentProperty.isAssociation()).thenReturn(true);
-		when(persistentProperty.getMongoField()).thenReturn(MongoField.fromKey("pName"));
+		when(persistentProperty.getFieldPathAccessor()).thenReturn(FieldPathAccessor.of(FieldName.name("pName")));
 		doReturn(TypeInformation.of(Person.class)).when(persistentProperty).getTypeInformation();
 		doReturn(Person.class).when(persistentProperty).getType();
 		doReturn(Person.class).when(persistentProperty).getRawType();
@@ -3958,6 +3970,10 @@ class MappingMongoConverterUnitTests {
 		Inner inner;
 	}
 
+	static class OuterWrapper {
+		Outer outer;
+	}
+
 	static class DBRefWrapper {
 
 		DBRef ref;
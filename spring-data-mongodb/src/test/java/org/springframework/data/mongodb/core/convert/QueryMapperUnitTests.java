@@ -71,6 +71,7 @@ import org.springframework.data.mongodb.core.mapping.TextScore;
 import org.springframework.data.mongodb.core.mapping.Unwrapped;
 import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.MappedQueryDocument;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.TextQuery;
 
@@ -1735,6 +1736,18 @@ public class QueryMapperUnitTests {
 		assertThat(mappedObject).containsEntry("$and.[0]._id.$all", List.of(oid));
 	}
 
+	@Test
+	void passesOnAlreadyMappedQueryDocument() {
+
+		MappedQueryDocument source = new MappedQueryDocument("text", "spring");
+
+		org.bson.Document mappedObject = mapper.getMappedObject(source,
+				context.getPersistentEntity(WithPropertyValueConverter.class));
+
+		assertThat(mappedObject).isEqualTo("{ 'text' : 'spring' }").isNotSameAs(source)
+				.isExactlyInstanceOf(org.bson.Document.class);
+	}
+
 	class WithSimpleMap {
 		Map<String, String> simpleMap;
 	}
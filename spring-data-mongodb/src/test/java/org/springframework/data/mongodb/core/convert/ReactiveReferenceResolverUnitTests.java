@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.reactivestreams.Subscriber;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.mapping.DBRef;
+import org.springframework.data.mongodb.core.mapping.DocumentReference;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import com.mongodb.reactivestreams.client.FindPublisher;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+
+/**
+ * Unit tests for {@link ReactiveReferenceResolver}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReactiveReferenceResolverUnitTests {
+
+	@Mock ReactiveMongoDatabaseFactory factory;
+	@Mock MongoDatabase database;
+	@Mock MongoCollection<Document> collection;
+
+	MongoMappingContext mappingContext;
+	MappingMongoConverter converter;
+	ReactiveReferenceResolver resolver;
+
+	Map<Object, Document> stored = Map.of("luke", new Document("_id", "luke").append("name", "Luke"), //
+			"leia", new Document("_id", "leia").append("name", "Leia"), //
+			"han", new Document("_id", "han").append("name", "Han"));
+
+	@BeforeEach
+	void setUp() {
+
+		mappingContext = new MongoMappingContext();
+		converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+		converter.afterPropertiesSet();
+		resolver = new ReactiveReferenceResolver(factory, mappingContext, 10);
+
+		when(factory.getMongoDatabase()).thenReturn(Mono.just(database));
+		when(database.getCollection(anyString())).thenReturn(collection);
+		when(collection.find(any(Bson.class))).thenAnswer(invocation -> {
+
+			Document filter = invocation.getArgument(0);
+			List<Object> ids = filter.get("_id", Document.class).getList("$in", Object.class);
+
+			FindPublisher<Document> publisher = mock(FindPublisher.class);
+			doAnswer(subscription -> {
+
+				Subscriber<Document> subscriber = subscription.getArgument(0);
+				Flux.fromIterable(ids).mapNotNull(stored::get).subscribe(subscriber);
+				return null;
+			}).when(publisher).subscribe(any());
+
+			return publisher;
+		});
+	}
+
+	@Test
+	void resolvesDbRefsOfWindowWithSingleQueryPerCollection() {
+
+		Flux<Document> documents = Flux.just(
+				new Document("_id", "1").append("friend", new com.mongodb.DBRef("person", "luke")),
+				new Document("_id", "2").append("friend", new com.mongodb.DBRef("person", "leia")).append("friends",
+						List.of(new com.mongodb.DBRef("person", "han"), new com.mongodb.DBRef("person", "luke"))));
+
+		resolver.resolve(documents, WithDbRef.class).map(it -> converter.read(WithDbRef.class, it))
+				.as(StepVerifier::create) //
+				.assertNext(it -> {
+					assertThat(it.friend.name).isEqualTo("Luke");
+					assertThat(it.friends).isNull();
+				}) //
+				.assertNext(it -> {
+					assertThat(it.friend.name).isEqualTo("Leia");
+					assertThat(it.friends).extracting(person -> person.name).containsExactly("Han", "Luke");
+				}) //
+				.verifyComplete();
+
+		ArgumentCaptor<Bson> filter = ArgumentCaptor.forClass(Bson.class);
+		verify(collection).find(filter.capture());
+		assertThat(filter.getValue()).isEqualTo(Document.parse("{ '_id' : { '$in' : [ 'luke', 'leia', 'han' ] } }"));
+	}
+
+	@Test
+	void resolvesEachDocumentWithoutAwaitingWindow() {
+
+		Flux<Document> documents = Flux.concat(
+				Flux.just(new Document("_id", "1").append("friend", new com.mongodb.DBRef("person", "luke"))), Flux.never());
+
+		resolver.resolveEach(documents, WithDbRef.class).map(it -> converter.read(WithDbRef.class, it))
+				.as(StepVerifier::create) //
+				.assertNext(it -> assertThat(it.friend.name).isEqualTo("Luke")) //
+				.thenCancel() //
+				.verify(Duration.ofSeconds(1));
+
+		verify(collection).find(any(Bson.class));
+	}
+
+	@Test
+	void resolvesDocumentReferencesInOrderSkippingMissingTargets() {
+
+		Flux<Document> documents = Flux.just(new Document("_id", "1").append("friend", "han").append("friends",
+				List.of("leia", "vader", "luke")));
+
+		resolver.resolve(documents, WithDocumentReference.class).map(it -> converter.read(WithDocumentReference.class, it))
+				.as(StepVerifier::create) //
+				.assertNext(it -> {
+					assertThat(it.friend.name).isEqualTo("Han");
+					assertThat(it.friends).extracting(person -> person.name).containsExactly("Leia", "Luke");
+				}) //
+				.verifyComplete();
+
+		verify(collection).find(any(Bson.class));
+	}
+
+	@Test
+	void resolvesMissingSingleReferenceToNull() {
+
+		Mono<Document> document = Mono
+				.just(new Document("_id", "1").append("friend", new com.mongodb.DBRef("person", "vader")));
+
+		resolver.resolve(document, WithDbRef.class).map(it -> converter.read(WithDbRef.class, it))
+				.as(StepVerifier::create) //
+				.assertNext(it -> assertThat(it.friend).isNull()) //
+				.verifyComplete();
+	}
+
+	@Test
+	void resolvesReferencesOfEmbeddedEntities() {
+
+		Flux<Document> documents = Flux.just(new Document("_id", "1").append("embedded",
+				new Document("friend", new com.mongodb.DBRef("person", "leia"))));
+
+		resolver.resolve(documents, WithEmbedded.class).map(it -> converter.read(WithEmbedded.class, it))
+				.as(StepVerifier::create) //
+				.assertNext(it -> assertThat(it.embedded.friend.name).isEqualTo("Leia")) //
+				.verifyComplete();
+	}
+
+	@Test
+	void passesThroughDocumentsWithoutResolvableReferences() {
+
+		Flux<Document> documents = Flux.just(new Document("_id", "1").append("friend", "luke"));
+
+		assertThat(resolver.resolve(documents, WithLazyReference.class)).isSameAs(documents);
+		assertThat(resolver.resolve(documents, Person.class)).isSameAs(documents);
+		verifyNoInteractions(collection);
+	}
+
+	static class Person {
+
+		@Id String id;
+		String name;
+	}
+
+	static class WithDbRef {
+
+		@Id String id;
+		@DBRef Person friend;
+		@DBRef List<Person> friends;
+	}
+
+	static class WithDocumentReference {
+
+		@Id String id;
+		@DocumentReference Person friend;
+		@DocumentReference List<Person> friends;
+	}
+
+	static class WithLazyReference {
+
+		@Id String id;
+		@DocumentReference(lazy = true) Person friend;
+	}
+
+	static class WithEmbedded {
+
+		@Id String id;
+		WithDbRef embedded;
+	}
+}
@@ -32,6 +32,8 @@ import org.springframework.data.mongodb.core.mapping.DocumentReference;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.ParserContext;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
 
 /**
  * Unit tests for {@link ReferenceLookupDelegate}.
@@ -50,6 +52,8 @@ class ReferenceLookupDelegateUnitTests {
 
 	@BeforeEach
 	void beforeEach() {
+
+		when(spELContext.getParser()).thenReturn(new SpelExpressionParser());
 		lookupDelegate = new ReferenceLookupDelegate(mappingContext, spELContext);
 	}
 
@@ -73,6 +77,29 @@ class ReferenceLookupDelegateUnitTests {
 		}, entityReader);
 	}
 
+	@Test
+	void detectsExpressionsWithConfiguredParser() {
+
+		SpelExpressionParser parser = spy(new SpelExpressionParser());
+		when(spELContext.getParser()).thenReturn(parser);
+		lookupDelegate = new ReferenceLookupDelegate(mappingContext, spELContext);
+
+		DocumentReference documentReference = mock(DocumentReference.class);
+		MongoPersistentEntity entity = mock(MongoPersistentEntity.class);
+		MongoPersistentProperty property = mock(MongoPersistentProperty.class);
+
+		doReturn(entity).when(mappingContext).getRequiredPersistentEntity((Class) any());
+
+		when(property.isDocumentReference()).thenReturn(true);
+		when(property.getDocumentReference()).thenReturn(documentReference);
+		when(documentReference.collection()).thenReturn("collection1");
+
+		lookupDelegate.readReference(property, Collections.singletonList("one"),
+				(referenceQuery, referenceCollection) -> Collections.emptyList(), entityReader);
+
+		verify(parser).parseExpression(eq("collection1"), eq(ParserContext.TEMPLATE_EXPRESSION));
+	}
+
 	@Test // GH-4612
 	void shouldResolveEmptyListOnEmptyTargetCollection() {
 
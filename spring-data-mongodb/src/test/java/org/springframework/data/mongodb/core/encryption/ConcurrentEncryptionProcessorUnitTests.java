@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.encryption;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.data.mongodb.core.EncryptionAlgorithms.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.bson.BsonBinary;
+import org.bson.BsonBinarySubType;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MongoConversionContext;
+import org.springframework.data.mongodb.core.convert.MongoConversionContext.OperatorContext;
+import org.springframework.data.mongodb.core.convert.encryption.ConcurrentEncryptionProcessor;
+import org.springframework.data.mongodb.core.convert.encryption.MongoEncryptionConverter;
+import org.springframework.data.mongodb.core.mapping.ExplicitEncrypted;
+import org.springframework.data.mongodb.test.util.MongoTestMappingContext;
+
+/**
+ * Unit tests for {@link ConcurrentEncryptionProcessor}.
+ */
+class ConcurrentEncryptionProcessorUnitTests {
+
+	ExecutorService executor = Executors.newFixedThreadPool(4);
+	MongoTestMappingContext mappingContext = MongoTestMappingContext.newTestContext();
+
+	@SuppressWarnings("unchecked") //
+	Encryption<BsonValue, BsonBinary> encryption = mock(Encryption.class);
+
+	ConcurrentEncryptionProcessor processor;
+
+	@BeforeEach
+	void beforeEach() {
+
+		when(encryption.decrypt(any())).thenAnswer(it -> {
+			BsonBinary binary = it.getArgument(0);
+			return new BsonString(new String(binary.getData()));
+		});
+		when(encryption.encrypt(any(), any())).thenAnswer(it -> {
+			BsonString value = it.getArgument(0);
+			return new BsonBinary(BsonBinarySubType.ENCRYPTED, value.getValue().getBytes());
+		});
+
+		processor = new ConcurrentEncryptionProcessor(encryption, executor, 3);
+	}
+
+	@AfterEach
+	void afterEach() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void decryptsEncryptedValuesOfAllDocumentsInPlace() {
+
+		List<Document> documents = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			documents.add(new Document("_id", i).append("ssn", encrypted("ssn-" + i))
+					.append("nested", new Document("value", encrypted("nested-" + i)))
+					.append("list", new ArrayList<>(List.of("plain", encrypted("list-" + i)))));
+		}
+
+		processor.decrypt(documents);
+
+		for (int i = 0; i < 20; i++) {
+
+			Document document = documents.get(i);
+			assertThat(document.get("_id")).isEqualTo(i);
+			assertThat(document.get("ssn")).isEqualTo(new BsonString("ssn-" + i));
+			assertThat(document.get("nested", Document.class).get("value")).isEqualTo(new BsonString("nested-" + i));
+			assertThat(document.getList("list", Object.class)).containsExactly("plain", new BsonString("list-" + i));
+		}
+	}
+
+	@Test
+	void leavesNonEncryptedBinariesUntouched() {
+
+		Binary binary = new Binary(BsonBinarySubType.BINARY, "raw".getBytes());
+		List<Document> documents = List.of(new Document("data", binary));
+
+		processor.decrypt(documents);
+
+		assertThat(documents.get(0).get("data")).isSameAs(binary);
+		verifyNoInteractions(encryption);
+	}
+
+	@Test
+	void reportsFailuresForEachDocumentAndPath() {
+
+		doAnswer(it -> {
+
+			BsonBinary binary = it.getArgument(0);
+			String value = new String(binary.getData());
+			if (value.startsWith("fail")) {
+				throw new IllegalArgumentException(value);
+			}
+			return new BsonString(value);
+		}).when(encryption).decrypt(any());
+
+		List<Document> documents = List.of(new Document("ssn", encrypted("ok")),
+				new Document("ssn", encrypted("fail-1")).append("nested", new Document("value", encrypted("fail-2"))));
+
+		assertThatIllegalStateException().isThrownBy(() -> processor.decrypt(documents))
+				.withMessageContaining("[1].ssn").withMessageContaining("[1].nested.value")
+				.withMessageNotContaining("[0].ssn")
+				.satisfies(it -> assertThat(it.getSuppressed()).hasSize(2));
+	}
+
+	@Test
+	void encryptsValuesCapturedWhileConverting() {
+
+		MongoConversionContext conversionContext = mock(MongoConversionContext.class);
+		when(conversionContext.getProperty())
+				.thenReturn(mappingContext.getPersistentPropertyFor(Person.class, Person::getSsn));
+
+		MongoEncryptionConverter converter = new MongoEncryptionConverter(encryption,
+				ctx -> EncryptionKey.keyAltName("key"));
+		ConcurrentEncryptionProcessor processor = new ConcurrentEncryptionProcessor(converter, executor, 3);
+
+		List<Document> documents = processor.deferEncryption(() -> List
+				.of(new Document("ssn", converter.write("one", conversionContext)),
+						new Document("ssn", converter.write("two", conversionContext))));
+
+		verify(encryption, never()).encrypt(any(), any());
+
+		processor.encrypt(documents);
+
+		assertThat(documents.get(0).get("ssn"))
+				.isEqualTo(new BsonBinary(BsonBinarySubType.ENCRYPTED, "one".getBytes()));
+		assertThat(documents.get(1).get("ssn"))
+				.isEqualTo(new BsonBinary(BsonBinarySubType.ENCRYPTED, "two".getBytes()));
+	}
+
+	@Test
+	void encryptsDirectlyOutsideOfDeferredScope() {
+
+		MongoConversionContext conversionContext = mock(MongoConversionContext.class);
+		when(conversionContext.getProperty())
+				.thenReturn(mappingContext.getPersistentPropertyFor(Person.class, Person::getSsn));
+
+		MongoEncryptionConverter converter = new MongoEncryptionConverter(encryption,
+				ctx -> EncryptionKey.keyAltName("key"));
+
+		assertThat(converter.write("one", conversionContext))
+				.isEqualTo(new BsonBinary(BsonBinarySubType.ENCRYPTED, "one".getBytes()));
+	}
+
+	@Test
+	void defersEncryptionOfOwnConverterOnly() {
+
+		MongoConversionContext conversionContext = mock(MongoConversionContext.class);
+		when(conversionContext.getProperty())
+				.thenReturn(mappingContext.getPersistentPropertyFor(Person.class, Person::getSsn));
+
+		MongoEncryptionConverter converter = new MongoEncryptionConverter(encryption,
+				ctx -> EncryptionKey.keyAltName("key"));
+		MongoEncryptionConverter other = new MongoEncryptionConverter(encryption, ctx -> EncryptionKey.keyAltName("key"));
+		ConcurrentEncryptionProcessor processor = new ConcurrentEncryptionProcessor(converter, executor, 3);
+
+		assertThat(processor.deferEncryption(() -> other.write("one", conversionContext)))
+				.isEqualTo(new BsonBinary(BsonBinarySubType.ENCRYPTED, "one".getBytes()));
+		assertThat(processor.deferEncryption(() -> converter.write("two", conversionContext)))
+				.isNotInstanceOf(BsonBinary.class);
+		assertThat(converter.write("three", conversionContext))
+				.isEqualTo(new BsonBinary(BsonBinarySubType.ENCRYPTED, "three".getBytes()));
+	}
+
+	@Test
+	void encryptsQueryValuesDirectlyWithinDeferredScope() {
+
+		MongoConversionContext conversionContext = mock(MongoConversionContext.class);
+		when(conversionContext.getProperty())
+				.thenReturn(mappingContext.getPersistentPropertyFor(Person.class, Person::getSsn));
+		OperatorContext operatorContext = mock(OperatorContext.class);
+		when(operatorContext.path()).thenReturn("ssn");
+		when(operatorContext.operator()).thenReturn("$eq");
+		when(conversionContext.getOperatorContext()).thenReturn(operatorContext);
+
+		MongoEncryptionConverter converter = new MongoEncryptionConverter(encryption,
+				ctx -> EncryptionKey.keyAltName("key"));
+		ConcurrentEncryptionProcessor processor = new ConcurrentEncryptionProcessor(converter, executor, 3);
+
+		assertThat(processor.deferEncryption(() -> converter.write("one", conversionContext)))
+				.isEqualTo(new BsonBinary(BsonBinarySubType.ENCRYPTED, "one".getBytes()));
+	}
+
+	@Test
+	void rejectsDeferringEncryptionWithoutConverter() {
+
+		assertThat(processor.canDeferEncryption()).isFalse();
+		assertThatIllegalStateException().isThrownBy(() -> processor.deferEncryption(() -> "value"));
+	}
+
+	private static Binary encrypted(String value) {
+		return new Binary(BsonBinarySubType.ENCRYPTED, value.getBytes());
+	}
+
+	static class Person {
+
+		@ExplicitEncrypted(algorithm = AEAD_AES_256_CBC_HMAC_SHA_512_Deterministic) //
+		String ssn;
+
+		public String getSsn() {
+			return ssn;
+		}
+	}
+}
@@ -133,6 +133,52 @@ class EncryptionKeyResolverUnitTests {
 				new BsonBinary(BsonBinarySubType.UUID_STANDARD, Base64.getDecoder().decode("xKVup8B1Q+CkHaVRx+qa+g=="))));
 	}
 
+	@Test
+	void cachedResolverResolvesStaticKeyOnlyOnce() {
+
+		EncryptionContext ctx = prepareEncryptionContext(AnnotatedWithExplicitlyEncrypted.class,
+				AnnotatedWithExplicitlyEncrypted::getAlgorithm);
+
+		EncryptionKeyResolver resolver = EncryptionKeyResolver.cached(fallbackKeyResolver, 10);
+
+		assertThat(resolver.getKey(ctx)).isSameAs(defaultEncryptionKey);
+		assertThat(resolver.getKey(ctx)).isSameAs(defaultEncryptionKey);
+
+		verify(fallbackKeyResolver, times(1)).getKey(any());
+	}
+
+	@Test
+	void cachedResolverDoesNotCacheKeysReferencingPropertyValues() {
+
+		EncryptionContext ctx = prepareEncryptionContext(AnnotatedWithExplicitlyEncrypted.class,
+				AnnotatedWithExplicitlyEncrypted::getAlgorithmAndAltKeyNameFromPropertyValue);
+		when(ctx.lookupValue(eq("notAnnotated"))).thenReturn("born-to-be-wild", "born-to-run");
+
+		EncryptionKeyResolver resolver = EncryptionKeyResolver
+				.cached(EncryptionKeyResolver.annotated(fallbackKeyResolver), 10);
+
+		assertThat(resolver.getKey(ctx)).isEqualTo(EncryptionKey.keyAltName("born-to-be-wild"));
+		assertThat(resolver.getKey(ctx)).isEqualTo(EncryptionKey.keyAltName("born-to-run"));
+	}
+
+	@Test
+	void cachedResolverStopsCachingWhenMaxSizeReached() {
+
+		EncryptionContext ctx1 = prepareEncryptionContext(AnnotatedWithExplicitlyEncrypted.class,
+				AnnotatedWithExplicitlyEncrypted::getAlgorithm);
+		EncryptionContext ctx2 = prepareEncryptionContext(AnnotatedWithExplicitlyEncrypted.class,
+				AnnotatedWithExplicitlyEncrypted::getNotAnnotated);
+
+		EncryptionKeyResolver resolver = EncryptionKeyResolver.cached(fallbackKeyResolver, 1);
+
+		resolver.getKey(ctx1);
+		resolver.getKey(ctx2);
+		resolver.getKey(ctx1);
+		resolver.getKey(ctx2);
+
+		verify(fallbackKeyResolver, times(3)).getKey(any());
+	}
+
 	private <T> EncryptionContext prepareEncryptionContext(Class<T> type, Function<T, ?> property) {
 
 		EncryptionContext encryptionContext = mock(EncryptionContext.class);
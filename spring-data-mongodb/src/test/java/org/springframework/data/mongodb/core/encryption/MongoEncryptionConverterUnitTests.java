@@ -41,6 +41,7 @@ import org.springframework.data.mongodb.core.convert.MongoConversionContext;
 import org.springframework.data.mongodb.core.convert.encryption.MongoEncryptionConverter;
 import org.springframework.data.mongodb.core.mapping.ExplicitEncrypted;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.mapping.RangeEncrypted;
 import org.springframework.data.mongodb.test.util.MongoTestMappingContext;
 
 /**
@@ -209,6 +210,22 @@ class MongoEncryptionConverterUnitTests {
 				.append("k2", convertedValue2.toBsonDocument()).toBsonDocument());
 	}
 
+	@Test
+	void appliesRangeOptionsWithoutQueryTypeWhenWriting() {
+
+		MongoPersistentProperty property = mappingContext.getPersistentPropertyFor(Type.class, Type::getRangeEncrypted);
+		when(conversionContext.getProperty()).thenReturn(property);
+
+		converter.write(10, conversionContext);
+		converter.write(20, conversionContext);
+
+		EncryptionOptions.QueryableEncryptionOptions options = encryptionOptions.getValue().queryableEncryptionOptions();
+		assertThat(encryptionOptions.getValue().algorithm()).isEqualTo("Range");
+		assertThat(options.getQueryType()).isNull();
+		assertThat(options.getContentionFactor()).isEqualTo(0L);
+		assertThat(options.getAttributes()).containsEntry("min", 0).containsEntry("max", 200);
+	}
+
 	static class Type {
 
 		String notAnnotated;
@@ -244,6 +261,9 @@ class MongoEncryptionConverterUnitTests {
 
 		RecordWithEncryptedValue recordWithEncryptedValue;
 
+		@RangeEncrypted(contentionFactor = 0L, rangeOptions = "{min: 0, max: 200}") //
+		Integer rangeEncrypted;
+
 		List<RecordWithEncryptedValue> listOfRecordWithEncryptedValue;
 
 		public String getNotAnnotated() {
@@ -290,6 +310,10 @@ class MongoEncryptionConverterUnitTests {
 			return this.recordWithEncryptedValue;
 		}
 
+		public Integer getRangeEncrypted() {
+			return this.rangeEncrypted;
+		}
+
 		public List<RecordWithEncryptedValue> getListOfRecordWithEncryptedValue() {
 			return this.listOfRecordWithEncryptedValue;
 		}
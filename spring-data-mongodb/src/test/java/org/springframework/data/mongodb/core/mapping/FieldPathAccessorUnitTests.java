@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.mapping;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import com.mongodb.BasicDBObject;
+
+/**
+ * Unit tests for {@link FieldPathAccessor}.
+ */
+class FieldPathAccessorUnitTests {
+
+	@Test
+	void readsNestedPath() {
+
+		FieldPathAccessor accessor = FieldPathAccessor.of(FieldName.path("a.b.c"));
+		Document source = Document.parse("{ 'a' : { 'b' : { 'c' : 'value' } } }");
+
+		assertThat(accessor.get(source)).isEqualTo("value");
+		assertThat(accessor.hasValue(source)).isTrue();
+	}
+
+	@Test
+	void readsKeyAsIs() {
+
+		FieldPathAccessor accessor = FieldPathAccessor.of(FieldName.name("a.b"));
+		Document source = new Document("a.b", "value").append("a", new Document("b", "nested"));
+
+		assertThat(accessor.get(source)).isEqualTo("value");
+		assertThat(accessor.hasValue(source)).isTrue();
+	}
+
+	@Test
+	void returnsNullForAbsentOrNonDocumentIntermediate() {
+
+		FieldPathAccessor accessor = FieldPathAccessor.of(FieldName.path("a.b.c"));
+
+		assertThat(accessor.get(new Document())).isNull();
+		assertThat(accessor.hasValue(new Document())).isFalse();
+		assertThat(accessor.get(new Document("a", "string"))).isNull();
+		assertThat(accessor.hasValue(new Document("a", "string"))).isFalse();
+	}
+
+	@Test
+	void detectsPresentNullValue() {
+
+		FieldPathAccessor accessor = FieldPathAccessor.of(FieldName.path("a.b"));
+		Document source = new Document("a", new Document("b", null));
+
+		assertThat(accessor.get(source)).isNull();
+		assertThat(accessor.hasValue(source)).isTrue();
+	}
+
+	@Test
+	void readsFromDBObject() {
+
+		FieldPathAccessor accessor = FieldPathAccessor.of(FieldName.path("a.b"));
+		BasicDBObject source = new BasicDBObject("a", new BasicDBObject("b", "value"));
+
+		assertThat(accessor.get(source)).isEqualTo("value");
+		assertThat(accessor.hasValue(source)).isTrue();
+	}
+
+	@Test
+	void writesNestedPathReusingExistingDocuments() {
+
+		FieldPathAccessor accessor = FieldPathAccessor.of(FieldName.path("a.b.c"));
+		Document target = new Document("a", new Document("x", 1));
+
+		accessor.put(target, "value");
+
+		assertThat(target).isEqualTo(Document.parse("{ 'a' : { 'x' : 1, 'b' : { 'c' : 'value' } } }"));
+	}
+
+	@Test
+	void writesKeyAsIs() {
+
+		Document target = new Document();
+
+		FieldPathAccessor.of(FieldName.name("a.b")).put(target, "value");
+
+		assertThat(target).containsEntry("a.b", "value").hasSize(1);
+	}
+
+	@Test
+	void propertyCachesAccessor() {
+
+		MongoMappingContext mappingContext = new MongoMappingContext();
+		MongoPersistentProperty property = mappingContext.getRequiredPersistentEntity(WithNestedField.class)
+				.getRequiredPersistentProperty("city");
+
+		assertThat(property.getFieldPathAccessor()).isSameAs(property.getFieldPathAccessor());
+		assertThat(property.getFieldPathAccessor().getFieldName()).isEqualTo(FieldName.path("address.city"));
+	}
+
+	static class WithNestedField {
+		@Field("address.city") String city;
+	}
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.Binary;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import com.mongodb.MongoGridFSException;
+import com.mongodb.MongoNamespace;
+import com.mongodb.client.AggregateIterable;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.ListIndexesIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.IndexOptions;
+
+/**
+ * Unit tests for {@link GridFsChunkWriter}.
+ */
+class GridFsChunkWriterUnitTests {
+
+	static final String CONTENT = "0123456789abcdefghij";
+
+	ExecutorService executor = Executors.newFixedThreadPool(2);
+	List<Document> insertedChunks = new CopyOnWriteArrayList<>();
+
+	@SuppressWarnings("unchecked") //
+	MongoCollection<Document> files = mock(MongoCollection.class);
+	@SuppressWarnings("unchecked") //
+	MongoCollection<Document> chunks = mock(MongoCollection.class);
+	@SuppressWarnings("unchecked") //
+	FindIterable<Document> existing = mock(FindIterable.class);
+	@SuppressWarnings("unchecked") //
+	AggregateIterable<Document> aggregate = mock(AggregateIterable.class);
+	@SuppressWarnings("unchecked") //
+	FindIterable<Document> anyFile = mock(FindIterable.class);
+	@SuppressWarnings("unchecked") //
+	ListIndexesIterable<Document> filesIndexes = mock(ListIndexesIterable.class);
+	@SuppressWarnings("unchecked") //
+	ListIndexesIterable<Document> chunksIndexes = mock(ListIndexesIterable.class);
+
+	GridFsChunkWriter writer = new GridFsChunkWriter(() -> files, () -> chunks);
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void beforeEach() {
+
+		doAnswer(it -> {
+			insertedChunks.addAll(it.getArgument(0));
+			return null;
+		}).when(chunks).insertMany(anyList());
+		when(files.find(any(Bson.class))).thenReturn(existing);
+		when(files.withReadPreference(any())).thenReturn(files);
+		when(files.find()).thenReturn(anyFile);
+		when(anyFile.projection(any())).thenReturn(anyFile);
+		when(files.listIndexes()).thenReturn(filesIndexes);
+		when(chunks.listIndexes()).thenReturn(chunksIndexes);
+		when(filesIndexes.into(any())).thenAnswer(it -> it.getArgument(0));
+		when(chunksIndexes.into(any())).thenAnswer(it -> it.getArgument(0));
+	}
+
+	@AfterEach
+	void afterEach() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void writesChunksInBatchesBeforeFileDocument() {
+
+		Object id = writer.write(null, "foo.txt", content(), 4, new Document(),
+				new GridFsChunkWriter.Settings(2, 2, executor, null));
+
+		assertThat(id).isInstanceOf(ObjectId.class);
+		verify(chunks, times(3)).insertMany(anyList());
+		assertThat(insertedChunks).hasSize(5).allSatisfy(it -> assertThat(it.get(GridFsChunks.FILES_ID)).isEqualTo(id));
+		assertThat(insertedChunks.stream().mapToInt(it -> it.getInteger(GridFsChunks.N)).sorted())
+				.containsExactly(0, 1, 2, 3, 4);
+
+		Document file = captureFile();
+		assertThat(file).containsEntry("_id", id).containsEntry(GridFsChunkWriter.FILENAME, "foo.txt")
+				.containsEntry(GridFsChunkWriter.LENGTH, 20L).containsEntry(GridFsChunkWriter.CHUNK_SIZE, 4);
+		verify(files, never()).find(any(Bson.class));
+	}
+
+	@Test
+	void usesGivenFileId() {
+
+		Object id = writer.write("my-id", "foo.txt", content(), 8, new Document(), GridFsChunkWriter.Settings.NONE);
+
+		assertThat(id).isEqualTo("my-id");
+		assertThat(insertedChunks).hasSize(3);
+		assertThat(((Binary) insertedChunks.get(2).get(GridFsChunks.DATA)).getData())
+				.isEqualTo("ghij".getBytes(StandardCharsets.UTF_8));
+		assertThat(captureFile()).containsEntry("_id", "my-id");
+	}
+
+	@Test
+	void storesContentDigestInMetadata() throws Exception {
+
+		writer.write(null, "foo.txt", content(), 4, new Document("key", "value"),
+				new GridFsChunkWriter.Settings(2, 0, null, "SHA-256"));
+
+		String expected = HexFormat.of()
+				.formatHex(MessageDigest.getInstance("SHA-256").digest(CONTENT.getBytes(StandardCharsets.UTF_8)));
+
+		assertThat(captureFile().get(GridFsChunkWriter.METADATA, Document.class)).containsEntry("key", "value")
+				.containsEntry(GridFsResource.CONTENT_DIGEST_FIELD, expected);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void copiesChunksOfSmallDuplicateContentForNewFile() {
+
+		ObjectId existingId = new ObjectId();
+		when(existing.first()).thenReturn(new Document("_id", existingId).append(GridFsChunkWriter.CHUNK_SIZE, 8));
+		when(chunks.getNamespace()).thenReturn(new MongoNamespace("db.fs.chunks"));
+		when(chunks.aggregate(anyList())).thenReturn(aggregate);
+
+		Object id = writer.write(null, "foo.txt", content(), 4, new Document("key", "value"),
+				new GridFsChunkWriter.Settings(4, 2, executor, "SHA-256", true));
+
+		assertThat(id).isInstanceOf(ObjectId.class).isNotEqualTo(existingId);
+		verify(chunks, never()).insertMany(anyList());
+		verify(aggregate).toCollection();
+
+		ArgumentCaptor<Bson> filter = ArgumentCaptor.forClass(Bson.class);
+		verify(files).find(filter.capture());
+		assertThat(filter.getValue().toBsonDocument().toJson()).contains("{\"_id\": {\"$type\": 7}}");
+
+		ArgumentCaptor<List<Bson>> pipeline = ArgumentCaptor.forClass(List.class);
+		verify(chunks).aggregate(pipeline.capture());
+		assertThat(pipeline.getValue()).extracting(Bson::toBsonDocument).map(Object::toString)
+				.anySatisfy(it -> assertThat(it).contains(existingId.toHexString()))
+				.anySatisfy(it -> assertThat(it).contains(((ObjectId) id).toHexString()))
+				.anySatisfy(it -> assertThat(it).contains("$merge"));
+
+		Document file = captureFile();
+		assertThat(file).containsEntry("_id", id).containsEntry(GridFsChunkWriter.FILENAME, "foo.txt")
+				.containsEntry(GridFsChunkWriter.LENGTH, 20L).containsEntry(GridFsChunkWriter.CHUNK_SIZE, 8);
+		assertThat(file.get(GridFsChunkWriter.METADATA, Document.class)).containsEntry("key", "value")
+				.containsKey(GridFsResource.CONTENT_DIGEST_FIELD);
+	}
+
+	@Test
+	void writesChunksOfLargeContentWithoutDeduplication() {
+
+		Object id = writer.write(null, "foo.txt", content(), 4, new Document(),
+				new GridFsChunkWriter.Settings(1, 1, executor, "SHA-256", true));
+
+		assertThat(insertedChunks).hasSize(5);
+		verify(files, never()).find(any(Bson.class));
+		assertThat(captureFile()).containsEntry("_id", id);
+	}
+
+	@Test
+	void doesNotDeduplicateUnlessEnabled() {
+
+		Object id = writer.write(null, "foo.txt", content(), 4, new Document(),
+				new GridFsChunkWriter.Settings(4, 2, executor, "SHA-256"));
+
+		assertThat(insertedChunks).hasSize(5);
+		verify(files, never()).find(any(Bson.class));
+		assertThat(captureFile()).containsEntry("_id", id);
+	}
+
+	@Test
+	void doesNotDeduplicateUploadsWithGivenFileId() {
+
+		Object id = writer.write("my-id", "foo.txt", content(), 4, new Document(),
+				new GridFsChunkWriter.Settings(4, 2, executor, "SHA-256", true));
+
+		assertThat(id).isEqualTo("my-id");
+		verify(files, never()).find(any(Bson.class));
+		assertThat(insertedChunks).hasSize(5);
+	}
+
+	@Test
+	void removesWrittenChunksOnFailure() {
+
+		doAnswer(it -> {
+			insertedChunks.addAll(it.getArgument(0));
+			if (insertedChunks.size() > 2) {
+				throw new IllegalStateException("boom");
+			}
+			return null;
+		}).when(chunks).insertMany(anyList());
+
+		assertThatExceptionOfType(MongoGridFSException.class)
+				.isThrownBy(() -> writer.write(null, "foo.txt", content(), 4, new Document(),
+						new GridFsChunkWriter.Settings(1, 2, executor, null)))
+				.withRootCauseInstanceOf(IllegalStateException.class);
+
+		verify(chunks).deleteMany(any(Bson.class));
+		verify(files, never()).insertOne(any());
+	}
+
+	@Test
+	void createsBucketIndexesOnceBeforeFirstWrite() {
+
+		GridFsChunkWriter.Settings settings = new GridFsChunkWriter.Settings(2, 0, null, null);
+		writer.write(null, "foo.txt", content(), 4, new Document(), settings);
+		writer.write(null, "bar.txt", content(), 4, new Document(), settings);
+
+		InOrder inOrder = inOrder(chunks);
+		inOrder.verify(chunks).createIndex(eq(GridFsChunkWriter.CHUNKS_INDEX),
+				argThat((IndexOptions options) -> Boolean.TRUE.equals(options.isUnique())));
+		inOrder.verify(chunks, atLeastOnce()).insertMany(anyList());
+		verify(files).createIndex(eq(GridFsChunkWriter.FILES_INDEX), any(IndexOptions.class));
+		verify(files, never()).createIndex(eq(GridFsChunkWriter.DIGEST_INDEX), any(IndexOptions.class));
+		verify(anyFile, times(1)).first();
+	}
+
+	@Test
+	void doesNotCreateBucketIndexesForExistingFiles() {
+
+		when(anyFile.first()).thenReturn(new Document("_id", new ObjectId()));
+
+		writer.write(null, "foo.txt", content(), 4, new Document(), new GridFsChunkWriter.Settings(2, 0, null, null));
+
+		verify(files, never()).createIndex(any(Bson.class), any(IndexOptions.class));
+		verify(chunks, never()).createIndex(any(Bson.class), any(IndexOptions.class));
+	}
+
+	@Test
+	void doesNotCreateExistingIndexes() {
+
+		when(filesIndexes.into(any())).thenAnswer(it -> {
+			List<Document> target = it.getArgument(0);
+			target.add(new Document("key", new Document(GridFsChunkWriter.FILENAME, 1.0)
+					.append(GridFsChunkWriter.UPLOAD_DATE, 1.0)));
+			return target;
+		});
+
+		writer.write(null, "foo.txt", content(), 4, new Document(), new GridFsChunkWriter.Settings(2, 0, null, null));
+
+		verify(files, never()).createIndex(any(Bson.class), any(IndexOptions.class));
+		verify(chunks).createIndex(eq(GridFsChunkWriter.CHUNKS_INDEX), any(IndexOptions.class));
+	}
+
+	@Test
+	void createsDigestIndexBeforeDeduplicating() {
+
+		when(anyFile.first()).thenReturn(new Document("_id", new ObjectId()));
+
+		writer.write(null, "foo.txt", content(), 4, new Document(),
+				new GridFsChunkWriter.Settings(4, 2, executor, "SHA-256", true));
+
+		InOrder inOrder = inOrder(files);
+		inOrder.verify(files).createIndex(eq(GridFsChunkWriter.DIGEST_INDEX), any(IndexOptions.class));
+		inOrder.verify(files).find(any(Bson.class));
+	}
+
+	private Document captureFile() {
+
+		ArgumentCaptor<Document> captor = ArgumentCaptor.forClass(Document.class);
+		verify(files).insertOne(captor.capture());
+		return captor.getValue();
+	}
+
+	private static ByteArrayInputStream content() {
+		return new ByteArrayInputStream(CONTENT.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.bson.BsonDocument;
+import org.bson.BsonObjectId;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.Binary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.gridfs.model.GridFSFile;
+
+/**
+ * Unit tests for {@link GridFsChunks}.
+ */
+class GridFsChunksUnitTests {
+
+	static final String CONTENT = "0123456789abcdefghij";
+
+	ExecutorService executor = Executors.newFixedThreadPool(2);
+	GridFSFile file = new GridFSFile(new BsonObjectId(), "foo", CONTENT.length(), 4, new Date(), new Document());
+	List<Document> stored = new ArrayList<>();
+	List<BsonDocument> queries = new ArrayList<>();
+
+	@SuppressWarnings("unchecked") //
+	MongoCollection<Document> collection = mock(MongoCollection.class);
+
+	GridFsChunks chunks = new GridFsChunks(() -> collection);
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void beforeEach() {
+
+		byte[] bytes = CONTENT.getBytes(StandardCharsets.UTF_8);
+		for (int n = 0; n * 4 < bytes.length; n++) {
+
+			byte[] data = new byte[Math.min(4, bytes.length - n * 4)];
+			System.arraycopy(bytes, n * 4, data, 0, data.length);
+			stored.add(new Document(GridFsChunks.FILES_ID, file.getId()).append(GridFsChunks.N, n)
+					.append(GridFsChunks.DATA, new Binary(data)));
+		}
+
+		when(collection.find(any(Bson.class))).thenAnswer(invocation -> {
+
+			BsonDocument filter = invocation.<Bson> getArgument(0).toBsonDocument();
+			synchronized (queries) {
+				queries.add(filter);
+			}
+
+			List<Document> matches = stored.stream().filter(it -> matches(filter, it.getInteger(GridFsChunks.N))).toList();
+
+			FindIterable<Document> iterable = mock(FindIterable.class);
+			when(iterable.sort(any())).thenReturn(iterable);
+			when(iterable.first()).thenAnswer(it -> matches.isEmpty() ? null : matches.get(0));
+			when(iterable.iterator()).thenAnswer(it -> cursor(matches.iterator()));
+			return iterable;
+		});
+	}
+
+	@AfterEach
+	void afterEach() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void readsRangeFromSingleCursorStartingAtFirstChunk() throws IOException {
+
+		assertThat(read(chunks.read(file, 6, 7, 0, null))).isEqualTo("6789abc");
+
+		assertThat(queries).hasSize(1);
+		assertThat(queries.get(0).toJson()).contains("\"$gte\": 1").contains("\"$lte\": 3");
+	}
+
+	@Test
+	void readsRangeWithPrefetching() throws IOException {
+
+		assertThat(read(chunks.read(file, 6, 7, 2, executor))).isEqualTo("6789abc");
+		assertThat(queries).hasSize(3);
+	}
+
+	@Test
+	void limitsRangeToFileLength() throws IOException {
+
+		assertThat(read(chunks.read(file, 18, 100, 0, null))).isEqualTo("ij");
+		assertThat(read(chunks.read(file, 18, 100, 3, executor))).isEqualTo("ij");
+	}
+
+	@Test
+	void readsNothingForEmptyRange() throws IOException {
+
+		assertThat(read(chunks.read(file, 30, 10, 0, null))).isEmpty();
+		assertThat(read(chunks.read(file, 4, 0, 2, executor))).isEmpty();
+		assertThat(queries).isEmpty();
+	}
+
+	@Test
+	void failsOnMissingChunk() {
+
+		stored.remove(2);
+
+		assertThatIOException().isThrownBy(() -> read(chunks.read(file, 0, 20, 0, null)))
+				.withMessageContaining("chunk index 2");
+		assertThatIOException().isThrownBy(() -> read(chunks.read(file, 0, 20, 2, executor)))
+				.withMessageContaining("chunk index 2");
+	}
+
+	private static String read(InputStream stream) throws IOException {
+
+		try (stream) {
+			return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+	private static boolean matches(BsonDocument filter, int n) {
+
+		String json = filter.toJson();
+
+		Matcher gte = Pattern.compile("\"\\$gte\": (\\d+)").matcher(json);
+		Matcher lte = Pattern.compile("\"\\$lte\": (\\d+)").matcher(json);
+		if (gte.find() && lte.find()) {
+			return n >= Integer.parseInt(gte.group(1)) && n <= Integer.parseInt(lte.group(1));
+		}
+
+		Matcher eq = Pattern.compile("\"n\": (\\d+)").matcher(json);
+		return eq.find() && Integer.parseInt(eq.group(1)) == n;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static MongoCursor<Document> cursor(Iterator<Document> iterator) {
+
+		MongoCursor<Document> cursor = mock(MongoCursor.class);
+		when(cursor.hasNext()).thenAnswer(it -> iterator.hasNext());
+		when(cursor.next()).thenAnswer(it -> iterator.next());
+		return cursor;
+	}
+}
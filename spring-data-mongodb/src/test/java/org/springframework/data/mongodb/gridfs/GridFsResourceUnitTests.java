@@ -17,7 +17,10 @@ package org.springframework.data.mongodb.gridfs;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.io.ByteArrayInputStream;
 import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 
 import org.bson.BsonObjectId;
@@ -99,4 +102,37 @@ public class GridFsResourceUnitTests {
 		assertThat(absent.getDescription()).contains("GridFs resource [foo]");
 		assertThat(absent.getFilename()).isEqualTo("foo");
 	}
+
+	@Test
+	void shouldReadRangeBySkippingContentWithoutRangeSource() throws Exception {
+
+		GridFSFile file = new GridFSFile(new BsonObjectId(), "foo", 10, 4, new Date(), new Document());
+		GridFsResource resource = new GridFsResource(file,
+				new ByteArrayInputStream("0123456789".getBytes(StandardCharsets.UTF_8)));
+
+		try (InputStream stream = resource.getInputStream(3, 4)) {
+			assertThat(new String(stream.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("3456");
+		}
+	}
+
+	@Test
+	void shouldReadRangeFromRangeSource() throws Exception {
+
+		GridFSFile file = new GridFSFile(new BsonObjectId(), "foo", 10, 4, new Date(), new Document());
+		GridFsResource resource = new GridFsResource(file, new ByteArrayInputStream(new byte[0]),
+				(position, length) -> new ByteArrayInputStream((position + "-" + length).getBytes(StandardCharsets.UTF_8)));
+
+		try (InputStream stream = resource.getInputStream(3, 4)) {
+			assertThat(new String(stream.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("3-4");
+		}
+		try (InputStream stream = resource.getInputStream(5, 1)) {
+			assertThat(new String(stream.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("5-1");
+		}
+	}
+
+	@Test
+	void shouldRejectRangeOfAbsentResource() {
+		assertThatExceptionOfType(FileNotFoundException.class)
+				.isThrownBy(() -> GridFsResource.absent("foo").getInputStream(0, 1));
+	}
 }
@@ -17,15 +17,23 @@ package org.springframework.data.mongodb.gridfs;
 
 import static org.assertj.core.api.Assertions.*;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
 
+import org.bson.BsonObjectId;
+import org.bson.Document;
 import org.junit.jupiter.api.Test;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 
 import com.mongodb.client.gridfs.model.GridFSFile;
 import com.mongodb.reactivestreams.client.gridfs.GridFSDownloadPublisher;
@@ -67,6 +75,62 @@ class ReactiveGridFsResourceUnitTests {
 		resource.getDownloadStream().as(StepVerifier::create).verifyComplete();
 	}
 
+	@Test
+	void rangeCanBeReadMultipleTimes() {
+
+		DefaultDataBufferFactory factory = DefaultDataBufferFactory.sharedInstance;
+		GridFSFile file = new GridFSFile(new BsonObjectId(), "foo", 10, 4, new Date(), new Document());
+		ReactiveGridFsResource resource = new ReactiveGridFsResource(file, new StubGridFSDownloadPublisher(), factory,
+				(position, length) -> Flux.just(factory.wrap((position + "-" + length).getBytes(StandardCharsets.UTF_8))));
+
+		resource.getDownloadStream(3, 4).map(ReactiveGridFsResourceUnitTests::asString).as(StepVerifier::create)
+				.expectNext("3-4").verifyComplete();
+		resource.getDownloadStream(5, 1).map(ReactiveGridFsResourceUnitTests::asString).as(StepVerifier::create)
+				.expectNext("5-1").verifyComplete();
+	}
+
+	@Test
+	void nonExistingResourceProducesEmptyRange() {
+
+		ReactiveGridFsResource resource = new ReactiveGridFsResource("file.name", null);
+
+		resource.getDownloadStream(0, 10).as(StepVerifier::create).verifyComplete();
+	}
+
+	@Test
+	void chunkAlignedStreamEmitsChunksWithoutCopying() {
+
+		DefaultDataBufferFactory factory = DefaultDataBufferFactory.sharedInstance;
+		GridFSFile file = new GridFSFile(new BsonObjectId(), "foo", 10, 4, new Date(), new Document());
+		List<DataBuffer> chunks = List.of(factory.wrap("0123".getBytes(StandardCharsets.UTF_8)),
+				factory.wrap("4567".getBytes(StandardCharsets.UTF_8)), factory.wrap("89".getBytes(StandardCharsets.UTF_8)));
+		ReactiveGridFsResource resource = new ReactiveGridFsResource(file, new StubGridFSDownloadPublisher(), factory,
+				(position, length) -> Flux.fromIterable(chunks));
+
+		resource.getChunkAlignedDownloadStream(1).as(StepVerifier::create) //
+				.expectNext(chunks.get(0), chunks.get(1), chunks.get(2)) //
+				.verifyComplete();
+	}
+
+	@Test
+	void chunkAlignedStreamGroupsChunks() {
+
+		DefaultDataBufferFactory factory = DefaultDataBufferFactory.sharedInstance;
+		GridFSFile file = new GridFSFile(new BsonObjectId(), "foo", 10, 4, new Date(), new Document());
+		ReactiveGridFsResource resource = new ReactiveGridFsResource(file, new StubGridFSDownloadPublisher(), factory,
+				(position, length) -> Flux.just("0123", "4567", "89")
+						.map(it -> factory.wrap(it.getBytes(StandardCharsets.UTF_8))));
+
+		resource.getChunkAlignedDownloadStream(2).map(ReactiveGridFsResourceUnitTests::asString)
+				.as(StepVerifier::create) //
+				.expectNext("01234567", "89") //
+				.verifyComplete();
+	}
+
+	private static String asString(DataBuffer buffer) {
+		return buffer.toString(StandardCharsets.UTF_8);
+	}
+
 	private static class StubGridFSDownloadPublisher implements GridFSDownloadPublisher {
 
 		@Override
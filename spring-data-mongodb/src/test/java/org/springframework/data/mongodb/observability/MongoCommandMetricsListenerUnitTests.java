@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.observability;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+
+/**
+ * Unit tests for {@link MongoCommandMetricsListener}.
+ */
+class MongoCommandMetricsListenerUnitTests {
+
+	MeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@Test
+	void recordsTimerPerShape() {
+
+		MongoCommandMetricsListener listener = new MongoCommandMetricsListener(meterRegistry);
+
+		execute(listener, 1, "find", "{ 'find' : 'person', 'filter' : { 'lastname' : 'White' } }");
+		execute(listener, 2, "find", "{ 'find' : 'person', 'filter' : { 'lastname' : 'Pinkman' } }");
+		execute(listener, 3, "find", "{ 'find' : 'person', 'filter' : { 'age' : { '$gt' : 30 } } }");
+
+		Timer byLastname = meterRegistry.get(MongoCommandMetricsListener.METRIC_NAME)
+				.tag("db.mongodb.collection", "person").tag("db.operation", "find")
+				.tag("db.mongodb.query.shape", "{lastname: ?}").tag("status", "SUCCESS").timer();
+		Timer byAge = meterRegistry.get(MongoCommandMetricsListener.METRIC_NAME)
+				.tag("db.mongodb.query.shape", "{age: {$gt: ?}}").tag("status", "SUCCESS").timer();
+
+		assertThat(byLastname.count()).isEqualTo(2);
+		assertThat(byLastname.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(20);
+		assertThat(byAge.count()).isOne();
+	}
+
+	@Test
+	void extractsFilterOfWriteCommandsAndAggregations() {
+
+		MongoCommandMetricsListener listener = new MongoCommandMetricsListener(meterRegistry);
+
+		execute(listener, 1, "update",
+				"{ 'update' : 'person', 'updates' : [ { 'q' : { '_id' : 1 }, 'u' : { '$set' : { 'age' : 1 } } } ] }");
+		execute(listener, 2, "aggregate",
+				"{ 'aggregate' : 'person', 'pipeline' : [ { '$match' : { 'age' : 1 } }, { '$limit' : 1 } ] }");
+
+		assertThat(meterRegistry.get(MongoCommandMetricsListener.METRIC_NAME).tag("db.operation", "update")
+				.tag("db.mongodb.query.shape", "{_id: ?}").timer().count()).isOne();
+		assertThat(meterRegistry.get(MongoCommandMetricsListener.METRIC_NAME).tag("db.operation", "aggregate")
+				.tag("db.mongodb.query.shape", "{age: ?}").timer().count()).isOne();
+	}
+
+	@Test
+	void recordsFailures() {
+
+		MongoCommandMetricsListener listener = new MongoCommandMetricsListener(meterRegistry);
+
+		listener.commandStarted(started(1, "find", "{ 'find' : 'person', 'filter' : { 'lastname' : 'White' } }"));
+		listener.commandFailed(new CommandFailedEvent(null, 0, 1, null, "database", "find",
+				TimeUnit.MILLISECONDS.toNanos(5), new IllegalStateException()));
+
+		assertThat(meterRegistry.get(MongoCommandMetricsListener.METRIC_NAME).tag("status", "FAILED").timer().count())
+				.isOne();
+	}
+
+	@Test
+	void boundsNumberOfShapes() {
+
+		MongoCommandMetricsListener listener = new MongoCommandMetricsListener(meterRegistry, 2);
+
+		execute(listener, 1, "find", "{ 'find' : 'person', 'filter' : { 'a' : 1 } }");
+		execute(listener, 2, "find", "{ 'find' : 'person', 'filter' : { 'b' : 1 } }");
+		execute(listener, 3, "find", "{ 'find' : 'person', 'filter' : { 'c' : 1 } }");
+		execute(listener, 4, "find", "{ 'find' : 'person', 'filter' : { 'd' : 1 } }");
+		execute(listener, 5, "find", "{ 'find' : 'person', 'filter' : { 'a' : 2 } }");
+
+		assertThat(listener.getShapeCount()).isEqualTo(2);
+		assertThat(meterRegistry.get(MongoCommandMetricsListener.METRIC_NAME)
+				.tag("db.mongodb.collection", MongoCommandMetricsListener.OTHER)
+				.tag("db.mongodb.query.shape", MongoCommandMetricsListener.OTHER).tag("status", "SUCCESS").timer().count())
+				.isEqualTo(2);
+		assertThat(meterRegistry.get(MongoCommandMetricsListener.METRIC_NAME).tag("db.mongodb.query.shape", "{a: ?}")
+				.tag("status", "SUCCESS").timer().count()).isEqualTo(2);
+	}
+
+	@Test
+	void ignoresAdminCommands() {
+
+		MongoCommandMetricsListener listener = new MongoCommandMetricsListener(meterRegistry);
+
+		listener.commandStarted(new CommandStartedEvent(null, 0, 1, null, "admin", "endSessions",
+				BsonDocument.parse("{ 'endSessions' : [] }")));
+		listener.commandSucceeded(new CommandSucceededEvent(null, 0, 1, null, "admin", "endSessions", null, 0));
+
+		assertThat(meterRegistry.getMeters()).isEmpty();
+	}
+
+	@Test
+	void forwardsSampledCommands() {
+
+		CommandListener sampled = mock(CommandListener.class);
+		MongoCommandMetricsListener listener = new MongoCommandMetricsListener(meterRegistry, 10, sampled, 1);
+
+		CommandStartedEvent started = started(1, "find", "{ 'find' : 'person', 'filter' : {} }");
+		CommandSucceededEvent succeeded = succeeded(1, "find");
+
+		listener.commandStarted(started);
+		listener.commandSucceeded(succeeded);
+
+		verify(sampled).commandStarted(started);
+		verify(sampled).commandSucceeded(succeeded);
+	}
+
+	@Test
+	void doesNotForwardUnsampledCommands() {
+
+		CommandListener sampled = mock(CommandListener.class);
+		MongoCommandMetricsListener listener = new MongoCommandMetricsListener(meterRegistry, 10, sampled, 0);
+
+		execute(listener, 1, "find", "{ 'find' : 'person', 'filter' : {} }");
+
+		verifyNoInteractions(sampled);
+	}
+
+	private static void execute(CommandListener listener, int requestId, String commandName, String command) {
+
+		listener.commandStarted(started(requestId, commandName, command));
+		listener.commandSucceeded(succeeded(requestId, commandName));
+	}
+
+	private static CommandStartedEvent started(int requestId, String commandName, String command) {
+		return new CommandStartedEvent(null, 0, requestId, null, "database", commandName, BsonDocument.parse(command));
+	}
+
+	private static CommandSucceededEvent succeeded(int requestId, String commandName) {
+		return new CommandSucceededEvent(null, 0, requestId, null, "database", commandName, new BsonDocument(),
+				TimeUnit.MILLISECONDS.toNanos(10));
+	}
+}
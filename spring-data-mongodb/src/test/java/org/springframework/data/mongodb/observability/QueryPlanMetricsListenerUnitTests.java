@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.observability;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.QueryPlanSampler.QueryPlan;
+import org.springframework.data.mongodb.core.QueryPlanSampler.QueryPlan.Issue;
+
+/**
+ * Unit tests for {@link QueryPlanMetricsListener}.
+ */
+class QueryPlanMetricsListenerUnitTests {
+
+	@Test
+	void countsIssues() {
+
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		QueryPlanMetricsListener listener = new QueryPlanMetricsListener(meterRegistry);
+
+		QueryPlan plan = new QueryPlan("person", "{lastname: ?}", null, Instant.now(), List.of("COLLSCAN"), List.of(), 1,
+				1000, 0, Set.of(Issue.COLLECTION_SCAN, Issue.HIGH_EXAMINED_RATIO), List.of("lastname"), List.of());
+
+		listener.onQueryPlan(plan);
+		listener.onQueryPlan(plan);
+
+		assertThat(meterRegistry.get(QueryPlanMetricsListener.METRIC_NAME).tag("db.mongodb.collection", "person")
+				.tag("db.mongodb.query.shape", "{lastname: ?}").tag("issue", "COLLECTION_SCAN").counter().count())
+				.isEqualTo(2);
+		assertThat(meterRegistry.get(QueryPlanMetricsListener.METRIC_NAME).tag("issue", "HIGH_EXAMINED_RATIO").counter()
+				.count()).isEqualTo(2);
+	}
+}
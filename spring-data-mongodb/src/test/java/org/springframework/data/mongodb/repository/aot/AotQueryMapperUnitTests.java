@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.aot;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.mapping.DBRef;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+/**
+ * Unit tests for {@link AotQueryMapper}.
+ */
+class AotQueryMapperUnitTests {
+
+	AotQueryMapper mapper = new AotQueryMapper(new MongoMappingContext());
+
+	@Test
+	void mapsFieldNames() {
+
+		Document mapped = mapper.getMappedObject(new Document("lastname", "?0").append("age", new Document("$gt", "?1")),
+				Person.class);
+
+		assertThat(mapped).isEqualTo(new Document("last_name", "?0").append("age", new Document("$gt", "?1")));
+	}
+
+	@Test
+	void mapsNestedPropertyPaths() {
+
+		Document mapped = mapper.getMappedObject(new Document("address.city", "?0"), Person.class);
+
+		assertThat(mapped).isEqualTo(new Document("address.town", "?0"));
+	}
+
+	@Test
+	void mapsLogicalOperators() {
+
+		Document mapped = mapper.getMappedObject(
+				new Document("$or", List.of(new Document("lastname", "?0"), new Document("age", new Document("$in", "?1")))),
+				Person.class);
+
+		assertThat(mapped).isEqualTo(
+				new Document("$or", List.of(new Document("last_name", "?0"), new Document("age", new Document("$in", "?1")))));
+	}
+
+	@Test
+	void rejectsPropertiesRequiringRuntimeMapping() {
+
+		assertThat(mapper.getMappedObject(new Document("id", "?0"), Person.class)).isNull();
+		assertThat(mapper.getMappedObject(new Document("address", "?0"), Person.class)).isNull();
+		assertThat(mapper.getMappedObject(new Document("spouse", "?0"), Person.class)).isNull();
+		assertThat(mapper.getMappedObject(new Document("unknown", "?0"), Person.class)).isNull();
+	}
+
+	@Test
+	void rejectsUnsupportedOperators() {
+
+		assertThat(mapper.getMappedObject(new Document("lastname", new Document("$elemMatch", "?0")), Person.class))
+				.isNull();
+		assertThat(mapper.getMappedObject(new Document("$text", new Document("$search", "?0")), Person.class)).isNull();
+		assertThat(mapper.getMappedObject(new Document("lastname", new Document("first", "?0")), Person.class)).isNull();
+	}
+
+	static class Person {
+
+		String id;
+
+		@Field("last_name") String lastname;
+
+		int age;
+
+		Address address;
+
+		@DBRef Person spouse;
+	}
+
+	static class Address {
+
+		@Field("town") String city;
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.aot;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.function.IntFunction;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.javapoet.CodeBlock;
+
+/**
+ * Unit tests for {@link DocumentBlocks}.
+ */
+class DocumentBlocksUnitTests {
+
+	static final IntFunction<@Nullable CodeBlock> ARGUMENTS = index -> CodeBlock.of("arg$L", index);
+
+	@Test
+	void rendersStaticDocument() {
+
+		CodeBlock code = DocumentBlocks.render(
+				"{ 'name' : 'Walter', 'age' : 42, 'active' : true, 'size' : { '$numberLong' : '10' }, 'ratio' : 0.5, 'missing' : null }",
+				ARGUMENTS);
+
+		assertThat(code).hasToString(
+				"new org.bson.Document(\"name\", \"Walter\").append(\"age\", 42).append(\"active\", true).append(\"size\", 10L).append(\"ratio\", 0.5d).append(\"missing\", null)");
+	}
+
+	@Test
+	void rendersEmptyDocument() {
+		assertThat(DocumentBlocks.render("{ }", ARGUMENTS)).hasToString("new org.bson.Document()");
+	}
+
+	@Test
+	void rendersNestedDocumentsAndLists() {
+
+		CodeBlock code = DocumentBlocks.render("{ 'tags' : { '$in' : ['a', 'b'] }, 'nested' : { 'list' : [] } }",
+				ARGUMENTS);
+
+		assertThat(code).hasToString(
+				"new org.bson.Document(\"tags\", new org.bson.Document(\"$in\", new java.util.ArrayList<>(java.util.Arrays.asList(\"a\", \"b\")))).append(\"nested\", new org.bson.Document(\"list\", new java.util.ArrayList<>()))");
+	}
+
+	@Test
+	void rendersPlaceholdersAsArgumentReferences() {
+
+		CodeBlock code = DocumentBlocks.render("{ 'lastname' : ?0, 'age' : { '$gt' : ?1 } }", ARGUMENTS);
+
+		assertThat(code).hasToString(
+				"new org.bson.Document(\"lastname\", arg0).append(\"age\", new org.bson.Document(\"$gt\", arg1))");
+	}
+
+	@Test
+	void rendersPlaceholdersWithinListsAsSingleElement() {
+
+		CodeBlock code = DocumentBlocks.render("{ 'age' : { '$in' : [?0, ?1] } }", ARGUMENTS);
+
+		assertThat(code).hasToString(
+				"new org.bson.Document(\"age\", new org.bson.Document(\"$in\", new java.util.ArrayList<>(java.util.Arrays.asList((java.lang.Object) arg0, (java.lang.Object) arg1))))");
+	}
+
+	@Test
+	void rendersBsonTypes() {
+
+		CodeBlock code = DocumentBlocks.render(
+				"{ '_id' : { '$oid' : '5ca4bbcea399d60bd3aa3d41' }, 'created' : { '$date' : 0 }, 'regex' : { '$regex' : '^W', '$options' : 'i' } }",
+				ARGUMENTS);
+
+		assertThat(code).hasToString(
+				"new org.bson.Document(\"_id\", new org.bson.types.ObjectId(\"5ca4bbcea399d60bd3aa3d41\")).append(\"created\", new java.util.Date(0L)).append(\"regex\", new org.bson.BsonRegularExpression(\"^W\", \"i\"))");
+	}
+
+	@ParameterizedTest // placeholders not representing an entire value and expressions require runtime binding
+	@ValueSource(strings = { "{ 'lastname' : '?0' }", "{ 'lastname' : { '$regex' : '^?0' } }", "{ ?0 : 'value' }",
+			"{ 'created' : ISODate(?0) }", "{ 'lastname' : ?#{[0]} }", "{ 'lastname' : :#{#lastname} }",
+			"[ { 'lastname' : 1 } ]" })
+	void rejectsSourcesRequiringRuntimeBinding(String source) {
+		assertThat(DocumentBlocks.render(source, ARGUMENTS)).isNull();
+	}
+
+	@Test
+	void rejectsPlaceholdersForArgumentsRequiringRuntimeBinding() {
+
+		IntFunction<@Nullable CodeBlock> arguments = index -> index == 1 ? null : CodeBlock.of("arg$L", index);
+
+		assertThat(DocumentBlocks.render("{ 'lastname' : ?0 }", arguments)).isNotNull();
+		assertThat(DocumentBlocks.render("{ 'lastname' : ?0, 'location' : ?1 }", arguments)).isNull();
+	}
+}
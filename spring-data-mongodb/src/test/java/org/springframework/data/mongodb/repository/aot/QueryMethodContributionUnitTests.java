@@ -73,7 +73,8 @@ class QueryMethodContributionUnitTests {
 		MethodSpec methodSpec = codeOf(UserRepository.class, "findByLocationCoordinatesNear", Point.class);
 
 		assertThat(methodSpec.toString()) //
-				.contains(string("{\"location.coordinates\": {\"$near\": ?0}}")) //
+				.contains(
+						"new org.springframework.data.mongodb.core.query.BasicQuery(new org.bson.Document(\"location.coordinates\", new org.bson.Document(\"$near\", location)))") //
 				.contains("return finder.matching(filterQuery).all()");
 	}
 
@@ -123,7 +124,8 @@ class QueryMethodContributionUnitTests {
 		MethodSpec methodSpec = codeOf(UserRepository.class, "findByLocationCoordinatesWithin", GeoJsonPolygon.class);
 
 		assertThat(methodSpec.toString()) //
-				.contains(string("{\"location.coordinates\": {\"$geoWithin\": {\"$geometry\": ?0}}}")) //
+				.contains(
+						"new org.springframework.data.mongodb.core.query.BasicQuery(new org.bson.Document(\"location.coordinates\", new org.bson.Document(\"$geoWithin\", new org.bson.Document(\"$geometry\", polygon))))") //
 				.contains("return finder.matching(filterQuery).all()");
 	}
 
@@ -133,7 +135,9 @@ class QueryMethodContributionUnitTests {
 		MethodSpec methodSpec = codeOf(UserRepository.class, "findByUsernameIn", Collection.class);
 
 		assertThat(methodSpec.toString()) //
-				.contains(string("{\"username\": {\"$in\": ?0}}"));
+				.contains(
+						"usePreMappedQueries() ? new org.springframework.data.mongodb.core.query.MappedQueryDocument(\"username\", new org.bson.Document(\"$in\", toMongoValue(usernames)))") //
+				.contains(": new org.bson.Document(\"username\", new org.bson.Document(\"$in\", usernames)))");
 	}
 
 	@Test // GH-5004
@@ -142,7 +146,9 @@ class QueryMethodContributionUnitTests {
 		MethodSpec methodSpec = codeOf(UserRepository.class, "findByUsernameNotIn", Collection.class);
 
 		assertThat(methodSpec.toString()) //
-				.contains(string("{\"username\": {\"$nin\": ?0}}"));
+				.contains(
+						"usePreMappedQueries() ? new org.springframework.data.mongodb.core.query.MappedQueryDocument(\"username\", new org.bson.Document(\"$nin\", toMongoValue(usernames)))") //
+				.contains(": new org.bson.Document(\"username\", new org.bson.Document(\"$nin\", usernames)))");
 	}
 
 	@Test // GH-5004
@@ -151,7 +157,9 @@ class QueryMethodContributionUnitTests {
 		MethodSpec methodSpec = codeOf(UserRepository.class, "findByVisitsExists", boolean.class);
 
 		assertThat(methodSpec.toString()) //
-				.contains(string("{\"visits\": {\"$exists\": ?0}}"));
+				.contains(
+						"usePreMappedQueries() ? new org.springframework.data.mongodb.core.query.MappedQueryDocument(\"visits\", new org.bson.Document(\"$exists\", toMongoValue(exists)))") //
+				.contains(": new org.bson.Document(\"visits\", new org.bson.Document(\"$exists\", exists)))");
 	}
 
 	@Test // GH-5004
@@ -209,7 +217,7 @@ class QueryMethodContributionUnitTests {
 				.contains("NearQuery.near(point)") //
 				.contains("nearQuery.maxDistance(maxDistance).in(maxDistance.getMetric())") //
 				.contains(
-						"filterQuery = createQuery(ExpressionMarker.class.getEnclosingMethod(), \"{\\\"lastname\\\": ?0}\", point, maxDistance, lastname)") //
+						"filterQuery = new org.springframework.data.mongodb.core.query.BasicQuery(new org.bson.Document(\"lastname\", lastname))") //
 				.contains("nearQuery.query(filterQuery)") //
 				.contains(".near(nearQuery)") //
 				.contains("return nearFinder.all()");
@@ -241,7 +249,8 @@ class QueryMethodContributionUnitTests {
 
 		assertThat(methodSpec.toString()) //
 				.contains(
-						"createQuery(ExpressionMarker.class.getEnclosingMethod(), \"{\\\"firstname\\\": {\\\"$regex\\\": ?0}}\", pattern)");
+						"usePreMappedQueries() ? new org.springframework.data.mongodb.core.query.MappedQueryDocument(\"first_name\", new org.bson.Document(\"$regex\", toMongoValue(pattern)))") //
+				.contains(": new org.bson.Document(\"firstname\", new org.bson.Document(\"$regex\", pattern)))");
 	}
 
 	@Test // GH-4939
@@ -282,7 +291,7 @@ class QueryMethodContributionUnitTests {
 				.containsSubsequence("$vectorSearch =",
 						"Aggregation.vectorSearch(\"embedding.vector_cos\").path(\"embedding\").vector(vector).limit(limit);")
 				.contains(
-						"filter = createQuery(ExpressionMarker.class.getEnclosingMethod(), \"{lastname: ?0}\", lastname, vector, distance, limit)")
+						"filter = new org.springframework.data.mongodb.core.query.BasicQuery(new org.bson.Document(\"lastname\", lastname))")
 				.contains("$vectorSearch.filter(filter.getQueryObject())");
 	}
 
@@ -325,7 +334,7 @@ class QueryMethodContributionUnitTests {
 
 		assertThat(methodSpec.toString()) //
 				.contains(
-						"filter = createQuery(ExpressionMarker.class.getEnclosingMethod(), \"{\\\"lastname\\\": ?0}\", lastname, vector, similarity, limit)");
+						"filter = new org.springframework.data.mongodb.core.query.BasicQuery(new org.bson.Document(\"lastname\", lastname))");
 	}
 
 	@Test
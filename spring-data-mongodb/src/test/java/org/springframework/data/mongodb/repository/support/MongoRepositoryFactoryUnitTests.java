@@ -16,9 +16,11 @@
 package org.springframework.data.mongodb.repository.support;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.io.Serializable;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -31,6 +33,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import org.springframework.data.mongodb.core.DbCallback;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
@@ -41,6 +44,9 @@ import org.springframework.data.mongodb.repository.Person;
 import org.springframework.data.mongodb.repository.ReadPreference;
 import org.springframework.data.repository.ListCrudRepository;
 import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.expression.spel.SpelParserConfiguration;
+
+import com.mongodb.MongoClientSettings;
 
 /**
  * Unit test for {@link MongoRepositoryFactory}.
@@ -106,9 +112,25 @@ class MongoRepositoryFactoryUnitTests {
 		assertThat(value.getReadPreference()).isNull();
 	}
 
+	@Test
+	void parsesQueryExpressionsWithConfiguredParserConfiguration() {
+
+		when(template.execute(any(DbCallback.class))).thenReturn(MongoClientSettings.getDefaultCodecRegistry());
+
+		MongoRepositoryFactory factory = new MongoRepositoryFactory(template);
+		factory.setExpressionParserConfiguration(new SpelParserConfiguration(null, null, false, false, 0, 5));
+		MyPersonRepository repository = factory.getRepository(MyPersonRepository.class);
+
+		assertThatException().isThrownBy(() -> repository.findByLastnameExpression("Matthews"))
+				.withStackTraceContaining("too long");
+	}
+
 	interface MyPersonRepository extends ListCrudRepository<Person, Long> {
 
 		@ReadPreference("secondary")
 		Optional<Person> findById(Long id);
+
+		@org.springframework.data.mongodb.repository.Query("{ 'lastname' : ?#{[0].toUpperCase()} }")
+		List<Person> findByLastnameExpression(String lastname);
 	}
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Date;
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.CollectibleCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import com.mongodb.MongoClientSettings;
+
+/**
+ * Unit tests for {@link LazyDocument} and {@link LazyDocumentCodec}.
+ */
+class LazyDocumentUnitTests {
+
+	static final String JSON = "{ '_id' : 'id-1', 'name' : 'Walter', 'created' : { '$date' : '2026-01-01T00:00:00Z' }, "
+			+ "'address' : { 'city' : 'Albuquerque', 'location' : { 'lat' : 35.08 } }, 'tags' : [ 'a', 'b' ], "
+			+ "'items' : [ { 'sku' : 'S' }, { 'sku' : 'M' } ], 'payload' : { 'large' : 'subtree' } }";
+
+	CodecRegistry registry = LazyDocumentCodec.withLazyDocuments(MongoClientSettings.getDefaultCodecRegistry());
+
+	@Test
+	void decodesFieldsOnAccess() {
+
+		LazyDocument document = read(JSON);
+
+		assertThat(document.getString("name")).isEqualTo("Walter");
+		assertThat(document.get("created")).isInstanceOf(Date.class);
+		assertThat(document.getList("tags", String.class)).containsExactly("a", "b");
+		assertThat(document.containsKey("payload")).isTrue();
+		assertThat(document.containsKey("missing")).isFalse();
+		assertThat(document.get("missing")).isNull();
+		assertThat(document.isRaw()).isTrue();
+	}
+
+	@Test
+	void exposesNestedDocumentsLazily() {
+
+		LazyDocument document = read(JSON);
+
+		assertThat(document.get("address")).isInstanceOf(LazyDocument.class).isSameAs(document.get("address"));
+		assertThat(document.getEmbedded(List.of("address", "location", "lat"), Double.class)).isEqualTo(35.08);
+		assertThat(BsonUtils.resolveValue((Bson) document, "address.city")).isEqualTo("Albuquerque");
+		assertThat(document.getList("items", Document.class)).hasOnlyElementsOfType(LazyDocument.class)
+				.extracting(it -> it.get("sku")).containsExactly("S", "M");
+		assertThat(document.isRaw()).isTrue();
+	}
+
+	@Test
+	void materializesOnIterationRetainingResolvedValues() {
+
+		LazyDocument document = read(JSON);
+		Document address = (Document) document.get("address");
+
+		assertThat(document.keySet()).containsExactly("_id", "name", "created", "address", "tags", "items", "payload");
+		assertThat(document.isRaw()).isFalse();
+		assertThat(document.get("address")).isSameAs(address);
+		assertThat(document.get("payload")).isInstanceOf(LazyDocument.class);
+		assertThat(document.toJson()).isEqualTo(Document.parse(JSON).toJson());
+	}
+
+	@Test
+	void comparesLazyDocumentsByContent() {
+
+		LazyDocument document = read(JSON);
+		document.get("address");
+
+		assertThat(document).isEqualTo(read(JSON)).isNotEqualTo(Document.parse(JSON));
+		assertThat(document.hashCode()).isEqualTo(Document.parse(JSON).hashCode());
+	}
+
+	@Test
+	void materializesOnModification() {
+
+		LazyDocument document = read("{ 'name' : 'Walter', 'address' : { 'city' : 'Albuquerque' } }");
+
+		((Document) document.get("address")).put("zip", "87101");
+		document.put("name", "Heisenberg");
+
+		assertThat(document.toJson())
+				.isEqualTo(Document.parse("{ 'name' : 'Heisenberg', 'address' : { 'city' : 'Albuquerque', 'zip' : '87101' } }")
+						.toJson());
+	}
+
+	@Test
+	void encodesLazyDocument() {
+
+		LazyDocument document = read(JSON);
+		document.get("address");
+
+		BsonDocument target = new BsonDocument();
+		registry.get(Document.class).encode(new BsonDocumentWriter(target), document, EncoderContext.builder().build());
+
+		assertThat(target).isEqualTo(BsonDocument.parse(JSON));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void delegatesIdentifierHandling() {
+
+		CollectibleCodec<Document> codec = (CollectibleCodec<Document>) registry.get(Document.class);
+		Document document = new Document("name", "Walter");
+
+		assertThat(codec.documentHasId(document)).isFalse();
+		assertThat(codec.generateIdIfAbsentFromDocument(document)).containsKey("_id");
+		assertThat(codec.documentHasId(document)).isTrue();
+	}
+
+	@Test
+	void convertsEntityFromLazyDocument() {
+
+		MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext());
+		converter.afterPropertiesSet();
+
+		LazyDocument document = read(JSON);
+		Person person = converter.read(Person.class, document);
+
+		assertThat(person.name).isEqualTo("Walter");
+		assertThat(person.address.city).isEqualTo("Albuquerque");
+		assertThat(document.isRaw()).isTrue();
+	}
+
+	private LazyDocument read(String json) {
+
+		Codec<Document> codec = registry.get(Document.class);
+		Document document = codec.decode(new BsonDocumentReader(RawBsonDocument.parse(json)),
+				DecoderContext.builder().build());
+
+		assertThat(document).isInstanceOf(LazyDocument.class);
+		return (LazyDocument) document;
+	}
+
+	static class Person {
+
+		String id;
+		String name;
+		Address address;
+	}
+
+	static class Address {
+		String city;
+	}
+}
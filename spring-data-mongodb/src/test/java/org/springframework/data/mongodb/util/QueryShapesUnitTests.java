@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link QueryShapes}.
+ */
+class QueryShapesUnitTests {
+
+	@Test
+	void rendersShapeWithoutValues() {
+
+		Document query = Document.parse("{ 'age' : { '$gt' : 30 }, 'name' : 'Walter', 'tags' : { '$in' : ['a', 'b'] } }");
+
+		assertThat(QueryShapes.render(query)).isEqualTo("{age: {$gt: ?}, name: ?, tags: {$in: ?}}");
+	}
+
+	@Test
+	void rendersLogicalOperators() {
+
+		Document query = Document.parse("{ '$or' : [ { 'name' : 'Walter' }, { 'age' : { '$lt' : 50 } } ] }");
+
+		assertThat(QueryShapes.render(query)).isEqualTo("{$or: [{name: ?}, {age: {$lt: ?}}]}");
+	}
+
+	@Test
+	void rendersEmptyShape() {
+
+		assertThat(QueryShapes.render(null)).isEqualTo("{}");
+		assertThat(QueryShapes.render(new Document())).isEqualTo("{}");
+	}
+
+	@Test
+	void hashIsIndependentOfValues() {
+
+		Document walter = Document.parse("{ 'age' : { '$gt' : 30 }, 'name' : 'Walter' }");
+		Document skyler = Document.parse("{ 'age' : { '$gt' : 50 }, 'name' : 'Skyler' }");
+
+		assertThat(QueryShapes.hash(walter)).isEqualTo(QueryShapes.hash(skyler));
+	}
+
+	@Test
+	void hashConsidersFieldsAndOperators() {
+
+		assertThat(QueryShapes.hash(Document.parse("{ 'age' : { '$gt' : 30 } }")))
+				.isNotEqualTo(QueryShapes.hash(Document.parse("{ 'age' : { '$lt' : 30 } }")))
+				.isNotEqualTo(QueryShapes.hash(Document.parse("{ 'name' : { '$gt' : 30 } }")));
+	}
+
+	@Test
+	void documentAndBsonDocumentShareShape() {
+
+		String json = "{ 'age' : { '$gt' : 30 }, '$or' : [ { 'name' : 'Walter' } ] }";
+
+		assertThat(QueryShapes.render(BsonDocument.parse(json))).isEqualTo(QueryShapes.render(Document.parse(json)));
+		assertThat(QueryShapes.hash(BsonDocument.parse(json))).isEqualTo(QueryShapes.hash(Document.parse(json)));
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.util.spel;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ParserContext;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+/**
+ * Unit tests for {@link CachingExpressionParser}.
+ */
+class CachingExpressionParserUnitTests {
+
+	@Test
+	void reusesParsedExpression() {
+
+		SpelExpressionParser delegate = spy(new SpelExpressionParser());
+		CachingExpressionParser parser = new CachingExpressionParser(delegate);
+
+		Expression expression = parser.parseExpression("[0].tenantId");
+
+		assertThat(parser.parseExpression("[0].tenantId")).isSameAs(expression);
+		verify(delegate, times(1)).parseExpression("[0].tenantId");
+	}
+
+	@Test
+	void distinguishesParserContext() {
+
+		CachingExpressionParser parser = new CachingExpressionParser(new SpelExpressionParser());
+
+		Expression template = parser.parseExpression("#{1 + 1}", ParserContext.TEMPLATE_EXPRESSION);
+
+		assertThat(parser.parseExpression("#{1 + 1}", ParserContext.TEMPLATE_EXPRESSION)).isSameAs(template);
+		assertThat(template.getValue()).isEqualTo(2);
+		assertThat(parser.parseExpression("1 + 1")).isNotSameAs(template);
+	}
+
+	@Test
+	void evaluatesCompiledExpressions() {
+
+		CachingExpressionParser parser = new CachingExpressionParser(
+				new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.IMMEDIATE, null)));
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(parser.parseExpression("[0].length()").getValue(List.of("tenant-" + i))).isEqualTo(8);
+		}
+	}
+}